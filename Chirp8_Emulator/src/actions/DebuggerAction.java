@@ -24,8 +24,20 @@
 package actions;
 
 import emulator.Chirp8;
+import emulator.Chip8_Condicion;
+import emulator.Chip8_Desensamblador;
+import emulator.Chip8_Hex;
+import emulator.Chip8_Volcado;
+import dialogs.BreakpointPanel;
+import dialogs.DisassemblyPanel;
+import dialogs.MemoryPanel;
+import dialogs.MemoryView;
+import dialogs.OpcodePanel;
+import dialogs.ProfilerPanel;
 import dialogs.StatusDialog;
 import java.awt.event.ActionEvent;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import javax.swing.AbstractAction;
 import javax.swing.ImageIcon;
 import javax.swing.JDialog;
@@ -40,6 +52,9 @@ public class DebuggerAction extends AbstractAction {
 
     JFrame ventana;
 
+    // Demora desde el inicio de la aplicacion hasta la preparacion del depurador (ms)
+    private static final int DEMORA_PREPARACION = 1500;
+
     public DebuggerAction(String name, ImageIcon icon, String shortDescription, Integer mnemonic) {
         super(name, icon);
         putValue(SHORT_DESCRIPTION, shortDescription);
@@ -73,11 +88,50 @@ public class DebuggerAction extends AbstractAction {
             statusDialog.setLocationRelativeTo(null);
         }
 
+        statusDialog.setCpu(Chirp8.getCpu());
         statusDialog.setVisible(true);
 
         return statusDialog;
     }
 
+    /**
+     * Prepara el depurador mientras la aplicacion esta inactiva, para que
+     * abrirlo por primera vez sea mas rapido. Poco despues del inicio, un hilo
+     * de fondo de prioridad minima carga e inicializa las clases del dialogo,
+     * que es la parte de la preparacion que no depende de Swing. Los
+     * componentes no se construyen por adelantado: Swing exige hacerlo en el
+     * hilo de despacho de eventos, donde competiria con el juego en ejecucion.
+     * Se construyen al abrir el depurador, y cada pagina de memoria recien
+     * cuando se muestra.
+     */
+    public void prepararDialogo() {
+
+        Thread hilo = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    Thread.sleep(DEMORA_PREPARACION);
+
+                    // Referencias verificadas por el compilador; se cargan recien en este hilo
+                    Class<?>[] clases = {
+                        StatusDialog.class, MemoryPanel.class, MemoryView.class, DisassemblyPanel.class,
+                        OpcodePanel.class, BreakpointPanel.class, ProfilerPanel.class,
+                        Chip8_Desensamblador.class, Chip8_Condicion.class, Chip8_Hex.class, Chip8_Volcado.class
+                    };
+                    for (Class<?> clase : clases) {
+                        Class.forName(clase.getName(), true, clase.getClassLoader());
+                    }
+                } catch (InterruptedException | ClassNotFoundException ex) {
+                    Logger.getLogger(DebuggerAction.class.getName()).log(Level.WARNING, null, ex);
+                }
+            }
+        }, "Chip8 preparacion depurador");
+
+        hilo.setDaemon(true);
+        hilo.setPriority(Thread.MIN_PRIORITY);
+        hilo.start();
+    }
+
     public JFrame getVentana() {
         return ventana;
     }
@@ -0,0 +1,300 @@
+/*
+ * Copyright (C) 2022 Diego Andrés Gutiérrez Berón
+ * 
+ * Some parts of this software were made as adaptations of ideas other than mine.
+ * In any case, due credit or references are given for any ideas or code that 
+ * served as an implementation base for this software.
+ *
+ * THIS PROGRAM IS LICENSED UNDER THE TERMS OF THE GNU GENERAL PUBLIC LICENSE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dialogs;
+
+import emulator.Chip8_Condicion;
+import emulator.Chip8_Depurador;
+import emulator.Chip8_Hex;
+import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.FlowLayout;
+import java.awt.Font;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import javax.swing.BorderFactory;
+import javax.swing.BoxLayout;
+import javax.swing.DefaultListCellRenderer;
+import javax.swing.DefaultListModel;
+import javax.swing.JButton;
+import javax.swing.JComboBox;
+import javax.swing.JLabel;
+import javax.swing.JList;
+import javax.swing.JOptionPane;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTextField;
+
+/**
+ * Panel de puntos de parada del visor de estado: permite definir y quitar
+ * breakpoints (por direccion del PC, por clase de opcode o condicionales,
+ * como "V3 == 0x1F &amp;&amp; I &gt; 0x300") y watchpoints
+ * (sobre rangos de memoria o registros), y muestra el motivo de la ultima
+ * parada.
+ *
+ * @author Diego Gutierrez
+ */
+public class BreakpointPanel extends JPanel {
+
+    private static final String PC = "PC";
+    private static final String OPCODE = "Opcode";
+    private static final String CONDICION = "Condicion";
+    private static final String MEMORIA = "Memoria";
+    private static final String REGISTRO = "Registro";
+
+    private final JComboBox<String> tipoComboBox = new JComboBox<>(new String[]{PC, OPCODE, CONDICION, MEMORIA, REGISTRO});
+    private final JTextField valorField = new JTextField(14);
+    private final JComboBox<Chip8_Depurador.Acceso> accesoComboBox = new JComboBox<>(Chip8_Depurador.Acceso.values());
+    private final DefaultListModel<Object> modelo = new DefaultListModel<>();
+    private final JList<Object> lista = new JList<>(modelo);
+    private final JLabel motivoLabel = new JLabel(" ");
+
+    private Chip8_Depurador depurador;
+    private int versionMostrada = -1;
+    private String motivoMostrado;
+
+    public BreakpointPanel() {
+        super(new BorderLayout());
+        setBackground(Color.BLACK);
+
+        Font fuente = new Font("Tahoma", Font.PLAIN, 11);
+
+        valorField.setFont(new Font("Consolas", Font.BOLD, 11));
+        valorField.setToolTipText("<html>PC: 2A0 | Opcode: DXYN, FX55 | Memoria: 300 o 300-30F | Registro: V0-VF o I<br>"
+                + "Condicion: V0-VF, I, PC, SP, DT, ST, M[dir], operadores de C (PC == 0x2A0 &amp;&amp; V3 &gt; 4)</html>");
+        accesoComboBox.setSelectedItem(Chip8_Depurador.Acceso.ESCRITURA);
+        accesoComboBox.setEnabled(false);
+
+        tipoComboBox.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                Object tipo = tipoComboBox.getSelectedItem();
+                accesoComboBox.setEnabled(MEMORIA.equals(tipo) || REGISTRO.equals(tipo));
+            }
+        });
+
+        ActionListener agregar = new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                agregarPunto();
+            }
+        };
+        valorField.addActionListener(agregar);
+
+        JButton agregarButton = new JButton("Agregar");
+        agregarButton.addActionListener(agregar);
+
+        JButton quitarButton = new JButton("Quitar");
+        quitarButton.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                quitarSeleccionados();
+            }
+        });
+
+        JButton limpiarButton = new JButton("Quitar todos");
+        limpiarButton.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                if (depurador != null) {
+                    depurador.limpiar();
+                    actualizar();
+                }
+            }
+        });
+
+        JPanel definicion = new JPanel(new FlowLayout(FlowLayout.LEFT, 4, 2));
+        definicion.setOpaque(false);
+        definicion.add(tipoComboBox);
+        definicion.add(valorField);
+        definicion.add(accesoComboBox);
+        definicion.add(agregarButton);
+
+        lista.setBackground(Color.BLACK);
+        lista.setForeground(new Color(0, 204, 51));
+        lista.setFont(new Font("Consolas", Font.BOLD, 11));
+        lista.setCellRenderer(new DefaultListCellRenderer() {
+            @Override
+            public Component getListCellRendererComponent(JList<?> list, Object value, int index,
+                    boolean isSelected, boolean cellHasFocus) {
+                // Los breakpoints por direccion se guardan como enteros
+                Object texto = value instanceof Integer ? "PC " + Chip8_Hex.palabraHex((Integer) value).substring(1) : value;
+                return super.getListCellRendererComponent(list, texto, index, isSelected, cellHasFocus);
+            }
+        });
+
+        JScrollPane scrollPane = new JScrollPane(lista);
+        scrollPane.setBorder(BorderFactory.createLineBorder(Color.BLACK));
+
+        motivoLabel.setForeground(Color.WHITE);
+        motivoLabel.setFont(fuente);
+
+        JPanel acciones = new JPanel(new FlowLayout(FlowLayout.LEFT, 4, 2));
+        acciones.setOpaque(false);
+        acciones.add(quitarButton);
+        acciones.add(limpiarButton);
+
+        JPanel inferior = new JPanel();
+        inferior.setOpaque(false);
+        inferior.setLayout(new BoxLayout(inferior, BoxLayout.Y_AXIS));
+        acciones.setAlignmentX(LEFT_ALIGNMENT);
+        motivoLabel.setAlignmentX(LEFT_ALIGNMENT);
+        inferior.add(acciones);
+        inferior.add(motivoLabel);
+
+        add(definicion, BorderLayout.NORTH);
+        add(scrollPane, BorderLayout.CENTER);
+        add(inferior, BorderLayout.SOUTH);
+    }
+
+    /* Interpreta el valor ingresado segun el tipo seleccionado y agrega el punto */
+    private void agregarPunto() {
+        if (depurador == null) {
+            return;
+        }
+
+        String valor = valorField.getText().trim();
+        Object tipo = tipoComboBox.getSelectedItem();
+        Chip8_Depurador.Acceso acceso = (Chip8_Depurador.Acceso) accesoComboBox.getSelectedItem();
+
+        try {
+            if (PC.equals(tipo)) {
+                depurador.agregarBreakpoint(leerDireccion(valor));
+            } else if (OPCODE.equals(tipo)) {
+                depurador.agregarClaseOpcode(valor);
+            } else if (CONDICION.equals(tipo)) {
+                depurador.agregarCondicion(valor);
+            } else if (MEMORIA.equals(tipo)) {
+                int separador = valor.indexOf('-');
+                if (separador >= 0) {
+                    depurador.agregarWatchpointMemoria(leerDireccion(valor.substring(0, separador)),
+                            leerDireccion(valor.substring(separador + 1)), acceso);
+                } else {
+                    int direccion = leerDireccion(valor);
+                    depurador.agregarWatchpointMemoria(direccion, direccion, acceso);
+                }
+            } else {
+                depurador.agregarWatchpointRegistro(leerRegistro(valor), acceso);
+            }
+        } catch (IllegalArgumentException ex) {
+            JOptionPane.showMessageDialog(this, ex.getMessage(), "Puntos de parada", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+
+        valorField.setText("");
+        actualizar();
+    }
+
+    private static int leerDireccion(String texto) {
+        texto = texto.trim().toUpperCase();
+        if (texto.startsWith("0X")) {
+            texto = texto.substring(2);
+        } else if (texto.startsWith("$") || texto.startsWith("#")) {
+            texto = texto.substring(1);
+        }
+
+        try {
+            int direccion = Integer.parseInt(texto, 16);
+            if (direccion < 0 || direccion > 0xFFF) {
+                throw new IllegalArgumentException("Direccion fuera de la memoria: " + texto);
+            }
+            return direccion;
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Direccion hexadecimal no valida: " + texto);
+        }
+    }
+
+    private static int leerRegistro(String texto) {
+        texto = texto.toUpperCase();
+        if (texto.equals("I")) {
+            return Chip8_Depurador.REGISTRO_I;
+        }
+        if (texto.length() == 2 && texto.charAt(0) == 'V' && Character.digit(texto.charAt(1), 16) >= 0) {
+            return Character.digit(texto.charAt(1), 16);
+        }
+        throw new IllegalArgumentException("Registro no valido (V0-VF o I): " + texto);
+    }
+
+    private void quitarSeleccionados() {
+        if (depurador == null) {
+            return;
+        }
+
+        for (Object punto : lista.getSelectedValuesList()) {
+            if (punto instanceof Integer) {
+                depurador.quitarBreakpoint((Integer) punto);
+            } else if (punto instanceof Chip8_Depurador.ClaseOpcode) {
+                depurador.quitarClaseOpcode((Chip8_Depurador.ClaseOpcode) punto);
+            } else if (punto instanceof Chip8_Condicion) {
+                depurador.quitarCondicion((Chip8_Condicion) punto);
+            } else if (punto instanceof Chip8_Depurador.Watchpoint) {
+                depurador.quitarWatchpoint((Chip8_Depurador.Watchpoint) punto);
+            }
+        }
+        actualizar();
+    }
+
+    /**
+     * Refresca la lista de puntos y el motivo de parada, solo si cambiaron
+     * desde la ultima actualizacion.
+     */
+    public void actualizar() {
+        if (depurador == null) {
+            return;
+        }
+
+        if (depurador.getVersion() != versionMostrada) {
+            versionMostrada = depurador.getVersion();
+            modelo.clear();
+            for (Integer direccion : depurador.getBreakpoints()) {
+                modelo.addElement(direccion);
+            }
+            for (Chip8_Depurador.ClaseOpcode clase : depurador.getClasesOpcode()) {
+                modelo.addElement(clase);
+            }
+            for (Chip8_Condicion condicion : depurador.getCondiciones()) {
+                modelo.addElement(condicion);
+            }
+            for (Chip8_Depurador.Watchpoint watchpoint : depurador.getWatchpoints()) {
+                modelo.addElement(watchpoint);
+            }
+        }
+
+        String motivo = depurador.getMotivoParada();
+        if (motivo != null && !motivo.equals(motivoMostrado)) {
+            motivoMostrado = motivo;
+            motivoLabel.setText("Ultima parada: " + motivo);
+        }
+    }
+
+    public Chip8_Depurador getDepurador() {
+        return depurador;
+    }
+
+    public void setDepurador(Chip8_Depurador depurador) {
+        this.depurador = depurador;
+        versionMostrada = -1;
+        actualizar();
+    }
+}
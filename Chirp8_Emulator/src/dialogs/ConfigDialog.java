@@ -23,6 +23,8 @@
 package dialogs;
 
 import emulator.Chip8_CPU;
+import emulator.Chip8_Filtro;
+import emulator.Chip8_Fosforo;
 import java.awt.Color;
 import javax.swing.JColorChooser;
 import javax.swing.event.ChangeEvent;
@@ -62,6 +64,10 @@ public class ConfigDialog extends javax.swing.JDialog implements ChangeListener
         foregroundColorLabel = new javax.swing.JLabel();
         jSeparator1 = new javax.swing.JSeparator();
         jLabel7 = new javax.swing.JLabel();
+        jLabel4 = new javax.swing.JLabel();
+        filtroComboBox = new javax.swing.JComboBox<>();
+        jLabel6 = new javax.swing.JLabel();
+        persistenciaComboBox = new javax.swing.JComboBox<>();
 
         setDefaultCloseOperation(javax.swing.WindowConstants.DISPOSE_ON_CLOSE);
 
@@ -102,6 +108,24 @@ public class ConfigDialog extends javax.swing.JDialog implements ChangeListener
 
         jLabel7.setText("Idioma");
 
+        jLabel4.setText("Filtro de escalado");
+
+        filtroComboBox.setModel(new javax.swing.DefaultComboBoxModel<>(new String[] { "Ninguno", "Scale2x", "Scale3x" }));
+        filtroComboBox.addActionListener(new java.awt.event.ActionListener() {
+            public void actionPerformed(java.awt.event.ActionEvent evt) {
+                filtroComboBoxActionPerformed(evt);
+            }
+        });
+
+        jLabel6.setText("Persistencia de fosforo");
+
+        persistenciaComboBox.setModel(new javax.swing.DefaultComboBoxModel<>(new String[] { "Desactivada", "Baja", "Media", "Alta" }));
+        persistenciaComboBox.addActionListener(new java.awt.event.ActionListener() {
+            public void actionPerformed(java.awt.event.ActionEvent evt) {
+                persistenciaComboBoxActionPerformed(evt);
+            }
+        });
+
         javax.swing.GroupLayout jPanel1Layout = new javax.swing.GroupLayout(jPanel1);
         jPanel1.setLayout(jPanel1Layout);
         jPanel1Layout.setHorizontalGroup(
@@ -127,7 +151,15 @@ public class ConfigDialog extends javax.swing.JDialog implements ChangeListener
                                     .addGroup(jPanel1Layout.createSequentialGroup()
                                         .addComponent(jLabel5)
                                         .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.UNRELATED)
-                                        .addComponent(foregroundColorLabel, javax.swing.GroupLayout.PREFERRED_SIZE, 70, javax.swing.GroupLayout.PREFERRED_SIZE)))
+                                        .addComponent(foregroundColorLabel, javax.swing.GroupLayout.PREFERRED_SIZE, 70, javax.swing.GroupLayout.PREFERRED_SIZE))
+                                    .addGroup(jPanel1Layout.createSequentialGroup()
+                                        .addComponent(jLabel4)
+                                        .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.UNRELATED)
+                                        .addComponent(filtroComboBox, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE))
+                                    .addGroup(jPanel1Layout.createSequentialGroup()
+                                        .addComponent(jLabel6)
+                                        .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.UNRELATED)
+                                        .addComponent(persistenciaComboBox, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)))
                                 .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED, 278, Short.MAX_VALUE))))
                     .addGroup(jPanel1Layout.createSequentialGroup()
                         .addGroup(jPanel1Layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
@@ -157,6 +189,14 @@ public class ConfigDialog extends javax.swing.JDialog implements ChangeListener
                 .addGroup(jPanel1Layout.createParallelGroup(javax.swing.GroupLayout.Alignment.TRAILING)
                     .addComponent(jLabel5)
                     .addComponent(foregroundColorLabel, javax.swing.GroupLayout.PREFERRED_SIZE, 22, javax.swing.GroupLayout.PREFERRED_SIZE))
+                .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED, 20, Short.MAX_VALUE)
+                .addGroup(jPanel1Layout.createParallelGroup(javax.swing.GroupLayout.Alignment.BASELINE)
+                    .addComponent(jLabel4)
+                    .addComponent(filtroComboBox, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE))
+                .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED, 20, Short.MAX_VALUE)
+                .addGroup(jPanel1Layout.createParallelGroup(javax.swing.GroupLayout.Alignment.BASELINE)
+                    .addComponent(jLabel6)
+                    .addComponent(persistenciaComboBox, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE))
                 .addContainerGap(34, Short.MAX_VALUE))
         );
 
@@ -204,6 +244,28 @@ public class ConfigDialog extends javax.swing.JDialog implements ChangeListener
         //add(tcc);
     }//GEN-LAST:event_SelectColor
 
+    private void filtroComboBoxActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_filtroComboBoxActionPerformed
+
+        // Los elementos del combo siguen el orden de declaracion de Chip8_Filtro
+        Chip8_Filtro filtro = Chip8_Filtro.values()[filtroComboBox.getSelectedIndex()];
+
+        if (cpu != null) {
+            System.out.println("Filtro de escalado seleccionado: " + filtro);
+            cpu.screen.setFiltro(filtro);
+        }
+    }//GEN-LAST:event_filtroComboBoxActionPerformed
+
+    private void persistenciaComboBoxActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_persistenciaComboBoxActionPerformed
+
+        // Los elementos del combo siguen el orden de declaracion de Chip8_Fosforo.Persistencia
+        Chip8_Fosforo.Persistencia persistencia = Chip8_Fosforo.Persistencia.values()[persistenciaComboBox.getSelectedIndex()];
+
+        if (cpu != null) {
+            System.out.println("Persistencia de fosforo seleccionada: " + persistencia);
+            cpu.screen.setPersistencia(persistencia);
+        }
+    }//GEN-LAST:event_persistenciaComboBoxActionPerformed
+
     /**
      * @param args the command line arguments
      */
@@ -248,15 +310,19 @@ public class ConfigDialog extends javax.swing.JDialog implements ChangeListener
 
     // Variables declaration - do not modify//GEN-BEGIN:variables
     private javax.swing.JLabel backgroundColorLabel;
+    private javax.swing.JComboBox<String> filtroComboBox;
     private javax.swing.JLabel foregroundColorLabel;
     private javax.swing.JComboBox<String> jComboBox1;
     private javax.swing.JLabel jLabel1;
     private javax.swing.JLabel jLabel2;
     private javax.swing.JLabel jLabel3;
+    private javax.swing.JLabel jLabel4;
     private javax.swing.JLabel jLabel5;
+    private javax.swing.JLabel jLabel6;
     private javax.swing.JLabel jLabel7;
     private javax.swing.JPanel jPanel1;
     private javax.swing.JSeparator jSeparator1;
+    private javax.swing.JComboBox<String> persistenciaComboBox;
     private javax.swing.JTabbedPane jTabbedPane1;
     // End of variables declaration//GEN-END:variables
 
@@ -268,6 +334,8 @@ public class ConfigDialog extends javax.swing.JDialog implements ChangeListener
 
     public void setCpu(Chip8_CPU cpu) {
         this.cpu = cpu;
+        filtroComboBox.setSelectedIndex(cpu.screen.getFiltro().ordinal());
+        persistenciaComboBox.setSelectedIndex(cpu.screen.getPersistencia().ordinal());
     }
 
     private Color color;
@@ -0,0 +1,465 @@
+/*
+ * Copyright (C) 2022 Diego Andrés Gutiérrez Berón
+ * 
+ * Some parts of this software were made as adaptations of ideas other than mine.
+ * In any case, due credit or references are given for any ideas or code that 
+ * served as an implementation base for this software.
+ *
+ * THIS PROGRAM IS LICENSED UNDER THE TERMS OF THE GNU GENERAL PUBLIC LICENSE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dialogs;
+
+import emulator.Chip8_Analisis;
+import emulator.Chip8_CPU;
+import emulator.Chip8_Depurador;
+import emulator.Chip8_Desensamblador;
+import emulator.Chip8_Hex;
+import emulator.Chip8_Historial;
+import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Dimension;
+import java.awt.FlowLayout;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Insets;
+import java.awt.Graphics;
+import java.awt.Rectangle;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import javax.swing.AbstractListModel;
+import javax.swing.BorderFactory;
+import javax.swing.BoxLayout;
+import javax.swing.JButton;
+import javax.swing.JCheckBox;
+import javax.swing.JComponent;
+import javax.swing.JLabel;
+import javax.swing.JList;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JSpinner;
+import javax.swing.ListCellRenderer;
+import javax.swing.ListSelectionModel;
+import javax.swing.ScrollPaneConstants;
+import javax.swing.SpinnerNumberModel;
+
+/**
+ * Panel de desensamblado del visor de estado.
+ *
+ * Muestra una instruccion por cada direccion par de la memoria en una JList
+ * virtualizada: la lista tiene alto de celda fijo y solo dibuja las celdas
+ * visibles, y cada celda se pinta con el texto cacheado por
+ * Chip8_Desensamblador, por lo que recorrer toda la memoria no tiene costo.
+ * Marca la instruccion del PC (y opcionalmente la sigue) y los destinos de
+ * saltos y llamadas. Si hay un analisis estatico de la ROM, las direcciones
+ * que no son codigo se muestran atenuadas y el codigo que el programa
+ * sobrescribe se resalta. Un doble click sobre una fila alterna un
+ * breakpoint en su direccion. La barra tiene los controles de ejecucion
+ * (pausa, paso, N pasos, paso sobre llamadas, salir de la subrutina y
+ * ejecutar hasta la fila seleccionada) y muestra cuantas instrucciones se
+ * pueden deshacer y el costo del diario de deshacer.
+ *
+ * @author Diego Gutierrez
+ */
+public class DisassemblyPanel extends JPanel {
+
+    private static final Color COLOR_TEXTO = new Color(0, 204, 51);
+    private static final Color COLOR_DIRECCION = new Color(0, 120, 30);
+    private static final Color COLOR_DESTINO = new Color(230, 200, 0);
+    private static final Color COLOR_PC = new Color(0, 70, 140);
+    private static final Color COLOR_SELECCION = new Color(80, 80, 80);
+    private static final Color COLOR_DATOS = new Color(90, 90, 90);
+    private static final Color COLOR_AUTOMODIFICABLE = new Color(230, 80, 40);
+    private static final Color COLOR_BREAKPOINT = new Color(220, 30, 30);
+
+    private final ModeloDesensamblado modelo = new ModeloDesensamblado();
+    private final JList<Integer> lista = new JList<>(modelo);
+    private final JCheckBox seguirPCCheckBox = new JCheckBox("Seguir PC", true);
+    private final JCheckBox deshacerCheckBox = new JCheckBox("Deshacer");
+    private final JLabel historialLabel = new JLabel();
+    private final JButton pausaButton = new JButton("Pausa");
+    private final JSpinner pasosSpinner = new JSpinner(new SpinnerNumberModel(10, 1, 1000000, 1));
+
+    private Chip8_CPU cpu;
+
+    private Chip8_Desensamblador desensamblador;
+    private Chip8_Analisis analisis;
+    private Chip8_Depurador depurador;
+    private Chip8_Historial historial;
+    private int programCounter = -1;
+
+    public DisassemblyPanel() {
+        super(new BorderLayout());
+        setBackground(Color.BLACK);
+
+        seguirPCCheckBox.setOpaque(false);
+        seguirPCCheckBox.setForeground(Color.WHITE);
+        seguirPCCheckBox.setFont(new Font("Tahoma", Font.PLAIN, 11));
+        seguirPCCheckBox.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                if (seguirPCCheckBox.isSelected()) {
+                    mostrarPC();
+                }
+            }
+        });
+
+        JPanel estado = new JPanel(new FlowLayout(FlowLayout.LEFT, 4, 2));
+        estado.setOpaque(false);
+        estado.add(seguirPCCheckBox);
+
+        deshacerCheckBox.setOpaque(false);
+        deshacerCheckBox.setForeground(Color.WHITE);
+        deshacerCheckBox.setFont(seguirPCCheckBox.getFont());
+        deshacerCheckBox.setToolTipText("Registrar las instrucciones ejecutadas para poder retroceder (reserva unos 6 MiB)");
+        deshacerCheckBox.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                if (historial != null) {
+                    historial.setActivo(deshacerCheckBox.isSelected());
+                    actualizarControles();
+                }
+            }
+        });
+        estado.add(deshacerCheckBox);
+
+        historialLabel.setForeground(Color.WHITE);
+        historialLabel.setFont(seguirPCCheckBox.getFont());
+        historialLabel.setToolTipText("Backspace retrocede una instruccion en modo paso a paso (Shift + Backspace: diez)");
+        estado.add(historialLabel);
+
+        pausaButton.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                if (cpu != null) {
+                    cpu.setSingleStep(!cpu.isSingleStep());
+                    actualizarControles();
+                }
+            }
+        });
+
+        JPanel controles = new JPanel(new FlowLayout(FlowLayout.LEFT, 2, 2));
+        controles.setOpaque(false);
+        controles.add(pausaButton);
+        controles.add(crearBoton("Paso", "Ejecuta una instruccion", new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                cpu.ejecutarPasos(1);
+            }
+        }));
+        controles.add(pasosSpinner);
+        controles.add(crearBoton("Pasos", "Ejecuta la cantidad de instrucciones indicada", new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                cpu.ejecutarPasos((Integer) pasosSpinner.getValue());
+            }
+        }));
+        controles.add(crearBoton("Sobre", "Ejecuta un paso; las llamadas (2NNN) se ejecutan completas", new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                cpu.saltarSubrutina();
+            }
+        }));
+        controles.add(crearBoton("Salir", "Ejecuta hasta retornar (00EE) de la subrutina actual", new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                cpu.salirDeSubrutina();
+            }
+        }));
+        controles.add(crearBoton("Hasta", "Ejecuta hasta la instruccion seleccionada", new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                int fila = lista.getSelectedIndex();
+                if (fila >= 0) {
+                    cpu.ejecutarHasta(fila * 2);
+                }
+            }
+        }));
+        configurarBoton(pausaButton, "Detiene o reanuda la ejecucion");
+        pasosSpinner.setFont(seguirPCCheckBox.getFont());
+
+        JPanel barra = new JPanel();
+        barra.setOpaque(false);
+        barra.setLayout(new BoxLayout(barra, BoxLayout.Y_AXIS));
+        estado.setAlignmentX(LEFT_ALIGNMENT);
+        controles.setAlignmentX(LEFT_ALIGNMENT);
+        barra.add(controles);
+        barra.add(estado);
+
+        RenderizadorInstruccion renderizador = new RenderizadorInstruccion();
+        lista.setCellRenderer(renderizador);
+        lista.setFixedCellHeight(renderizador.altoFila);
+        lista.setFixedCellWidth(renderizador.anchoFila);
+        lista.setBackground(Color.BLACK);
+        lista.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        lista.setVisibleRowCount(16);
+        lista.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                int fila = lista.locationToIndex(e.getPoint());
+                if (e.getClickCount() == 2 && depurador != null && fila >= 0) {
+                    depurador.alternarBreakpoint(fila * 2);
+                    repintarFila(fila);
+                }
+            }
+        });
+
+        JScrollPane scrollPane = new JScrollPane(lista,
+                ScrollPaneConstants.VERTICAL_SCROLLBAR_ALWAYS, ScrollPaneConstants.HORIZONTAL_SCROLLBAR_AS_NEEDED);
+        scrollPane.setBorder(BorderFactory.createLineBorder(Color.BLACK));
+        scrollPane.getViewport().setBackground(Color.BLACK);
+
+        add(barra, BorderLayout.NORTH);
+        add(scrollPane, BorderLayout.CENTER);
+    }
+
+    // Los botones de ordenes solo actuan si el panel esta asociado a una CPU
+    private JButton crearBoton(String texto, String ayuda, final ActionListener orden) {
+        JButton boton = new JButton(texto);
+        configurarBoton(boton, ayuda);
+        boton.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                if (cpu != null) {
+                    orden.actionPerformed(e);
+                }
+            }
+        });
+        return boton;
+    }
+
+    private void configurarBoton(JButton boton, String ayuda) {
+        boton.setFont(seguirPCCheckBox.getFont());
+        boton.setMargin(new Insets(1, 4, 1, 4));
+        boton.setFocusable(false);
+        boton.setToolTipText(ayuda);
+    }
+
+    /* Asocia el panel a la CPU: su memoria, sus puntos de parada, su diario de deshacer y sus ordenes de ejecucion */
+    public void setCpu(Chip8_CPU cpu) {
+        this.cpu = cpu;
+        setMemoria(cpu.getMemoria());
+        setDepurador(cpu.depurador);
+        setHistorial(cpu.historial);
+    }
+
+    /* Asocia el panel a la memoria del interprete y desensambla su contenido completo */
+    public void setMemoria(int[] memoria) {
+        if (desensamblador == null || desensamblador.getInstrucciones() != memoria.length / 2) {
+            desensamblador = new Chip8_Desensamblador(memoria);
+            modelo.cambioTamano();
+        } else {
+            desensamblador.invalidarTodo();
+            modelo.cambioContenido(0, modelo.getSize() - 1);
+        }
+    }
+
+    /**
+     * Recalcula solo las instrucciones de las lineas de memoria modificadas
+     * (1 bit por linea de 16 bytes) y repinta sus filas.
+     */
+    public void invalidarLineas(long[] lineas) {
+        if (desensamblador == null) {
+            return;
+        }
+
+        desensamblador.invalidar(lineas);
+
+        // Las filas de una linea de 16 bytes son 8 instrucciones consecutivas
+        int instruccionesPorLinea = Chip8_CPU.BYTES_POR_LINEA / 2;
+        int totalLineas = modelo.getSize() / instruccionesPorLinea;
+        for (int linea = 0; linea < totalLineas; linea++) {
+            if ((lineas[linea >> 6] & (1L << (linea & 63))) != 0) {
+                modelo.cambioContenido(linea * instruccionesPorLinea, (linea + 1) * instruccionesPorLinea - 1);
+            }
+        }
+
+        // Un salto modificado puede cambiar la marca de destino de cualquier fila visible
+        lista.repaint();
+    }
+
+    public void setAnalisis(Chip8_Analisis analisis) {
+        if (analisis != this.analisis) {
+            this.analisis = analisis;
+            lista.repaint();
+        }
+    }
+
+    public void setDepurador(Chip8_Depurador depurador) {
+        this.depurador = depurador;
+        lista.repaint();
+    }
+
+    public void setHistorial(Chip8_Historial historial) {
+        this.historial = historial;
+        deshacerCheckBox.setSelected(historial.isActivo());
+        actualizarControles();
+    }
+
+    /*
+     * Actualiza el boton de pausa segun el modo de ejecucion y muestra las
+     * instrucciones que se pueden deshacer y el costo medido del diario.
+     */
+    public void actualizarControles() {
+        if (cpu != null) {
+            pausaButton.setText(cpu.isSingleStep() ? "Continuar" : "Pausa");
+        }
+        if (historial == null) {
+            return;
+        }
+
+        if (historial.isActivo()) {
+            historialLabel.setText(String.format("Deshacer: %d instr. (%.1f B, %.0f ns por instr.)",
+                    historial.getEntradas(), historial.getBytesPorInstruccion(), historial.getNanosPorInstruccion()));
+        } else {
+            historialLabel.setText("Deshacer: inactivo");
+        }
+    }
+
+    public void setProgramCounter(int programCounter) {
+        if (programCounter == this.programCounter) {
+            return;
+        }
+
+        repintarFila(this.programCounter >> 1);
+        this.programCounter = programCounter;
+        repintarFila(programCounter >> 1);
+
+        if (seguirPCCheckBox.isSelected()) {
+            mostrarPC();
+        }
+    }
+
+    private void mostrarPC() {
+        int fila = programCounter >> 1;
+        if (fila >= 0 && fila < modelo.getSize()) {
+            lista.ensureIndexIsVisible(fila);
+        }
+    }
+
+    private void repintarFila(int fila) {
+        if (fila < 0 || fila >= modelo.getSize()) {
+            return;
+        }
+
+        Rectangle celda = lista.getCellBounds(fila, fila);
+        if (celda != null) {
+            lista.repaint(celda);
+        }
+    }
+
+    /* Modelo de la lista: cada elemento es la direccion de una instruccion */
+    private class ModeloDesensamblado extends AbstractListModel<Integer> {
+
+        @Override
+        public int getSize() {
+            return desensamblador == null ? 0 : desensamblador.getInstrucciones();
+        }
+
+        @Override
+        public Integer getElementAt(int index) {
+            return index * 2;
+        }
+
+        void cambioTamano() {
+            fireContentsChanged(this, 0, Integer.MAX_VALUE);
+        }
+
+        void cambioContenido(int desde, int hasta) {
+            fireContentsChanged(this, desde, hasta);
+        }
+    }
+
+    /* Renderizador de celdas: pinta la direccion, el opcode y el mnemonico sin crear cadenas */
+    private class RenderizadorInstruccion extends JComponent implements ListCellRenderer<Integer> {
+
+        private final char[] digitos = new char[4];
+        private final int ascenso;
+        private final int anchoDigito;
+        final int altoFila;
+        final int anchoFila;
+
+        private int direccion;
+        private boolean seleccionada;
+
+        RenderizadorInstruccion() {
+            Font fuente = new Font("Consolas", Font.BOLD, 11);
+            if (!"Consolas".equals(fuente.getFamily())) {
+                fuente = new Font(Font.MONOSPACED, Font.BOLD, 11);
+            }
+            setFont(fuente);
+            setOpaque(true);
+
+            FontMetrics fm = getFontMetrics(fuente);
+            ascenso = fm.getAscent();
+            anchoDigito = fm.charWidth('0');
+            altoFila = fm.getHeight();
+            anchoFila = anchoDigito * 34;
+        }
+
+        @Override
+        public Component getListCellRendererComponent(JList<? extends Integer> list, Integer value, int index,
+                boolean isSelected, boolean cellHasFocus) {
+            direccion = value;
+            seleccionada = isSelected;
+            return this;
+        }
+
+        @Override
+        public Dimension getPreferredSize() {
+            return new Dimension(anchoFila, altoFila);
+        }
+
+        @Override
+        protected void paintComponent(Graphics g) {
+            boolean esPC = direccion == programCounter;
+
+            g.setColor(esPC ? COLOR_PC : seleccionada ? COLOR_SELECCION : Color.BLACK);
+            g.fillRect(0, 0, getWidth(), getHeight());
+
+            int y = ascenso;
+            int x = anchoDigito;
+
+            // Marca de breakpoint, marca del PC y direccion (resaltada si es destino de un salto o llamada)
+            if (depurador != null && depurador.hayBreakpoint(direccion)) {
+                g.setColor(COLOR_BREAKPOINT);
+                g.fillOval(1, (getHeight() - anchoDigito) / 2, anchoDigito - 2, anchoDigito - 2);
+            }
+            g.setColor(COLOR_TEXTO);
+            if (esPC) {
+                g.drawString(">", 0, y);
+            }
+            g.setColor(desensamblador.esDestino(direccion) ? COLOR_DESTINO : COLOR_DIRECCION);
+            Chip8_Hex.escribirPalabra(direccion, digitos, 0);
+            g.drawChars(digitos, 0, 4, x, y);
+
+            // Opcode y mnemonico, segun la clasificacion del analisis estatico
+            if (analisis != null && analisis.esAutomodificable(direccion)) {
+                g.setColor(COLOR_AUTOMODIFICABLE);
+            } else if (analisis != null && !analisis.esCodigo(direccion)) {
+                g.setColor(COLOR_DATOS);
+            } else {
+                g.setColor(COLOR_TEXTO);
+            }
+            Chip8_Hex.escribirPalabra(desensamblador.getOpcode(direccion), digitos, 0);
+            g.drawChars(digitos, 0, 4, x + anchoDigito * 6, y);
+            g.drawString(desensamblador.getTexto(direccion), x + anchoDigito * 12, y);
+        }
+    }
+}
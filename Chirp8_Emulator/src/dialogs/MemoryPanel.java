@@ -2,8 +2,8 @@
  * Copyright (C) 2022 Diego Andrés Gutiérrez Berón
  * 
  * Some parts of this software were made as adaptations of ideas other than mine.
- * In any case, due credit is given for any ideas or code that served as an
- * implementation base for this software.
+ * In any case, due credit or references are given for any ideas or code that 
+ * served as an implementation base for this software.
  *
  * THIS PROGRAM IS LICENSED UNDER THE TERMS OF THE GNU GENERAL PUBLIC LICENSE
  *
@@ -20,6532 +20,255 @@
  * You should have received a copy of the GNU General Public License
  * along with this program.  If not, see <http://www.gnu.org/licenses/>.
  */
-package dialogs;
-
-import java.awt.Component;
-import java.awt.Container;
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.List;
-import javax.swing.JTextField;
-
-/**
- *
- * @author Diego Gutierrez
- */
-public class MemoryPanel extends javax.swing.JPanel {
-
-    /**
-     * Creates new form MemoryPanel
-     */
-    public MemoryPanel() {
-        initComponents();
-        listJTextFields = (ArrayList<JTextField>) getAllComponents(this);
-    }
-
-    /**
-     * This method is called from within the constructor to initialize the form.
-     * WARNING: Do NOT modify this code. The content of this method is always
-     * regenerated by the Form Editor.
-     */
-    @SuppressWarnings("unchecked")
-    // <editor-fold defaultstate="collapsed" desc="Generated Code">//GEN-BEGIN:initComponents
-    private void initComponents() {
-
-        jTextField1 = new javax.swing.JTextField();
-        jTextField2 = new javax.swing.JTextField();
-        jTextField3 = new javax.swing.JTextField();
-        jTextField4 = new javax.swing.JTextField();
-        jTextField5 = new javax.swing.JTextField();
-        jTextField6 = new javax.swing.JTextField();
-        jTextField7 = new javax.swing.JTextField();
-        jTextField8 = new javax.swing.JTextField();
-        jTextField9 = new javax.swing.JTextField();
-        jTextField10 = new javax.swing.JTextField();
-        jTextField11 = new javax.swing.JTextField();
-        jTextField12 = new javax.swing.JTextField();
-        jTextField13 = new javax.swing.JTextField();
-        jTextField14 = new javax.swing.JTextField();
-        jTextField15 = new javax.swing.JTextField();
-        jTextField16 = new javax.swing.JTextField();
-        jTextField17 = new javax.swing.JTextField();
-        jTextField18 = new javax.swing.JTextField();
-        jTextField19 = new javax.swing.JTextField();
-        jTextField20 = new javax.swing.JTextField();
-        jTextField21 = new javax.swing.JTextField();
-        jTextField22 = new javax.swing.JTextField();
-        jTextField23 = new javax.swing.JTextField();
-        jTextField24 = new javax.swing.JTextField();
-        jTextField25 = new javax.swing.JTextField();
-        jTextField26 = new javax.swing.JTextField();
-        jTextField27 = new javax.swing.JTextField();
-        jTextField28 = new javax.swing.JTextField();
-        jTextField29 = new javax.swing.JTextField();
-        jTextField30 = new javax.swing.JTextField();
-        jTextField31 = new javax.swing.JTextField();
-        jTextField32 = new javax.swing.JTextField();
-        jTextField33 = new javax.swing.JTextField();
-        jTextField34 = new javax.swing.JTextField();
-        jTextField35 = new javax.swing.JTextField();
-        jTextField36 = new javax.swing.JTextField();
-        jTextField37 = new javax.swing.JTextField();
-        jTextField38 = new javax.swing.JTextField();
-        jTextField39 = new javax.swing.JTextField();
-        jTextField40 = new javax.swing.JTextField();
-        jTextField41 = new javax.swing.JTextField();
-        jTextField42 = new javax.swing.JTextField();
-        jTextField43 = new javax.swing.JTextField();
-        jTextField44 = new javax.swing.JTextField();
-        jTextField45 = new javax.swing.JTextField();
-        jTextField46 = new javax.swing.JTextField();
-        jTextField47 = new javax.swing.JTextField();
-        jTextField48 = new javax.swing.JTextField();
-        jTextField49 = new javax.swing.JTextField();
-        jTextField50 = new javax.swing.JTextField();
-        jTextField51 = new javax.swing.JTextField();
-        jTextField52 = new javax.swing.JTextField();
-        jTextField53 = new javax.swing.JTextField();
-        jTextField54 = new javax.swing.JTextField();
-        jTextField55 = new javax.swing.JTextField();
-        jTextField56 = new javax.swing.JTextField();
-        jTextField57 = new javax.swing.JTextField();
-        jTextField58 = new javax.swing.JTextField();
-        jTextField59 = new javax.swing.JTextField();
-        jTextField60 = new javax.swing.JTextField();
-        jTextField61 = new javax.swing.JTextField();
-        jTextField62 = new javax.swing.JTextField();
-        jTextField63 = new javax.swing.JTextField();
-        jTextField64 = new javax.swing.JTextField();
-        jTextField65 = new javax.swing.JTextField();
-        jTextField66 = new javax.swing.JTextField();
-        jTextField67 = new javax.swing.JTextField();
-        jTextField68 = new javax.swing.JTextField();
-        jTextField69 = new javax.swing.JTextField();
-        jTextField70 = new javax.swing.JTextField();
-        jTextField71 = new javax.swing.JTextField();
-        jTextField72 = new javax.swing.JTextField();
-        jTextField73 = new javax.swing.JTextField();
-        jTextField74 = new javax.swing.JTextField();
-        jTextField75 = new javax.swing.JTextField();
-        jTextField76 = new javax.swing.JTextField();
-        jTextField77 = new javax.swing.JTextField();
-        jTextField78 = new javax.swing.JTextField();
-        jTextField79 = new javax.swing.JTextField();
-        jTextField80 = new javax.swing.JTextField();
-        jTextField81 = new javax.swing.JTextField();
-        jTextField82 = new javax.swing.JTextField();
-        jTextField83 = new javax.swing.JTextField();
-        jTextField84 = new javax.swing.JTextField();
-        jTextField85 = new javax.swing.JTextField();
-        jTextField86 = new javax.swing.JTextField();
-        jTextField87 = new javax.swing.JTextField();
-        jTextField88 = new javax.swing.JTextField();
-        jTextField89 = new javax.swing.JTextField();
-        jTextField90 = new javax.swing.JTextField();
-        jTextField91 = new javax.swing.JTextField();
-        jTextField92 = new javax.swing.JTextField();
-        jTextField93 = new javax.swing.JTextField();
-        jTextField94 = new javax.swing.JTextField();
-        jTextField95 = new javax.swing.JTextField();
-        jTextField96 = new javax.swing.JTextField();
-        jTextField97 = new javax.swing.JTextField();
-        jTextField98 = new javax.swing.JTextField();
-        jTextField99 = new javax.swing.JTextField();
-        jTextField100 = new javax.swing.JTextField();
-        jTextField101 = new javax.swing.JTextField();
-        jTextField102 = new javax.swing.JTextField();
-        jTextField103 = new javax.swing.JTextField();
-        jTextField104 = new javax.swing.JTextField();
-        jTextField105 = new javax.swing.JTextField();
-        jTextField106 = new javax.swing.JTextField();
-        jTextField107 = new javax.swing.JTextField();
-        jTextField108 = new javax.swing.JTextField();
-        jTextField109 = new javax.swing.JTextField();
-        jTextField110 = new javax.swing.JTextField();
-        jTextField111 = new javax.swing.JTextField();
-        jTextField112 = new javax.swing.JTextField();
-        jTextField113 = new javax.swing.JTextField();
-        jTextField114 = new javax.swing.JTextField();
-        jTextField115 = new javax.swing.JTextField();
-        jTextField116 = new javax.swing.JTextField();
-        jTextField117 = new javax.swing.JTextField();
-        jTextField118 = new javax.swing.JTextField();
-        jTextField119 = new javax.swing.JTextField();
-        jTextField120 = new javax.swing.JTextField();
-        jTextField121 = new javax.swing.JTextField();
-        jTextField122 = new javax.swing.JTextField();
-        jTextField123 = new javax.swing.JTextField();
-        jTextField124 = new javax.swing.JTextField();
-        jTextField125 = new javax.swing.JTextField();
-        jTextField126 = new javax.swing.JTextField();
-        jTextField127 = new javax.swing.JTextField();
-        jTextField128 = new javax.swing.JTextField();
-        jTextField129 = new javax.swing.JTextField();
-        jTextField130 = new javax.swing.JTextField();
-        jTextField131 = new javax.swing.JTextField();
-        jTextField132 = new javax.swing.JTextField();
-        jTextField133 = new javax.swing.JTextField();
-        jTextField134 = new javax.swing.JTextField();
-        jTextField135 = new javax.swing.JTextField();
-        jTextField136 = new javax.swing.JTextField();
-        jTextField137 = new javax.swing.JTextField();
-        jTextField138 = new javax.swing.JTextField();
-        jTextField139 = new javax.swing.JTextField();
-        jTextField140 = new javax.swing.JTextField();
-        jTextField141 = new javax.swing.JTextField();
-        jTextField142 = new javax.swing.JTextField();
-        jTextField143 = new javax.swing.JTextField();
-        jTextField144 = new javax.swing.JTextField();
-        jTextField145 = new javax.swing.JTextField();
-        jTextField146 = new javax.swing.JTextField();
-        jTextField147 = new javax.swing.JTextField();
-        jTextField148 = new javax.swing.JTextField();
-        jTextField149 = new javax.swing.JTextField();
-        jTextField150 = new javax.swing.JTextField();
-        jTextField151 = new javax.swing.JTextField();
-        jTextField152 = new javax.swing.JTextField();
-        jTextField153 = new javax.swing.JTextField();
-        jTextField154 = new javax.swing.JTextField();
-        jTextField155 = new javax.swing.JTextField();
-        jTextField156 = new javax.swing.JTextField();
-        jTextField157 = new javax.swing.JTextField();
-        jTextField158 = new javax.swing.JTextField();
-        jTextField159 = new javax.swing.JTextField();
-        jTextField160 = new javax.swing.JTextField();
-        jTextField161 = new javax.swing.JTextField();
-        jTextField162 = new javax.swing.JTextField();
-        jTextField163 = new javax.swing.JTextField();
-        jTextField164 = new javax.swing.JTextField();
-        jTextField165 = new javax.swing.JTextField();
-        jTextField166 = new javax.swing.JTextField();
-        jTextField167 = new javax.swing.JTextField();
-        jTextField168 = new javax.swing.JTextField();
-        jTextField169 = new javax.swing.JTextField();
-        jTextField170 = new javax.swing.JTextField();
-        jTextField171 = new javax.swing.JTextField();
-        jTextField172 = new javax.swing.JTextField();
-        jTextField173 = new javax.swing.JTextField();
-        jTextField174 = new javax.swing.JTextField();
-        jTextField175 = new javax.swing.JTextField();
-        jTextField176 = new javax.swing.JTextField();
-        jTextField177 = new javax.swing.JTextField();
-        jTextField178 = new javax.swing.JTextField();
-        jTextField179 = new javax.swing.JTextField();
-        jTextField180 = new javax.swing.JTextField();
-        jTextField181 = new javax.swing.JTextField();
-        jTextField182 = new javax.swing.JTextField();
-        jTextField183 = new javax.swing.JTextField();
-        jTextField184 = new javax.swing.JTextField();
-        jTextField185 = new javax.swing.JTextField();
-        jTextField186 = new javax.swing.JTextField();
-        jTextField187 = new javax.swing.JTextField();
-        jTextField188 = new javax.swing.JTextField();
-        jTextField189 = new javax.swing.JTextField();
-        jTextField190 = new javax.swing.JTextField();
-        jTextField191 = new javax.swing.JTextField();
-        jTextField192 = new javax.swing.JTextField();
-        jTextField193 = new javax.swing.JTextField();
-        jTextField194 = new javax.swing.JTextField();
-        jTextField195 = new javax.swing.JTextField();
-        jTextField196 = new javax.swing.JTextField();
-        jTextField197 = new javax.swing.JTextField();
-        jTextField198 = new javax.swing.JTextField();
-        jTextField199 = new javax.swing.JTextField();
-        jTextField200 = new javax.swing.JTextField();
-        jTextField201 = new javax.swing.JTextField();
-        jTextField202 = new javax.swing.JTextField();
-        jTextField203 = new javax.swing.JTextField();
-        jTextField204 = new javax.swing.JTextField();
-        jTextField205 = new javax.swing.JTextField();
-        jTextField206 = new javax.swing.JTextField();
-        jTextField207 = new javax.swing.JTextField();
-        jTextField208 = new javax.swing.JTextField();
-        jTextField209 = new javax.swing.JTextField();
-        jTextField210 = new javax.swing.JTextField();
-        jTextField211 = new javax.swing.JTextField();
-        jTextField212 = new javax.swing.JTextField();
-        jTextField213 = new javax.swing.JTextField();
-        jTextField214 = new javax.swing.JTextField();
-        jTextField215 = new javax.swing.JTextField();
-        jTextField216 = new javax.swing.JTextField();
-        jTextField217 = new javax.swing.JTextField();
-        jTextField218 = new javax.swing.JTextField();
-        jTextField219 = new javax.swing.JTextField();
-        jTextField220 = new javax.swing.JTextField();
-        jTextField221 = new javax.swing.JTextField();
-        jTextField222 = new javax.swing.JTextField();
-        jTextField223 = new javax.swing.JTextField();
-        jTextField224 = new javax.swing.JTextField();
-        jTextField225 = new javax.swing.JTextField();
-        jTextField226 = new javax.swing.JTextField();
-        jTextField227 = new javax.swing.JTextField();
-        jTextField228 = new javax.swing.JTextField();
-        jTextField229 = new javax.swing.JTextField();
-        jTextField230 = new javax.swing.JTextField();
-        jTextField231 = new javax.swing.JTextField();
-        jTextField232 = new javax.swing.JTextField();
-        jTextField233 = new javax.swing.JTextField();
-        jTextField234 = new javax.swing.JTextField();
-        jTextField235 = new javax.swing.JTextField();
-        jTextField236 = new javax.swing.JTextField();
-        jTextField237 = new javax.swing.JTextField();
-        jTextField238 = new javax.swing.JTextField();
-        jTextField239 = new javax.swing.JTextField();
-        jTextField240 = new javax.swing.JTextField();
-        jTextField241 = new javax.swing.JTextField();
-        jTextField242 = new javax.swing.JTextField();
-        jTextField243 = new javax.swing.JTextField();
-        jTextField244 = new javax.swing.JTextField();
-        jTextField245 = new javax.swing.JTextField();
-        jTextField246 = new javax.swing.JTextField();
-        jTextField247 = new javax.swing.JTextField();
-        jTextField248 = new javax.swing.JTextField();
-        jTextField249 = new javax.swing.JTextField();
-        jTextField250 = new javax.swing.JTextField();
-        jTextField251 = new javax.swing.JTextField();
-        jTextField252 = new javax.swing.JTextField();
-        jTextField253 = new javax.swing.JTextField();
-        jTextField254 = new javax.swing.JTextField();
-        jTextField255 = new javax.swing.JTextField();
-        jTextField256 = new javax.swing.JTextField();
-
-        setBackground(new java.awt.Color(0, 0, 0));
-        setDoubleBuffered(false);
-
-        jTextField1.setEditable(false);
-        jTextField1.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField1.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField1.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField1.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField1.setText("00");
-        jTextField1.setBorder(null);
-        jTextField1.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField1.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField1.setName(""); // NOI18N
-        jTextField1.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField2.setEditable(false);
-        jTextField2.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField2.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField2.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField2.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField2.setText("00");
-        jTextField2.setBorder(null);
-        jTextField2.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField2.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField2.setName(""); // NOI18N
-        jTextField2.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField3.setEditable(false);
-        jTextField3.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField3.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField3.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField3.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField3.setText("00");
-        jTextField3.setBorder(null);
-        jTextField3.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField3.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField3.setName(""); // NOI18N
-        jTextField3.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField4.setEditable(false);
-        jTextField4.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField4.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField4.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField4.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField4.setText("00");
-        jTextField4.setBorder(null);
-        jTextField4.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField4.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField4.setName(""); // NOI18N
-        jTextField4.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField5.setEditable(false);
-        jTextField5.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField5.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField5.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField5.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField5.setText("00");
-        jTextField5.setBorder(null);
-        jTextField5.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField5.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField5.setName(""); // NOI18N
-        jTextField5.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField6.setEditable(false);
-        jTextField6.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField6.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField6.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField6.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField6.setText("00");
-        jTextField6.setBorder(null);
-        jTextField6.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField6.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField6.setName(""); // NOI18N
-        jTextField6.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField7.setEditable(false);
-        jTextField7.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField7.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField7.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField7.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField7.setText("00");
-        jTextField7.setBorder(null);
-        jTextField7.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField7.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField7.setName(""); // NOI18N
-        jTextField7.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField8.setEditable(false);
-        jTextField8.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField8.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField8.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField8.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField8.setText("00");
-        jTextField8.setBorder(null);
-        jTextField8.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField8.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField8.setName(""); // NOI18N
-        jTextField8.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField9.setEditable(false);
-        jTextField9.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField9.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField9.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField9.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField9.setText("00");
-        jTextField9.setBorder(null);
-        jTextField9.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField9.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField9.setName(""); // NOI18N
-        jTextField9.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField10.setEditable(false);
-        jTextField10.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField10.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField10.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField10.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField10.setText("00");
-        jTextField10.setBorder(null);
-        jTextField10.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField10.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField10.setName(""); // NOI18N
-        jTextField10.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField11.setEditable(false);
-        jTextField11.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField11.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField11.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField11.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField11.setText("00");
-        jTextField11.setBorder(null);
-        jTextField11.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField11.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField11.setName(""); // NOI18N
-        jTextField11.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField12.setEditable(false);
-        jTextField12.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField12.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField12.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField12.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField12.setText("00");
-        jTextField12.setBorder(null);
-        jTextField12.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField12.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField12.setName(""); // NOI18N
-        jTextField12.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField13.setEditable(false);
-        jTextField13.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField13.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField13.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField13.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField13.setText("00");
-        jTextField13.setBorder(null);
-        jTextField13.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField13.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField13.setName(""); // NOI18N
-        jTextField13.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField14.setEditable(false);
-        jTextField14.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField14.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField14.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField14.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField14.setText("00");
-        jTextField14.setBorder(null);
-        jTextField14.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField14.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField14.setName(""); // NOI18N
-        jTextField14.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField15.setEditable(false);
-        jTextField15.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField15.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField15.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField15.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField15.setText("00");
-        jTextField15.setBorder(null);
-        jTextField15.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField15.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField15.setName(""); // NOI18N
-        jTextField15.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField16.setEditable(false);
-        jTextField16.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField16.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField16.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField16.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField16.setText("00");
-        jTextField16.setBorder(null);
-        jTextField16.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField16.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField16.setName(""); // NOI18N
-        jTextField16.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField17.setEditable(false);
-        jTextField17.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField17.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField17.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField17.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField17.setText("00");
-        jTextField17.setBorder(null);
-        jTextField17.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField17.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField17.setName(""); // NOI18N
-        jTextField17.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField18.setEditable(false);
-        jTextField18.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField18.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField18.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField18.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField18.setText("00");
-        jTextField18.setBorder(null);
-        jTextField18.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField18.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField18.setName(""); // NOI18N
-        jTextField18.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField19.setEditable(false);
-        jTextField19.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField19.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField19.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField19.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField19.setText("00");
-        jTextField19.setBorder(null);
-        jTextField19.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField19.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField19.setName(""); // NOI18N
-        jTextField19.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField20.setEditable(false);
-        jTextField20.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField20.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField20.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField20.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField20.setText("00");
-        jTextField20.setBorder(null);
-        jTextField20.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField20.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField20.setName(""); // NOI18N
-        jTextField20.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField21.setEditable(false);
-        jTextField21.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField21.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField21.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField21.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField21.setText("00");
-        jTextField21.setBorder(null);
-        jTextField21.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField21.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField21.setName(""); // NOI18N
-        jTextField21.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField22.setEditable(false);
-        jTextField22.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField22.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField22.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField22.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField22.setText("00");
-        jTextField22.setBorder(null);
-        jTextField22.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField22.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField22.setName(""); // NOI18N
-        jTextField22.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField23.setEditable(false);
-        jTextField23.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField23.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField23.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField23.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField23.setText("00");
-        jTextField23.setBorder(null);
-        jTextField23.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField23.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField23.setName(""); // NOI18N
-        jTextField23.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField24.setEditable(false);
-        jTextField24.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField24.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField24.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField24.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField24.setText("00");
-        jTextField24.setBorder(null);
-        jTextField24.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField24.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField24.setName(""); // NOI18N
-        jTextField24.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField25.setEditable(false);
-        jTextField25.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField25.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField25.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField25.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField25.setText("00");
-        jTextField25.setBorder(null);
-        jTextField25.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField25.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField25.setName(""); // NOI18N
-        jTextField25.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField26.setEditable(false);
-        jTextField26.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField26.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField26.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField26.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField26.setText("00");
-        jTextField26.setBorder(null);
-        jTextField26.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField26.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField26.setName(""); // NOI18N
-        jTextField26.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField27.setEditable(false);
-        jTextField27.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField27.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField27.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField27.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField27.setText("00");
-        jTextField27.setBorder(null);
-        jTextField27.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField27.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField27.setName(""); // NOI18N
-        jTextField27.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField28.setEditable(false);
-        jTextField28.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField28.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField28.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField28.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField28.setText("00");
-        jTextField28.setBorder(null);
-        jTextField28.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField28.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField28.setName(""); // NOI18N
-        jTextField28.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField29.setEditable(false);
-        jTextField29.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField29.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField29.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField29.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField29.setText("00");
-        jTextField29.setBorder(null);
-        jTextField29.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField29.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField29.setName(""); // NOI18N
-        jTextField29.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField30.setEditable(false);
-        jTextField30.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField30.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField30.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField30.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField30.setText("00");
-        jTextField30.setBorder(null);
-        jTextField30.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField30.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField30.setName(""); // NOI18N
-        jTextField30.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField31.setEditable(false);
-        jTextField31.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField31.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField31.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField31.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField31.setText("00");
-        jTextField31.setBorder(null);
-        jTextField31.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField31.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField31.setName(""); // NOI18N
-        jTextField31.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField32.setEditable(false);
-        jTextField32.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField32.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField32.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField32.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField32.setText("00");
-        jTextField32.setBorder(null);
-        jTextField32.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField32.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField32.setName(""); // NOI18N
-        jTextField32.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField33.setEditable(false);
-        jTextField33.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField33.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField33.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField33.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField33.setText("00");
-        jTextField33.setBorder(null);
-        jTextField33.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField33.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField33.setName(""); // NOI18N
-        jTextField33.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField34.setEditable(false);
-        jTextField34.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField34.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField34.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField34.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField34.setText("00");
-        jTextField34.setBorder(null);
-        jTextField34.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField34.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField34.setName(""); // NOI18N
-        jTextField34.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField35.setEditable(false);
-        jTextField35.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField35.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField35.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField35.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField35.setText("00");
-        jTextField35.setBorder(null);
-        jTextField35.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField35.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField35.setName(""); // NOI18N
-        jTextField35.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField36.setEditable(false);
-        jTextField36.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField36.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField36.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField36.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField36.setText("00");
-        jTextField36.setBorder(null);
-        jTextField36.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField36.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField36.setName(""); // NOI18N
-        jTextField36.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField37.setEditable(false);
-        jTextField37.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField37.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField37.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField37.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField37.setText("00");
-        jTextField37.setBorder(null);
-        jTextField37.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField37.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField37.setName(""); // NOI18N
-        jTextField37.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField38.setEditable(false);
-        jTextField38.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField38.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField38.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField38.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField38.setText("00");
-        jTextField38.setBorder(null);
-        jTextField38.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField38.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField38.setName(""); // NOI18N
-        jTextField38.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField39.setEditable(false);
-        jTextField39.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField39.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField39.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField39.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField39.setText("00");
-        jTextField39.setBorder(null);
-        jTextField39.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField39.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField39.setName(""); // NOI18N
-        jTextField39.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField40.setEditable(false);
-        jTextField40.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField40.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField40.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField40.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField40.setText("00");
-        jTextField40.setBorder(null);
-        jTextField40.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField40.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField40.setName(""); // NOI18N
-        jTextField40.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField41.setEditable(false);
-        jTextField41.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField41.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField41.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField41.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField41.setText("00");
-        jTextField41.setBorder(null);
-        jTextField41.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField41.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField41.setName(""); // NOI18N
-        jTextField41.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField42.setEditable(false);
-        jTextField42.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField42.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField42.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField42.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField42.setText("00");
-        jTextField42.setBorder(null);
-        jTextField42.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField42.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField42.setName(""); // NOI18N
-        jTextField42.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField43.setEditable(false);
-        jTextField43.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField43.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField43.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField43.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField43.setText("00");
-        jTextField43.setBorder(null);
-        jTextField43.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField43.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField43.setName(""); // NOI18N
-        jTextField43.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField44.setEditable(false);
-        jTextField44.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField44.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField44.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField44.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField44.setText("00");
-        jTextField44.setBorder(null);
-        jTextField44.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField44.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField44.setName(""); // NOI18N
-        jTextField44.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField45.setEditable(false);
-        jTextField45.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField45.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField45.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField45.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField45.setText("00");
-        jTextField45.setBorder(null);
-        jTextField45.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField45.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField45.setName(""); // NOI18N
-        jTextField45.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField46.setEditable(false);
-        jTextField46.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField46.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField46.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField46.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField46.setText("00");
-        jTextField46.setBorder(null);
-        jTextField46.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField46.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField46.setName(""); // NOI18N
-        jTextField46.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField47.setEditable(false);
-        jTextField47.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField47.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField47.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField47.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField47.setText("00");
-        jTextField47.setBorder(null);
-        jTextField47.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField47.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField47.setName(""); // NOI18N
-        jTextField47.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField48.setEditable(false);
-        jTextField48.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField48.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField48.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField48.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField48.setText("00");
-        jTextField48.setBorder(null);
-        jTextField48.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField48.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField48.setName(""); // NOI18N
-        jTextField48.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField49.setEditable(false);
-        jTextField49.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField49.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField49.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField49.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField49.setText("00");
-        jTextField49.setBorder(null);
-        jTextField49.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField49.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField49.setName(""); // NOI18N
-        jTextField49.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField50.setEditable(false);
-        jTextField50.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField50.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField50.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField50.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField50.setText("00");
-        jTextField50.setBorder(null);
-        jTextField50.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField50.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField50.setName(""); // NOI18N
-        jTextField50.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField51.setEditable(false);
-        jTextField51.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField51.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField51.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField51.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField51.setText("00");
-        jTextField51.setBorder(null);
-        jTextField51.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField51.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField51.setName(""); // NOI18N
-        jTextField51.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField52.setEditable(false);
-        jTextField52.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField52.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField52.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField52.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField52.setText("00");
-        jTextField52.setBorder(null);
-        jTextField52.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField52.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField52.setName(""); // NOI18N
-        jTextField52.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField53.setEditable(false);
-        jTextField53.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField53.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField53.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField53.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField53.setText("00");
-        jTextField53.setBorder(null);
-        jTextField53.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField53.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField53.setName(""); // NOI18N
-        jTextField53.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField54.setEditable(false);
-        jTextField54.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField54.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField54.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField54.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField54.setText("00");
-        jTextField54.setBorder(null);
-        jTextField54.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField54.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField54.setName(""); // NOI18N
-        jTextField54.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField55.setEditable(false);
-        jTextField55.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField55.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField55.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField55.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField55.setText("00");
-        jTextField55.setBorder(null);
-        jTextField55.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField55.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField55.setName(""); // NOI18N
-        jTextField55.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField56.setEditable(false);
-        jTextField56.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField56.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField56.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField56.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField56.setText("00");
-        jTextField56.setBorder(null);
-        jTextField56.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField56.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField56.setName(""); // NOI18N
-        jTextField56.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField57.setEditable(false);
-        jTextField57.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField57.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField57.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField57.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField57.setText("00");
-        jTextField57.setBorder(null);
-        jTextField57.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField57.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField57.setName(""); // NOI18N
-        jTextField57.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField58.setEditable(false);
-        jTextField58.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField58.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField58.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField58.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField58.setText("00");
-        jTextField58.setBorder(null);
-        jTextField58.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField58.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField58.setName(""); // NOI18N
-        jTextField58.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField59.setEditable(false);
-        jTextField59.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField59.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField59.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField59.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField59.setText("00");
-        jTextField59.setBorder(null);
-        jTextField59.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField59.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField59.setName(""); // NOI18N
-        jTextField59.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField60.setEditable(false);
-        jTextField60.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField60.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField60.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField60.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField60.setText("00");
-        jTextField60.setBorder(null);
-        jTextField60.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField60.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField60.setName(""); // NOI18N
-        jTextField60.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField61.setEditable(false);
-        jTextField61.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField61.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField61.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField61.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField61.setText("00");
-        jTextField61.setBorder(null);
-        jTextField61.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField61.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField61.setName(""); // NOI18N
-        jTextField61.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField62.setEditable(false);
-        jTextField62.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField62.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField62.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField62.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField62.setText("00");
-        jTextField62.setBorder(null);
-        jTextField62.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField62.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField62.setName(""); // NOI18N
-        jTextField62.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField63.setEditable(false);
-        jTextField63.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField63.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField63.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField63.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField63.setText("00");
-        jTextField63.setBorder(null);
-        jTextField63.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField63.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField63.setName(""); // NOI18N
-        jTextField63.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField64.setEditable(false);
-        jTextField64.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField64.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField64.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField64.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField64.setText("00");
-        jTextField64.setBorder(null);
-        jTextField64.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField64.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField64.setName(""); // NOI18N
-        jTextField64.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField65.setEditable(false);
-        jTextField65.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField65.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField65.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField65.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField65.setText("00");
-        jTextField65.setBorder(null);
-        jTextField65.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField65.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField65.setName(""); // NOI18N
-        jTextField65.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField66.setEditable(false);
-        jTextField66.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField66.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField66.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField66.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField66.setText("00");
-        jTextField66.setBorder(null);
-        jTextField66.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField66.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField66.setName(""); // NOI18N
-        jTextField66.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField67.setEditable(false);
-        jTextField67.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField67.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField67.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField67.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField67.setText("00");
-        jTextField67.setBorder(null);
-        jTextField67.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField67.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField67.setName(""); // NOI18N
-        jTextField67.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField68.setEditable(false);
-        jTextField68.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField68.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField68.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField68.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField68.setText("00");
-        jTextField68.setBorder(null);
-        jTextField68.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField68.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField68.setName(""); // NOI18N
-        jTextField68.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField69.setEditable(false);
-        jTextField69.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField69.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField69.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField69.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField69.setText("00");
-        jTextField69.setBorder(null);
-        jTextField69.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField69.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField69.setName(""); // NOI18N
-        jTextField69.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField70.setEditable(false);
-        jTextField70.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField70.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField70.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField70.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField70.setText("00");
-        jTextField70.setBorder(null);
-        jTextField70.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField70.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField70.setName(""); // NOI18N
-        jTextField70.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField71.setEditable(false);
-        jTextField71.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField71.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField71.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField71.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField71.setText("00");
-        jTextField71.setBorder(null);
-        jTextField71.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField71.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField71.setName(""); // NOI18N
-        jTextField71.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField72.setEditable(false);
-        jTextField72.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField72.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField72.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField72.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField72.setText("00");
-        jTextField72.setBorder(null);
-        jTextField72.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField72.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField72.setName(""); // NOI18N
-        jTextField72.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField73.setEditable(false);
-        jTextField73.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField73.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField73.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField73.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField73.setText("00");
-        jTextField73.setBorder(null);
-        jTextField73.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField73.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField73.setName(""); // NOI18N
-        jTextField73.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField74.setEditable(false);
-        jTextField74.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField74.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField74.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField74.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField74.setText("00");
-        jTextField74.setBorder(null);
-        jTextField74.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField74.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField74.setName(""); // NOI18N
-        jTextField74.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField75.setEditable(false);
-        jTextField75.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField75.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField75.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField75.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField75.setText("00");
-        jTextField75.setBorder(null);
-        jTextField75.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField75.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField75.setName(""); // NOI18N
-        jTextField75.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField76.setEditable(false);
-        jTextField76.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField76.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField76.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField76.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField76.setText("00");
-        jTextField76.setBorder(null);
-        jTextField76.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField76.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField76.setName(""); // NOI18N
-        jTextField76.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField77.setEditable(false);
-        jTextField77.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField77.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField77.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField77.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField77.setText("00");
-        jTextField77.setBorder(null);
-        jTextField77.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField77.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField77.setName(""); // NOI18N
-        jTextField77.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField78.setEditable(false);
-        jTextField78.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField78.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField78.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField78.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField78.setText("00");
-        jTextField78.setBorder(null);
-        jTextField78.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField78.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField78.setName(""); // NOI18N
-        jTextField78.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField79.setEditable(false);
-        jTextField79.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField79.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField79.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField79.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField79.setText("00");
-        jTextField79.setBorder(null);
-        jTextField79.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField79.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField79.setName(""); // NOI18N
-        jTextField79.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField80.setEditable(false);
-        jTextField80.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField80.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField80.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField80.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField80.setText("00");
-        jTextField80.setBorder(null);
-        jTextField80.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField80.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField80.setName(""); // NOI18N
-        jTextField80.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField81.setEditable(false);
-        jTextField81.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField81.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField81.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField81.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField81.setText("00");
-        jTextField81.setBorder(null);
-        jTextField81.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField81.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField81.setName(""); // NOI18N
-        jTextField81.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField82.setEditable(false);
-        jTextField82.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField82.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField82.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField82.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField82.setText("00");
-        jTextField82.setBorder(null);
-        jTextField82.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField82.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField82.setName(""); // NOI18N
-        jTextField82.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField83.setEditable(false);
-        jTextField83.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField83.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField83.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField83.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField83.setText("00");
-        jTextField83.setBorder(null);
-        jTextField83.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField83.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField83.setName(""); // NOI18N
-        jTextField83.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField84.setEditable(false);
-        jTextField84.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField84.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField84.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField84.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField84.setText("00");
-        jTextField84.setBorder(null);
-        jTextField84.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField84.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField84.setName(""); // NOI18N
-        jTextField84.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField85.setEditable(false);
-        jTextField85.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField85.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField85.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField85.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField85.setText("00");
-        jTextField85.setBorder(null);
-        jTextField85.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField85.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField85.setName(""); // NOI18N
-        jTextField85.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField86.setEditable(false);
-        jTextField86.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField86.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField86.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField86.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField86.setText("00");
-        jTextField86.setBorder(null);
-        jTextField86.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField86.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField86.setName(""); // NOI18N
-        jTextField86.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField87.setEditable(false);
-        jTextField87.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField87.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField87.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField87.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField87.setText("00");
-        jTextField87.setBorder(null);
-        jTextField87.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField87.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField87.setName(""); // NOI18N
-        jTextField87.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField88.setEditable(false);
-        jTextField88.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField88.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField88.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField88.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField88.setText("00");
-        jTextField88.setBorder(null);
-        jTextField88.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField88.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField88.setName(""); // NOI18N
-        jTextField88.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField89.setEditable(false);
-        jTextField89.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField89.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField89.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField89.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField89.setText("00");
-        jTextField89.setBorder(null);
-        jTextField89.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField89.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField89.setName(""); // NOI18N
-        jTextField89.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField90.setEditable(false);
-        jTextField90.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField90.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField90.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField90.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField90.setText("00");
-        jTextField90.setBorder(null);
-        jTextField90.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField90.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField90.setName(""); // NOI18N
-        jTextField90.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField91.setEditable(false);
-        jTextField91.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField91.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField91.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField91.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField91.setText("00");
-        jTextField91.setBorder(null);
-        jTextField91.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField91.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField91.setName(""); // NOI18N
-        jTextField91.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField92.setEditable(false);
-        jTextField92.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField92.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField92.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField92.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField92.setText("00");
-        jTextField92.setBorder(null);
-        jTextField92.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField92.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField92.setName(""); // NOI18N
-        jTextField92.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField93.setEditable(false);
-        jTextField93.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField93.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField93.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField93.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField93.setText("00");
-        jTextField93.setBorder(null);
-        jTextField93.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField93.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField93.setName(""); // NOI18N
-        jTextField93.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField94.setEditable(false);
-        jTextField94.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField94.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField94.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField94.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField94.setText("00");
-        jTextField94.setBorder(null);
-        jTextField94.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField94.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField94.setName(""); // NOI18N
-        jTextField94.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField95.setEditable(false);
-        jTextField95.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField95.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField95.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField95.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField95.setText("00");
-        jTextField95.setBorder(null);
-        jTextField95.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField95.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField95.setName(""); // NOI18N
-        jTextField95.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField96.setEditable(false);
-        jTextField96.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField96.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField96.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField96.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField96.setText("00");
-        jTextField96.setBorder(null);
-        jTextField96.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField96.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField96.setName(""); // NOI18N
-        jTextField96.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField97.setEditable(false);
-        jTextField97.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField97.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField97.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField97.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField97.setText("00");
-        jTextField97.setBorder(null);
-        jTextField97.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField97.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField97.setName(""); // NOI18N
-        jTextField97.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField98.setEditable(false);
-        jTextField98.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField98.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField98.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField98.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField98.setText("00");
-        jTextField98.setBorder(null);
-        jTextField98.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField98.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField98.setName(""); // NOI18N
-        jTextField98.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField99.setEditable(false);
-        jTextField99.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField99.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField99.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField99.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField99.setText("00");
-        jTextField99.setBorder(null);
-        jTextField99.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField99.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField99.setName(""); // NOI18N
-        jTextField99.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField100.setEditable(false);
-        jTextField100.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField100.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField100.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField100.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField100.setText("00");
-        jTextField100.setBorder(null);
-        jTextField100.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField100.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField100.setName(""); // NOI18N
-        jTextField100.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField101.setEditable(false);
-        jTextField101.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField101.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField101.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField101.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField101.setText("00");
-        jTextField101.setBorder(null);
-        jTextField101.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField101.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField101.setName(""); // NOI18N
-        jTextField101.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField102.setEditable(false);
-        jTextField102.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField102.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField102.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField102.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField102.setText("00");
-        jTextField102.setBorder(null);
-        jTextField102.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField102.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField102.setName(""); // NOI18N
-        jTextField102.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField103.setEditable(false);
-        jTextField103.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField103.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField103.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField103.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField103.setText("00");
-        jTextField103.setBorder(null);
-        jTextField103.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField103.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField103.setName(""); // NOI18N
-        jTextField103.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField104.setEditable(false);
-        jTextField104.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField104.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField104.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField104.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField104.setText("00");
-        jTextField104.setBorder(null);
-        jTextField104.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField104.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField104.setName(""); // NOI18N
-        jTextField104.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField105.setEditable(false);
-        jTextField105.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField105.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField105.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField105.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField105.setText("00");
-        jTextField105.setBorder(null);
-        jTextField105.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField105.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField105.setName(""); // NOI18N
-        jTextField105.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField106.setEditable(false);
-        jTextField106.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField106.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField106.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField106.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField106.setText("00");
-        jTextField106.setBorder(null);
-        jTextField106.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField106.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField106.setName(""); // NOI18N
-        jTextField106.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField107.setEditable(false);
-        jTextField107.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField107.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField107.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField107.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField107.setText("00");
-        jTextField107.setBorder(null);
-        jTextField107.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField107.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField107.setName(""); // NOI18N
-        jTextField107.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField108.setEditable(false);
-        jTextField108.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField108.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField108.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField108.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField108.setText("00");
-        jTextField108.setBorder(null);
-        jTextField108.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField108.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField108.setName(""); // NOI18N
-        jTextField108.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField109.setEditable(false);
-        jTextField109.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField109.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField109.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField109.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField109.setText("00");
-        jTextField109.setBorder(null);
-        jTextField109.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField109.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField109.setName(""); // NOI18N
-        jTextField109.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField110.setEditable(false);
-        jTextField110.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField110.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField110.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField110.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField110.setText("00");
-        jTextField110.setBorder(null);
-        jTextField110.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField110.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField110.setName(""); // NOI18N
-        jTextField110.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField111.setEditable(false);
-        jTextField111.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField111.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField111.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField111.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField111.setText("00");
-        jTextField111.setBorder(null);
-        jTextField111.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField111.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField111.setName(""); // NOI18N
-        jTextField111.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField112.setEditable(false);
-        jTextField112.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField112.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField112.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField112.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField112.setText("00");
-        jTextField112.setBorder(null);
-        jTextField112.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField112.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField112.setName(""); // NOI18N
-        jTextField112.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField113.setEditable(false);
-        jTextField113.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField113.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField113.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField113.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField113.setText("00");
-        jTextField113.setBorder(null);
-        jTextField113.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField113.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField113.setName(""); // NOI18N
-        jTextField113.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField114.setEditable(false);
-        jTextField114.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField114.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField114.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField114.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField114.setText("00");
-        jTextField114.setBorder(null);
-        jTextField114.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField114.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField114.setName(""); // NOI18N
-        jTextField114.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField115.setEditable(false);
-        jTextField115.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField115.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField115.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField115.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField115.setText("00");
-        jTextField115.setBorder(null);
-        jTextField115.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField115.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField115.setName(""); // NOI18N
-        jTextField115.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField116.setEditable(false);
-        jTextField116.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField116.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField116.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField116.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField116.setText("00");
-        jTextField116.setBorder(null);
-        jTextField116.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField116.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField116.setName(""); // NOI18N
-        jTextField116.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField117.setEditable(false);
-        jTextField117.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField117.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField117.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField117.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField117.setText("00");
-        jTextField117.setBorder(null);
-        jTextField117.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField117.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField117.setName(""); // NOI18N
-        jTextField117.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField118.setEditable(false);
-        jTextField118.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField118.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField118.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField118.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField118.setText("00");
-        jTextField118.setBorder(null);
-        jTextField118.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField118.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField118.setName(""); // NOI18N
-        jTextField118.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField119.setEditable(false);
-        jTextField119.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField119.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField119.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField119.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField119.setText("00");
-        jTextField119.setBorder(null);
-        jTextField119.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField119.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField119.setName(""); // NOI18N
-        jTextField119.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField120.setEditable(false);
-        jTextField120.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField120.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField120.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField120.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField120.setText("00");
-        jTextField120.setBorder(null);
-        jTextField120.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField120.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField120.setName(""); // NOI18N
-        jTextField120.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField121.setEditable(false);
-        jTextField121.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField121.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField121.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField121.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField121.setText("00");
-        jTextField121.setBorder(null);
-        jTextField121.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField121.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField121.setName(""); // NOI18N
-        jTextField121.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField122.setEditable(false);
-        jTextField122.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField122.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField122.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField122.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField122.setText("00");
-        jTextField122.setBorder(null);
-        jTextField122.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField122.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField122.setName(""); // NOI18N
-        jTextField122.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField123.setEditable(false);
-        jTextField123.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField123.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField123.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField123.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField123.setText("00");
-        jTextField123.setBorder(null);
-        jTextField123.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField123.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField123.setName(""); // NOI18N
-        jTextField123.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField124.setEditable(false);
-        jTextField124.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField124.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField124.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField124.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField124.setText("00");
-        jTextField124.setBorder(null);
-        jTextField124.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField124.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField124.setName(""); // NOI18N
-        jTextField124.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField125.setEditable(false);
-        jTextField125.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField125.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField125.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField125.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField125.setText("00");
-        jTextField125.setBorder(null);
-        jTextField125.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField125.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField125.setName(""); // NOI18N
-        jTextField125.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField126.setEditable(false);
-        jTextField126.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField126.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField126.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField126.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField126.setText("00");
-        jTextField126.setBorder(null);
-        jTextField126.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField126.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField126.setName(""); // NOI18N
-        jTextField126.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField127.setEditable(false);
-        jTextField127.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField127.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField127.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField127.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField127.setText("00");
-        jTextField127.setBorder(null);
-        jTextField127.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField127.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField127.setName(""); // NOI18N
-        jTextField127.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField128.setEditable(false);
-        jTextField128.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField128.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField128.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField128.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField128.setText("00");
-        jTextField128.setBorder(null);
-        jTextField128.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField128.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField128.setName(""); // NOI18N
-        jTextField128.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField129.setEditable(false);
-        jTextField129.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField129.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField129.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField129.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField129.setText("00");
-        jTextField129.setBorder(null);
-        jTextField129.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField129.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField129.setName(""); // NOI18N
-        jTextField129.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField130.setEditable(false);
-        jTextField130.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField130.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField130.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField130.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField130.setText("00");
-        jTextField130.setBorder(null);
-        jTextField130.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField130.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField130.setName(""); // NOI18N
-        jTextField130.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField131.setEditable(false);
-        jTextField131.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField131.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField131.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField131.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField131.setText("00");
-        jTextField131.setBorder(null);
-        jTextField131.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField131.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField131.setName(""); // NOI18N
-        jTextField131.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField132.setEditable(false);
-        jTextField132.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField132.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField132.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField132.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField132.setText("00");
-        jTextField132.setBorder(null);
-        jTextField132.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField132.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField132.setName(""); // NOI18N
-        jTextField132.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField133.setEditable(false);
-        jTextField133.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField133.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField133.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField133.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField133.setText("00");
-        jTextField133.setBorder(null);
-        jTextField133.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField133.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField133.setName(""); // NOI18N
-        jTextField133.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField134.setEditable(false);
-        jTextField134.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField134.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField134.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField134.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField134.setText("00");
-        jTextField134.setBorder(null);
-        jTextField134.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField134.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField134.setName(""); // NOI18N
-        jTextField134.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField135.setEditable(false);
-        jTextField135.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField135.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField135.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField135.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField135.setText("00");
-        jTextField135.setBorder(null);
-        jTextField135.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField135.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField135.setName(""); // NOI18N
-        jTextField135.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField136.setEditable(false);
-        jTextField136.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField136.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField136.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField136.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField136.setText("00");
-        jTextField136.setBorder(null);
-        jTextField136.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField136.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField136.setName(""); // NOI18N
-        jTextField136.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField137.setEditable(false);
-        jTextField137.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField137.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField137.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField137.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField137.setText("00");
-        jTextField137.setBorder(null);
-        jTextField137.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField137.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField137.setName(""); // NOI18N
-        jTextField137.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField138.setEditable(false);
-        jTextField138.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField138.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField138.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField138.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField138.setText("00");
-        jTextField138.setBorder(null);
-        jTextField138.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField138.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField138.setName(""); // NOI18N
-        jTextField138.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField139.setEditable(false);
-        jTextField139.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField139.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField139.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField139.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField139.setText("00");
-        jTextField139.setBorder(null);
-        jTextField139.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField139.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField139.setName(""); // NOI18N
-        jTextField139.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField140.setEditable(false);
-        jTextField140.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField140.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField140.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField140.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField140.setText("00");
-        jTextField140.setBorder(null);
-        jTextField140.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField140.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField140.setName(""); // NOI18N
-        jTextField140.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField141.setEditable(false);
-        jTextField141.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField141.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField141.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField141.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField141.setText("00");
-        jTextField141.setBorder(null);
-        jTextField141.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField141.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField141.setName(""); // NOI18N
-        jTextField141.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField142.setEditable(false);
-        jTextField142.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField142.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField142.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField142.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField142.setText("00");
-        jTextField142.setBorder(null);
-        jTextField142.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField142.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField142.setName(""); // NOI18N
-        jTextField142.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField143.setEditable(false);
-        jTextField143.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField143.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField143.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField143.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField143.setText("00");
-        jTextField143.setBorder(null);
-        jTextField143.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField143.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField143.setName(""); // NOI18N
-        jTextField143.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField144.setEditable(false);
-        jTextField144.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField144.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField144.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField144.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField144.setText("00");
-        jTextField144.setBorder(null);
-        jTextField144.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField144.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField144.setName(""); // NOI18N
-        jTextField144.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField145.setEditable(false);
-        jTextField145.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField145.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField145.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField145.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField145.setText("00");
-        jTextField145.setBorder(null);
-        jTextField145.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField145.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField145.setName(""); // NOI18N
-        jTextField145.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField146.setEditable(false);
-        jTextField146.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField146.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField146.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField146.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField146.setText("00");
-        jTextField146.setBorder(null);
-        jTextField146.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField146.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField146.setName(""); // NOI18N
-        jTextField146.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField147.setEditable(false);
-        jTextField147.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField147.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField147.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField147.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField147.setText("00");
-        jTextField147.setBorder(null);
-        jTextField147.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField147.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField147.setName(""); // NOI18N
-        jTextField147.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField148.setEditable(false);
-        jTextField148.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField148.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField148.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField148.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField148.setText("00");
-        jTextField148.setBorder(null);
-        jTextField148.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField148.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField148.setName(""); // NOI18N
-        jTextField148.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField149.setEditable(false);
-        jTextField149.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField149.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField149.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField149.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField149.setText("00");
-        jTextField149.setBorder(null);
-        jTextField149.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField149.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField149.setName(""); // NOI18N
-        jTextField149.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField150.setEditable(false);
-        jTextField150.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField150.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField150.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField150.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField150.setText("00");
-        jTextField150.setBorder(null);
-        jTextField150.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField150.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField150.setName(""); // NOI18N
-        jTextField150.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField151.setEditable(false);
-        jTextField151.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField151.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField151.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField151.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField151.setText("00");
-        jTextField151.setBorder(null);
-        jTextField151.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField151.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField151.setName(""); // NOI18N
-        jTextField151.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField152.setEditable(false);
-        jTextField152.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField152.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField152.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField152.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField152.setText("00");
-        jTextField152.setBorder(null);
-        jTextField152.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField152.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField152.setName(""); // NOI18N
-        jTextField152.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField153.setEditable(false);
-        jTextField153.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField153.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField153.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField153.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField153.setText("00");
-        jTextField153.setBorder(null);
-        jTextField153.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField153.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField153.setName(""); // NOI18N
-        jTextField153.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField154.setEditable(false);
-        jTextField154.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField154.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField154.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField154.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField154.setText("00");
-        jTextField154.setBorder(null);
-        jTextField154.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField154.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField154.setName(""); // NOI18N
-        jTextField154.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField155.setEditable(false);
-        jTextField155.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField155.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField155.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField155.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField155.setText("00");
-        jTextField155.setBorder(null);
-        jTextField155.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField155.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField155.setName(""); // NOI18N
-        jTextField155.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField156.setEditable(false);
-        jTextField156.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField156.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField156.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField156.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField156.setText("00");
-        jTextField156.setBorder(null);
-        jTextField156.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField156.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField156.setName(""); // NOI18N
-        jTextField156.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField157.setEditable(false);
-        jTextField157.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField157.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField157.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField157.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField157.setText("00");
-        jTextField157.setBorder(null);
-        jTextField157.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField157.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField157.setName(""); // NOI18N
-        jTextField157.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField158.setEditable(false);
-        jTextField158.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField158.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField158.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField158.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField158.setText("00");
-        jTextField158.setBorder(null);
-        jTextField158.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField158.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField158.setName(""); // NOI18N
-        jTextField158.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField159.setEditable(false);
-        jTextField159.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField159.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField159.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField159.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField159.setText("00");
-        jTextField159.setBorder(null);
-        jTextField159.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField159.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField159.setName(""); // NOI18N
-        jTextField159.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField160.setEditable(false);
-        jTextField160.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField160.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField160.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField160.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField160.setText("00");
-        jTextField160.setBorder(null);
-        jTextField160.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField160.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField160.setName(""); // NOI18N
-        jTextField160.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField161.setEditable(false);
-        jTextField161.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField161.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField161.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField161.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField161.setText("00");
-        jTextField161.setBorder(null);
-        jTextField161.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField161.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField161.setName(""); // NOI18N
-        jTextField161.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField162.setEditable(false);
-        jTextField162.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField162.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField162.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField162.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField162.setText("00");
-        jTextField162.setBorder(null);
-        jTextField162.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField162.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField162.setName(""); // NOI18N
-        jTextField162.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField163.setEditable(false);
-        jTextField163.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField163.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField163.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField163.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField163.setText("00");
-        jTextField163.setBorder(null);
-        jTextField163.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField163.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField163.setName(""); // NOI18N
-        jTextField163.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField164.setEditable(false);
-        jTextField164.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField164.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField164.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField164.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField164.setText("00");
-        jTextField164.setBorder(null);
-        jTextField164.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField164.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField164.setName(""); // NOI18N
-        jTextField164.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField165.setEditable(false);
-        jTextField165.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField165.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField165.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField165.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField165.setText("00");
-        jTextField165.setBorder(null);
-        jTextField165.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField165.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField165.setName(""); // NOI18N
-        jTextField165.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField166.setEditable(false);
-        jTextField166.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField166.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField166.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField166.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField166.setText("00");
-        jTextField166.setBorder(null);
-        jTextField166.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField166.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField166.setName(""); // NOI18N
-        jTextField166.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField167.setEditable(false);
-        jTextField167.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField167.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField167.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField167.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField167.setText("00");
-        jTextField167.setBorder(null);
-        jTextField167.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField167.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField167.setName(""); // NOI18N
-        jTextField167.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField168.setEditable(false);
-        jTextField168.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField168.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField168.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField168.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField168.setText("00");
-        jTextField168.setBorder(null);
-        jTextField168.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField168.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField168.setName(""); // NOI18N
-        jTextField168.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField169.setEditable(false);
-        jTextField169.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField169.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField169.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField169.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField169.setText("00");
-        jTextField169.setBorder(null);
-        jTextField169.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField169.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField169.setName(""); // NOI18N
-        jTextField169.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField170.setEditable(false);
-        jTextField170.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField170.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField170.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField170.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField170.setText("00");
-        jTextField170.setBorder(null);
-        jTextField170.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField170.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField170.setName(""); // NOI18N
-        jTextField170.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField171.setEditable(false);
-        jTextField171.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField171.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField171.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField171.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField171.setText("00");
-        jTextField171.setBorder(null);
-        jTextField171.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField171.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField171.setName(""); // NOI18N
-        jTextField171.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField172.setEditable(false);
-        jTextField172.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField172.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField172.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField172.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField172.setText("00");
-        jTextField172.setBorder(null);
-        jTextField172.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField172.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField172.setName(""); // NOI18N
-        jTextField172.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField173.setEditable(false);
-        jTextField173.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField173.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField173.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField173.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField173.setText("00");
-        jTextField173.setBorder(null);
-        jTextField173.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField173.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField173.setName(""); // NOI18N
-        jTextField173.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField174.setEditable(false);
-        jTextField174.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField174.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField174.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField174.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField174.setText("00");
-        jTextField174.setBorder(null);
-        jTextField174.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField174.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField174.setName(""); // NOI18N
-        jTextField174.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField175.setEditable(false);
-        jTextField175.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField175.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField175.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField175.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField175.setText("00");
-        jTextField175.setBorder(null);
-        jTextField175.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField175.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField175.setName(""); // NOI18N
-        jTextField175.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField176.setEditable(false);
-        jTextField176.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField176.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField176.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField176.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField176.setText("00");
-        jTextField176.setBorder(null);
-        jTextField176.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField176.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField176.setName(""); // NOI18N
-        jTextField176.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField177.setEditable(false);
-        jTextField177.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField177.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField177.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField177.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField177.setText("00");
-        jTextField177.setBorder(null);
-        jTextField177.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField177.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField177.setName(""); // NOI18N
-        jTextField177.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField178.setEditable(false);
-        jTextField178.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField178.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField178.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField178.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField178.setText("00");
-        jTextField178.setBorder(null);
-        jTextField178.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField178.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField178.setName(""); // NOI18N
-        jTextField178.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField179.setEditable(false);
-        jTextField179.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField179.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField179.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField179.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField179.setText("00");
-        jTextField179.setBorder(null);
-        jTextField179.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField179.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField179.setName(""); // NOI18N
-        jTextField179.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField180.setEditable(false);
-        jTextField180.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField180.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField180.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField180.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField180.setText("00");
-        jTextField180.setBorder(null);
-        jTextField180.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField180.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField180.setName(""); // NOI18N
-        jTextField180.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField181.setEditable(false);
-        jTextField181.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField181.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField181.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField181.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField181.setText("00");
-        jTextField181.setBorder(null);
-        jTextField181.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField181.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField181.setName(""); // NOI18N
-        jTextField181.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField182.setEditable(false);
-        jTextField182.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField182.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField182.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField182.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField182.setText("00");
-        jTextField182.setBorder(null);
-        jTextField182.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField182.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField182.setName(""); // NOI18N
-        jTextField182.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField183.setEditable(false);
-        jTextField183.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField183.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField183.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField183.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField183.setText("00");
-        jTextField183.setBorder(null);
-        jTextField183.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField183.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField183.setName(""); // NOI18N
-        jTextField183.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField184.setEditable(false);
-        jTextField184.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField184.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField184.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField184.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField184.setText("00");
-        jTextField184.setBorder(null);
-        jTextField184.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField184.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField184.setName(""); // NOI18N
-        jTextField184.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField185.setEditable(false);
-        jTextField185.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField185.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField185.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField185.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField185.setText("00");
-        jTextField185.setBorder(null);
-        jTextField185.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField185.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField185.setName(""); // NOI18N
-        jTextField185.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField186.setEditable(false);
-        jTextField186.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField186.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField186.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField186.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField186.setText("00");
-        jTextField186.setBorder(null);
-        jTextField186.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField186.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField186.setName(""); // NOI18N
-        jTextField186.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField187.setEditable(false);
-        jTextField187.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField187.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField187.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField187.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField187.setText("00");
-        jTextField187.setBorder(null);
-        jTextField187.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField187.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField187.setName(""); // NOI18N
-        jTextField187.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField188.setEditable(false);
-        jTextField188.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField188.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField188.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField188.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField188.setText("00");
-        jTextField188.setBorder(null);
-        jTextField188.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField188.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField188.setName(""); // NOI18N
-        jTextField188.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField189.setEditable(false);
-        jTextField189.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField189.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField189.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField189.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField189.setText("00");
-        jTextField189.setBorder(null);
-        jTextField189.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField189.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField189.setName(""); // NOI18N
-        jTextField189.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField190.setEditable(false);
-        jTextField190.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField190.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField190.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField190.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField190.setText("00");
-        jTextField190.setBorder(null);
-        jTextField190.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField190.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField190.setName(""); // NOI18N
-        jTextField190.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField191.setEditable(false);
-        jTextField191.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField191.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField191.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField191.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField191.setText("00");
-        jTextField191.setBorder(null);
-        jTextField191.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField191.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField191.setName(""); // NOI18N
-        jTextField191.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField192.setEditable(false);
-        jTextField192.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField192.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField192.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField192.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField192.setText("00");
-        jTextField192.setBorder(null);
-        jTextField192.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField192.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField192.setName(""); // NOI18N
-        jTextField192.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField193.setEditable(false);
-        jTextField193.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField193.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField193.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField193.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField193.setText("00");
-        jTextField193.setBorder(null);
-        jTextField193.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField193.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField193.setName(""); // NOI18N
-        jTextField193.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField194.setEditable(false);
-        jTextField194.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField194.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField194.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField194.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField194.setText("00");
-        jTextField194.setBorder(null);
-        jTextField194.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField194.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField194.setName(""); // NOI18N
-        jTextField194.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField195.setEditable(false);
-        jTextField195.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField195.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField195.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField195.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField195.setText("00");
-        jTextField195.setBorder(null);
-        jTextField195.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField195.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField195.setName(""); // NOI18N
-        jTextField195.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField196.setEditable(false);
-        jTextField196.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField196.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField196.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField196.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField196.setText("00");
-        jTextField196.setBorder(null);
-        jTextField196.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField196.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField196.setName(""); // NOI18N
-        jTextField196.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField197.setEditable(false);
-        jTextField197.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField197.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField197.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField197.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField197.setText("00");
-        jTextField197.setBorder(null);
-        jTextField197.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField197.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField197.setName(""); // NOI18N
-        jTextField197.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField198.setEditable(false);
-        jTextField198.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField198.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField198.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField198.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField198.setText("00");
-        jTextField198.setBorder(null);
-        jTextField198.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField198.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField198.setName(""); // NOI18N
-        jTextField198.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField199.setEditable(false);
-        jTextField199.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField199.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField199.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField199.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField199.setText("00");
-        jTextField199.setBorder(null);
-        jTextField199.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField199.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField199.setName(""); // NOI18N
-        jTextField199.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField200.setEditable(false);
-        jTextField200.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField200.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField200.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField200.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField200.setText("00");
-        jTextField200.setBorder(null);
-        jTextField200.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField200.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField200.setName(""); // NOI18N
-        jTextField200.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField201.setEditable(false);
-        jTextField201.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField201.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField201.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField201.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField201.setText("00");
-        jTextField201.setBorder(null);
-        jTextField201.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField201.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField201.setName(""); // NOI18N
-        jTextField201.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField202.setEditable(false);
-        jTextField202.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField202.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField202.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField202.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField202.setText("00");
-        jTextField202.setBorder(null);
-        jTextField202.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField202.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField202.setName(""); // NOI18N
-        jTextField202.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField203.setEditable(false);
-        jTextField203.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField203.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField203.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField203.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField203.setText("00");
-        jTextField203.setBorder(null);
-        jTextField203.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField203.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField203.setName(""); // NOI18N
-        jTextField203.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField204.setEditable(false);
-        jTextField204.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField204.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField204.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField204.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField204.setText("00");
-        jTextField204.setBorder(null);
-        jTextField204.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField204.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField204.setName(""); // NOI18N
-        jTextField204.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField205.setEditable(false);
-        jTextField205.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField205.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField205.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField205.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField205.setText("00");
-        jTextField205.setBorder(null);
-        jTextField205.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField205.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField205.setName(""); // NOI18N
-        jTextField205.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField206.setEditable(false);
-        jTextField206.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField206.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField206.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField206.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField206.setText("00");
-        jTextField206.setBorder(null);
-        jTextField206.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField206.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField206.setName(""); // NOI18N
-        jTextField206.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField207.setEditable(false);
-        jTextField207.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField207.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField207.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField207.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField207.setText("00");
-        jTextField207.setBorder(null);
-        jTextField207.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField207.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField207.setName(""); // NOI18N
-        jTextField207.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField208.setEditable(false);
-        jTextField208.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField208.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField208.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField208.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField208.setText("00");
-        jTextField208.setBorder(null);
-        jTextField208.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField208.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField208.setName(""); // NOI18N
-        jTextField208.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField209.setEditable(false);
-        jTextField209.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField209.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField209.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField209.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField209.setText("00");
-        jTextField209.setBorder(null);
-        jTextField209.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField209.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField209.setName(""); // NOI18N
-        jTextField209.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField210.setEditable(false);
-        jTextField210.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField210.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField210.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField210.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField210.setText("00");
-        jTextField210.setBorder(null);
-        jTextField210.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField210.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField210.setName(""); // NOI18N
-        jTextField210.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField211.setEditable(false);
-        jTextField211.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField211.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField211.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField211.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField211.setText("00");
-        jTextField211.setBorder(null);
-        jTextField211.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField211.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField211.setName(""); // NOI18N
-        jTextField211.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField212.setEditable(false);
-        jTextField212.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField212.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField212.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField212.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField212.setText("00");
-        jTextField212.setBorder(null);
-        jTextField212.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField212.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField212.setName(""); // NOI18N
-        jTextField212.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField213.setEditable(false);
-        jTextField213.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField213.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField213.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField213.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField213.setText("00");
-        jTextField213.setBorder(null);
-        jTextField213.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField213.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField213.setName(""); // NOI18N
-        jTextField213.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField214.setEditable(false);
-        jTextField214.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField214.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField214.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField214.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField214.setText("00");
-        jTextField214.setBorder(null);
-        jTextField214.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField214.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField214.setName(""); // NOI18N
-        jTextField214.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField215.setEditable(false);
-        jTextField215.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField215.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField215.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField215.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField215.setText("00");
-        jTextField215.setBorder(null);
-        jTextField215.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField215.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField215.setName(""); // NOI18N
-        jTextField215.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField216.setEditable(false);
-        jTextField216.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField216.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField216.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField216.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField216.setText("00");
-        jTextField216.setBorder(null);
-        jTextField216.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField216.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField216.setName(""); // NOI18N
-        jTextField216.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField217.setEditable(false);
-        jTextField217.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField217.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField217.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField217.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField217.setText("00");
-        jTextField217.setBorder(null);
-        jTextField217.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField217.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField217.setName(""); // NOI18N
-        jTextField217.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField218.setEditable(false);
-        jTextField218.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField218.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField218.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField218.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField218.setText("00");
-        jTextField218.setBorder(null);
-        jTextField218.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField218.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField218.setName(""); // NOI18N
-        jTextField218.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField219.setEditable(false);
-        jTextField219.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField219.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField219.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField219.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField219.setText("00");
-        jTextField219.setBorder(null);
-        jTextField219.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField219.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField219.setName(""); // NOI18N
-        jTextField219.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField220.setEditable(false);
-        jTextField220.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField220.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField220.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField220.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField220.setText("00");
-        jTextField220.setBorder(null);
-        jTextField220.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField220.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField220.setName(""); // NOI18N
-        jTextField220.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField221.setEditable(false);
-        jTextField221.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField221.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField221.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField221.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField221.setText("00");
-        jTextField221.setBorder(null);
-        jTextField221.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField221.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField221.setName(""); // NOI18N
-        jTextField221.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField222.setEditable(false);
-        jTextField222.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField222.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField222.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField222.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField222.setText("00");
-        jTextField222.setBorder(null);
-        jTextField222.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField222.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField222.setName(""); // NOI18N
-        jTextField222.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField223.setEditable(false);
-        jTextField223.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField223.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField223.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField223.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField223.setText("00");
-        jTextField223.setBorder(null);
-        jTextField223.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField223.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField223.setName(""); // NOI18N
-        jTextField223.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField224.setEditable(false);
-        jTextField224.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField224.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField224.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField224.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField224.setText("00");
-        jTextField224.setBorder(null);
-        jTextField224.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField224.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField224.setName(""); // NOI18N
-        jTextField224.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField225.setEditable(false);
-        jTextField225.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField225.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField225.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField225.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField225.setText("00");
-        jTextField225.setBorder(null);
-        jTextField225.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField225.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField225.setName(""); // NOI18N
-        jTextField225.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField226.setEditable(false);
-        jTextField226.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField226.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField226.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField226.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField226.setText("00");
-        jTextField226.setBorder(null);
-        jTextField226.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField226.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField226.setName(""); // NOI18N
-        jTextField226.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField227.setEditable(false);
-        jTextField227.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField227.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField227.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField227.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField227.setText("00");
-        jTextField227.setBorder(null);
-        jTextField227.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField227.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField227.setName(""); // NOI18N
-        jTextField227.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField228.setEditable(false);
-        jTextField228.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField228.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField228.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField228.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField228.setText("00");
-        jTextField228.setBorder(null);
-        jTextField228.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField228.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField228.setName(""); // NOI18N
-        jTextField228.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField229.setEditable(false);
-        jTextField229.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField229.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField229.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField229.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField229.setText("00");
-        jTextField229.setBorder(null);
-        jTextField229.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField229.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField229.setName(""); // NOI18N
-        jTextField229.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField230.setEditable(false);
-        jTextField230.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField230.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField230.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField230.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField230.setText("00");
-        jTextField230.setBorder(null);
-        jTextField230.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField230.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField230.setName(""); // NOI18N
-        jTextField230.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField231.setEditable(false);
-        jTextField231.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField231.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField231.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField231.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField231.setText("00");
-        jTextField231.setBorder(null);
-        jTextField231.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField231.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField231.setName(""); // NOI18N
-        jTextField231.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField232.setEditable(false);
-        jTextField232.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField232.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField232.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField232.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField232.setText("00");
-        jTextField232.setBorder(null);
-        jTextField232.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField232.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField232.setName(""); // NOI18N
-        jTextField232.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField233.setEditable(false);
-        jTextField233.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField233.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField233.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField233.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField233.setText("00");
-        jTextField233.setBorder(null);
-        jTextField233.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField233.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField233.setName(""); // NOI18N
-        jTextField233.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField234.setEditable(false);
-        jTextField234.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField234.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField234.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField234.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField234.setText("00");
-        jTextField234.setBorder(null);
-        jTextField234.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField234.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField234.setName(""); // NOI18N
-        jTextField234.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField235.setEditable(false);
-        jTextField235.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField235.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField235.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField235.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField235.setText("00");
-        jTextField235.setBorder(null);
-        jTextField235.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField235.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField235.setName(""); // NOI18N
-        jTextField235.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField236.setEditable(false);
-        jTextField236.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField236.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField236.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField236.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField236.setText("00");
-        jTextField236.setBorder(null);
-        jTextField236.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField236.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField236.setName(""); // NOI18N
-        jTextField236.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField237.setEditable(false);
-        jTextField237.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField237.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField237.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField237.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField237.setText("00");
-        jTextField237.setBorder(null);
-        jTextField237.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField237.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField237.setName(""); // NOI18N
-        jTextField237.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField238.setEditable(false);
-        jTextField238.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField238.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField238.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField238.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField238.setText("00");
-        jTextField238.setBorder(null);
-        jTextField238.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField238.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField238.setName(""); // NOI18N
-        jTextField238.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField239.setEditable(false);
-        jTextField239.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField239.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField239.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField239.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField239.setText("00");
-        jTextField239.setBorder(null);
-        jTextField239.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField239.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField239.setName(""); // NOI18N
-        jTextField239.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField240.setEditable(false);
-        jTextField240.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField240.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField240.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField240.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField240.setText("00");
-        jTextField240.setBorder(null);
-        jTextField240.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField240.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField240.setName(""); // NOI18N
-        jTextField240.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField241.setEditable(false);
-        jTextField241.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField241.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField241.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField241.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField241.setText("00");
-        jTextField241.setBorder(null);
-        jTextField241.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField241.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField241.setName(""); // NOI18N
-        jTextField241.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField242.setEditable(false);
-        jTextField242.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField242.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField242.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField242.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField242.setText("00");
-        jTextField242.setBorder(null);
-        jTextField242.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField242.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField242.setName(""); // NOI18N
-        jTextField242.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField243.setEditable(false);
-        jTextField243.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField243.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField243.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField243.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField243.setText("00");
-        jTextField243.setBorder(null);
-        jTextField243.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField243.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField243.setName(""); // NOI18N
-        jTextField243.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField244.setEditable(false);
-        jTextField244.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField244.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField244.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField244.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField244.setText("00");
-        jTextField244.setBorder(null);
-        jTextField244.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField244.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField244.setName(""); // NOI18N
-        jTextField244.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField245.setEditable(false);
-        jTextField245.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField245.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField245.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField245.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField245.setText("00");
-        jTextField245.setBorder(null);
-        jTextField245.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField245.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField245.setName(""); // NOI18N
-        jTextField245.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField246.setEditable(false);
-        jTextField246.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField246.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField246.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField246.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField246.setText("00");
-        jTextField246.setBorder(null);
-        jTextField246.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField246.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField246.setName(""); // NOI18N
-        jTextField246.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField247.setEditable(false);
-        jTextField247.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField247.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField247.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField247.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField247.setText("00");
-        jTextField247.setBorder(null);
-        jTextField247.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField247.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField247.setName(""); // NOI18N
-        jTextField247.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField248.setEditable(false);
-        jTextField248.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField248.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField248.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField248.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField248.setText("00");
-        jTextField248.setBorder(null);
-        jTextField248.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField248.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField248.setName(""); // NOI18N
-        jTextField248.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField249.setEditable(false);
-        jTextField249.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField249.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField249.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField249.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField249.setText("00");
-        jTextField249.setBorder(null);
-        jTextField249.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField249.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField249.setName(""); // NOI18N
-        jTextField249.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField250.setEditable(false);
-        jTextField250.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField250.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField250.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField250.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField250.setText("00");
-        jTextField250.setBorder(null);
-        jTextField250.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField250.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField250.setName(""); // NOI18N
-        jTextField250.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField251.setEditable(false);
-        jTextField251.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField251.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField251.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField251.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField251.setText("00");
-        jTextField251.setBorder(null);
-        jTextField251.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField251.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField251.setName(""); // NOI18N
-        jTextField251.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField252.setEditable(false);
-        jTextField252.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField252.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField252.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField252.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField252.setText("00");
-        jTextField252.setBorder(null);
-        jTextField252.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField252.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField252.setName(""); // NOI18N
-        jTextField252.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField253.setEditable(false);
-        jTextField253.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField253.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField253.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField253.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField253.setText("00");
-        jTextField253.setBorder(null);
-        jTextField253.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField253.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField253.setName(""); // NOI18N
-        jTextField253.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField254.setEditable(false);
-        jTextField254.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField254.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField254.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField254.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField254.setText("00");
-        jTextField254.setBorder(null);
-        jTextField254.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField254.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField254.setName(""); // NOI18N
-        jTextField254.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField255.setEditable(false);
-        jTextField255.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField255.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField255.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField255.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField255.setText("00");
-        jTextField255.setBorder(null);
-        jTextField255.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField255.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField255.setName(""); // NOI18N
-        jTextField255.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        jTextField256.setEditable(false);
-        jTextField256.setBackground(new java.awt.Color(0, 0, 0));
-        jTextField256.setFont(new java.awt.Font("Consolas", 1, 11)); // NOI18N
-        jTextField256.setForeground(new java.awt.Color(0, 204, 51));
-        jTextField256.setHorizontalAlignment(javax.swing.JTextField.CENTER);
-        jTextField256.setText("00");
-        jTextField256.setBorder(null);
-        jTextField256.setMaximumSize(new java.awt.Dimension(16, 16));
-        jTextField256.setMinimumSize(new java.awt.Dimension(16, 16));
-        jTextField256.setName(""); // NOI18N
-        jTextField256.setPreferredSize(new java.awt.Dimension(16, 16));
-
-        javax.swing.GroupLayout layout = new javax.swing.GroupLayout(this);
-        this.setLayout(layout);
-        layout.setHorizontalGroup(
-            layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
-            .addGroup(layout.createSequentialGroup()
-                .addComponent(jTextField1, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField2, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField3, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField4, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField5, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField6, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField7, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField8, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField9, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField10, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField11, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField12, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField13, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField14, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField15, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField16, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE))
-            .addGroup(layout.createSequentialGroup()
-                .addComponent(jTextField17, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField18, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField19, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField20, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField21, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField22, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField23, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField24, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField25, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField26, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField27, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField28, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField29, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField30, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField31, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField32, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE))
-            .addGroup(layout.createSequentialGroup()
-                .addComponent(jTextField33, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField34, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField35, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField36, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField37, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField38, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField39, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField40, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField41, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField42, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField43, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField44, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField45, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField46, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField47, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField48, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE))
-            .addGroup(layout.createSequentialGroup()
-                .addComponent(jTextField49, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField50, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField51, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField52, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField53, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField54, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField55, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField56, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField57, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField58, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField59, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField60, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField61, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField62, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField63, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField64, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE))
-            .addGroup(layout.createSequentialGroup()
-                .addComponent(jTextField65, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField66, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField67, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField68, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField69, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField70, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField71, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField72, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField73, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField74, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField75, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField76, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField77, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField78, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField79, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField80, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE))
-            .addGroup(layout.createSequentialGroup()
-                .addComponent(jTextField81, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField82, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField83, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField84, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField85, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField86, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField87, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField88, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField89, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField90, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField91, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField92, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField93, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField94, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField95, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField96, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE))
-            .addGroup(layout.createSequentialGroup()
-                .addComponent(jTextField97, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField98, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField99, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField100, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField101, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField102, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField103, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField104, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField105, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField106, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField107, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField108, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField109, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField110, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField111, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField112, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE))
-            .addGroup(layout.createSequentialGroup()
-                .addComponent(jTextField113, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField114, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField115, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField116, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField117, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField118, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField119, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField120, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField121, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField122, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField123, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField124, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField125, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField126, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField127, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField128, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE))
-            .addGroup(layout.createSequentialGroup()
-                .addComponent(jTextField129, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField130, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField131, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField132, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField133, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField134, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField135, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField136, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField137, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField138, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField139, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField140, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField141, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField142, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField143, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField144, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE))
-            .addGroup(layout.createSequentialGroup()
-                .addComponent(jTextField145, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField146, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField147, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField148, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField149, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField150, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField151, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField152, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField153, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField154, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField155, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField156, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField157, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField158, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField159, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField160, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE))
-            .addGroup(layout.createSequentialGroup()
-                .addComponent(jTextField161, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField162, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField163, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField164, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField165, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField166, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField167, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField168, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField169, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField170, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField171, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField172, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField173, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField174, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField175, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField176, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE))
-            .addGroup(layout.createSequentialGroup()
-                .addComponent(jTextField177, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField178, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField179, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField180, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField181, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField182, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField183, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField184, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField185, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField186, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField187, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField188, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField189, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField190, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField191, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField192, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE))
-            .addGroup(layout.createSequentialGroup()
-                .addComponent(jTextField193, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField194, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField195, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField196, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField197, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField198, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField199, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField200, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField201, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField202, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField203, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField204, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField205, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField206, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField207, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField208, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE))
-            .addGroup(layout.createSequentialGroup()
-                .addComponent(jTextField209, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField210, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField211, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField212, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField213, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField214, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField215, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField216, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField217, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField218, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField219, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField220, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField221, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField222, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField223, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField224, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE))
-            .addGroup(layout.createSequentialGroup()
-                .addComponent(jTextField225, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField226, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField227, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField228, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField229, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField230, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField231, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField232, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField233, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField234, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField235, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField236, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField237, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField238, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField239, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField240, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE))
-            .addGroup(layout.createSequentialGroup()
-                .addComponent(jTextField241, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField242, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField243, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField244, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField245, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField246, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField247, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField248, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField249, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField250, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField251, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField252, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField253, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField254, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField255, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(6, 6, 6)
-                .addComponent(jTextField256, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE))
-        );
-        layout.setVerticalGroup(
-            layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
-            .addGroup(layout.createSequentialGroup()
-                .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
-                    .addComponent(jTextField1, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField2, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField3, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField4, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField5, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField6, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField7, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField8, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField9, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField10, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField11, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField12, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField13, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField14, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField15, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField16, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE))
-                .addGap(0, 0, 0)
-                .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
-                    .addComponent(jTextField17, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField18, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField19, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField20, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField21, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField22, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField23, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField24, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField25, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField26, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField27, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField28, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField29, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField30, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField31, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField32, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE))
-                .addGap(0, 0, 0)
-                .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
-                    .addComponent(jTextField33, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField34, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField35, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField36, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField37, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField38, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField39, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField40, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField41, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField42, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField43, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField44, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField45, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField46, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField47, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField48, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE))
-                .addGap(0, 0, 0)
-                .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
-                    .addComponent(jTextField49, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField50, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField51, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField52, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField53, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField54, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField55, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField56, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField57, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField58, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField59, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField60, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField61, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField62, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField63, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField64, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE))
-                .addGap(0, 0, 0)
-                .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
-                    .addComponent(jTextField65, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField66, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField67, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField68, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField69, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField70, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField71, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField72, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField73, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField74, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField75, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField76, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField77, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField78, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField79, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField80, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE))
-                .addGap(0, 0, 0)
-                .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
-                    .addComponent(jTextField81, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField82, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField83, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField84, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField85, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField86, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField87, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField88, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField89, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField90, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField91, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField92, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField93, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField94, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField95, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField96, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE))
-                .addGap(0, 0, 0)
-                .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
-                    .addComponent(jTextField97, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField98, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField99, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField100, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField101, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField102, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField103, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField104, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField105, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField106, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField107, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField108, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField109, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField110, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField111, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField112, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE))
-                .addGap(0, 0, 0)
-                .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
-                    .addComponent(jTextField113, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField114, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField115, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField116, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField117, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField118, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField119, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField120, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField121, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField122, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField123, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField124, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField125, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField126, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField127, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField128, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE))
-                .addGap(0, 0, 0)
-                .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
-                    .addComponent(jTextField129, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField130, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField131, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField132, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField133, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField134, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField135, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField136, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField137, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField138, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField139, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField140, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField141, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField142, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField143, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField144, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE))
-                .addGap(0, 0, 0)
-                .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
-                    .addComponent(jTextField145, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField146, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField147, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField148, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField149, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField150, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField151, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField152, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField153, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField154, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField155, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField156, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField157, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField158, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField159, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField160, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE))
-                .addGap(0, 0, 0)
-                .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
-                    .addComponent(jTextField161, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField162, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField163, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField164, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField165, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField166, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField167, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField168, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField169, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField170, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField171, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField172, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField173, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField174, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField175, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField176, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE))
-                .addGap(0, 0, 0)
-                .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
-                    .addComponent(jTextField177, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField178, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField179, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField180, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField181, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField182, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField183, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField184, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField185, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField186, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField187, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField188, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField189, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField190, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField191, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField192, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE))
-                .addGap(0, 0, 0)
-                .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
-                    .addComponent(jTextField193, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField194, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField195, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField196, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField197, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField198, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField199, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField200, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField201, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField202, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField203, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField204, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField205, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField206, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField207, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField208, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE))
-                .addGap(0, 0, 0)
-                .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
-                    .addComponent(jTextField209, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField210, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField211, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField212, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField213, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField214, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField215, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField216, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField217, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField218, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField219, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField220, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField221, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField222, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField223, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField224, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE))
-                .addGap(0, 0, 0)
-                .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
-                    .addComponent(jTextField225, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField226, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField227, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField228, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField229, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField230, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField231, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField232, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField233, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField234, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField235, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField236, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField237, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField238, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField239, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField240, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE))
-                .addGap(0, 0, 0)
-                .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
-                    .addComponent(jTextField241, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField242, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField243, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField244, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField245, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField246, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField247, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField248, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField249, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField250, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField251, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField252, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField253, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField254, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField255, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                    .addComponent(jTextField256, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)))
-        );
-    }// </editor-fold>//GEN-END:initComponents
-
-
-    // Variables declaration - do not modify//GEN-BEGIN:variables
-    private javax.swing.JTextField jTextField1;
-    private javax.swing.JTextField jTextField10;
-    private javax.swing.JTextField jTextField100;
-    private javax.swing.JTextField jTextField101;
-    private javax.swing.JTextField jTextField102;
-    private javax.swing.JTextField jTextField103;
-    private javax.swing.JTextField jTextField104;
-    private javax.swing.JTextField jTextField105;
-    private javax.swing.JTextField jTextField106;
-    private javax.swing.JTextField jTextField107;
-    private javax.swing.JTextField jTextField108;
-    private javax.swing.JTextField jTextField109;
-    private javax.swing.JTextField jTextField11;
-    private javax.swing.JTextField jTextField110;
-    private javax.swing.JTextField jTextField111;
-    private javax.swing.JTextField jTextField112;
-    private javax.swing.JTextField jTextField113;
-    private javax.swing.JTextField jTextField114;
-    private javax.swing.JTextField jTextField115;
-    private javax.swing.JTextField jTextField116;
-    private javax.swing.JTextField jTextField117;
-    private javax.swing.JTextField jTextField118;
-    private javax.swing.JTextField jTextField119;
-    private javax.swing.JTextField jTextField12;
-    private javax.swing.JTextField jTextField120;
-    private javax.swing.JTextField jTextField121;
-    private javax.swing.JTextField jTextField122;
-    private javax.swing.JTextField jTextField123;
-    private javax.swing.JTextField jTextField124;
-    private javax.swing.JTextField jTextField125;
-    private javax.swing.JTextField jTextField126;
-    private javax.swing.JTextField jTextField127;
-    private javax.swing.JTextField jTextField128;
-    private javax.swing.JTextField jTextField129;
-    private javax.swing.JTextField jTextField13;
-    private javax.swing.JTextField jTextField130;
-    private javax.swing.JTextField jTextField131;
-    private javax.swing.JTextField jTextField132;
-    private javax.swing.JTextField jTextField133;
-    private javax.swing.JTextField jTextField134;
-    private javax.swing.JTextField jTextField135;
-    private javax.swing.JTextField jTextField136;
-    private javax.swing.JTextField jTextField137;
-    private javax.swing.JTextField jTextField138;
-    private javax.swing.JTextField jTextField139;
-    private javax.swing.JTextField jTextField14;
-    private javax.swing.JTextField jTextField140;
-    private javax.swing.JTextField jTextField141;
-    private javax.swing.JTextField jTextField142;
-    private javax.swing.JTextField jTextField143;
-    private javax.swing.JTextField jTextField144;
-    private javax.swing.JTextField jTextField145;
-    private javax.swing.JTextField jTextField146;
-    private javax.swing.JTextField jTextField147;
-    private javax.swing.JTextField jTextField148;
-    private javax.swing.JTextField jTextField149;
-    private javax.swing.JTextField jTextField15;
-    private javax.swing.JTextField jTextField150;
-    private javax.swing.JTextField jTextField151;
-    private javax.swing.JTextField jTextField152;
-    private javax.swing.JTextField jTextField153;
-    private javax.swing.JTextField jTextField154;
-    private javax.swing.JTextField jTextField155;
-    private javax.swing.JTextField jTextField156;
-    private javax.swing.JTextField jTextField157;
-    private javax.swing.JTextField jTextField158;
-    private javax.swing.JTextField jTextField159;
-    private javax.swing.JTextField jTextField16;
-    private javax.swing.JTextField jTextField160;
-    private javax.swing.JTextField jTextField161;
-    private javax.swing.JTextField jTextField162;
-    private javax.swing.JTextField jTextField163;
-    private javax.swing.JTextField jTextField164;
-    private javax.swing.JTextField jTextField165;
-    private javax.swing.JTextField jTextField166;
-    private javax.swing.JTextField jTextField167;
-    private javax.swing.JTextField jTextField168;
-    private javax.swing.JTextField jTextField169;
-    private javax.swing.JTextField jTextField17;
-    private javax.swing.JTextField jTextField170;
-    private javax.swing.JTextField jTextField171;
-    private javax.swing.JTextField jTextField172;
-    private javax.swing.JTextField jTextField173;
-    private javax.swing.JTextField jTextField174;
-    private javax.swing.JTextField jTextField175;
-    private javax.swing.JTextField jTextField176;
-    private javax.swing.JTextField jTextField177;
-    private javax.swing.JTextField jTextField178;
-    private javax.swing.JTextField jTextField179;
-    private javax.swing.JTextField jTextField18;
-    private javax.swing.JTextField jTextField180;
-    private javax.swing.JTextField jTextField181;
-    private javax.swing.JTextField jTextField182;
-    private javax.swing.JTextField jTextField183;
-    private javax.swing.JTextField jTextField184;
-    private javax.swing.JTextField jTextField185;
-    private javax.swing.JTextField jTextField186;
-    private javax.swing.JTextField jTextField187;
-    private javax.swing.JTextField jTextField188;
-    private javax.swing.JTextField jTextField189;
-    private javax.swing.JTextField jTextField19;
-    private javax.swing.JTextField jTextField190;
-    private javax.swing.JTextField jTextField191;
-    private javax.swing.JTextField jTextField192;
-    private javax.swing.JTextField jTextField193;
-    private javax.swing.JTextField jTextField194;
-    private javax.swing.JTextField jTextField195;
-    private javax.swing.JTextField jTextField196;
-    private javax.swing.JTextField jTextField197;
-    private javax.swing.JTextField jTextField198;
-    private javax.swing.JTextField jTextField199;
-    private javax.swing.JTextField jTextField2;
-    private javax.swing.JTextField jTextField20;
-    private javax.swing.JTextField jTextField200;
-    private javax.swing.JTextField jTextField201;
-    private javax.swing.JTextField jTextField202;
-    private javax.swing.JTextField jTextField203;
-    private javax.swing.JTextField jTextField204;
-    private javax.swing.JTextField jTextField205;
-    private javax.swing.JTextField jTextField206;
-    private javax.swing.JTextField jTextField207;
-    private javax.swing.JTextField jTextField208;
-    private javax.swing.JTextField jTextField209;
-    private javax.swing.JTextField jTextField21;
-    private javax.swing.JTextField jTextField210;
-    private javax.swing.JTextField jTextField211;
-    private javax.swing.JTextField jTextField212;
-    private javax.swing.JTextField jTextField213;
-    private javax.swing.JTextField jTextField214;
-    private javax.swing.JTextField jTextField215;
-    private javax.swing.JTextField jTextField216;
-    private javax.swing.JTextField jTextField217;
-    private javax.swing.JTextField jTextField218;
-    private javax.swing.JTextField jTextField219;
-    private javax.swing.JTextField jTextField22;
-    private javax.swing.JTextField jTextField220;
-    private javax.swing.JTextField jTextField221;
-    private javax.swing.JTextField jTextField222;
-    private javax.swing.JTextField jTextField223;
-    private javax.swing.JTextField jTextField224;
-    private javax.swing.JTextField jTextField225;
-    private javax.swing.JTextField jTextField226;
-    private javax.swing.JTextField jTextField227;
-    private javax.swing.JTextField jTextField228;
-    private javax.swing.JTextField jTextField229;
-    private javax.swing.JTextField jTextField23;
-    private javax.swing.JTextField jTextField230;
-    private javax.swing.JTextField jTextField231;
-    private javax.swing.JTextField jTextField232;
-    private javax.swing.JTextField jTextField233;
-    private javax.swing.JTextField jTextField234;
-    private javax.swing.JTextField jTextField235;
-    private javax.swing.JTextField jTextField236;
-    private javax.swing.JTextField jTextField237;
-    private javax.swing.JTextField jTextField238;
-    private javax.swing.JTextField jTextField239;
-    private javax.swing.JTextField jTextField24;
-    private javax.swing.JTextField jTextField240;
-    private javax.swing.JTextField jTextField241;
-    private javax.swing.JTextField jTextField242;
-    private javax.swing.JTextField jTextField243;
-    private javax.swing.JTextField jTextField244;
-    private javax.swing.JTextField jTextField245;
-    private javax.swing.JTextField jTextField246;
-    private javax.swing.JTextField jTextField247;
-    private javax.swing.JTextField jTextField248;
-    private javax.swing.JTextField jTextField249;
-    private javax.swing.JTextField jTextField25;
-    private javax.swing.JTextField jTextField250;
-    private javax.swing.JTextField jTextField251;
-    private javax.swing.JTextField jTextField252;
-    private javax.swing.JTextField jTextField253;
-    private javax.swing.JTextField jTextField254;
-    private javax.swing.JTextField jTextField255;
-    private javax.swing.JTextField jTextField256;
-    private javax.swing.JTextField jTextField26;
-    private javax.swing.JTextField jTextField27;
-    private javax.swing.JTextField jTextField28;
-    private javax.swing.JTextField jTextField29;
-    private javax.swing.JTextField jTextField3;
-    private javax.swing.JTextField jTextField30;
-    private javax.swing.JTextField jTextField31;
-    private javax.swing.JTextField jTextField32;
-    private javax.swing.JTextField jTextField33;
-    private javax.swing.JTextField jTextField34;
-    private javax.swing.JTextField jTextField35;
-    private javax.swing.JTextField jTextField36;
-    private javax.swing.JTextField jTextField37;
-    private javax.swing.JTextField jTextField38;
-    private javax.swing.JTextField jTextField39;
-    private javax.swing.JTextField jTextField4;
-    private javax.swing.JTextField jTextField40;
-    private javax.swing.JTextField jTextField41;
-    private javax.swing.JTextField jTextField42;
-    private javax.swing.JTextField jTextField43;
-    private javax.swing.JTextField jTextField44;
-    private javax.swing.JTextField jTextField45;
-    private javax.swing.JTextField jTextField46;
-    private javax.swing.JTextField jTextField47;
-    private javax.swing.JTextField jTextField48;
-    private javax.swing.JTextField jTextField49;
-    private javax.swing.JTextField jTextField5;
-    private javax.swing.JTextField jTextField50;
-    private javax.swing.JTextField jTextField51;
-    private javax.swing.JTextField jTextField52;
-    private javax.swing.JTextField jTextField53;
-    private javax.swing.JTextField jTextField54;
-    private javax.swing.JTextField jTextField55;
-    private javax.swing.JTextField jTextField56;
-    private javax.swing.JTextField jTextField57;
-    private javax.swing.JTextField jTextField58;
-    private javax.swing.JTextField jTextField59;
-    private javax.swing.JTextField jTextField6;
-    private javax.swing.JTextField jTextField60;
-    private javax.swing.JTextField jTextField61;
-    private javax.swing.JTextField jTextField62;
-    private javax.swing.JTextField jTextField63;
-    private javax.swing.JTextField jTextField64;
-    private javax.swing.JTextField jTextField65;
-    private javax.swing.JTextField jTextField66;
-    private javax.swing.JTextField jTextField67;
-    private javax.swing.JTextField jTextField68;
-    private javax.swing.JTextField jTextField69;
-    private javax.swing.JTextField jTextField7;
-    private javax.swing.JTextField jTextField70;
-    private javax.swing.JTextField jTextField71;
-    private javax.swing.JTextField jTextField72;
-    private javax.swing.JTextField jTextField73;
-    private javax.swing.JTextField jTextField74;
-    private javax.swing.JTextField jTextField75;
-    private javax.swing.JTextField jTextField76;
-    private javax.swing.JTextField jTextField77;
-    private javax.swing.JTextField jTextField78;
-    private javax.swing.JTextField jTextField79;
-    private javax.swing.JTextField jTextField8;
-    private javax.swing.JTextField jTextField80;
-    private javax.swing.JTextField jTextField81;
-    private javax.swing.JTextField jTextField82;
-    private javax.swing.JTextField jTextField83;
-    private javax.swing.JTextField jTextField84;
-    private javax.swing.JTextField jTextField85;
-    private javax.swing.JTextField jTextField86;
-    private javax.swing.JTextField jTextField87;
-    private javax.swing.JTextField jTextField88;
-    private javax.swing.JTextField jTextField89;
-    private javax.swing.JTextField jTextField9;
-    private javax.swing.JTextField jTextField90;
-    private javax.swing.JTextField jTextField91;
-    private javax.swing.JTextField jTextField92;
-    private javax.swing.JTextField jTextField93;
-    private javax.swing.JTextField jTextField94;
-    private javax.swing.JTextField jTextField95;
-    private javax.swing.JTextField jTextField96;
-    private javax.swing.JTextField jTextField97;
-    private javax.swing.JTextField jTextField98;
-    private javax.swing.JTextField jTextField99;
-    // End of variables declaration//GEN-END:variables
-
-    ArrayList<JTextField> listJTextFields;
-
-    public JTextField getjTextField1() {
-        return jTextField1;
-    }
-
-    public void setjTextField1(String text) {
-        this.jTextField1.setText(text);
-    }
-
-    public JTextField getjTextField10() {
-        return jTextField10;
-    }
-
-    public void setjTextField10(String text) {
-        this.jTextField10.setText(text);
-    }
-
-    public JTextField getjTextField100() {
-        return jTextField100;
-    }
-
-    public void setjTextField100(String text) {
-        this.jTextField100.setText(text);
-    }
-
-    public JTextField getjTextField101() {
-        return jTextField101;
-    }
-
-    public void setjTextField101(String text) {
-        this.jTextField101.setText(text);
-    }
-
-    public JTextField getjTextField102() {
-        return jTextField102;
-    }
-
-    public void setjTextField102(String text) {
-        this.jTextField102.setText(text);
-    }
-
-    public JTextField getjTextField103() {
-        return jTextField103;
-    }
-
-    public void setjTextField103(String text) {
-        this.jTextField103.setText(text);
-    }
-
-    public JTextField getjTextField104() {
-        return jTextField104;
-    }
-
-    public void setjTextField104(String text) {
-        this.jTextField104.setText(text);
-    }
-
-    public JTextField getjTextField105() {
-        return jTextField105;
-    }
-
-    public void setjTextField105(String text) {
-        this.jTextField105.setText(text);
-    }
-
-    public JTextField getjTextField106() {
-        return jTextField106;
-    }
-
-    public void setjTextField106(String text) {
-        this.jTextField106.setText(text);
-    }
-
-    public JTextField getjTextField107() {
-        return jTextField107;
-    }
-
-    public void setjTextField107(String text) {
-        this.jTextField107.setText(text);
-    }
-
-    public JTextField getjTextField108() {
-        return jTextField108;
-    }
-
-    public void setjTextField108(String text) {
-        this.jTextField108.setText(text);
-    }
-
-    public JTextField getjTextField109() {
-        return jTextField109;
-    }
-
-    public void setjTextField109(String text) {
-        this.jTextField109.setText(text);
-    }
-
-    public JTextField getjTextField11() {
-        return jTextField11;
-    }
-
-    public void setjTextField11(String text) {
-        this.jTextField11.setText(text);
-    }
-
-    public JTextField getjTextField110() {
-        return jTextField110;
-    }
-
-    public void setjTextField110(String text) {
-        this.jTextField110.setText(text);
-    }
-
-    public JTextField getjTextField111() {
-        return jTextField111;
-    }
-
-    public void setjTextField111(String text) {
-        this.jTextField111.setText(text);
-    }
-
-    public JTextField getjTextField112() {
-        return jTextField112;
-    }
-
-    public void setjTextField112(String text) {
-        this.jTextField112.setText(text);
-    }
-
-    public JTextField getjTextField113() {
-        return jTextField113;
-    }
-
-    public void setjTextField113(String text) {
-        this.jTextField113.setText(text);
-    }
-
-    public JTextField getjTextField114() {
-        return jTextField114;
-    }
-
-    public void setjTextField114(String text) {
-        this.jTextField114.setText(text);
-    }
-
-    public JTextField getjTextField115() {
-        return jTextField115;
-    }
-
-    public void setjTextField115(String text) {
-        this.jTextField115.setText(text);
-    }
-
-    public JTextField getjTextField116() {
-        return jTextField116;
-    }
-
-    public void setjTextField116(String text) {
-        this.jTextField116.setText(text);
-    }
-
-    public JTextField getjTextField117() {
-        return jTextField117;
-    }
-
-    public void setjTextField117(String text) {
-        this.jTextField117.setText(text);
-    }
-
-    public JTextField getjTextField118() {
-        return jTextField118;
-    }
-
-    public void setjTextField118(String text) {
-        this.jTextField118.setText(text);
-    }
-
-    public JTextField getjTextField119() {
-        return jTextField119;
-    }
-
-    public void setjTextField119(String text) {
-        this.jTextField119.setText(text);
-    }
-
-    public JTextField getjTextField12() {
-        return jTextField12;
-    }
-
-    public void setjTextField12(String text) {
-        this.jTextField12.setText(text);
-    }
-
-    public JTextField getjTextField120() {
-        return jTextField120;
-    }
-
-    public void setjTextField120(String text) {
-        this.jTextField120.setText(text);
-    }
-
-    public JTextField getjTextField121() {
-        return jTextField121;
-    }
-
-    public void setjTextField121(String text) {
-        this.jTextField121.setText(text);
-    }
-
-    public JTextField getjTextField122() {
-        return jTextField122;
-    }
-
-    public void setjTextField122(String text) {
-        this.jTextField122.setText(text);
-    }
-
-    public JTextField getjTextField123() {
-        return jTextField123;
-    }
-
-    public void setjTextField123(String text) {
-        this.jTextField123.setText(text);
-    }
-
-    public JTextField getjTextField124() {
-        return jTextField124;
-    }
-
-    public void setjTextField124(String text) {
-        this.jTextField124.setText(text);
-    }
-
-    public JTextField getjTextField125() {
-        return jTextField125;
-    }
-
-    public void setjTextField125(String text) {
-        this.jTextField125.setText(text);
-    }
-
-    public JTextField getjTextField126() {
-        return jTextField126;
-    }
-
-    public void setjTextField126(String text) {
-        this.jTextField126.setText(text);
-    }
-
-    public JTextField getjTextField127() {
-        return jTextField127;
-    }
-
-    public void setjTextField127(String text) {
-        this.jTextField127.setText(text);
-    }
-
-    public JTextField getjTextField128() {
-        return jTextField128;
-    }
-
-    public void setjTextField128(String text) {
-        this.jTextField128.setText(text);
-    }
-
-    public JTextField getjTextField129() {
-        return jTextField129;
-    }
-
-    public void setjTextField129(String text) {
-        this.jTextField129.setText(text);
-    }
-
-    public JTextField getjTextField13() {
-        return jTextField13;
-    }
-
-    public void setjTextField13(String text) {
-        this.jTextField13.setText(text);
-    }
-
-    public JTextField getjTextField130() {
-        return jTextField130;
-    }
-
-    public void setjTextField130(String text) {
-        this.jTextField130.setText(text);
-    }
-
-    public JTextField getjTextField131() {
-        return jTextField131;
-    }
-
-    public void setjTextField131(String text) {
-        this.jTextField131.setText(text);
-    }
-
-    public JTextField getjTextField132() {
-        return jTextField132;
-    }
-
-    public void setjTextField132(String text) {
-        this.jTextField132.setText(text);
-    }
-
-    public JTextField getjTextField133() {
-        return jTextField133;
-    }
-
-    public void setjTextField133(String text) {
-        this.jTextField133.setText(text);
-    }
-
-    public JTextField getjTextField134() {
-        return jTextField134;
-    }
-
-    public void setjTextField134(String text) {
-        this.jTextField134.setText(text);
-    }
-
-    public JTextField getjTextField135() {
-        return jTextField135;
-    }
-
-    public void setjTextField135(String text) {
-        this.jTextField135.setText(text);
-    }
-
-    public JTextField getjTextField136() {
-        return jTextField136;
-    }
-
-    public void setjTextField136(String text) {
-        this.jTextField136.setText(text);
-    }
-
-    public JTextField getjTextField137() {
-        return jTextField137;
-    }
-
-    public void setjTextField137(String text) {
-        this.jTextField137.setText(text);
-    }
-
-    public JTextField getjTextField138() {
-        return jTextField138;
-    }
-
-    public void setjTextField138(String text) {
-        this.jTextField138.setText(text);
-    }
-
-    public JTextField getjTextField139() {
-        return jTextField139;
-    }
-
-    public void setjTextField139(String text) {
-        this.jTextField139.setText(text);
-    }
-
-    public JTextField getjTextField14() {
-        return jTextField14;
-    }
-
-    public void setjTextField14(String text) {
-        this.jTextField14.setText(text);
-    }
-
-    public JTextField getjTextField140() {
-        return jTextField140;
-    }
-
-    public void setjTextField140(String text) {
-        this.jTextField140.setText(text);
-    }
-
-    public JTextField getjTextField141() {
-        return jTextField141;
-    }
-
-    public void setjTextField141(String text) {
-        this.jTextField141.setText(text);
-    }
-
-    public JTextField getjTextField142() {
-        return jTextField142;
-    }
-
-    public void setjTextField142(String text) {
-        this.jTextField142.setText(text);
-    }
-
-    public JTextField getjTextField143() {
-        return jTextField143;
-    }
-
-    public void setjTextField143(String text) {
-        this.jTextField143.setText(text);
-    }
-
-    public JTextField getjTextField144() {
-        return jTextField144;
-    }
-
-    public void setjTextField144(String text) {
-        this.jTextField144.setText(text);
-    }
-
-    public JTextField getjTextField145() {
-        return jTextField145;
-    }
-
-    public void setjTextField145(String text) {
-        this.jTextField145.setText(text);
-    }
-
-    public JTextField getjTextField146() {
-        return jTextField146;
-    }
-
-    public void setjTextField146(String text) {
-        this.jTextField146.setText(text);
-    }
-
-    public JTextField getjTextField147() {
-        return jTextField147;
-    }
-
-    public void setjTextField147(String text) {
-        this.jTextField147.setText(text);
-    }
-
-    public JTextField getjTextField148() {
-        return jTextField148;
-    }
-
-    public void setjTextField148(String text) {
-        this.jTextField148.setText(text);
-    }
-
-    public JTextField getjTextField149() {
-        return jTextField149;
-    }
-
-    public void setjTextField149(String text) {
-        this.jTextField149.setText(text);
-    }
-
-    public JTextField getjTextField15() {
-        return jTextField15;
-    }
-
-    public void setjTextField15(String text) {
-        this.jTextField15.setText(text);
-    }
-
-    public JTextField getjTextField150() {
-        return jTextField150;
-    }
-
-    public void setjTextField150(String text) {
-        this.jTextField150.setText(text);
-    }
-
-    public JTextField getjTextField151() {
-        return jTextField151;
-    }
-
-    public void setjTextField151(String text) {
-        this.jTextField151.setText(text);
-    }
-
-    public JTextField getjTextField152() {
-        return jTextField152;
-    }
-
-    public void setjTextField152(String text) {
-        this.jTextField152.setText(text);
-    }
-
-    public JTextField getjTextField153() {
-        return jTextField153;
-    }
-
-    public void setjTextField153(String text) {
-        this.jTextField153.setText(text);
-    }
-
-    public JTextField getjTextField154() {
-        return jTextField154;
-    }
-
-    public void setjTextField154(String text) {
-        this.jTextField154.setText(text);
-    }
-
-    public JTextField getjTextField155() {
-        return jTextField155;
-    }
-
-    public void setjTextField155(String text) {
-        this.jTextField155.setText(text);
-    }
-
-    public JTextField getjTextField156() {
-        return jTextField156;
-    }
-
-    public void setjTextField156(String text) {
-        this.jTextField156.setText(text);
-    }
-
-    public JTextField getjTextField157() {
-        return jTextField157;
-    }
-
-    public void setjTextField157(String text) {
-        this.jTextField157.setText(text);
-    }
-
-    public JTextField getjTextField158() {
-        return jTextField158;
-    }
-
-    public void setjTextField158(String text) {
-        this.jTextField158.setText(text);
-    }
-
-    public JTextField getjTextField159() {
-        return jTextField159;
-    }
-
-    public void setjTextField159(String text) {
-        this.jTextField159.setText(text);
-    }
-
-    public JTextField getjTextField16() {
-        return jTextField16;
-    }
-
-    public void setjTextField16(String text) {
-        this.jTextField16.setText(text);
-    }
-
-    public JTextField getjTextField160() {
-        return jTextField160;
-    }
-
-    public void setjTextField160(String text) {
-        this.jTextField160.setText(text);
-    }
-
-    public JTextField getjTextField161() {
-        return jTextField161;
-    }
-
-    public void setjTextField161(String text) {
-        this.jTextField161.setText(text);
-    }
-
-    public JTextField getjTextField162() {
-        return jTextField162;
-    }
-
-    public void setjTextField162(String text) {
-        this.jTextField162.setText(text);
-    }
-
-    public JTextField getjTextField163() {
-        return jTextField163;
-    }
-
-    public void setjTextField163(String text) {
-        this.jTextField163.setText(text);
-    }
-
-    public JTextField getjTextField164() {
-        return jTextField164;
-    }
-
-    public void setjTextField164(String text) {
-        this.jTextField164.setText(text);
-    }
-
-    public JTextField getjTextField165() {
-        return jTextField165;
-    }
-
-    public void setjTextField165(String text) {
-        this.jTextField165.setText(text);
-    }
-
-    public JTextField getjTextField166() {
-        return jTextField166;
-    }
-
-    public void setjTextField166(String text) {
-        this.jTextField166.setText(text);
-    }
-
-    public JTextField getjTextField167() {
-        return jTextField167;
-    }
-
-    public void setjTextField167(String text) {
-        this.jTextField167.setText(text);
-    }
-
-    public JTextField getjTextField168() {
-        return jTextField168;
-    }
-
-    public void setjTextField168(String text) {
-        this.jTextField168.setText(text);
-    }
-
-    public JTextField getjTextField169() {
-        return jTextField169;
-    }
-
-    public void setjTextField169(String text) {
-        this.jTextField169.setText(text);
-    }
-
-    public JTextField getjTextField17() {
-        return jTextField17;
-    }
-
-    public void setjTextField17(String text) {
-        this.jTextField17.setText(text);
-    }
-
-    public JTextField getjTextField170() {
-        return jTextField170;
-    }
-
-    public void setjTextField170(String text) {
-        this.jTextField170.setText(text);
-    }
-
-    public JTextField getjTextField171() {
-        return jTextField171;
-    }
-
-    public void setjTextField171(String text) {
-        this.jTextField171.setText(text);
-    }
-
-    public JTextField getjTextField172() {
-        return jTextField172;
-    }
-
-    public void setjTextField172(String text) {
-        this.jTextField172.setText(text);
-    }
-
-    public JTextField getjTextField173() {
-        return jTextField173;
-    }
-
-    public void setjTextField173(String text) {
-        this.jTextField173.setText(text);
-    }
-
-    public JTextField getjTextField174() {
-        return jTextField174;
-    }
-
-    public void setjTextField174(String text) {
-        this.jTextField174.setText(text);
-    }
-
-    public JTextField getjTextField175() {
-        return jTextField175;
-    }
-
-    public void setjTextField175(String text) {
-        this.jTextField175.setText(text);
-    }
-
-    public JTextField getjTextField176() {
-        return jTextField176;
-    }
-
-    public void setjTextField176(String text) {
-        this.jTextField176.setText(text);
-    }
-
-    public JTextField getjTextField177() {
-        return jTextField177;
-    }
-
-    public void setjTextField177(String text) {
-        this.jTextField177.setText(text);
-    }
-
-    public JTextField getjTextField178() {
-        return jTextField178;
-    }
-
-    public void setjTextField178(String text) {
-        this.jTextField178.setText(text);
-    }
-
-    public JTextField getjTextField179() {
-        return jTextField179;
-    }
-
-    public void setjTextField179(String text) {
-        this.jTextField179.setText(text);
-    }
-
-    public JTextField getjTextField18() {
-        return jTextField18;
-    }
-
-    public void setjTextField18(String text) {
-        this.jTextField18.setText(text);
-    }
-
-    public JTextField getjTextField180() {
-        return jTextField180;
-    }
-
-    public void setjTextField180(String text) {
-        this.jTextField180.setText(text);
-    }
-
-    public JTextField getjTextField181() {
-        return jTextField181;
-    }
-
-    public void setjTextField181(String text) {
-        this.jTextField181.setText(text);
-    }
-
-    public JTextField getjTextField182() {
-        return jTextField182;
-    }
-
-    public void setjTextField182(String text) {
-        this.jTextField182.setText(text);
-    }
-
-    public JTextField getjTextField183() {
-        return jTextField183;
-    }
-
-    public void setjTextField183(String text) {
-        this.jTextField183.setText(text);
-    }
-
-    public JTextField getjTextField184() {
-        return jTextField184;
-    }
-
-    public void setjTextField184(String text) {
-        this.jTextField184.setText(text);
-    }
-
-    public JTextField getjTextField185() {
-        return jTextField185;
-    }
-
-    public void setjTextField185(String text) {
-        this.jTextField185.setText(text);
-    }
-
-    public JTextField getjTextField186() {
-        return jTextField186;
-    }
-
-    public void setjTextField186(String text) {
-        this.jTextField186.setText(text);
-    }
-
-    public JTextField getjTextField187() {
-        return jTextField187;
-    }
-
-    public void setjTextField187(String text) {
-        this.jTextField187.setText(text);
-    }
-
-    public JTextField getjTextField188() {
-        return jTextField188;
-    }
-
-    public void setjTextField188(String text) {
-        this.jTextField188.setText(text);
-    }
-
-    public JTextField getjTextField189() {
-        return jTextField189;
-    }
-
-    public void setjTextField189(String text) {
-        this.jTextField189.setText(text);
-    }
-
-    public JTextField getjTextField19() {
-        return jTextField19;
-    }
-
-    public void setjTextField19(String text) {
-        this.jTextField19.setText(text);
-    }
-
-    public JTextField getjTextField190() {
-        return jTextField190;
-    }
-
-    public void setjTextField190(String text) {
-        this.jTextField190.setText(text);
-    }
-
-    public JTextField getjTextField191() {
-        return jTextField191;
-    }
-
-    public void setjTextField191(String text) {
-        this.jTextField191.setText(text);
-    }
-
-    public JTextField getjTextField192() {
-        return jTextField192;
-    }
-
-    public void setjTextField192(String text) {
-        this.jTextField192.setText(text);
-    }
-
-    public JTextField getjTextField193() {
-        return jTextField193;
-    }
-
-    public void setjTextField193(String text) {
-        this.jTextField193.setText(text);
-    }
-
-    public JTextField getjTextField194() {
-        return jTextField194;
-    }
-
-    public void setjTextField194(String text) {
-        this.jTextField194.setText(text);
-    }
-
-    public JTextField getjTextField195() {
-        return jTextField195;
-    }
-
-    public void setjTextField195(String text) {
-        this.jTextField195.setText(text);
-    }
-
-    public JTextField getjTextField196() {
-        return jTextField196;
-    }
-
-    public void setjTextField196(String text) {
-        this.jTextField196.setText(text);
-    }
-
-    public JTextField getjTextField197() {
-        return jTextField197;
-    }
-
-    public void setjTextField197(String text) {
-        this.jTextField197.setText(text);
-    }
-
-    public JTextField getjTextField198() {
-        return jTextField198;
-    }
-
-    public void setjTextField198(String text) {
-        this.jTextField198.setText(text);
-    }
-
-    public JTextField getjTextField199() {
-        return jTextField199;
-    }
-
-    public void setjTextField199(String text) {
-        this.jTextField199.setText(text);
-    }
-
-    public JTextField getjTextField2() {
-        return jTextField2;
-    }
-
-    public void setjTextField2(String text) {
-        this.jTextField2.setText(text);
-    }
-
-    public JTextField getjTextField20() {
-        return jTextField20;
-    }
-
-    public void setjTextField20(String text) {
-        this.jTextField20.setText(text);
-    }
-
-    public JTextField getjTextField200() {
-        return jTextField200;
-    }
-
-    public void setjTextField200(String text) {
-        this.jTextField200.setText(text);
-    }
-
-    public JTextField getjTextField201() {
-        return jTextField201;
-    }
-
-    public void setjTextField201(String text) {
-        this.jTextField201.setText(text);
-    }
-
-    public JTextField getjTextField202() {
-        return jTextField202;
-    }
-
-    public void setjTextField202(String text) {
-        this.jTextField202.setText(text);
-    }
-
-    public JTextField getjTextField203() {
-        return jTextField203;
-    }
-
-    public void setjTextField203(String text) {
-        this.jTextField203.setText(text);
-    }
-
-    public JTextField getjTextField204() {
-        return jTextField204;
-    }
-
-    public void setjTextField204(String text) {
-        this.jTextField204.setText(text);
-    }
-
-    public JTextField getjTextField205() {
-        return jTextField205;
-    }
-
-    public void setjTextField205(String text) {
-        this.jTextField205.setText(text);
-    }
-
-    public JTextField getjTextField206() {
-        return jTextField206;
-    }
-
-    public void setjTextField206(String text) {
-        this.jTextField206.setText(text);
-    }
-
-    public JTextField getjTextField207() {
-        return jTextField207;
-    }
-
-    public void setjTextField207(String text) {
-        this.jTextField207.setText(text);
-    }
-
-    public JTextField getjTextField208() {
-        return jTextField208;
-    }
-
-    public void setjTextField208(String text) {
-        this.jTextField208.setText(text);
-    }
-
-    public JTextField getjTextField209() {
-        return jTextField209;
-    }
-
-    public void setjTextField209(String text) {
-        this.jTextField209.setText(text);
-    }
-
-    public JTextField getjTextField21() {
-        return jTextField21;
-    }
-
-    public void setjTextField21(String text) {
-        this.jTextField21.setText(text);
-    }
-
-    public JTextField getjTextField210() {
-        return jTextField210;
-    }
-
-    public void setjTextField210(String text) {
-        this.jTextField210.setText(text);
-    }
-
-    public JTextField getjTextField211() {
-        return jTextField211;
-    }
-
-    public void setjTextField211(String text) {
-        this.jTextField211.setText(text);
-    }
-
-    public JTextField getjTextField212() {
-        return jTextField212;
-    }
-
-    public void setjTextField212(String text) {
-        this.jTextField212.setText(text);
-    }
-
-    public JTextField getjTextField213() {
-        return jTextField213;
-    }
-
-    public void setjTextField213(String text) {
-        this.jTextField213.setText(text);
-    }
-
-    public JTextField getjTextField214() {
-        return jTextField214;
-    }
-
-    public void setjTextField214(String text) {
-        this.jTextField214.setText(text);
-    }
-
-    public JTextField getjTextField215() {
-        return jTextField215;
-    }
-
-    public void setjTextField215(String text) {
-        this.jTextField215.setText(text);
-    }
-
-    public JTextField getjTextField216() {
-        return jTextField216;
-    }
-
-    public void setjTextField216(String text) {
-        this.jTextField216.setText(text);
-    }
-
-    public JTextField getjTextField217() {
-        return jTextField217;
-    }
-
-    public void setjTextField217(String text) {
-        this.jTextField217.setText(text);
-    }
-
-    public JTextField getjTextField218() {
-        return jTextField218;
-    }
-
-    public void setjTextField218(String text) {
-        this.jTextField218.setText(text);
-    }
-
-    public JTextField getjTextField219() {
-        return jTextField219;
-    }
-
-    public void setjTextField219(String text) {
-        this.jTextField219.setText(text);
-    }
-
-    public JTextField getjTextField22() {
-        return jTextField22;
-    }
-
-    public void setjTextField22(String text) {
-        this.jTextField22.setText(text);
-    }
-
-    public JTextField getjTextField220() {
-        return jTextField220;
-    }
-
-    public void setjTextField220(String text) {
-        this.jTextField220.setText(text);
-    }
-
-    public JTextField getjTextField221() {
-        return jTextField221;
-    }
-
-    public void setjTextField221(String text) {
-        this.jTextField221.setText(text);
-    }
-
-    public JTextField getjTextField222() {
-        return jTextField222;
-    }
-
-    public void setjTextField222(String text) {
-        this.jTextField222.setText(text);
-    }
-
-    public JTextField getjTextField223() {
-        return jTextField223;
-    }
-
-    public void setjTextField223(String text) {
-        this.jTextField223.setText(text);
-    }
-
-    public JTextField getjTextField224() {
-        return jTextField224;
-    }
-
-    public void setjTextField224(String text) {
-        this.jTextField224.setText(text);
-    }
-
-    public JTextField getjTextField225() {
-        return jTextField225;
-    }
-
-    public void setjTextField225(String text) {
-        this.jTextField225.setText(text);
-    }
-
-    public JTextField getjTextField226() {
-        return jTextField226;
-    }
-
-    public void setjTextField226(String text) {
-        this.jTextField226.setText(text);
-    }
-
-    public JTextField getjTextField227() {
-        return jTextField227;
-    }
-
-    public void setjTextField227(String text) {
-        this.jTextField227.setText(text);
-    }
-
-    public JTextField getjTextField228() {
-        return jTextField228;
-    }
-
-    public void setjTextField228(String text) {
-        this.jTextField228.setText(text);
-    }
-
-    public JTextField getjTextField229() {
-        return jTextField229;
-    }
-
-    public void setjTextField229(String text) {
-        this.jTextField229.setText(text);
-    }
-
-    public JTextField getjTextField23() {
-        return jTextField23;
-    }
-
-    public void setjTextField23(String text) {
-        this.jTextField23.setText(text);
-    }
-
-    public JTextField getjTextField230() {
-        return jTextField230;
-    }
-
-    public void setjTextField230(String text) {
-        this.jTextField230.setText(text);
-    }
-
-    public JTextField getjTextField231() {
-        return jTextField231;
-    }
-
-    public void setjTextField231(String text) {
-        this.jTextField231.setText(text);
-    }
-
-    public JTextField getjTextField232() {
-        return jTextField232;
-    }
-
-    public void setjTextField232(String text) {
-        this.jTextField232.setText(text);
-    }
-
-    public JTextField getjTextField233() {
-        return jTextField233;
-    }
-
-    public void setjTextField233(String text) {
-        this.jTextField233.setText(text);
-    }
-
-    public JTextField getjTextField234() {
-        return jTextField234;
-    }
-
-    public void setjTextField234(String text) {
-        this.jTextField234.setText(text);
-    }
-
-    public JTextField getjTextField235() {
-        return jTextField235;
-    }
-
-    public void setjTextField235(String text) {
-        this.jTextField235.setText(text);
-    }
-
-    public JTextField getjTextField236() {
-        return jTextField236;
-    }
-
-    public void setjTextField236(String text) {
-        this.jTextField236.setText(text);
-    }
-
-    public JTextField getjTextField237() {
-        return jTextField237;
-    }
-
-    public void setjTextField237(String text) {
-        this.jTextField237.setText(text);
-    }
-
-    public JTextField getjTextField238() {
-        return jTextField238;
-    }
-
-    public void setjTextField238(String text) {
-        this.jTextField238.setText(text);
-    }
-
-    public JTextField getjTextField239() {
-        return jTextField239;
-    }
-
-    public void setjTextField239(String text) {
-        this.jTextField239.setText(text);
-    }
-
-    public JTextField getjTextField24() {
-        return jTextField24;
-    }
-
-    public void setjTextField24(String text) {
-        this.jTextField24.setText(text);
-    }
-
-    public JTextField getjTextField240() {
-        return jTextField240;
-    }
-
-    public void setjTextField240(String text) {
-        this.jTextField240.setText(text);
-    }
-
-    public JTextField getjTextField241() {
-        return jTextField241;
-    }
-
-    public void setjTextField241(String text) {
-        this.jTextField241.setText(text);
-    }
-
-    public JTextField getjTextField242() {
-        return jTextField242;
-    }
-
-    public void setjTextField242(String text) {
-        this.jTextField242.setText(text);
-    }
-
-    public JTextField getjTextField243() {
-        return jTextField243;
-    }
-
-    public void setjTextField243(String text) {
-        this.jTextField243.setText(text);
-    }
-
-    public JTextField getjTextField244() {
-        return jTextField244;
-    }
-
-    public void setjTextField244(String text) {
-        this.jTextField244.setText(text);
-    }
-
-    public JTextField getjTextField245() {
-        return jTextField245;
-    }
-
-    public void setjTextField245(String text) {
-        this.jTextField245.setText(text);
-    }
-
-    public JTextField getjTextField246() {
-        return jTextField246;
-    }
-
-    public void setjTextField246(String text) {
-        this.jTextField246.setText(text);
-    }
-
-    public JTextField getjTextField247() {
-        return jTextField247;
-    }
-
-    public void setjTextField247(String text) {
-        this.jTextField247.setText(text);
-    }
-
-    public JTextField getjTextField248() {
-        return jTextField248;
-    }
-
-    public void setjTextField248(String text) {
-        this.jTextField248.setText(text);
-    }
-
-    public JTextField getjTextField249() {
-        return jTextField249;
-    }
-
-    public void setjTextField249(String text) {
-        this.jTextField249.setText(text);
-    }
-
-    public JTextField getjTextField25() {
-        return jTextField25;
-    }
-
-    public void setjTextField25(String text) {
-        this.jTextField25.setText(text);
-    }
-
-    public JTextField getjTextField250() {
-        return jTextField250;
-    }
-
-    public void setjTextField250(String text) {
-        this.jTextField250.setText(text);
-    }
-
-    public JTextField getjTextField251() {
-        return jTextField251;
-    }
-
-    public void setjTextField251(String text) {
-        this.jTextField251.setText(text);
-    }
-
-    public JTextField getjTextField252() {
-        return jTextField252;
-    }
-
-    public void setjTextField252(String text) {
-        this.jTextField252.setText(text);
-    }
-
-    public JTextField getjTextField253() {
-        return jTextField253;
-    }
-
-    public void setjTextField253(String text) {
-        this.jTextField253.setText(text);
-    }
-
-    public JTextField getjTextField254() {
-        return jTextField254;
-    }
-
-    public void setjTextField254(String text) {
-        this.jTextField254.setText(text);
-    }
-
-    public JTextField getjTextField255() {
-        return jTextField255;
-    }
-
-    public void setjTextField255(String text) {
-        this.jTextField255.setText(text);
-    }
-
-    public JTextField getjTextField256() {
-        return jTextField256;
-    }
-
-    public void setjTextField256(String text) {
-        this.jTextField256.setText(text);
-    }
-
-    public JTextField getjTextField26() {
-        return jTextField26;
-    }
-
-    public void setjTextField26(String text) {
-        this.jTextField26.setText(text);
-    }
-
-    public JTextField getjTextField27() {
-        return jTextField27;
-    }
-
-    public void setjTextField27(String text) {
-        this.jTextField27.setText(text);
-    }
-
-    public JTextField getjTextField28() {
-        return jTextField28;
-    }
-
-    public void setjTextField28(String text) {
-        this.jTextField28.setText(text);
-    }
-
-    public JTextField getjTextField29() {
-        return jTextField29;
-    }
-
-    public void setjTextField29(String text) {
-        this.jTextField29.setText(text);
-    }
-
-    public JTextField getjTextField3() {
-        return jTextField3;
-    }
-
-    public void setjTextField3(String text) {
-        this.jTextField3.setText(text);
-    }
-
-    public JTextField getjTextField30() {
-        return jTextField30;
-    }
-
-    public void setjTextField30(String text) {
-        this.jTextField30.setText(text);
-    }
-
-    public JTextField getjTextField31() {
-        return jTextField31;
-    }
-
-    public void setjTextField31(String text) {
-        this.jTextField31.setText(text);
-    }
-
-    public JTextField getjTextField32() {
-        return jTextField32;
-    }
-
-    public void setjTextField32(String text) {
-        this.jTextField32.setText(text);
-    }
-
-    public JTextField getjTextField33() {
-        return jTextField33;
-    }
-
-    public void setjTextField33(String text) {
-        this.jTextField33.setText(text);
-    }
-
-    public JTextField getjTextField34() {
-        return jTextField34;
-    }
-
-    public void setjTextField34(String text) {
-        this.jTextField34.setText(text);
-    }
-
-    public JTextField getjTextField35() {
-        return jTextField35;
-    }
-
-    public void setjTextField35(String text) {
-        this.jTextField35.setText(text);
-    }
-
-    public JTextField getjTextField36() {
-        return jTextField36;
-    }
-
-    public void setjTextField36(String text) {
-        this.jTextField36.setText(text);
-    }
-
-    public JTextField getjTextField37() {
-        return jTextField37;
-    }
-
-    public void setjTextField37(String text) {
-        this.jTextField37.setText(text);
-    }
-
-    public JTextField getjTextField38() {
-        return jTextField38;
-    }
-
-    public void setjTextField38(String text) {
-        this.jTextField38.setText(text);
-    }
-
-    public JTextField getjTextField39() {
-        return jTextField39;
-    }
-
-    public void setjTextField39(String text) {
-        this.jTextField39.setText(text);
-    }
-
-    public JTextField getjTextField4() {
-        return jTextField4;
-    }
-
-    public void setjTextField4(String text) {
-        this.jTextField4.setText(text);
-    }
-
-    public JTextField getjTextField40() {
-        return jTextField40;
-    }
-
-    public void setjTextField40(String text) {
-        this.jTextField40.setText(text);
-    }
-
-    public JTextField getjTextField41() {
-        return jTextField41;
-    }
-
-    public void setjTextField41(String text) {
-        this.jTextField41.setText(text);
-    }
-
-    public JTextField getjTextField42() {
-        return jTextField42;
-    }
-
-    public void setjTextField42(String text) {
-        this.jTextField42.setText(text);
-    }
-
-    public JTextField getjTextField43() {
-        return jTextField43;
-    }
-
-    public void setjTextField43(String text) {
-        this.jTextField43.setText(text);
-    }
-
-    public JTextField getjTextField44() {
-        return jTextField44;
-    }
-
-    public void setjTextField44(String text) {
-        this.jTextField44.setText(text);
-    }
-
-    public JTextField getjTextField45() {
-        return jTextField45;
-    }
-
-    public void setjTextField45(String text) {
-        this.jTextField45.setText(text);
-    }
-
-    public JTextField getjTextField46() {
-        return jTextField46;
-    }
-
-    public void setjTextField46(String text) {
-        this.jTextField46.setText(text);
-    }
-
-    public JTextField getjTextField47() {
-        return jTextField47;
-    }
-
-    public void setjTextField47(String text) {
-        this.jTextField47.setText(text);
-    }
-
-    public JTextField getjTextField48() {
-        return jTextField48;
-    }
-
-    public void setjTextField48(String text) {
-        this.jTextField48.setText(text);
-    }
-
-    public JTextField getjTextField49() {
-        return jTextField49;
-    }
-
-    public void setjTextField49(String text) {
-        this.jTextField49.setText(text);
-    }
-
-    public JTextField getjTextField5() {
-        return jTextField5;
-    }
-
-    public void setjTextField5(String text) {
-        this.jTextField5.setText(text);
-    }
-
-    public JTextField getjTextField50() {
-        return jTextField50;
-    }
-
-    public void setjTextField50(String text) {
-        this.jTextField50.setText(text);
-    }
-
-    public JTextField getjTextField51() {
-        return jTextField51;
-    }
-
-    public void setjTextField51(String text) {
-        this.jTextField51.setText(text);
-    }
-
-    public JTextField getjTextField52() {
-        return jTextField52;
-    }
-
-    public void setjTextField52(String text) {
-        this.jTextField52.setText(text);
-    }
-
-    public JTextField getjTextField53() {
-        return jTextField53;
-    }
-
-    public void setjTextField53(String text) {
-        this.jTextField53.setText(text);
-    }
-
-    public JTextField getjTextField54() {
-        return jTextField54;
-    }
-
-    public void setjTextField54(String text) {
-        this.jTextField54.setText(text);
-    }
-
-    public JTextField getjTextField55() {
-        return jTextField55;
-    }
-
-    public void setjTextField55(String text) {
-        this.jTextField55.setText(text);
-    }
-
-    public JTextField getjTextField56() {
-        return jTextField56;
-    }
-
-    public void setjTextField56(String text) {
-        this.jTextField56.setText(text);
-    }
-
-    public JTextField getjTextField57() {
-        return jTextField57;
-    }
-
-    public void setjTextField57(String text) {
-        this.jTextField57.setText(text);
-    }
-
-    public JTextField getjTextField58() {
-        return jTextField58;
-    }
-
-    public void setjTextField58(String text) {
-        this.jTextField58.setText(text);
-    }
-
-    public JTextField getjTextField59() {
-        return jTextField59;
-    }
-
-    public void setjTextField59(String text) {
-        this.jTextField59.setText(text);
-    }
-
-    public JTextField getjTextField6() {
-        return jTextField6;
-    }
-
-    public void setjTextField6(String text) {
-        this.jTextField6.setText(text);
-    }
-
-    public JTextField getjTextField60() {
-        return jTextField60;
-    }
-
-    public void setjTextField60(String text) {
-        this.jTextField60.setText(text);
-    }
-
-    public JTextField getjTextField61() {
-        return jTextField61;
-    }
-
-    public void setjTextField61(String text) {
-        this.jTextField61.setText(text);
-    }
-
-    public JTextField getjTextField62() {
-        return jTextField62;
-    }
-
-    public void setjTextField62(String text) {
-        this.jTextField62.setText(text);
-    }
-
-    public JTextField getjTextField63() {
-        return jTextField63;
-    }
-
-    public void setjTextField63(String text) {
-        this.jTextField63.setText(text);
-    }
-
-    public JTextField getjTextField64() {
-        return jTextField64;
-    }
-
-    public void setjTextField64(String text) {
-        this.jTextField64.setText(text);
-    }
-
-    public JTextField getjTextField65() {
-        return jTextField65;
-    }
-
-    public void setjTextField65(String text) {
-        this.jTextField65.setText(text);
-    }
-
-    public JTextField getjTextField66() {
-        return jTextField66;
-    }
-
-    public void setjTextField66(String text) {
-        this.jTextField66.setText(text);
-    }
-
-    public JTextField getjTextField67() {
-        return jTextField67;
-    }
-
-    public void setjTextField67(String text) {
-        this.jTextField67.setText(text);
-    }
-
-    public JTextField getjTextField68() {
-        return jTextField68;
-    }
-
-    public void setjTextField68(String text) {
-        this.jTextField68.setText(text);
-    }
-
-    public JTextField getjTextField69() {
-        return jTextField69;
-    }
-
-    public void setjTextField69(String text) {
-        this.jTextField69.setText(text);
-    }
-
-    public JTextField getjTextField7() {
-        return jTextField7;
-    }
-
-    public void setjTextField7(String text) {
-        this.jTextField7.setText(text);
-    }
-
-    public JTextField getjTextField70() {
-        return jTextField70;
-    }
-
-    public void setjTextField70(String text) {
-        this.jTextField70.setText(text);
-    }
-
-    public JTextField getjTextField71() {
-        return jTextField71;
-    }
-
-    public void setjTextField71(String text) {
-        this.jTextField71.setText(text);
-    }
-
-    public JTextField getjTextField72() {
-        return jTextField72;
-    }
-
-    public void setjTextField72(String text) {
-        this.jTextField72.setText(text);
-    }
-
-    public JTextField getjTextField73() {
-        return jTextField73;
-    }
-
-    public void setjTextField73(String text) {
-        this.jTextField73.setText(text);
-    }
-
-    public JTextField getjTextField74() {
-        return jTextField74;
-    }
-
-    public void setjTextField74(String text) {
-        this.jTextField74.setText(text);
-    }
-
-    public JTextField getjTextField75() {
-        return jTextField75;
-    }
-
-    public void setjTextField75(String text) {
-        this.jTextField75.setText(text);
-    }
-
-    public JTextField getjTextField76() {
-        return jTextField76;
-    }
-
-    public void setjTextField76(String text) {
-        this.jTextField76.setText(text);
-    }
-
-    public JTextField getjTextField77() {
-        return jTextField77;
-    }
-
-    public void setjTextField77(String text) {
-        this.jTextField77.setText(text);
-    }
-
-    public JTextField getjTextField78() {
-        return jTextField78;
-    }
-
-    public void setjTextField78(String text) {
-        this.jTextField78.setText(text);
-    }
-
-    public JTextField getjTextField79() {
-        return jTextField79;
-    }
-
-    public void setjTextField79(String text) {
-        this.jTextField79.setText(text);
-    }
-
-    public JTextField getjTextField8() {
-        return jTextField8;
-    }
-
-    public void setjTextField8(String text) {
-        this.jTextField8.setText(text);
-    }
-
-    public JTextField getjTextField80() {
-        return jTextField80;
-    }
-
-    public void setjTextField80(String text) {
-        this.jTextField80.setText(text);
-    }
-
-    public JTextField getjTextField81() {
-        return jTextField81;
-    }
-
-    public void setjTextField81(String text) {
-        this.jTextField81.setText(text);
-    }
-
-    public JTextField getjTextField82() {
-        return jTextField82;
-    }
-
-    public void setjTextField82(String text) {
-        this.jTextField82.setText(text);
-    }
-
-    public JTextField getjTextField83() {
-        return jTextField83;
-    }
-
-    public void setjTextField83(String text) {
-        this.jTextField83.setText(text);
-    }
-
-    public JTextField getjTextField84() {
-        return jTextField84;
-    }
-
-    public void setjTextField84(String text) {
-        this.jTextField84.setText(text);
-    }
-
-    public JTextField getjTextField85() {
-        return jTextField85;
-    }
-
-    public void setjTextField85(String text) {
-        this.jTextField85.setText(text);
-    }
-
-    public JTextField getjTextField86() {
-        return jTextField86;
-    }
-
-    public void setjTextField86(String text) {
-        this.jTextField86.setText(text);
-    }
-
-    public JTextField getjTextField87() {
-        return jTextField87;
-    }
-
-    public void setjTextField87(String text) {
-        this.jTextField87.setText(text);
-    }
-
-    public JTextField getjTextField88() {
-        return jTextField88;
-    }
-
-    public void setjTextField88(String text) {
-        this.jTextField88.setText(text);
-    }
 
-    public JTextField getjTextField89() {
-        return jTextField89;
-    }
+package dialogs;
 
-    public void setjTextField89(String text) {
-        this.jTextField89.setText(text);
-    }
+import emulator.Chip8_CPU;
+import emulator.Chip8_Volcado;
+import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.FlowLayout;
+import java.awt.Font;
+import java.awt.Toolkit;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.io.File;
+import java.io.IOException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.swing.BoxLayout;
+import javax.swing.BorderFactory;
+import javax.swing.JButton;
+import javax.swing.JCheckBox;
+import javax.swing.JFileChooser;
+import javax.swing.JOptionPane;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTextField;
+import javax.swing.ScrollPaneConstants;
+import javax.swing.filechooser.FileFilter;
+import javax.swing.filechooser.FileNameExtensionFilter;
 
-    public JTextField getjTextField9() {
-        return jTextField9;
-    }
+/**
+ * Panel de contenido de memoria del visor de estado: el visor hexadecimal
+ * (MemoryView) dentro de un panel de desplazamiento, con un campo para ir a
+ * una direccion y botones para saltar a las direcciones del PC y del
+ * registro I, la opcion de volcar la memoria a un archivo y la de mostrar el
+ * mapa de calor de accesos.
+ *
+ * @author Diego Gutierrez
+ */
+public class MemoryPanel extends JPanel {
 
-    public void setjTextField9(String text) {
-        this.jTextField9.setText(text);
-    }
+    private static final long INTERVALO_REFRESCO_MS = 250;
 
-    public JTextField getjTextField90() {
-        return jTextField90;
-    }
+    private final MemoryView memoryView = new MemoryView();
+    private final JTextField direccionField = new JTextField(5);
+    private final JCheckBox calorCheckBox = new JCheckBox("Mapa de calor");
 
-    public void setjTextField90(String text) {
-        this.jTextField90.setText(text);
-    }
+    private Chip8_CPU cpu;
+    private long ultimoRefresco;
 
-    public JTextField getjTextField91() {
-        return jTextField91;
-    }
+    public MemoryPanel() {
+        super(new BorderLayout());
+        setBackground(Color.BLACK);
+
+        JPanel barra = new JPanel(new FlowLayout(FlowLayout.LEFT, 4, 2));
+        barra.setOpaque(false);
+
+        JLabel irALabel = new JLabel("Ir a:");
+        irALabel.setForeground(Color.WHITE);
+        irALabel.setFont(new Font("Tahoma", Font.PLAIN, 11));
+
+        direccionField.setFont(new Font("Consolas", Font.BOLD, 11));
+        direccionField.setToolTipText("Direccion en hexadecimal (ej. 200 o 0x2A0)");
+        direccionField.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                irADireccionIngresada();
+            }
+        });
+
+        JButton pcButton = new JButton("PC");
+        pcButton.setToolTipText("Ir a la direccion del program counter");
+        pcButton.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                memoryView.irADireccion(memoryView.getProgramCounter());
+            }
+        });
+
+        JButton indiceButton = new JButton("I");
+        indiceButton.setToolTipText("Ir a la direccion del registro indice");
+        indiceButton.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                memoryView.irADireccion(memoryView.getRegistroIndice());
+            }
+        });
+
+        JButton volcarButton = new JButton("Volcar...");
+        volcarButton.setToolTipText("Guardar un volcado de la memoria en un archivo");
+        volcarButton.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                volcarMemoria();
+            }
+        });
+
+        calorCheckBox.setOpaque(false);
+        calorCheckBox.setForeground(Color.WHITE);
+        calorCheckBox.setFont(new Font("Tahoma", Font.PLAIN, 11));
+        calorCheckBox.setToolTipText("Accesos recientes: azul fetch, amarillo lectura, rojo escritura");
+        calorCheckBox.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                mostrarMapaCalor(calorCheckBox.isSelected());
+            }
+        });
 
-    public void setjTextField91(String text) {
-        this.jTextField91.setText(text);
-    }
+        barra.add(irALabel);
+        barra.add(direccionField);
+        barra.add(pcButton);
+        barra.add(indiceButton);
+        barra.add(volcarButton);
+        barra.add(calorCheckBox);
 
-    public JTextField getjTextField92() {
-        return jTextField92;
-    }
+        JScrollPane scrollPane = new JScrollPane(memoryView,
+                ScrollPaneConstants.VERTICAL_SCROLLBAR_ALWAYS, ScrollPaneConstants.HORIZONTAL_SCROLLBAR_AS_NEEDED);
+        scrollPane.setBorder(BorderFactory.createLineBorder(Color.BLACK));
+        scrollPane.getViewport().setBackground(Color.BLACK);
 
-    public void setjTextField92(String text) {
-        this.jTextField92.setText(text);
+        add(barra, BorderLayout.NORTH);
+        add(scrollPane, BorderLayout.CENTER);
     }
 
-    public JTextField getjTextField93() {
-        return jTextField93;
-    }
+    /* Interpreta el texto del campo de direccion como hexadecimal y desplaza el visor */
+    private void irADireccionIngresada() {
+        String texto = direccionField.getText().trim();
 
-    public void setjTextField93(String text) {
-        this.jTextField93.setText(text);
-    }
+        if (texto.startsWith("0x") || texto.startsWith("0X")) {
+            texto = texto.substring(2);
+        } else if (texto.startsWith("$") || texto.startsWith("#")) {
+            texto = texto.substring(1);
+        }
 
-    public JTextField getjTextField94() {
-        return jTextField94;
+        try {
+            memoryView.irADireccion(Integer.parseInt(texto, 16));
+        } catch (NumberFormatException ex) {
+            Toolkit.getDefaultToolkit().beep();
+            direccionField.selectAll();
+        }
     }
 
-    public void setjTextField94(String text) {
-        this.jTextField94.setText(text);
-    }
+    /* Pide un archivo y un formato y vuelca en el la memoria (y opcionalmente registros, pila y pantalla) */
+    private void volcarMemoria() {
+        if (cpu == null) {
+            return;
+        }
 
-    public JTextField getjTextField95() {
-        return jTextField95;
-    }
+        JFileChooser fileChooser = new JFileChooser();
+        fileChooser.setDialogTitle("Volcar memoria");
+        fileChooser.setCurrentDirectory(new File("."));
+        fileChooser.setAcceptAllFileFilterUsed(false);
+
+        Chip8_Volcado.Formato[] formatos = Chip8_Volcado.Formato.values();
+        FileFilter[] filtros = new FileFilter[formatos.length];
+        for (int i = 0; i < formatos.length; i++) {
+            filtros[i] = new FileNameExtensionFilter(formatos[i].getNombre() + " (*." + formatos[i].getExtension() + ")",
+                    formatos[i].getExtension());
+            fileChooser.addChoosableFileFilter(filtros[i]);
+        }
+        fileChooser.setFileFilter(filtros[0]);
+
+        JCheckBox registrosCheckBox = new JCheckBox("Registros", true);
+        JCheckBox pilaCheckBox = new JCheckBox("Pila", true);
+        JCheckBox pantallaCheckBox = new JCheckBox("Pantalla", false);
+        JPanel opciones = new JPanel();
+        opciones.setLayout(new BoxLayout(opciones, BoxLayout.Y_AXIS));
+        opciones.setBorder(BorderFactory.createTitledBorder("Incluir"));
+        opciones.add(registrosCheckBox);
+        opciones.add(pilaCheckBox);
+        opciones.add(pantallaCheckBox);
+        fileChooser.setAccessory(opciones);
+
+        if (fileChooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
 
-    public void setjTextField95(String text) {
-        this.jTextField95.setText(text);
-    }
+        Chip8_Volcado.Formato formato = formatos[0];
+        for (int i = 0; i < formatos.length; i++) {
+            if (fileChooser.getFileFilter() == filtros[i]) {
+                formato = formatos[i];
+            }
+        }
 
-    public JTextField getjTextField96() {
-        return jTextField96;
-    }
+        File archivo = fileChooser.getSelectedFile();
+        if (!archivo.getName().contains(".")) {
+            archivo = new File(archivo.getPath() + "." + formato.getExtension());
+        }
 
-    public void setjTextField96(String text) {
-        this.jTextField96.setText(text);
+        Chip8_Volcado volcado = new Chip8_Volcado(formato);
+        volcado.setIncluirRegistros(registrosCheckBox.isSelected());
+        volcado.setIncluirPila(pilaCheckBox.isSelected());
+        volcado.setIncluirPantalla(pantallaCheckBox.isSelected());
+
+        try {
+            volcado.volcar(archivo.toPath(), cpu.getMemoria(), cpu.getEstado(), cpu.getGFX());
+        } catch (IOException ex) {
+            Logger.getLogger(MemoryPanel.class.getName()).log(Level.SEVERE, null, ex);
+            JOptionPane.showMessageDialog(this, "No se pudo guardar el volcado: " + ex.getMessage(),
+                    "Volcar memoria", JOptionPane.ERROR_MESSAGE);
+        }
     }
 
-    public JTextField getjTextField97() {
-        return jTextField97;
+    public Chip8_CPU getCpu() {
+        return cpu;
     }
 
-    public void setjTextField97(String text) {
-        this.jTextField97.setText(text);
+    public void setCpu(Chip8_CPU cpu) {
+        this.cpu = cpu;
+        memoryView.setMemoria(cpu.getMemoria());
+        calorCheckBox.setSelected(cpu.mapaCalor.isActivo());
+        memoryView.setMapaCalor(cpu.mapaCalor.isActivo() ? cpu.mapaCalor : null);
     }
 
-    public JTextField getjTextField98() {
-        return jTextField98;
+    /* Activa el conteo de accesos de la CPU y lo muestra de fondo en el visor */
+    private void mostrarMapaCalor(boolean mostrar) {
+        if (cpu == null) {
+            return;
+        }
+        cpu.mapaCalor.setActivo(mostrar);
+        memoryView.setMapaCalor(mostrar ? cpu.mapaCalor : null);
     }
 
-    public void setjTextField98(String text) {
-        this.jTextField98.setText(text);
-    }
+    /* Repinta el mapa de calor si esta visible y paso el intervalo de refresco */
+    public void actualizar() {
+        if (memoryView.getMapaCalor() == null || !isShowing()) {
+            return;
+        }
 
-    public JTextField getjTextField99() {
-        return jTextField99;
+        long ahora = System.currentTimeMillis();
+        if (ahora - ultimoRefresco >= INTERVALO_REFRESCO_MS) {
+            ultimoRefresco = ahora;
+            memoryView.repaint();
+        }
     }
 
-    public void setjTextField99(String text) {
-        this.jTextField99.setText(text);
+    public MemoryView getMemoryView() {
+        return memoryView;
     }
 
-    // Establecer los valores de los campos de texto del panel de memoria
-    // Nota: esta funcion es bastante lenta y puede provocar una disminucion del
-    // rendimiento del emulador
-    public void setMemoryValues(final int[] memoria, int index) {
-
-        long t1 = System.nanoTime();
-        int nOfJTextFields = listJTextFields.size();
-
-        for (int i = 0; i < nOfJTextFields; i++) {
-            listJTextFields.get(i).setText(String.format("%02X", memoria[i + 256*index]));
-        }
-
-        long t2 = System.nanoTime();
-        System.out.println("demora setMemoryValues en Panel: " + (t2 - t1));
+    public void setMemoria(int[] memoria) {
+        memoryView.setMemoria(memoria);
     }
 
-    // Obtener todos los componentes de tipo JTextField del contenedor
-    private List<JTextField> getAllComponents(final Container c) {
-        Component[] comps = c.getComponents();
-
-        List<JTextField> compList = new ArrayList<>();
-
-        for (Component comp : comps) {
-
-            if (comp instanceof JTextField) {
-                compList.add((JTextField) comp);
-            }
-        }
-
-        // Ordenar los componentes por nombre de forma ascendente
-        //compList.sort(new SortJTextFieldByName());
-        return compList;
+    public void setProgramCounter(int programCounter) {
+        memoryView.setProgramCounter(programCounter);
     }
-}
-
-// Comparador de orden segun el nombre del campo para JTextField
-// Se utiliza para ordenar alfabeticamente por nombre los campos de texto JTextField j1 y j2
-class SortJTextFieldByName implements Comparator<JTextField> {
-
-    @Override
-    public int compare(JTextField j1, JTextField j2) {
 
-        return j1.getName().compareTo(j2.getName());
+    public void setRegistroIndice(int registroIndice) {
+        memoryView.setRegistroIndice(registroIndice);
     }
 }
@@ -0,0 +1,395 @@
+/*
+ * Copyright (C) 2022 Diego Andrés Gutiérrez Berón
+ * 
+ * Some parts of this software were made as adaptations of ideas other than mine.
+ * In any case, due credit or references are given for any ideas or code that 
+ * served as an implementation base for this software.
+ *
+ * THIS PROGRAM IS LICENSED UNDER THE TERMS OF THE GNU GENERAL PUBLIC LICENSE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dialogs;
+
+import emulator.Chip8_Hex;
+import emulator.Chip8_MapaCalor;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Rectangle;
+import java.awt.event.MouseEvent;
+import javax.swing.JComponent;
+import javax.swing.JViewport;
+import javax.swing.Scrollable;
+import javax.swing.SwingConstants;
+
+/**
+ * Visor hexadecimal del contenido de la memoria del interprete.
+ *
+ * Reemplaza a los 4096 campos de texto del visor anterior por un unico
+ * componente que dibuja directamente el arreglo de memoria. Solo se pintan
+ * las filas que intersectan el area de recorte, y los digitos de cada byte se
+ * toman de la tabla precalculada de Chip8_Hex, por lo que repintar no crea
+ * objetos. Se usa dentro de un JScrollPane (implementa Scrollable).
+ *
+ * Opcionalmente pinta de fondo el mapa de calor de accesos: azul para las
+ * lecturas de instrucciones, amarillo para las lecturas de datos y rojo para
+ * las escrituras, mezclados si una direccion tiene varios tipos de acceso.
+ * Los colores se precalculan para cada combinacion de niveles.
+ */
+public class MemoryView extends JComponent implements Scrollable {
+
+    public static final int BYTES_POR_FILA = 16;
+
+    private static final int MARGEN = 4;                // margen izquierdo y derecho en pixeles
+
+    private static final Color COLOR_TEXTO = new Color(0, 204, 51);
+    private static final Color COLOR_DIRECCION = new Color(0, 120, 30);
+    private static final Color COLOR_PC = new Color(0, 70, 140);
+    private static final Color COLOR_INDICE = new Color(120, 70, 0);
+    private static final Color COLOR_SELECCION = new Color(80, 80, 80);
+
+    private static final int NIVELES_CALOR = 8;
+    private static final Color[] COLORES_CALOR = crearColoresCalor();
+
+    private int[] memoria = new int[0];
+
+    private int programCounter = -1;                   // direccion resaltada como PC (2 bytes)
+    private int registroIndice = -1;                   // direccion resaltada como registro I
+    private int seleccion = -1;                         // ultima direccion buscada con irADireccion
+
+    private Chip8_MapaCalor mapaCalor;                  // mapa de calor mostrado, null si no se muestra
+
+    private final char[] direccion = new char[5];      // texto de la direccion de cada fila ("0000:")
+
+    // Medidas derivadas de la fuente
+    private int anchoDigito;
+    private int altoFila;
+    private int ascenso;
+    private int xPrimerByte;
+    private int anchoTotal;
+
+    public MemoryView() {
+        setOpaque(true);
+        setBackground(Color.BLACK);
+        setForeground(COLOR_TEXTO);
+        setFont(crearFuente());
+        setToolTipText("");
+        direccion[4] = ':';
+    }
+
+    /* Fuente de los demas visores del dialogo; si no esta instalada se usa una monoespaciada */
+    private static Font crearFuente() {
+        Font fuente = new Font("Consolas", Font.BOLD, 11);
+        if (!"Consolas".equals(fuente.getFamily())) {
+            fuente = new Font(Font.MONOSPACED, Font.BOLD, 11);
+        }
+        return fuente;
+    }
+
+    /* Color de fondo para cada combinacion de niveles de fetch, lectura y escritura */
+    private static Color[] crearColoresCalor() {
+        Color[] colores = new Color[NIVELES_CALOR * NIVELES_CALOR * NIVELES_CALOR];
+        int maximo = NIVELES_CALOR - 1;
+
+        for (int fetch = 0; fetch < NIVELES_CALOR; fetch++) {
+            for (int lectura = 0; lectura < NIVELES_CALOR; lectura++) {
+                for (int escritura = 0; escritura < NIVELES_CALOR; escritura++) {
+                    int rojo = (lectura * 140 + escritura * 190) / maximo;
+                    int verde = (fetch * 40 + lectura * 110) / maximo;
+                    int azul = (fetch * 150 + escritura * 30) / maximo;
+                    colores[indiceCalor(fetch, lectura, escritura)] = new Color(
+                            Math.min(rojo, 255), Math.min(verde, 255), Math.min(azul, 255));
+                }
+            }
+        }
+        return colores;
+    }
+
+    private static int indiceCalor(int fetch, int lectura, int escritura) {
+        return (fetch * NIVELES_CALOR + lectura) * NIVELES_CALOR + escritura;
+    }
+
+    @Override
+    public void setFont(Font font) {
+        super.setFont(font);
+        calcularMedidas();
+        revalidate();
+        repaint();
+    }
+
+    private void calcularMedidas() {
+        FontMetrics fm = getFontMetrics(getFont());
+
+        // Ancho del digito mas ancho, asi las columnas quedan alineadas aunque la fuente no sea monoespaciada
+        anchoDigito = 0;
+        for (int i = 0; i < 32; i++) {
+            anchoDigito = Math.max(anchoDigito, fm.charWidth(Chip8_Hex.BYTES[i * 2 + 1]));
+        }
+
+        altoFila = fm.getHeight();
+        ascenso = fm.getAscent();
+        xPrimerByte = MARGEN + anchoDigito * 6;
+        anchoTotal = xPrimerByte + BYTES_POR_FILA * anchoDigito * 3 + anchoDigito + MARGEN;
+    }
+
+    /* Posicion horizontal de la columna de un byte (separacion extra cada 8 bytes) */
+    private int xByte(int columna) {
+        return xPrimerByte + columna * anchoDigito * 3 + (columna >= BYTES_POR_FILA / 2 ? anchoDigito : 0);
+    }
+
+    private int getFilas() {
+        return memoria.length / BYTES_POR_FILA;
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) {
+            clip = new Rectangle(0, 0, getWidth(), getHeight());
+        }
+
+        g.setColor(getBackground());
+        g.fillRect(clip.x, clip.y, clip.width, clip.height);
+
+        int primera = Math.max(0, clip.y / altoFila);
+        int ultima = Math.min(getFilas() - 1, (clip.y + clip.height - 1) / altoFila);
+
+        for (int fila = primera; fila <= ultima; fila++) {
+            int y = fila * altoFila;
+            int base = fila * BYTES_POR_FILA;
+
+            if (mapaCalor != null) {
+                pintarCalor(g, fila);
+            }
+
+            resaltar(g, fila, seleccion, COLOR_SELECCION);
+            resaltar(g, fila, registroIndice, COLOR_INDICE);
+            resaltar(g, fila, programCounter, COLOR_PC);
+            resaltar(g, fila, programCounter + 1, COLOR_PC);
+
+            Chip8_Hex.escribirPalabra(base, direccion, 0);
+            g.setColor(COLOR_DIRECCION);
+            g.drawChars(direccion, 1, 4, MARGEN, y + ascenso);
+
+            g.setColor(getForeground());
+            for (int columna = 0; columna < BYTES_POR_FILA; columna++) {
+                int valor = memoria[base + columna] & 0xFF;
+                g.drawChars(Chip8_Hex.BYTES, valor * 2, 2, xByte(columna), y + ascenso);
+            }
+        }
+    }
+
+    /* Pinta el fondo de las celdas de la fila segun su nivel en el mapa de calor */
+    private void pintarCalor(Graphics g, int fila) {
+        for (int columna = 0; columna < BYTES_POR_FILA; columna++) {
+            int direccionByte = fila * BYTES_POR_FILA + columna;
+            int indice = indiceCalor(mapaCalor.getNivel(Chip8_MapaCalor.FETCH, direccionByte, NIVELES_CALOR),
+                    mapaCalor.getNivel(Chip8_MapaCalor.LECTURA, direccionByte, NIVELES_CALOR),
+                    mapaCalor.getNivel(Chip8_MapaCalor.ESCRITURA, direccionByte, NIVELES_CALOR));
+            if (indice != 0) {
+                g.setColor(COLORES_CALOR[indice]);
+                g.fillRect(xByte(columna) - anchoDigito / 2, fila * altoFila, anchoDigito * 3, altoFila);
+            }
+        }
+    }
+
+    /* Pinta el fondo de la celda de una direccion si pertenece a la fila indicada */
+    private void resaltar(Graphics g, int fila, int direccionByte, Color color) {
+        if (direccionByte < 0 || direccionByte / BYTES_POR_FILA != fila) {
+            return;
+        }
+
+        g.setColor(color);
+        g.fillRect(xByte(direccionByte % BYTES_POR_FILA) - anchoDigito / 2, fila * altoFila, anchoDigito * 3, altoFila);
+    }
+
+    /* Repinta solo la celda de una direccion */
+    private void repintarByte(int direccionByte) {
+        if (direccionByte < 0 || direccionByte >= memoria.length) {
+            return;
+        }
+
+        repaint(xByte(direccionByte % BYTES_POR_FILA) - anchoDigito / 2, direccionByte / BYTES_POR_FILA * altoFila,
+                anchoDigito * 3, altoFila);
+    }
+
+    /**
+     * Repinta las filas de memoria entre las direcciones indicadas
+     * (inclusive). Las filas fuera del area visible no generan trabajo.
+     */
+    public void repintarDirecciones(int desde, int hasta) {
+        int primera = desde / BYTES_POR_FILA;
+        int ultima = hasta / BYTES_POR_FILA;
+        repaint(0, primera * altoFila, getWidth(), (ultima - primera + 1) * altoFila);
+    }
+
+    /**
+     * Repinta las filas marcadas en la mascara de lineas modificadas (1 bit
+     * por fila de 16 bytes, ver Chip8_CPU.tomarLineasModificadas). Las filas
+     * consecutivas se agrupan en una sola region de repintado.
+     */
+    public void repintarLineas(long[] lineas) {
+        int filas = getFilas();
+        int fila = 0;
+
+        while (fila < filas) {
+            if ((lineas[fila >> 6] & (1L << (fila & 63))) == 0) {
+                fila++;
+                continue;
+            }
+
+            int inicio = fila;
+            while (fila < filas && (lineas[fila >> 6] & (1L << (fila & 63))) != 0) {
+                fila++;
+            }
+            repaint(0, inicio * altoFila, getWidth(), (fila - inicio) * altoFila);
+        }
+    }
+
+    /**
+     * Desplaza el visor hasta la direccion indicada, centrandola en el area
+     * visible, y la resalta.
+     */
+    public void irADireccion(int direccionByte) {
+        if (memoria.length == 0) {
+            return;
+        }
+
+        direccionByte = Math.max(0, Math.min(memoria.length - 1, direccionByte));
+
+        repintarByte(seleccion);
+        seleccion = direccionByte;
+        repintarByte(seleccion);
+
+        Rectangle visible = getVisibleRect();
+        int y = direccionByte / BYTES_POR_FILA * altoFila - (visible.height - altoFila) / 2;
+        scrollRectToVisible(new Rectangle(visible.x, Math.max(0, y), visible.width, visible.height));
+    }
+
+    public int[] getMemoria() {
+        return memoria;
+    }
+
+    public void setMemoria(int[] memoria) {
+        boolean redimensionar = memoria.length != this.memoria.length;
+        this.memoria = memoria;
+
+        if (redimensionar) {
+            revalidate();
+        }
+        repaint();
+    }
+
+    public Chip8_MapaCalor getMapaCalor() {
+        return mapaCalor;
+    }
+
+    /* Muestra el mapa de calor indicado de fondo, o ninguno si es null */
+    public void setMapaCalor(Chip8_MapaCalor mapaCalor) {
+        this.mapaCalor = mapaCalor;
+        repaint();
+    }
+
+    public int getProgramCounter() {
+        return programCounter;
+    }
+
+    public void setProgramCounter(int programCounter) {
+        if (programCounter == this.programCounter) {
+            return;
+        }
+
+        repintarByte(this.programCounter);
+        repintarByte(this.programCounter + 1);
+        this.programCounter = programCounter;
+        repintarByte(programCounter);
+        repintarByte(programCounter + 1);
+    }
+
+    public int getRegistroIndice() {
+        return registroIndice;
+    }
+
+    public void setRegistroIndice(int registroIndice) {
+        if (registroIndice == this.registroIndice) {
+            return;
+        }
+
+        repintarByte(this.registroIndice);
+        this.registroIndice = registroIndice;
+        repintarByte(registroIndice);
+    }
+
+    /* Muestra la direccion y el valor del byte bajo el puntero del raton */
+    @Override
+    public String getToolTipText(MouseEvent e) {
+        int fila = e.getY() / altoFila;
+        for (int columna = BYTES_POR_FILA - 1; columna >= 0; columna--) {
+            if (e.getX() >= xByte(columna) - anchoDigito / 2) {
+                int direccionByte = fila * BYTES_POR_FILA + columna;
+                if (e.getX() >= xByte(columna) + anchoDigito * 5 / 2 || direccionByte >= memoria.length) {
+                    return null;
+                }
+                String texto = "0x" + Chip8_Hex.palabraHex(direccionByte).substring(1) + " = " + Chip8_Hex.byteHex(memoria[direccionByte]);
+                if (mapaCalor != null) {
+                    texto += "  (fetch " + mapaCalor.getAccesos(Chip8_MapaCalor.FETCH, direccionByte)
+                            + ", lecturas " + mapaCalor.getAccesos(Chip8_MapaCalor.LECTURA, direccionByte)
+                            + ", escrituras " + mapaCalor.getAccesos(Chip8_MapaCalor.ESCRITURA, direccionByte) + ")";
+                }
+                return texto;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        if (isPreferredSizeSet()) {
+            return super.getPreferredSize();
+        }
+        return new Dimension(anchoTotal, getFilas() * altoFila);
+    }
+
+    @Override
+    public Dimension getPreferredScrollableViewportSize() {
+        return new Dimension(anchoTotal, altoFila * 16);
+    }
+
+    @Override
+    public int getScrollableUnitIncrement(Rectangle visibleRect, int orientation, int direction) {
+        return orientation == SwingConstants.VERTICAL ? altoFila : anchoDigito;
+    }
+
+    @Override
+    public int getScrollableBlockIncrement(Rectangle visibleRect, int orientation, int direction) {
+        if (orientation == SwingConstants.VERTICAL) {
+            return Math.max(altoFila, visibleRect.height / altoFila * altoFila);
+        }
+        return visibleRect.width;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportWidth() {
+        return getParent() instanceof JViewport && getParent().getWidth() > anchoTotal;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportHeight() {
+        return getParent() instanceof JViewport && getParent().getHeight() > getPreferredSize().height;
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright (C) 2022 Diego Andrés Gutiérrez Berón
+ * 
+ * Some parts of this software were made as adaptations of ideas other than mine.
+ * In any case, due credit or references are given for any ideas or code that 
+ * served as an implementation base for this software.
+ *
+ * THIS PROGRAM IS LICENSED UNDER THE TERMS OF THE GNU GENERAL PUBLIC LICENSE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dialogs;
+
+import emulator.Chip8_Contadores;
+import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.FlowLayout;
+import java.awt.Font;
+import java.awt.Insets;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.swing.BorderFactory;
+import javax.swing.JButton;
+import javax.swing.JCheckBox;
+import javax.swing.JFileChooser;
+import javax.swing.JOptionPane;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.filechooser.FileNameExtensionFilter;
+import javax.swing.table.AbstractTableModel;
+
+/**
+ * Panel de contadores por clase de opcode del visor de estado: permite
+ * activar los contadores y la medicion de tiempos, muestra una tabla con
+ * las ejecuciones, el porcentaje sobre el total y los tiempos medio, p50 y
+ * p99 de cada clase, y exporta los datos completos en CSV.
+ *
+ * La tabla se refresca a lo sumo cuatro veces por segundo.
+ *
+ * @author Diego Gutierrez
+ */
+public class OpcodePanel extends JPanel {
+
+    private static final long INTERVALO_REFRESCO_MS = 250;
+
+    private final JCheckBox contarCheckBox = new JCheckBox("Contar");
+    private final JCheckBox tiemposCheckBox = new JCheckBox("Medir tiempos");
+    private final ModeloContadores modelo = new ModeloContadores();
+    private final JTable tabla = new JTable(modelo);
+
+    private Chip8_Contadores contadores;
+    private long ultimoRefresco;
+
+    public OpcodePanel() {
+        super(new BorderLayout());
+        setBackground(Color.BLACK);
+
+        Font fuente = new Font("Tahoma", Font.PLAIN, 11);
+
+        contarCheckBox.setOpaque(false);
+        contarCheckBox.setForeground(Color.WHITE);
+        contarCheckBox.setFont(fuente);
+        contarCheckBox.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                if (contadores != null) {
+                    contadores.setActivo(contarCheckBox.isSelected());
+                }
+            }
+        });
+
+        tiemposCheckBox.setOpaque(false);
+        tiemposCheckBox.setForeground(Color.WHITE);
+        tiemposCheckBox.setFont(fuente);
+        tiemposCheckBox.setToolTipText("Mide el tiempo de una de cada 8 instrucciones contadas, en promedio");
+        tiemposCheckBox.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                if (contadores != null) {
+                    contadores.setMedirTiempos(tiemposCheckBox.isSelected());
+                }
+            }
+        });
+
+        JButton reiniciarButton = new JButton("Reiniciar");
+        reiniciarButton.setFont(fuente);
+        reiniciarButton.setMargin(new Insets(1, 4, 1, 4));
+        reiniciarButton.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                if (contadores != null) {
+                    contadores.reiniciar();
+                }
+            }
+        });
+
+        JButton exportarButton = new JButton("Exportar CSV...");
+        exportarButton.setFont(fuente);
+        exportarButton.setMargin(new Insets(1, 4, 1, 4));
+        exportarButton.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                exportarCSV();
+            }
+        });
+
+        JPanel barra = new JPanel(new FlowLayout(FlowLayout.LEFT, 4, 2));
+        barra.setOpaque(false);
+        barra.add(contarCheckBox);
+        barra.add(tiemposCheckBox);
+        barra.add(reiniciarButton);
+        barra.add(exportarButton);
+
+        tabla.setFont(new Font("Consolas", Font.BOLD, 11));
+        tabla.setBackground(Color.BLACK);
+        tabla.setForeground(new Color(0, 204, 51));
+        tabla.setGridColor(new Color(40, 40, 40));
+        tabla.setAutoCreateRowSorter(true);
+
+        JScrollPane scrollPane = new JScrollPane(tabla);
+        scrollPane.setBorder(BorderFactory.createLineBorder(Color.BLACK));
+        scrollPane.getViewport().setBackground(Color.BLACK);
+
+        add(barra, BorderLayout.NORTH);
+        add(scrollPane, BorderLayout.CENTER);
+    }
+
+    public void setContadores(Chip8_Contadores contadores) {
+        this.contadores = contadores;
+        contarCheckBox.setSelected(contadores.isActivo());
+        tiemposCheckBox.setSelected(contadores.isMedirTiempos());
+        modelo.fireTableDataChanged();
+    }
+
+    /* Refresca la tabla si los contadores estan activos y paso el intervalo de refresco */
+    public void actualizar() {
+        if (contadores == null || !contadores.isActivo() || !isShowing()) {
+            return;
+        }
+
+        long ahora = System.currentTimeMillis();
+        if (ahora - ultimoRefresco >= INTERVALO_REFRESCO_MS) {
+            ultimoRefresco = ahora;
+            modelo.fireTableRowsUpdated(0, Chip8_Contadores.CANTIDAD_CLASES - 1);
+        }
+    }
+
+    private void exportarCSV() {
+        if (contadores == null) {
+            return;
+        }
+
+        JFileChooser fileChooser = new JFileChooser();
+        fileChooser.setDialogTitle("Exportar contadores");
+        fileChooser.setCurrentDirectory(new File("."));
+        fileChooser.setFileFilter(new FileNameExtensionFilter("CSV (*.csv)", "csv"));
+
+        if (fileChooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+
+        File archivo = fileChooser.getSelectedFile();
+        if (!archivo.getName().contains(".")) {
+            archivo = new File(archivo.getPath() + ".csv");
+        }
+
+        try (Writer writer = Files.newBufferedWriter(archivo.toPath(), StandardCharsets.UTF_8)) {
+            contadores.exportarCSV(writer);
+        } catch (IOException ex) {
+            Logger.getLogger(OpcodePanel.class.getName()).log(Level.SEVERE, null, ex);
+            JOptionPane.showMessageDialog(this, "No se pudo exportar: " + ex.getMessage(),
+                    "Exportar contadores", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    /* Modelo de la tabla: una fila por clase de opcode, leida directamente de los contadores */
+    private class ModeloContadores extends AbstractTableModel {
+
+        private final String[] columnas = {"Opcode", "Ejecuciones", "%", "ns medio", "p50 ns", "p99 ns"};
+
+        @Override
+        public int getRowCount() {
+            return contadores == null ? 0 : Chip8_Contadores.CANTIDAD_CLASES;
+        }
+
+        @Override
+        public int getColumnCount() {
+            return columnas.length;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return columnas[column];
+        }
+
+        @Override
+        public Class<?> getColumnClass(int columnIndex) {
+            return columnIndex == 0 ? String.class : columnIndex == 2 || columnIndex == 3 ? Double.class : Long.class;
+        }
+
+        @Override
+        public Object getValueAt(int fila, int columna) {
+            switch (columna) {
+                case 0:
+                    return Chip8_Contadores.CLASES[fila];
+                case 1:
+                    return contadores.getEjecuciones(fila);
+                case 2: {
+                    long total = contadores.getTotalEjecuciones();
+                    return total == 0 ? 0.0 : Math.round(contadores.getEjecuciones(fila) * 1000.0 / total) / 10.0;
+                }
+                case 3:
+                    return Math.round(contadores.getNanosPromedio(fila) * 10) / 10.0;
+                case 4:
+                    return contadores.getPercentil(fila, 50);
+                default:
+                    return contadores.getPercentil(fila, 99);
+            }
+        }
+    }
+}
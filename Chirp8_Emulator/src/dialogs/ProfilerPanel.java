@@ -0,0 +1,322 @@
+/*
+ * Copyright (C) 2022 Diego Andrés Gutiérrez Berón
+ * 
+ * Some parts of this software were made as adaptations of ideas other than mine.
+ * In any case, due credit or references are given for any ideas or code that 
+ * served as an implementation base for this software.
+ *
+ * THIS PROGRAM IS LICENSED UNDER THE TERMS OF THE GNU GENERAL PUBLIC LICENSE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dialogs;
+
+import emulator.Chip8_CPU;
+import emulator.Chip8_Desensamblador;
+import emulator.Chip8_Hex;
+import emulator.Chip8_Perfilador;
+import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.FlowLayout;
+import java.awt.Font;
+import java.awt.Insets;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.swing.BorderFactory;
+import javax.swing.JButton;
+import javax.swing.JCheckBox;
+import javax.swing.JFileChooser;
+import javax.swing.JOptionPane;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JSplitPane;
+import javax.swing.JTable;
+import javax.swing.filechooser.FileNameExtensionFilter;
+import javax.swing.table.AbstractTableModel;
+
+/**
+ * Panel del perfilador del visor de estado: permite activar el perfil,
+ * muestra las subrutinas ordenadas por instrucciones inclusivas y las
+ * direcciones mas ejecutadas, y exporta las pilas colapsadas para generar
+ * flame graphs o un informe de texto.
+ *
+ * Las listas se recalculan a lo sumo una vez por segundo.
+ *
+ * @author Diego Gutierrez
+ */
+public class ProfilerPanel extends JPanel {
+
+    private static final long INTERVALO_REFRESCO_MS = 1000;
+    private static final int MAXIMO_FILAS = 100;
+
+    private final JCheckBox perfilarCheckBox = new JCheckBox("Perfilar");
+    private final ModeloSubrutinas modeloSubrutinas = new ModeloSubrutinas();
+    private final ModeloDirecciones modeloDirecciones = new ModeloDirecciones();
+
+    private Chip8_CPU cpu;
+    private long ultimoRefresco;
+
+    public ProfilerPanel() {
+        super(new BorderLayout());
+        setBackground(Color.BLACK);
+
+        Font fuente = new Font("Tahoma", Font.PLAIN, 11);
+
+        perfilarCheckBox.setOpaque(false);
+        perfilarCheckBox.setForeground(Color.WHITE);
+        perfilarCheckBox.setFont(fuente);
+        perfilarCheckBox.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                if (cpu != null) {
+                    cpu.perfilador.setActivo(perfilarCheckBox.isSelected());
+                }
+            }
+        });
+
+        JButton reiniciarButton = new JButton("Reiniciar");
+        reiniciarButton.setFont(fuente);
+        reiniciarButton.setMargin(new Insets(1, 4, 1, 4));
+        reiniciarButton.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                if (cpu != null) {
+                    cpu.perfilador.reiniciar();
+                }
+            }
+        });
+
+        JButton pilasButton = new JButton("Exportar pilas...");
+        pilasButton.setFont(fuente);
+        pilasButton.setMargin(new Insets(1, 4, 1, 4));
+        pilasButton.setToolTipText("Pilas colapsadas para flamegraph.pl y herramientas compatibles");
+        pilasButton.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                exportar(true);
+            }
+        });
+
+        JButton informeButton = new JButton("Exportar informe...");
+        informeButton.setFont(fuente);
+        informeButton.setMargin(new Insets(1, 4, 1, 4));
+        informeButton.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                exportar(false);
+            }
+        });
+
+        JPanel barra = new JPanel(new FlowLayout(FlowLayout.LEFT, 4, 2));
+        barra.setOpaque(false);
+        barra.add(perfilarCheckBox);
+        barra.add(reiniciarButton);
+        barra.add(pilasButton);
+        barra.add(informeButton);
+
+        JSplitPane divisor = new JSplitPane(JSplitPane.VERTICAL_SPLIT,
+                crearTabla(modeloSubrutinas), crearTabla(modeloDirecciones));
+        divisor.setBorder(null);
+        divisor.setResizeWeight(0.4);
+
+        add(barra, BorderLayout.NORTH);
+        add(divisor, BorderLayout.CENTER);
+    }
+
+    private JScrollPane crearTabla(AbstractTableModel modelo) {
+        JTable tabla = new JTable(modelo);
+        tabla.setFont(new Font("Consolas", Font.BOLD, 11));
+        tabla.setBackground(Color.BLACK);
+        tabla.setForeground(new Color(0, 204, 51));
+        tabla.setGridColor(new Color(40, 40, 40));
+        tabla.setAutoCreateRowSorter(true);
+
+        JScrollPane scrollPane = new JScrollPane(tabla);
+        scrollPane.setBorder(BorderFactory.createLineBorder(Color.BLACK));
+        scrollPane.getViewport().setBackground(Color.BLACK);
+        return scrollPane;
+    }
+
+    public void setCpu(Chip8_CPU cpu) {
+        this.cpu = cpu;
+        perfilarCheckBox.setSelected(cpu.perfilador.isActivo());
+        ultimoRefresco = 0;
+        actualizar();
+    }
+
+    /* Recalcula las listas si el perfilador esta activo y paso el intervalo de refresco */
+    public void actualizar() {
+        if (cpu == null || !cpu.perfilador.isActivo() || !isShowing()) {
+            return;
+        }
+
+        long ahora = System.currentTimeMillis();
+        if (ahora - ultimoRefresco >= INTERVALO_REFRESCO_MS) {
+            ultimoRefresco = ahora;
+            Chip8_Perfilador perfilador = cpu.perfilador;
+            long total = perfilador.getTotalEjecuciones();
+            modeloSubrutinas.actualizar(perfilador.getSubrutinas(), total);
+            modeloDirecciones.actualizar(perfilador.getPuntosCalientes(MAXIMO_FILAS), total);
+        }
+    }
+
+    private void exportar(boolean pilas) {
+        if (cpu == null) {
+            return;
+        }
+
+        String titulo = pilas ? "Exportar pilas colapsadas" : "Exportar informe de perfil";
+        JFileChooser fileChooser = new JFileChooser();
+        fileChooser.setDialogTitle(titulo);
+        fileChooser.setCurrentDirectory(new File("."));
+        fileChooser.setFileFilter(pilas
+                ? new FileNameExtensionFilter("Pilas colapsadas (*.folded)", "folded")
+                : new FileNameExtensionFilter("Texto (*.txt)", "txt"));
+
+        if (fileChooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+
+        File archivo = fileChooser.getSelectedFile();
+        if (!archivo.getName().contains(".")) {
+            archivo = new File(archivo.getPath() + (pilas ? ".folded" : ".txt"));
+        }
+
+        try (Writer writer = Files.newBufferedWriter(archivo.toPath(), StandardCharsets.UTF_8)) {
+            if (pilas) {
+                cpu.perfilador.escribirPilasColapsadas(writer);
+            } else {
+                cpu.perfilador.escribirInforme(writer, cpu.getMemoria(), MAXIMO_FILAS);
+            }
+        } catch (IOException ex) {
+            Logger.getLogger(ProfilerPanel.class.getName()).log(Level.SEVERE, null, ex);
+            JOptionPane.showMessageDialog(this, "No se pudo exportar: " + ex.getMessage(),
+                    titulo, JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    private static double porcentaje(long cantidad, long total) {
+        return total == 0 ? 0.0 : Math.round(cantidad * 1000.0 / total) / 10.0;
+    }
+
+    /* Modelo de la tabla de subrutinas: filas {direccion, propias, inclusivas} del perfilador */
+    private class ModeloSubrutinas extends AbstractTableModel {
+
+        private final String[] columnas = {"Subrutina", "Propias", "% propio", "Inclusivas", "% inclusivo"};
+        private List<long[]> filas = new ArrayList<>();
+        private long total;
+
+        void actualizar(List<long[]> filas, long total) {
+            this.filas = filas;
+            this.total = total;
+            fireTableDataChanged();
+        }
+
+        @Override
+        public int getRowCount() {
+            return filas.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return columnas.length;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return columnas[column];
+        }
+
+        @Override
+        public Class<?> getColumnClass(int columnIndex) {
+            return columnIndex == 0 ? String.class : columnIndex == 2 || columnIndex == 4 ? Double.class : Long.class;
+        }
+
+        @Override
+        public Object getValueAt(int fila, int columna) {
+            long[] datos = filas.get(fila);
+            switch (columna) {
+                case 0:
+                    return datos[0] < 0 ? "main" : "sub_" + Chip8_Hex.palabraHex((int) datos[0]).substring(1);
+                case 1:
+                    return datos[1];
+                case 2:
+                    return porcentaje(datos[1], total);
+                case 3:
+                    return datos[2];
+                default:
+                    return porcentaje(datos[2], total);
+            }
+        }
+    }
+
+    /* Modelo de la tabla de direcciones mas ejecutadas */
+    private class ModeloDirecciones extends AbstractTableModel {
+
+        private final String[] columnas = {"Direccion", "Instruccion", "Ejecuciones", "%"};
+        private List<Integer> direcciones = new ArrayList<>();
+        private long total;
+
+        void actualizar(List<Integer> direcciones, long total) {
+            this.direcciones = direcciones;
+            this.total = total;
+            fireTableDataChanged();
+        }
+
+        @Override
+        public int getRowCount() {
+            return direcciones.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return columnas.length;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return columnas[column];
+        }
+
+        @Override
+        public Class<?> getColumnClass(int columnIndex) {
+            return columnIndex < 2 ? String.class : columnIndex == 3 ? Double.class : Long.class;
+        }
+
+        @Override
+        public Object getValueAt(int fila, int columna) {
+            int direccion = direcciones.get(fila);
+            switch (columna) {
+                case 0:
+                    return Chip8_Hex.palabraHex(direccion).substring(1);
+                case 1:
+                    return Chip8_Desensamblador.mnemonico(cpu.fetch(Math.min(direccion, 0xFFE)));
+                case 2:
+                    return cpu.perfilador.getEjecuciones(direccion);
+                default:
+                    return porcentaje(cpu.perfilador.getEjecuciones(direccion), total);
+            }
+        }
+    }
+}
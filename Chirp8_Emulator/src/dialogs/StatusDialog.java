@@ -23,11 +23,9 @@
 package dialogs;
 
 import emulator.Chip8_CPU;
-import java.awt.Component;
-import java.awt.Container;
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.List;
+import emulator.Chip8_Estado;
+import emulator.Chip8_Hex;
+import java.util.Arrays;
 import javax.swing.JTextField;
 
 /**
@@ -44,8 +42,10 @@ public class StatusDialog extends javax.swing.JDialog {
     public StatusDialog(java.awt.Frame parent, boolean modal) {
         super(parent, modal);
         initComponents();
-        listMemoryPanels = (ArrayList<MemoryPanel>) getAllMemoryPanelComponents(jPanel1);
-        nOfPanels = listMemoryPanels.size();
+
+        visoresV = new JTextField[]{v0Value, v1Value, v2Value, v3Value, v4Value, v5Value, v6Value, v7Value,
+            v8Value, v9Value, vAValue, vBValue, vCValue, vDValue, vEValue, vFValue};
+        Arrays.fill(registrosMostrados, -1);
     }
 
     /**
@@ -107,24 +107,12 @@ public class StatusDialog extends javax.swing.JDialog {
         jLabel25 = new javax.swing.JLabel();
         jSeparator1 = new javax.swing.JSeparator();
         jLabel26 = new javax.swing.JLabel();
-        jScrollPane1 = new javax.swing.JScrollPane();
-        jPanel1 = new javax.swing.JPanel();
-        memoryPanel1 = new dialogs.MemoryPanel();
-        memoryPanel2 = new dialogs.MemoryPanel();
-        memoryPanel3 = new dialogs.MemoryPanel();
-        memoryPanel4 = new dialogs.MemoryPanel();
-        memoryPanel5 = new dialogs.MemoryPanel();
-        memoryPanel6 = new dialogs.MemoryPanel();
-        memoryPanel7 = new dialogs.MemoryPanel();
-        memoryPanel8 = new dialogs.MemoryPanel();
-        memoryPanel9 = new dialogs.MemoryPanel();
-        memoryPanel10 = new dialogs.MemoryPanel();
-        memoryPanel11 = new dialogs.MemoryPanel();
-        memoryPanel12 = new dialogs.MemoryPanel();
-        memoryPanel13 = new dialogs.MemoryPanel();
-        memoryPanel14 = new dialogs.MemoryPanel();
-        memoryPanel15 = new dialogs.MemoryPanel();
-        memoryPanel16 = new dialogs.MemoryPanel();
+        debuggerTabbedPane = new javax.swing.JTabbedPane();
+        memoryPanel = new dialogs.MemoryPanel();
+        disassemblyPanel = new dialogs.DisassemblyPanel();
+        breakpointPanel = new dialogs.BreakpointPanel();
+        opcodePanel = new dialogs.OpcodePanel();
+        profilerPanel = new dialogs.ProfilerPanel();
 
         setDefaultCloseOperation(javax.swing.WindowConstants.DISPOSE_ON_CLOSE);
         setTitle("Estado del emulador");
@@ -410,32 +398,11 @@ public class StatusDialog extends javax.swing.JDialog {
         jLabel26.setFont(new java.awt.Font("Tahoma", 1, 11)); // NOI18N
         jLabel26.setText("Registros de estado");
 
-        jScrollPane1.setBackground(new java.awt.Color(0, 0, 0));
-        jScrollPane1.setBorder(javax.swing.BorderFactory.createLineBorder(new java.awt.Color(0, 0, 0)));
-        jScrollPane1.setMinimumSize(new java.awt.Dimension(8, 16));
-        jScrollPane1.setName(""); // NOI18N
-        jScrollPane1.setPreferredSize(new java.awt.Dimension(8, 16));
-
-        jPanel1.setBackground(new java.awt.Color(0, 0, 0));
-        jPanel1.setLayout(new java.awt.GridLayout(16, 1));
-        jPanel1.add(memoryPanel1);
-        jPanel1.add(memoryPanel2);
-        jPanel1.add(memoryPanel3);
-        jPanel1.add(memoryPanel4);
-        jPanel1.add(memoryPanel5);
-        jPanel1.add(memoryPanel6);
-        jPanel1.add(memoryPanel7);
-        jPanel1.add(memoryPanel8);
-        jPanel1.add(memoryPanel9);
-        jPanel1.add(memoryPanel10);
-        jPanel1.add(memoryPanel11);
-        jPanel1.add(memoryPanel12);
-        jPanel1.add(memoryPanel13);
-        jPanel1.add(memoryPanel14);
-        jPanel1.add(memoryPanel15);
-        jPanel1.add(memoryPanel16);
-
-        jScrollPane1.setViewportView(jPanel1);
+        debuggerTabbedPane.addTab("Memoria", memoryPanel);
+        debuggerTabbedPane.addTab("Desensamblado", disassemblyPanel);
+        debuggerTabbedPane.addTab("Puntos de parada", breakpointPanel);
+        debuggerTabbedPane.addTab("Opcodes", opcodePanel);
+        debuggerTabbedPane.addTab("Perfil", profilerPanel);
 
         javax.swing.GroupLayout layout = new javax.swing.GroupLayout(getContentPane());
         getContentPane().setLayout(layout);
@@ -520,7 +487,7 @@ public class StatusDialog extends javax.swing.JDialog {
                                 .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED)
                                 .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
                                     .addComponent(memoriaLabel)
-                                    .addComponent(jScrollPane1, javax.swing.GroupLayout.PREFERRED_SIZE, 373, javax.swing.GroupLayout.PREFERRED_SIZE))
+                                    .addComponent(debuggerTabbedPane, javax.swing.GroupLayout.PREFERRED_SIZE, 410, javax.swing.GroupLayout.PREFERRED_SIZE))
                                 .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED, javax.swing.GroupLayout.DEFAULT_SIZE, Short.MAX_VALUE)
                                 .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
                                     .addGroup(javax.swing.GroupLayout.Alignment.TRAILING, layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
@@ -661,7 +628,7 @@ public class StatusDialog extends javax.swing.JDialog {
                                 .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.BASELINE)
                                     .addComponent(jLabel17)
                                     .addComponent(vFValue, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)))
-                            .addComponent(jScrollPane1, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, Short.MAX_VALUE))
+                            .addComponent(debuggerTabbedPane, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, Short.MAX_VALUE))
                         .addContainerGap(31, Short.MAX_VALUE))))
         );
 
@@ -723,8 +690,11 @@ public class StatusDialog extends javax.swing.JDialog {
     }
 
     // Variables declaration - do not modify//GEN-BEGIN:variables
+    private dialogs.BreakpointPanel breakpointPanel;
     private javax.swing.JTextField clockFrequencyValue;
+    private javax.swing.JTabbedPane debuggerTabbedPane;
     private javax.swing.JTextField delayTimerValue;
+    private dialogs.DisassemblyPanel disassemblyPanel;
     private javax.swing.JTextField indexRegisterValue;
     private javax.swing.JLabel jLabel1;
     private javax.swing.JLabel jLabel10;
@@ -752,27 +722,12 @@ public class StatusDialog extends javax.swing.JDialog {
     private javax.swing.JLabel jLabel7;
     private javax.swing.JLabel jLabel8;
     private javax.swing.JLabel jLabel9;
-    private javax.swing.JPanel jPanel1;
-    private javax.swing.JScrollPane jScrollPane1;
     private javax.swing.JSeparator jSeparator1;
     private javax.swing.JLabel memoriaLabel;
-    private dialogs.MemoryPanel memoryPanel1;
-    private dialogs.MemoryPanel memoryPanel10;
-    private dialogs.MemoryPanel memoryPanel11;
-    private dialogs.MemoryPanel memoryPanel12;
-    private dialogs.MemoryPanel memoryPanel13;
-    private dialogs.MemoryPanel memoryPanel14;
-    private dialogs.MemoryPanel memoryPanel15;
-    private dialogs.MemoryPanel memoryPanel16;
-    private dialogs.MemoryPanel memoryPanel2;
-    private dialogs.MemoryPanel memoryPanel3;
-    private dialogs.MemoryPanel memoryPanel4;
-    private dialogs.MemoryPanel memoryPanel5;
-    private dialogs.MemoryPanel memoryPanel6;
-    private dialogs.MemoryPanel memoryPanel7;
-    private dialogs.MemoryPanel memoryPanel8;
-    private dialogs.MemoryPanel memoryPanel9;
+    private dialogs.MemoryPanel memoryPanel;
+    private dialogs.OpcodePanel opcodePanel;
     private javax.swing.JTextField opcodeValue;
+    private dialogs.ProfilerPanel profilerPanel;
     private javax.swing.JTextField programCounterValue;
     private javax.swing.JTextField soundTimerValue;
     private javax.swing.JTextField v0Value;
@@ -793,9 +748,33 @@ public class StatusDialog extends javax.swing.JDialog {
     private javax.swing.JTextField vFValue;
     // End of variables declaration//GEN-END:variables
 
-    ArrayList<MemoryPanel> listMemoryPanels;
-    int nOfPanels;
-    
+    /*
+     * Valores mostrados actualmente en los visores de registros (-1 = sin
+     * mostrar). Solo se actualiza el texto de los visores cuyo valor cambio.
+     */
+    private JTextField[] visoresV;
+    private final int[] registrosMostrados = new int[16];
+    private int opcodeMostrado = -1;
+    private int programCounterMostrado = -1;
+    private int registroIndiceMostrado = -1;
+    private int soundTimerMostrado = -1;
+    private int delayTimerMostrado = -1;
+    private int clockFrequencyMostrada = -1;
+    private Chip8_Estado ultimoEstado;
+
+    public Chip8_CPU getCpu() {
+        return cpu;
+    }
+
+    public void setCpu(Chip8_CPU cpu) {
+        this.cpu = cpu;
+        memoryPanel.setCpu(cpu);
+        disassemblyPanel.setCpu(cpu);
+        breakpointPanel.setDepurador(cpu.depurador);
+        opcodePanel.setContadores(cpu.contadores);
+        profilerPanel.setCpu(cpu);
+    }
+
     public JTextField getOpcodeValue() {
         return opcodeValue;
     }
@@ -972,181 +951,76 @@ public class StatusDialog extends javax.swing.JDialog {
         this.clockFrequencyValue.setText(clockFrequencyValue);
     }
 
-    public MemoryPanel getMemoryPanel1() {
-        return memoryPanel1;
-    }
-
-    public void setMemoryPanel1(MemoryPanel memoryPanel1) {
-        this.memoryPanel1 = memoryPanel1;
-    }
-
-    public MemoryPanel getMemoryPanel10() {
-        return memoryPanel10;
-    }
-
-    public void setMemoryPanel10(MemoryPanel memoryPanel10) {
-        this.memoryPanel10 = memoryPanel10;
-    }
-
-    public MemoryPanel getMemoryPanel11() {
-        return memoryPanel11;
-    }
-
-    public void setMemoryPanel11(MemoryPanel memoryPanel11) {
-        this.memoryPanel11 = memoryPanel11;
-    }
-
-    public MemoryPanel getMemoryPanel12() {
-        return memoryPanel12;
-    }
-
-    public void setMemoryPanel12(MemoryPanel memoryPanel12) {
-        this.memoryPanel12 = memoryPanel12;
-    }
-
-    public MemoryPanel getMemoryPanel13() {
-        return memoryPanel13;
-    }
-
-    public void setMemoryPanel13(MemoryPanel memoryPanel13) {
-        this.memoryPanel13 = memoryPanel13;
-    }
-
-    public MemoryPanel getMemoryPanel14() {
-        return memoryPanel14;
-    }
-
-    public void setMemoryPanel14(MemoryPanel memoryPanel14) {
-        this.memoryPanel14 = memoryPanel14;
-    }
-
-    public MemoryPanel getMemoryPanel15() {
-        return memoryPanel15;
-    }
-
-    public void setMemoryPanel15(MemoryPanel memoryPanel15) {
-        this.memoryPanel15 = memoryPanel15;
-    }
-
-    public MemoryPanel getMemoryPanel16() {
-        return memoryPanel16;
-    }
-
-    public void setMemoryPanel16(MemoryPanel memoryPanel16) {
-        this.memoryPanel16 = memoryPanel16;
-    }
-
-    public MemoryPanel getMemoryPanel2() {
-        return memoryPanel2;
-    }
-
-    public void setMemoryPanel2(MemoryPanel memoryPanel2) {
-        this.memoryPanel2 = memoryPanel2;
-    }
-
-    public MemoryPanel getMemoryPanel3() {
-        return memoryPanel3;
-    }
-
-    public void setMemoryPanel3(MemoryPanel memoryPanel3) {
-        this.memoryPanel3 = memoryPanel3;
-    }
-
-    public MemoryPanel getMemoryPanel4() {
-        return memoryPanel4;
-    }
-
-    public void setMemoryPanel4(MemoryPanel memoryPanel4) {
-        this.memoryPanel4 = memoryPanel4;
-    }
-
-    public MemoryPanel getMemoryPanel5() {
-        return memoryPanel5;
-    }
-
-    public void setMemoryPanel5(MemoryPanel memoryPanel5) {
-        this.memoryPanel5 = memoryPanel5;
-    }
+    /**
+     * Actualiza los visores de registros a partir de una instantanea del
+     * estado de la CPU. Si la instantanea es la misma de la actualizacion
+     * anterior no se hace nada; en caso contrario solo se modifican los
+     * visores cuyo valor cambio, con cadenas tomadas de la tabla de Chip8_Hex.
+     */
+    public void actualizarEstado(Chip8_Estado estado) {
+        // El analisis de la ROM cambia al cargar un programa, aunque la CPU no haya avanzado
+        if (cpu != null) {
+            disassemblyPanel.setAnalisis(cpu.getAnalisis());
+        }
+        breakpointPanel.actualizar();
+        memoryPanel.actualizar();
+        opcodePanel.actualizar();
+        profilerPanel.actualizar();
 
-    public MemoryPanel getMemoryPanel6() {
-        return memoryPanel6;
-    }
+        if (estado == ultimoEstado) {
+            return;
+        }
+        ultimoEstado = estado;
+        disassemblyPanel.actualizarControles();
 
-    public void setMemoryPanel6(MemoryPanel memoryPanel6) {
-        this.memoryPanel6 = memoryPanel6;
-    }
+        for (int i = 0; i < 16; i++) {
+            registrosMostrados[i] = actualizarByte(visoresV[i], registrosMostrados[i], estado.getRegistroV(i));
+        }
 
-    public MemoryPanel getMemoryPanel7() {
-        return memoryPanel7;
-    }
+        opcodeMostrado = actualizarPalabra(opcodeValue, opcodeMostrado, estado.getOpcode());
+        programCounterMostrado = actualizarPalabra(programCounterValue, programCounterMostrado, estado.getProgramCounter());
+        registroIndiceMostrado = actualizarPalabra(indexRegisterValue, registroIndiceMostrado, estado.getRegistroIndice());
+        soundTimerMostrado = actualizarByte(soundTimerValue, soundTimerMostrado, estado.getSoundTimer());
+        delayTimerMostrado = actualizarByte(delayTimerValue, delayTimerMostrado, estado.getDelayTimer());
 
-    public void setMemoryPanel7(MemoryPanel memoryPanel7) {
-        this.memoryPanel7 = memoryPanel7;
-    }
+        if (estado.getClockFrequency() != clockFrequencyMostrada) {
+            clockFrequencyMostrada = estado.getClockFrequency();
+            clockFrequencyValue.setText(Integer.toString(clockFrequencyMostrada));
+        }
 
-    public MemoryPanel getMemoryPanel8() {
-        return memoryPanel8;
+        setPunteros(estado.getProgramCounter(), estado.getRegistroIndice());
     }
 
-    public void setMemoryPanel8(MemoryPanel memoryPanel8) {
-        this.memoryPanel8 = memoryPanel8;
+    private static int actualizarByte(JTextField visor, int mostrado, int valor) {
+        if (valor != mostrado) {
+            visor.setText(Chip8_Hex.byteHex(valor));
+        }
+        return valor;
     }
 
-    public MemoryPanel getMemoryPanel9() {
-        return memoryPanel9;
+    private static int actualizarPalabra(JTextField visor, int mostrado, int valor) {
+        if (valor != mostrado) {
+            visor.setText(Chip8_Hex.palabraHex(valor));
+        }
+        return valor;
     }
 
-    public void setMemoryPanel9(MemoryPanel memoryPanel9) {
-        this.memoryPanel9 = memoryPanel9;
-    }
-    
     public void setMemoryValues(final int[] memoria) {
-        
-        long t1 = System.nanoTime();
-        
-        for (int i = 0; i < nOfPanels; i++) {
-            //long t3 = System.nanoTime();
-            listMemoryPanels.get(i).setMemoryValues(memoria, i);
-            //long t4 = System.nanoTime();
-            //System.out.println("demora setMemoryValues para MemoryPanel" + i + ": " + (t4 - t3));
-        }
-        
-        long t2 = System.nanoTime();
-        
-        System.out.println("demora setMemoryValues: " + (t2 - t1));
+        // El visor dibuja directamente el arreglo de memoria; solo se repinta el area visible
+        memoryPanel.setMemoria(memoria);
     }
 
-    // Obtener todos los componentes de tipo MemoryPanel del contenedor
-    private List<MemoryPanel> getAllMemoryPanelComponents(final Container c) {
-        long t1 = System.nanoTime();
-        Component[] comps = c.getComponents();
-        
-        List<MemoryPanel> compList = new ArrayList<>();
-        
-        for (Component comp : comps) {
-            
-            if (comp instanceof MemoryPanel) {
-                compList.add((MemoryPanel) comp);
-            }
-            
-        }
-        
-        long t2 = System.nanoTime();
-        
-        //compList.sort(new SortMemoryPanelByName());
-        
-        System.out.println("demora getAllMemoryPanelComponents: " + (t2 - t1));
-
-        return compList;
+    // Repintar solo las lineas de memoria modificadas desde la ultima actualizacion
+    public void actualizarLineasMemoria(long[] lineas) {
+        memoryPanel.getMemoryView().repintarLineas(lineas);
+        disassemblyPanel.invalidarLineas(lineas);
     }
 
-    class SortMemoryPanelByName implements Comparator<MemoryPanel> {
-
-        @Override
-        public int compare(MemoryPanel m1, MemoryPanel m2) {
-            //return (o1.getName().compareTo(o2.getName()));
-            return m1.getName().compareTo(m2.getName());
-        }
+    // Actualizar las direcciones resaltadas del program counter y del registro indice
+    public void setPunteros(int programCounter, int registroIndice) {
+        memoryPanel.setProgramCounter(programCounter);
+        memoryPanel.setRegistroIndice(registroIndice);
+        disassemblyPanel.setProgramCounter(programCounter);
     }
 
 }
@@ -0,0 +1,188 @@
+/*
+ * Copyright (C) 2022 Diego Andrés Gutiérrez Berón
+ * 
+ * Some parts of this software were made as adaptations of ideas other than mine.
+ * In any case, due credit or references are given for any ideas or code that 
+ * served as an implementation base for this software.
+ *
+ * THIS PROGRAM IS LICENSED UNDER THE TERMS OF THE GNU GENERAL PUBLIC LICENSE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package emulator;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Resultado del analisis estatico de una ROM (ver Chip8_Analizador).
+ *
+ * Clasifica cada direccion de memoria como codigo, datos o desconocida, y
+ * expone los bloques basicos del grafo de control de flujo, las subrutinas,
+ * los saltos indirectos (BNNN) y las direcciones de codigo que el programa
+ * probablemente modifica. Es inmutable: se comparte entre el interprete, el
+ * desensamblador y los perfiladores sin volver a analizar la ROM.
+ */
+public final class Chip8_Analisis {
+
+    /* Clasificacion de cada direccion de memoria */
+    public enum Tipo {
+        DESCONOCIDO,    // no alcanzada por el recorrido ni referenciada como datos
+        CODIGO,         // forma parte de una instruccion alcanzable desde 0x200
+        DATOS           // referenciada por I (sprites, tablas, BCD) y no alcanzada como codigo
+    }
+
+    /* Bloque basico: secuencia de instrucciones con una unica entrada y una unica salida */
+    public static final class Bloque {
+
+        private final int inicio;           // direccion de la primera instruccion
+        private final int fin;              // direccion siguiente a la ultima instruccion
+        private final int[] sucesores;      // direcciones de los bloques siguientes conocidos
+        private final int llamada;          // destino de la llamada (2NNN) que cierra el bloque, o -1
+        private final boolean indirecto;    // el bloque termina en un salto indirecto (BNNN)
+
+        Bloque(int inicio, int fin, int[] sucesores, int llamada, boolean indirecto) {
+            this.inicio = inicio;
+            this.fin = fin;
+            this.sucesores = sucesores;
+            this.llamada = llamada;
+            this.indirecto = indirecto;
+        }
+
+        public int getInicio() {
+            return inicio;
+        }
+
+        public int getFin() {
+            return fin;
+        }
+
+        public int getSucesores() {
+            return sucesores.length;
+        }
+
+        public int getSucesor(int indice) {
+            return sucesores[indice];
+        }
+
+        public int getLlamada() {
+            return llamada;
+        }
+
+        public boolean isIndirecto() {
+            return indirecto;
+        }
+    }
+
+    /* Subrutina: direccion de entrada (destino de 2NNN) y extension de sus bloques */
+    public static final class Subrutina {
+
+        private final int entrada;
+        private final int inicio;   // menor direccion de sus bloques
+        private final int fin;      // direccion siguiente a su ultimo bloque
+
+        Subrutina(int entrada, int inicio, int fin) {
+            this.entrada = entrada;
+            this.inicio = inicio;
+            this.fin = fin;
+        }
+
+        public int getEntrada() {
+            return entrada;
+        }
+
+        public int getInicio() {
+            return inicio;
+        }
+
+        public int getFin() {
+            return fin;
+        }
+    }
+
+    private final String hash;
+    private final byte[] tipos;                 // Tipo.ordinal() de cada direccion
+    private final boolean[] automodificable;    // direcciones de codigo escritas por FX33/FX55
+    private final List<Bloque> bloques;         // ordenados por direccion de inicio
+    private final List<Subrutina> subrutinas;   // ordenadas por direccion de entrada
+    private final int[] saltosIndirectos;       // direcciones de las instrucciones BNNN alcanzables
+
+    Chip8_Analisis(String hash, byte[] tipos, boolean[] automodificable, List<Bloque> bloques,
+            List<Subrutina> subrutinas, int[] saltosIndirectos) {
+        this.hash = hash;
+        this.tipos = tipos;
+        this.automodificable = automodificable;
+        this.bloques = Collections.unmodifiableList(bloques);
+        this.subrutinas = Collections.unmodifiableList(subrutinas);
+        this.saltosIndirectos = saltosIndirectos;
+    }
+
+    /* Hash SHA-256 (hexadecimal) de la ROM analizada */
+    public String getHash() {
+        return hash;
+    }
+
+    public Tipo getTipo(int direccion) {
+        return Tipo.values()[tipos[direccion]];
+    }
+
+    public boolean esCodigo(int direccion) {
+        return tipos[direccion] == Tipo.CODIGO.ordinal();
+    }
+
+    public boolean esDatos(int direccion) {
+        return tipos[direccion] == Tipo.DATOS.ordinal();
+    }
+
+    /* Indica si la direccion es codigo que el programa probablemente sobrescribe */
+    public boolean esAutomodificable(int direccion) {
+        return automodificable[direccion];
+    }
+
+    public List<Bloque> getBloques() {
+        return bloques;
+    }
+
+    /* Devuelve el bloque basico que contiene la direccion, o null si no es codigo */
+    public Bloque getBloque(int direccion) {
+        int desde = 0;
+        int hasta = bloques.size() - 1;
+
+        while (desde <= hasta) {
+            int medio = (desde + hasta) >>> 1;
+            Bloque bloque = bloques.get(medio);
+            if (direccion < bloque.inicio) {
+                hasta = medio - 1;
+            } else if (direccion >= bloque.fin) {
+                desde = medio + 1;
+            } else {
+                return bloque;
+            }
+        }
+        return null;
+    }
+
+    public List<Subrutina> getSubrutinas() {
+        return subrutinas;
+    }
+
+    public int getSaltosIndirectos() {
+        return saltosIndirectos.length;
+    }
+
+    public int getSaltoIndirecto(int indice) {
+        return saltosIndirectos[indice];
+    }
+}
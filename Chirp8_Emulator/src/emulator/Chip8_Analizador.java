@@ -0,0 +1,375 @@
+/*
+ * Copyright (C) 2022 Diego Andrés Gutiérrez Berón
+ * 
+ * Some parts of this software were made as adaptations of ideas other than mine.
+ * In any case, due credit or references are given for any ideas or code that 
+ * served as an implementation base for this software.
+ *
+ * THIS PROGRAM IS LICENSED UNDER THE TERMS OF THE GNU GENERAL PUBLIC LICENSE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package emulator;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Analizador estatico del control de flujo de una ROM CHIP-8.
+ *
+ * Recorre el programa desde 0x200 siguiendo saltos (1NNN), llamadas (2NNN)
+ * y los dos caminos de cada instruccion de salto condicional (3XNN, 4XNN,
+ * 5XY0, 9XY0, EX9E, EXA1). Con las instrucciones alcanzadas arma los bloques
+ * basicos y las subrutinas. Dentro de cada bloque sigue el valor de I cuando
+ * es constante (ANNN) para separar los datos (sprites de DXYN, tablas de
+ * FX65, BCD de FX33) del codigo, y marca como automodificable el codigo que
+ * FX33 o FX55 sobrescriben. Los saltos BNNN no se pueden seguir de forma
+ * estatica y se informan como indirectos.
+ *
+ * Los resultados se guardan en una cache por hash de ROM, de modo que el
+ * interprete, el desensamblador y los perfiladores comparten el mismo
+ * analisis sin repetirlo.
+ */
+public final class Chip8_Analizador {
+
+    private static final int INICIO = 0x200;
+    private static final int TAMANO_MEMORIA = 4096;
+    private static final int MAXIMO_CACHE = 16;
+
+    // Cache de analisis por hash de ROM (las ROMs usadas menos recientemente se descartan primero)
+    private static final Map<String, Chip8_Analisis> cache = new LinkedHashMap<String, Chip8_Analisis>(MAXIMO_CACHE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Chip8_Analisis> eldest) {
+            return size() > MAXIMO_CACHE;
+        }
+    };
+
+    private final int[] memoria = new int[TAMANO_MEMORIA];
+    private final boolean[] instruccion = new boolean[TAMANO_MEMORIA];   // inicio de una instruccion alcanzable
+    private final boolean[] lider = new boolean[TAMANO_MEMORIA];         // inicio obligado de un bloque basico
+    private final byte[] tipos = new byte[TAMANO_MEMORIA];
+    private final boolean[] automodificable = new boolean[TAMANO_MEMORIA];
+
+    private final TreeSet<Integer> entradasSubrutinas = new TreeSet<>();
+    private final List<Integer> saltosIndirectos = new ArrayList<>();
+    private final ArrayDeque<Integer> pendientes = new ArrayDeque<>();
+
+    private Chip8_Analizador(byte[] rom) {
+        int longitud = Math.min(rom.length, TAMANO_MEMORIA - INICIO);
+        for (int i = 0; i < longitud; i++) {
+            memoria[INICIO + i] = rom[i] & 0xFF;
+        }
+    }
+
+    /**
+     * Analiza la ROM indicada (cargada a partir de 0x200). Si ya se analizo
+     * una ROM con el mismo contenido se devuelve el resultado guardado.
+     */
+    public static Chip8_Analisis analizar(byte[] rom) {
+        String hash = calcularHash(rom);
+
+        synchronized (cache) {
+            Chip8_Analisis analisis = cache.get(hash);
+            if (analisis != null) {
+                return analisis;
+            }
+        }
+
+        Chip8_Analisis analisis = new Chip8_Analizador(rom).ejecutar(hash);
+
+        synchronized (cache) {
+            cache.put(hash, analisis);
+        }
+
+        return analisis;
+    }
+
+    private static String calcularHash(byte[] rom) {
+        try {
+            byte[] resumen = MessageDigest.getInstance("SHA-256").digest(rom);
+            StringBuilder hash = new StringBuilder(resumen.length * 2);
+            for (byte b : resumen) {
+                hash.append(Chip8_Hex.byteHex(b));
+            }
+            return hash.toString();
+        } catch (NoSuchAlgorithmException ex) {
+            // Toda plataforma Java incluye SHA-256
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private Chip8_Analisis ejecutar(String hash) {
+        recorrer();
+
+        for (int direccion = 0; direccion < TAMANO_MEMORIA; direccion++) {
+            if (instruccion[direccion]) {
+                tipos[direccion] = (byte) Chip8_Analisis.Tipo.CODIGO.ordinal();
+                tipos[direccion + 1] = (byte) Chip8_Analisis.Tipo.CODIGO.ordinal();
+            }
+        }
+
+        List<Chip8_Analisis.Bloque> bloques = armarBloques();
+        for (Chip8_Analisis.Bloque bloque : bloques) {
+            analizarDatos(bloque);
+        }
+
+        int[] indirectos = new int[saltosIndirectos.size()];
+        for (int i = 0; i < indirectos.length; i++) {
+            indirectos[i] = saltosIndirectos.get(i);
+        }
+
+        return new Chip8_Analisis(hash, tipos, automodificable, bloques, armarSubrutinas(bloques), indirectos);
+    }
+
+    /* Recorre todos los caminos alcanzables desde INICIO marcando el inicio de cada instruccion */
+    private void recorrer() {
+        agregar(INICIO);
+
+        while (!pendientes.isEmpty()) {
+            int pc = pendientes.pop();
+
+            while (pc < TAMANO_MEMORIA - 1 && !instruccion[pc]) {
+                int opcode = leer(pc);
+
+                if (!esInstruccion(opcode)) {
+                    break;  // datos o fin del programa: el camino termina aqui
+                }
+
+                instruccion[pc] = true;
+
+                if (esSalto(opcode)) {
+                    agregar(opcode & 0x0FFF);
+                    break;
+                } else if (esLlamada(opcode)) {
+                    entradasSubrutinas.add(opcode & 0x0FFF);
+                    agregar(opcode & 0x0FFF);
+                    agregar(pc + 2);
+                    break;
+                } else if (esCondicional(opcode)) {
+                    agregar(pc + 2);
+                    agregar(pc + 4);
+                    break;
+                } else if (esIndirecto(opcode)) {
+                    saltosIndirectos.add(pc);
+                    break;
+                } else if (opcode == 0x00EE) {
+                    break;
+                }
+
+                pc += 2;
+            }
+        }
+    }
+
+    private void agregar(int direccion) {
+        if (direccion < TAMANO_MEMORIA - 1) {
+            lider[direccion] = true;
+            pendientes.push(direccion);
+        }
+    }
+
+    /* Agrupa las instrucciones alcanzadas en bloques basicos */
+    private List<Chip8_Analisis.Bloque> armarBloques() {
+        List<Chip8_Analisis.Bloque> bloques = new ArrayList<>();
+        int inicio = -1;
+        int siguiente = -1;
+
+        for (int direccion = 0; direccion < TAMANO_MEMORIA; direccion++) {
+            if (!instruccion[direccion]) {
+                continue;
+            }
+
+            // El bloque abierto termina sin salto: continua en esta direccion o el camino termino antes
+            if (inicio >= 0 && (direccion != siguiente || lider[direccion])) {
+                bloques.add(new Chip8_Analisis.Bloque(inicio, siguiente, sucesores(siguiente), -1, false));
+                inicio = -1;
+            }
+
+            if (inicio < 0) {
+                inicio = direccion;
+            }
+
+            int opcode = leer(direccion);
+            siguiente = direccion + 2;
+
+            if (esSalto(opcode)) {
+                bloques.add(new Chip8_Analisis.Bloque(inicio, siguiente, sucesores(opcode & 0x0FFF), -1, false));
+                inicio = -1;
+            } else if (esLlamada(opcode)) {
+                bloques.add(new Chip8_Analisis.Bloque(inicio, siguiente, sucesores(siguiente), opcode & 0x0FFF, false));
+                inicio = -1;
+            } else if (esCondicional(opcode)) {
+                bloques.add(new Chip8_Analisis.Bloque(inicio, siguiente, sucesores(siguiente, siguiente + 2), -1, false));
+                inicio = -1;
+            } else if (esIndirecto(opcode)) {
+                bloques.add(new Chip8_Analisis.Bloque(inicio, siguiente, new int[0], -1, true));
+                inicio = -1;
+            } else if (opcode == 0x00EE) {
+                bloques.add(new Chip8_Analisis.Bloque(inicio, siguiente, new int[0], -1, false));
+                inicio = -1;
+            }
+        }
+
+        if (inicio >= 0) {
+            bloques.add(new Chip8_Analisis.Bloque(inicio, siguiente, sucesores(siguiente), -1, false));
+        }
+
+        return bloques;
+    }
+
+    /* Sucesores alcanzados por el recorrido (se descartan las direcciones que no son codigo) */
+    private int[] sucesores(int... direcciones) {
+        int cantidad = 0;
+        int[] validos = new int[direcciones.length];
+
+        for (int direccion : direcciones) {
+            if (direccion < TAMANO_MEMORIA && instruccion[direccion]) {
+                validos[cantidad++] = direccion;
+            }
+        }
+
+        return cantidad == validos.length ? validos : Arrays.copyOf(validos, cantidad);
+    }
+
+    /*
+     * Sigue el valor de I dentro del bloque mientras sea constante y marca
+     * las zonas que el programa lee como datos o escribe.
+     */
+    private void analizarDatos(Chip8_Analisis.Bloque bloque) {
+        int indice = -1;    // valor de I conocido, o -1
+
+        for (int direccion = bloque.getInicio(); direccion < bloque.getFin(); direccion += 2) {
+            int opcode = leer(direccion);
+            int x = (opcode & 0x0F00) >> 8;
+
+            if ((opcode & 0xF000) == 0xA000) {
+                indice = opcode & 0x0FFF;
+            } else if ((opcode & 0xF000) == 0xD000) {
+                int alto = opcode & 0x000F;
+                marcarDatos(indice, alto == 0 ? 32 : alto, false);
+            } else if ((opcode & 0xF0FF) == 0xF065) {
+                marcarDatos(indice, x + 1, false);
+            } else if ((opcode & 0xF0FF) == 0xF055) {
+                marcarDatos(indice, x + 1, true);
+            } else if ((opcode & 0xF0FF) == 0xF033) {
+                marcarDatos(indice, 3, true);
+            } else if ((opcode & 0xF0FF) == 0xF01E || (opcode & 0xF0FF) == 0xF029) {
+                indice = -1;
+            }
+        }
+    }
+
+    private void marcarDatos(int desde, int cantidad, boolean escritura) {
+        if (desde < 0) {
+            return;
+        }
+
+        for (int direccion = desde; direccion < Math.min(desde + cantidad, TAMANO_MEMORIA); direccion++) {
+            if (tipos[direccion] == Chip8_Analisis.Tipo.CODIGO.ordinal()) {
+                automodificable[direccion] |= escritura;
+            } else {
+                tipos[direccion] = (byte) Chip8_Analisis.Tipo.DATOS.ordinal();
+            }
+        }
+    }
+
+    /* Cada subrutina abarca los bloques alcanzables desde su entrada sin seguir otras llamadas */
+    private List<Chip8_Analisis.Subrutina> armarSubrutinas(List<Chip8_Analisis.Bloque> bloques) {
+        Chip8_Analisis.Bloque[] porInicio = new Chip8_Analisis.Bloque[TAMANO_MEMORIA];
+        for (Chip8_Analisis.Bloque bloque : bloques) {
+            porInicio[bloque.getInicio()] = bloque;
+        }
+
+        List<Chip8_Analisis.Subrutina> subrutinas = new ArrayList<>();
+        boolean[] visitado = new boolean[TAMANO_MEMORIA];
+
+        for (int entrada : entradasSubrutinas) {
+            if (porInicio[entrada] == null) {
+                continue;
+            }
+
+            Arrays.fill(visitado, false);
+            int inicio = entrada;
+            int fin = entrada;
+
+            pendientes.clear();
+            pendientes.push(entrada);
+            visitado[entrada] = true;
+
+            while (!pendientes.isEmpty()) {
+                Chip8_Analisis.Bloque bloque = porInicio[pendientes.pop()];
+                inicio = Math.min(inicio, bloque.getInicio());
+                fin = Math.max(fin, bloque.getFin());
+
+                for (int i = 0; i < bloque.getSucesores(); i++) {
+                    int sucesor = bloque.getSucesor(i);
+                    if (!visitado[sucesor] && porInicio[sucesor] != null) {
+                        visitado[sucesor] = true;
+                        pendientes.push(sucesor);
+                    }
+                }
+            }
+
+            subrutinas.add(new Chip8_Analisis.Subrutina(entrada, inicio, fin));
+        }
+
+        return subrutinas;
+    }
+
+    private int leer(int direccion) {
+        return (memoria[direccion] << 8) | memoria[direccion + 1];
+    }
+
+    /* Instrucciones que el recorrido acepta como codigo (SYS NNN y los opcodes desconocidos terminan el camino) */
+    private static boolean esInstruccion(int opcode) {
+        if ((opcode & 0xF000) == 0x0000) {
+            return opcode == 0x00E0 || opcode == 0x00EE;
+        }
+        return !Chip8_Desensamblador.mnemonico(opcode).startsWith("DW");
+    }
+
+    private static boolean esSalto(int opcode) {
+        return (opcode & 0xF000) == 0x1000;
+    }
+
+    private static boolean esLlamada(int opcode) {
+        return (opcode & 0xF000) == 0x2000;
+    }
+
+    private static boolean esIndirecto(int opcode) {
+        return (opcode & 0xF000) == 0xB000;
+    }
+
+    private static boolean esCondicional(int opcode) {
+        switch (opcode & 0xF000) {
+            case 0x3000:
+            case 0x4000:
+            case 0x5000:
+            case 0x9000:
+                return true;
+            case 0xE000:
+                return (opcode & 0x00FF) == 0x9E || (opcode & 0x00FF) == 0xA1;
+            default:
+                return false;
+        }
+    }
+}
@@ -22,13 +22,19 @@
  */
 package emulator;
 
-import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javax.sound.sampled.AudioFormat;
@@ -73,6 +79,14 @@ public class Chip8_CPU extends Thread {
     public int clockFrequency = 1760000;    // Frecuencia de la CPU en Hz (1.76 MHz en el COSMAC VIP)
     private int clockPulses = 0;
 
+    /*
+     * Reloj de frames: la pantalla se renderiza una unica vez por frame de
+     * 60 Hz (equivalente al "vertical blank" del hardware original), sin
+     * importar cuantos sprites se dibujen durante el frame.
+     */
+    private static final long NANOS_POR_FRAME = 1000000000L / 60;
+    private long inicioFrame;               // instante (System.nanoTime) de inicio del frame actual
+
     /**
      * Sub-sistema de Video (Gráficos).
      *
@@ -100,11 +114,30 @@ public class Chip8_CPU extends Thread {
     private static final int HEIGHT = 32;
     private int GFX[][] = new int[WIDTH][HEIGHT];   // area de video (pantalla) de 64x32 pixeles.
 
-    public BufferedImage pantalla;
     public Chip8_Screen screen = new Chip8_Screen(WIDTH, HEIGHT);
 
-    private boolean drawFlag;                       // bandera de estado de dibujado de pantalla: si es true, significa que debe redibujarse la pantalla.
-    private boolean memoryStatusChanged;            // bandera de cambio de estado del contenido de la memoria
+    private long filasPendientes;                   // filas de pantalla modificadas durante el frame actual (1 bit por fila), pendientes de renderizar.
+
+    /*
+     * Lineas de memoria modificadas (1 bit por cada linea de 16 bytes, 256 lineas).
+     * La CPU marca las lineas que escribe (FX33, FX55, carga de ROM) y los
+     * visores del depurador las consumen de forma atomica con
+     * tomarLineasModificadas, refrescando solo lo que cambio desde su ultima consulta.
+     */
+    public static final int BYTES_POR_LINEA = 16;
+    public static final int PALABRAS_LINEAS = 4096 / BYTES_POR_LINEA / 64;
+    private final AtomicLongArray lineasModificadas = new AtomicLongArray(PALABRAS_LINEAS);
+
+    /*
+     * Instantanea inmutable del estado de la CPU para los observadores. Se
+     * publica en cada limite de frame y tras cada instruccion en modo paso a
+     * paso; los lectores nunca acceden a los registros vivos.
+     */
+    private final AtomicReference<Chip8_Estado> estado = new AtomicReference<>();
+    private long versionEstado;                     // numero de la ultima instantanea publicada
+    private long instruccionesEjecutadas;           // instrucciones ejecutadas desde la inicializacion
+
+    private volatile Chip8_Analisis analisis;       // analisis estatico de la ROM cargada (null si no hay ROM)
 
     /**
      * Temporizadores (Timers)
@@ -149,8 +182,96 @@ public class Chip8_CPU extends Thread {
 
     private Random rand;                // Generador de numeros pseudoaleatorios
 
-    private boolean singleStep = false;    // Variable de control de modo paso a paso (single step)
-    private boolean singleStepKey = false;    // Bandera de tecla de paso a paso presionada
+    private volatile boolean singleStep = false;    // Variable de control de modo paso a paso (single step)
+    private volatile boolean singleStepKey = false;    // Bandera de tecla de paso a paso presionada
+
+    /*
+     * Lo levantan el depurador, los contadores, el perfilador, el mapa de
+     * calor y el diario de deshacer al cambiar de estado, y setSingleStep y
+     * las ordenes al cambiar de modo; el bucle principal lo consulta antes de
+     * cada instruccion y recalcula entonces el modo y el ciclo a usar.
+     */
+    private final AtomicBoolean cambioInstrumentacion = new AtomicBoolean();
+
+    /*
+     * Breakpoints y watchpoints. Mientras no haya ninguno definido se ejecuta
+     * el ciclo normal; al definir uno, el bucle principal pasa al ciclo
+     * instrumentado en la siguiente instruccion.
+     */
+    public final Chip8_Depurador depurador = new Chip8_Depurador(cambioInstrumentacion);
+    private long instruccionDetenida = -1;  // valor de instruccionesEjecutadas al detenerse en un breakpoint
+
+    /* Contadores de ejecucion e histogramas de tiempo por clase de opcode */
+    public final Chip8_Contadores contadores = new Chip8_Contadores(cambioInstrumentacion);
+
+    /* Perfilador de direcciones y pilas de llamadas */
+    public final Chip8_Perfilador perfilador = new Chip8_Perfilador(cambioInstrumentacion);
+
+    /* Metricas de funcionamiento, publicadas por JMX y por el servidor de metricas */
+    public final Chip8_Metricas metricas = new Chip8_Metricas(this);
+
+    /* Mapa de calor de accesos a memoria */
+    public final Chip8_MapaCalor mapaCalor = new Chip8_MapaCalor(cambioInstrumentacion);
+
+    /*
+     * Traza de ejecucion. La solicitada desde otro hilo se adopta (y la
+     * anterior se cierra) en el hilo de la CPU al terminar el frame.
+     */
+    private Chip8_Traza traza;
+    private volatile Chip8_Traza trazaSolicitada;
+    private volatile boolean cambioTraza;
+
+    /*
+     * Copias locales del hilo de la CPU: si el bucle principal debe usar el
+     * ciclo instrumentado, si esta en modo paso a paso y si el diario de
+     * deshacer esta activo. Se recalculan en cada frame, al procesar ordenes
+     * y cuando se levanta cambioInstrumentacion, de modo que el ciclo normal
+     * solo lee un campo volatil (ese indicador) por instruccion.
+     */
+    private boolean instrumentado;
+    private boolean pasoAPaso;
+    private boolean diarioActivo;
+
+    /* Diario de deshacer para retroceder la ejecucion en modo paso a paso */
+    public final Chip8_Historial historial = new Chip8_Historial(cambioInstrumentacion);
+    private final AtomicInteger retrocesosPendientes = new AtomicInteger();
+
+    /* Orden de ejecucion del depurador, pendiente de procesar por el hilo de la CPU */
+    private enum TipoOrden {
+        PASOS, SALTAR_SUBRUTINA, SALIR_SUBRUTINA, EJECUTAR_HASTA, CONTINUAR, PAUSA
+    }
+
+    private static final class Orden {
+
+        final long numero;
+        final TipoOrden tipo;
+        final int valor;
+
+        Orden(long numero, TipoOrden tipo, int valor) {
+            this.numero = numero;
+            this.tipo = tipo;
+            this.valor = valor;
+        }
+    }
+
+    private final AtomicReference<Orden> ordenPendiente = new AtomicReference<>();
+    private final AtomicLong numeroOrden = new AtomicLong();
+    private long ordenTomada;                   // numero de la ultima orden tomada por el hilo de la CPU
+    private volatile long ordenCompletada;      // numero de la ultima orden completada (la CPU volvio a la pausa)
+
+    /*
+     * Lo mantiene el hilo de la CPU salvo mientras esta estacionado en pausa;
+     * otro hilo que lo toma puede leer y modificar el estado sin competir con
+     * la ejecucion, ya que la CPU no sale de la pausa hasta que lo libera.
+     */
+    private final ReentrantLock cerrojoPausa = new ReentrantLock();
+
+    // Objetivo de la orden en curso; solo los usa el hilo de la CPU
+    private boolean objetivoActivo;
+    private long instruccionObjetivo = Long.MAX_VALUE;  // detenerse al completar esta cantidad de instrucciones
+    private int pcObjetivo = -1;                        // detenerse al llegar a esta direccion...
+    private int profundidadObjetivo;                    // ...con la pila a esta profundidad o menos
+    private int profundidadSalida = -1;                 // detenerse cuando la pila quede por debajo de esta profundidad
 
     /* fuentes del sistema */
     private int[] chip8_fontset
@@ -299,20 +420,6 @@ public class Chip8_CPU extends Thread {
         }
     }
 
-    /* funcion para realizar un volcado de memoria (memory dump) */
-    String volcadoMemoria() {
-
-        String volcado = "";
-
-        for (int j = 1; j <= 4096; j++) {
-            volcado += (String.format("%02X", ((memoria[j - 1])) /*& 0xFF*/) + " ");
-            if ((j % 16) == 0) {
-                volcado += "\n";
-            }
-        }
-        return volcado;
-    }
-
     /* funcion para detectar si se presiono una tecla */
     void detectarTecla() {
 
@@ -364,8 +471,9 @@ public class Chip8_CPU extends Thread {
         opcode = 0x0000;            // inicializar el registro de codigo de instruccion en uso actualmente
 
         limpiarPantalla();          // inicializar la pantalla
-        drawFlag = false;           // inicializar bandera de estado de dibujado de pantalla
-        memoryStatusChanged = true; // inicializar bandera de cambio de estado de memoria
+        filasPendientes = screen.todasLasFilas();   // renderizar la pantalla completa en el primer frame
+        inicioFrame = System.nanoTime();            // inicializar el reloj de frames
+        marcarMemoriaModificada(0, 4095);   // la memoria completa fue reinicializada
 
         // inicializar los temporizadores
         delay_Timer = 0;
@@ -375,6 +483,12 @@ public class Chip8_CPU extends Thread {
         rand = new Random();
 
         clockPulses = 0;
+        instruccionesEjecutadas = 0;
+        analisis = null;
+        historial.limpiar();
+
+        // publicar el estado inicial para los observadores
+        publicarEstado();
     }
 
     /* funcion para emular un ciclo de ejecucion de instruccion */
@@ -384,16 +498,62 @@ public class Chip8_CPU extends Thread {
         // Permite calcular el avance del reloj del sistema (cpu ticks value).
         long t1 = System.nanoTime();
 
-        // Obtener Opcode (Fetch Opcode)
-        opcode = fetch(programCounter);
-
-        // Decodificar y ejecutar Opcode obtenido desde memoria
-        decodeAndExecute(opcode);
+        ejecutarInstruccion();
 
         // Variable para medicion de tiempos
         // Permite calcular el avance del reloj del sistema (cpu ticks value) luego de obtener, decodificar y ejecutar una instruccion.
         long t2 = System.nanoTime();
 
+        avanzarReloj(t1, t2);
+    }
+
+    /* Obtiene, decodifica y ejecuta la instruccion apuntada por el PC */
+    private void ejecutarInstruccion() {
+
+        // Obtener Opcode (Fetch Opcode)
+        opcode = fetch(programCounter);
+
+        // Decodificar y ejecutar Opcode obtenido desde memoria. Si el diario de deshacer esta activo,
+        // antes se guarda lo que la instruccion va a sobrescribir, para poder deshacerla.
+        if (diarioActivo) {
+            ejecutarRegistrando(opcode);
+        } else {
+            decodeAndExecute(opcode);
+        }
+        instruccionesEjecutadas++;
+    }
+
+    /* Ejecuta la instruccion registrandola en los contadores por clase de opcode */
+    private void ejecutarInstruccionContada() {
+        int clase = Chip8_Contadores.clase(fetch(programCounter));
+
+        if (contadores.debeMuestrear()) {
+            long inicio = System.nanoTime();
+            ejecutarInstruccion();
+            contadores.contar(clase, System.nanoTime() - inicio);
+        } else {
+            ejecutarInstruccion();
+            contadores.contar(clase);
+        }
+    }
+
+    /*
+     * Completa el ciclo de la instruccion ejecutada entre t1 y t2: espera el
+     * pulso de reloj, actualiza los temporizadores y cierra el frame si
+     * corresponde.
+     */
+    private void avanzarReloj(long t1, long t2) throws LineUnavailableException, InterruptedException {
+        avanzarTemporizadores(t1, t2);
+
+        // Verificar si se alcanzo el limite del frame actual (60 Hz)
+        if (t2 - inicioFrame >= NANOS_POR_FRAME) {
+            finDeFrame(t2);
+        }
+    }
+
+    /* Espera el pulso de reloj de la instruccion ejecutada entre t1 y t2 y actualiza los temporizadores a 60 Hz */
+    private void avanzarTemporizadores(long t1, long t2) throws LineUnavailableException, InterruptedException {
+
         // Emulacion simple de pulso de reloj del CPU (1.76 MHz = 568.1818 nanosegundos)
         TimeUnit.NANOSECONDS.sleep(1000000000 / clockFrequency);
 
@@ -415,7 +575,7 @@ public class Chip8_CPU extends Thread {
             if ((sound_Timer) > 0) {
                 if ((sound_Timer) == 1) {
                     // Generar un tono de 1000 Hz y 50 ms de duracion.
-                    Sound.tone(1000, 50);
+                    metricas.tono(Sound.tone(1000, 50));
                 }
 
                 sound_Timer--;
@@ -424,10 +584,410 @@ public class Chip8_CPU extends Thread {
                 sound_Timer &= 0xFF;
             }
 
+            Chip8_Eventos.tickTemporizadores(delay_Timer, sound_Timer);
+            metricas.tickTemporizadores();
             clockPulses = 0;
         }
-        
-        memoryStatusChanged = false;
+    }
+
+    /*
+     * funcion para emular un ciclo de ejecucion de instruccion verificando
+     * breakpoints, watchpoints y el objetivo de la orden en curso (paso sobre
+     * subrutina, ejecutar hasta, etc.) y registrando los contadores por
+     * opcode, el perfil, el mapa de calor y la traza. Solo se usa mientras
+     * alguno de ellos este activo.
+     */
+    void chip8EmularCicloInstrumentado() throws LineUnavailableException, InterruptedException {
+
+        int siguienteOpcode = fetch(programCounter);
+
+        // Los breakpoints y el objetivo de la orden en curso detienen la ejecucion antes de ejecutar la
+        // instruccion. Al reanudar no se vuelve a detener en la misma instruccion.
+        if (instruccionesEjecutadas != instruccionDetenida
+                && ((objetivoActivo && objetivoAlcanzado())
+                || (depurador.isActivo() && depurador.verificarBreakpoint(this, programCounter, siguienteOpcode)))) {
+            instruccionDetenida = instruccionesEjecutadas;
+            detenerEjecucion();
+            return;
+        }
+
+        // Los watchpoints se evaluan antes de ejecutar (I puede cambiar) y detienen la ejecucion despues
+        boolean acceso = depurador.isActivo() && depurador.verificarAccesos(programCounter, siguienteOpcode, registroIndice);
+
+        int pcAnterior = programCounter;
+        int profundidadAnterior = stackPointer;
+
+        if (mapaCalor.isActivo()) {
+            mapaCalor.registrar(programCounter, siguienteOpcode, registroIndice);
+        }
+        if (traza != null) {
+            traza.iniciarInstruccion(this, instruccionesEjecutadas, programCounter, siguienteOpcode);
+        }
+
+        long t1 = System.nanoTime();
+        if (contadores.isActivo()) {
+            ejecutarInstruccionContada();
+        } else {
+            ejecutarInstruccion();
+        }
+        if (perfilador.isActivo()) {
+            perfilador.registrar(this, pcAnterior, siguienteOpcode, profundidadAnterior);
+        }
+        if (traza != null) {
+            traza.completarInstruccion(this);
+        }
+        avanzarReloj(t1, System.nanoTime());
+
+        if (acceso) {
+            detenerEjecucion();
+        }
+    }
+
+    private boolean objetivoAlcanzado() {
+        return instruccionesEjecutadas >= instruccionObjetivo
+                || (programCounter == pcObjetivo && stackPointer <= profundidadObjetivo)
+                || stackPointer < profundidadSalida;
+    }
+
+    private void cancelarObjetivo() {
+        objetivoActivo = false;
+        instruccionObjetivo = Long.MAX_VALUE;
+        pcObjetivo = -1;
+        profundidadSalida = -1;
+        actualizarInstrumentacion();
+    }
+
+    private void actualizarInstrumentacion() {
+        pasoAPaso = singleStep;
+        diarioActivo = historial.isActivo();
+        instrumentado = objetivoActivo || depurador.isActivo() || contadores.isActivo()
+                || perfilador.isActivo() || mapaCalor.isActivo() || traza != null;
+    }
+
+    /* Pasa al modo paso a paso y publica el estado para que el depurador muestre la parada */
+    private void detenerEjecucion() {
+        cancelarObjetivo();
+        singleStep = true;
+        pasoAPaso = true;
+        singleStepKey = false;
+        finDeFrame(System.nanoTime());
+    }
+
+    /*
+     * Ordenes de ejecucion. Cada una devuelve su numero de orden: la orden
+     * termino cuando getOrdenCompletada() lo alcanza, es decir, cuando la CPU
+     * volvio a la pausa (por completar la orden, un breakpoint o una pausa
+     * manual).
+     */
+
+    /**
+     * Ejecuta la cantidad de instrucciones indicada y vuelve a la pausa. Si la
+     * CPU estaba en ejecucion, primero se detiene.
+     */
+    public long ejecutarPasos(int pasos) {
+        return ordenar(TipoOrden.PASOS, Math.max(pasos, 1));
+    }
+
+    /* Ejecuta un paso; si la instruccion es una llamada (2NNN), ejecuta la subrutina completa */
+    public long saltarSubrutina() {
+        return ordenar(TipoOrden.SALTAR_SUBRUTINA, 0);
+    }
+
+    /* Ejecuta hasta retornar (00EE) de la subrutina actual */
+    public long salirDeSubrutina() {
+        return ordenar(TipoOrden.SALIR_SUBRUTINA, 0);
+    }
+
+    /* Ejecuta hasta llegar a la direccion indicada */
+    public long ejecutarHasta(int direccion) {
+        return ordenar(TipoOrden.EJECUTAR_HASTA, direccion & 0xFFF);
+    }
+
+    /* Reanuda la ejecucion; la orden se completa al volver a la pausa */
+    public long reanudar() {
+        return ordenar(TipoOrden.CONTINUAR, 0);
+    }
+
+    /* Detiene la ejecucion; la orden se completa cuando el hilo de la CPU queda en pausa */
+    public long pausar() {
+        return ordenar(TipoOrden.PAUSA, 0);
+    }
+
+    /**
+     * Toma el estado de la CPU para leerlo o modificarlo desde otro hilo. Solo
+     * tiene exito si el hilo de la CPU esta estacionado en pausa; hasta
+     * invocar liberarEstado() la CPU no sale de la pausa (las ordenes, la
+     * tecla de paso y los retrocesos esperan). Devuelve false si la CPU esta
+     * en ejecucion.
+     */
+    public boolean tomarEstadoEnPausa() {
+        return cerrojoPausa.tryLock();
+    }
+
+    public void liberarEstado() {
+        cerrojoPausa.unlock();
+    }
+
+    /**
+     * Comienza a grabar la traza de ejecucion en el archivo indicado, o la
+     * detiene si es null. Se aplica al terminar el frame en curso.
+     */
+    public void setTraza(Chip8_Traza traza) {
+        trazaSolicitada = traza;
+        cambioTraza = true;
+        LockSupport.unpark(this);
+    }
+
+    public long getOrdenCompletada() {
+        return ordenCompletada;
+    }
+
+    // Las ordenes se procesan en pausa: si la CPU esta en ejecucion, se detiene en la siguiente instruccion
+    private long ordenar(TipoOrden tipo, int valor) {
+        long numero = numeroOrden.incrementAndGet();
+        ordenPendiente.set(new Orden(numero, tipo, valor));
+        singleStep = true;
+        cambioInstrumentacion.set(true);
+        LockSupport.unpark(this);
+        return numero;
+    }
+
+    /*
+     * Procesa una orden en pausa. Un paso simple se ejecuta directamente; el
+     * resto fija un objetivo y reanuda la ejecucion con el ciclo
+     * instrumentado, que se detiene al alcanzarlo o en un breakpoint.
+     */
+    private void ejecutarOrden(Orden orden) throws LineUnavailableException, InterruptedException {
+        // La instruccion actual no debe detener la ejecucion por un breakpoint u objetivo
+        instruccionDetenida = instruccionesEjecutadas;
+        ordenTomada = orden.numero;
+
+        switch (orden.tipo) {
+            case PASOS:
+                if (orden.valor == 1) {
+                    chip8EmularCicloSingleStep();
+                    return;
+                }
+                instruccionObjetivo = instruccionesEjecutadas + orden.valor;
+                break;
+            case SALTAR_SUBRUTINA:
+                if ((fetch(programCounter) & 0xF000) != 0x2000) {
+                    chip8EmularCicloSingleStep();
+                    return;
+                }
+                pcObjetivo = programCounter + 2;
+                profundidadObjetivo = stackPointer;
+                break;
+            case SALIR_SUBRUTINA:
+                if (stackPointer == 0) {
+                    // No hay subrutina de la cual salir
+                    return;
+                }
+                profundidadSalida = stackPointer;
+                break;
+            case EJECUTAR_HASTA:
+                pcObjetivo = orden.valor;
+                profundidadObjetivo = Integer.MAX_VALUE;
+                break;
+            case PAUSA:
+                // Se completa al estacionarse el hilo en esperarOrden
+                return;
+            default:
+                // Continuar: sin objetivo, solo se detiene por un breakpoint o una pausa
+                singleStep = false;
+                actualizarInstrumentacion();
+                return;
+        }
+
+        objetivoActivo = true;
+        instrumentado = true;
+        singleStep = false;
+        pasoAPaso = false;
+    }
+
+    /*
+     * En pausa y sin ordenes pendientes: publica el estado y estaciona el hilo
+     * hasta que llegue una orden, sin consumir CPU.
+     */
+    private void esperarOrden() {
+        finDeFrame(System.nanoTime());
+        cerrojoPausa.unlock();
+        ordenCompletada = ordenTomada;
+        LockSupport.park(this);
+        cerrojoPausa.lock();
+
+        // Al salir de la pausa se aplican los breakpoints o contadores activados mientras tanto
+        actualizarInstrumentacion();
+    }
+
+    /* Ejecuta el opcode registrando antes en el diario de deshacer lo que va a sobrescribir */
+    private void ejecutarRegistrando(int opcode) {
+        int pcAnterior = programCounter;
+        registrarDeshacer(opcode);
+        decodeAndExecute(opcode);
+
+        // FX0A se repite sin modificar nada mientras espera una tecla: esas entradas no se conservan,
+        // para que la espera no desplace del diario la historia util
+        if (programCounter == pcAnterior && (opcode & 0xF0FF) == 0xF00A) {
+            historial.descartarUltima();
+        }
+    }
+
+    /*
+     * Registra en el diario los valores previos de lo que el opcode puede
+     * sobrescribir. Formato de la entrada: PC | I << 12 | SP << 24,
+     * DT | ST << 8 | mascara de registros V << 16, opcode, los registros V de
+     * la mascara y los datos propios del opcode (nivel de pila, bytes de
+     * memoria o pantalla).
+     */
+    private void registrarDeshacer(int opcode) {
+        // Registros que el opcode lee o escribe, incluido VF en 8XY4-8XYE, DXYN y FX1E: las lecturas se incluyen
+        // porque varios opcodes normalizan sus operandos (&= 0xFF). CXNN y 9XY0 indexan con opcode & 0xF por la
+        // precedencia de >> y &.
+        long accesos = Chip8_Depurador.accesosRegistros(opcode);
+        int mascara = (int) (accesos | (accesos >>> 32)) & 0xFFFF;
+        if ((opcode & 0xF000) == 0xC000 || (opcode & 0xF000) == 0x9000) {
+            mascara |= 1 << (opcode & 0xF);
+        }
+
+        historial.iniciarEntrada();
+        historial.agregar((programCounter & 0xFFF) | ((registroIndice & 0xFFF) << 12) | (stackPointer << 24));
+        historial.agregar((delay_Timer & 0xFF) | ((sound_Timer & 0xFF) << 8) | (mascara << 16));
+        historial.agregar(opcode);
+
+        for (int i = 0; i < 16; i++) {
+            if ((mascara & (1 << i)) != 0) {
+                historial.agregar(registrosV[i]);
+            }
+        }
+
+        switch (opcode & 0xF0FF) {
+            case 0x00E0:
+                // La pantalla borrada no se puede reconstruir: se guarda una columna de 32 pixeles por entero
+                for (int x = 0; x < WIDTH; x++) {
+                    int columna = 0;
+                    for (int y = 0; y < HEIGHT; y++) {
+                        columna |= GFX[x][y] << y;
+                    }
+                    historial.agregar(columna);
+                }
+                break;
+            case 0xF033:
+                for (int i = 0; i < 3; i++) {
+                    historial.agregar(memoria[(registroIndice + i) & 0xFFF]);
+                }
+                break;
+            case 0xF055:
+                for (int i = 0; i <= ((opcode & 0x0F00) >> 8); i++) {
+                    historial.agregar(memoria[(registroIndice + i) & 0xFFF]);
+                }
+                break;
+            default:
+                if ((opcode & 0xF000) == 0x2000) {
+                    historial.agregar(stack[stackPointer & 0xF]);
+                }
+                break;
+        }
+
+        historial.cerrarEntrada();
+    }
+
+    /*
+     * Deshace la ultima instruccion registrada en el diario. Devuelve false si
+     * no hay mas instrucciones para deshacer.
+     */
+    private boolean deshacerInstruccion() {
+        if (!historial.hayEntradas()) {
+            return false;
+        }
+
+        historial.sacarUltima();
+        int punteros = historial.leer();
+        int temporizadores = historial.leer();
+        int opcodeDeshecho = historial.leer();
+        int mascara = temporizadores >>> 16;
+
+        for (int i = 0; i < 16; i++) {
+            if ((mascara & (1 << i)) != 0) {
+                registrosV[i] = historial.leer();
+            }
+        }
+
+        programCounter = punteros & 0xFFF;
+        registroIndice = (punteros >>> 12) & 0xFFF;
+        stackPointer = punteros >>> 24;
+        delay_Timer = temporizadores & 0xFF;
+        sound_Timer = (temporizadores >>> 8) & 0xFF;
+
+        switch (opcodeDeshecho & 0xF0FF) {
+            case 0x00E0:
+                for (int x = 0; x < WIDTH; x++) {
+                    int columna = historial.leer();
+                    for (int y = 0; y < HEIGHT; y++) {
+                        GFX[x][y] = (columna >>> y) & 1;
+                    }
+                }
+                filasPendientes = screen.todasLasFilas();
+                break;
+            case 0xF033:
+            case 0xF055:
+                int cantidad = (opcodeDeshecho & 0x00FF) == 0x33 ? 3 : ((opcodeDeshecho & 0x0F00) >> 8) + 1;
+                for (int i = 0; i < cantidad; i++) {
+                    memoria[(registroIndice + i) & 0xFFF] = historial.leer();
+                }
+                marcarMemoriaModificada(registroIndice, Math.min(registroIndice + cantidad - 1, 4095));
+                break;
+            default:
+                if ((opcodeDeshecho & 0xF000) == 0x2000) {
+                    stack[stackPointer & 0xF] = historial.leer();
+                } else if ((opcodeDeshecho & 0xF000) == 0xD000) {
+                    // El dibujo es un XOR: volver a dibujar el sprite con los registros restaurados lo borra
+                    invertirSprite(registrosV[(opcodeDeshecho & 0x0F00) >> 8] & 0xFF,
+                            registrosV[(opcodeDeshecho & 0x00F0) >> 4] & 0xFF, opcodeDeshecho & 0x000F);
+                }
+                break;
+        }
+
+        instruccionesEjecutadas--;
+        return true;
+    }
+
+    /* Aplica XOR de un sprite de la memoria (desde I) sobre la pantalla, sin modificar VF */
+    private void invertirSprite(int x, int y, int altura) {
+        for (int linea = 0; linea < altura; linea++) {
+            int pixeles = memoria[(registroIndice + linea) & 0xFFF] & 0xFF;
+            for (int bit = 0; bit < 8; bit++) {
+                if ((pixeles & (0x80 >> bit)) != 0) {
+                    GFX[(x + bit) % WIDTH][(y + linea) % HEIGHT] ^= 1;
+                }
+            }
+            if (pixeles != 0) {
+                filasPendientes |= 1L << ((y + linea) % HEIGHT);
+            }
+        }
+    }
+
+    /**
+     * Solicita retroceder la ejecucion la cantidad de instrucciones indicada.
+     * Solo tiene efecto en modo paso a paso; el retroceso lo realiza el hilo
+     * de la CPU.
+     */
+    public void retroceder(int instrucciones) {
+        if (singleStep && instrucciones > 0) {
+            retrocesosPendientes.addAndGet(instrucciones);
+            LockSupport.unpark(this);
+        }
+    }
+
+    /* Realiza los retrocesos pendientes y publica el estado resultante */
+    private void procesarRetrocesos() {
+        int pendientes = retrocesosPendientes.getAndSet(0);
+        while (pendientes-- > 0 && deshacerInstruccion()) {
+            // deshacer hasta completar los pasos o agotar el diario
+        }
+        // Al reanudar no debe volver a detenerse en el breakpoint de la instruccion actual
+        instruccionDetenida = instruccionesEjecutadas;
+        finDeFrame(System.nanoTime());
     }
 
     /* funcion para emular un ciclo de ejecucion de instruccion en modo paso a paso (single step) */
@@ -437,51 +997,121 @@ public class Chip8_CPU extends Thread {
         // Permite calcular el avance del reloj del sistema (cpu ticks value).
         long t1 = System.nanoTime();
 
-        // Obtener Opcode (Fetch Opcode)
-        opcode = fetch(programCounter);
-
-        // Decodificar y ejecutar Opcode obtenido desde memoria
-        decodeAndExecute(opcode);
+        ejecutarInstruccion();
 
         // Variable para medicion de tiempos
         // Permite calcular el avance del reloj del sistema (cpu ticks value) luego de obtener, decodificar y ejecutar una instruccion.
         long t2 = System.nanoTime();
-        
-        // Emulacion simple de pulso de reloj del CPU (1.76 MHz = 568.1818 nanosegundos)
-        TimeUnit.NANOSECONDS.sleep(1000000000 / clockFrequency);
 
-        // Contador de pulsos de reloj de cpu (implementacion simple con enteros, podria hacerse mas exacto si se implementara con flotantes)
-        // Se utiliza para poder actualizar los temporizadores con una frecuencia de 60 Hz segun se indica en la documentacion de chip-8
-        clockPulses += 1 + (t2 - t1) / ((double) 1000000000 / clockFrequency);
+        avanzarTemporizadores(t1, t2);
 
-        // Actualizar temporizadores
-        if ((clockFrequency / 60) - clockPulses >= 0) {
+        // En modo paso a paso cada instruccion cierra un frame, para poder observar su efecto en pantalla
+        finDeFrame(t2);
+    }
 
-            if ((delay_Timer) > 0) {
+    /**
+     * Punto de enganche de fin de frame (60 Hz). Renderiza una unica vez las
+     * filas de pantalla modificadas durante el frame y solo entonces indica al
+     * panel de video que debe redibujarse.
+     */
+    void finDeFrame(long ahora) {
+        Chip8_Eventos.finDeFrame(instruccionesEjecutadas);
+
+        // Avanzar el reloj de frames. Si el atraso es mayor a un frame (pausa, depuracion) se resincroniza.
+        long atraso = ahora - inicioFrame;
+        metricas.finDeFrame(ahora, instruccionesEjecutadas,
+                atraso >= 2 * NANOS_POR_FRAME ? atraso / NANOS_POR_FRAME - 1 : 0, singleStep);
+        if (atraso >= 2 * NANOS_POR_FRAME) {
+            inicioFrame = ahora;
+        } else {
+            inicioFrame += NANOS_POR_FRAME;
+        }
 
-                delay_Timer--;
+        // Tambien se renderiza si la persistencia de fosforo tiene pixeles en decaimiento. En pausa o paso
+        // a paso los frames no corresponden a 1/60 s, por lo que el decaimiento se congela.
+        boolean decaer = !singleStep;
+        if (filasPendientes != 0 || (decaer && screen.requiereRenderizado())) {
+            screen.renderizarFilas(GFX, filasPendientes, decaer);
+            filasPendientes = 0;
+        }
 
-                // Hacer que el contador siempre este en el rango [0,255] y vuelva a 0 si sobrepasa el valor 255
-                delay_Timer &= 0xFF;
+        // Los cambios de breakpoints o contadores se aplican a partir del frame siguiente
+        contadores.sincronizar();
+        perfilador.sincronizar();
+        mapaCalor.sincronizar();
+        if (cambioTraza) {
+            cambioTraza = false;
+            Chip8_Traza nueva = trazaSolicitada;
+            if (traza != null && traza != nueva) {
+                traza.cerrar();
             }
+            traza = nueva;
+        }
+        actualizarInstrumentacion();
 
-            if ((sound_Timer) > 0) {
-                if ((sound_Timer) == 1) {
-                    // Generar un tono de 1000 Hz y 50 ms de duracion.
-                    Sound.tone(1000, 50);
-                }
+        publicarEstado();
+    }
 
-                sound_Timer--;
+    /* Publica una instantanea del estado actual de la CPU para los observadores */
+    private void publicarEstado() {
+        estado.set(new Chip8_Estado(++versionEstado, instruccionesEjecutadas, opcode, programCounter, registroIndice,
+                stackPointer, delay_Timer, sound_Timer, clockFrequency, registrosV, stack));
+    }
 
-                // Hacer que el contador siempre este en el rango [0,255] y vuelva a 0 si sobrepasa el valor 255
-                sound_Timer &= 0xFF;
-            }
+    /**
+     * Devuelve la ultima instantanea publicada del estado de la CPU. Puede
+     * invocarse desde cualquier hilo; el valor devuelto es inmutable.
+     */
+    public Chip8_Estado getEstado() {
+        return estado.get();
+    }
 
-            clockPulses = 0;
+    /* Devuelve el analisis estatico de la ROM cargada, o null si no hay una ROM cargada */
+    public Chip8_Analisis getAnalisis() {
+        return analisis;
+    }
+
+    /**
+     * Marca como modificadas las lineas de memoria que contienen las
+     * direcciones indicadas (inclusive). Solo la invoca el hilo de la CPU.
+     */
+    void marcarMemoriaModificada(int desde, int hasta) {
+        int primera = Math.max(0, desde) / BYTES_POR_LINEA;
+        int ultima = Math.min(4095, hasta) / BYTES_POR_LINEA;
+
+        for (int linea = primera; linea <= ultima; ) {
+            int palabra = linea >> 6;
+            int fin = Math.min(ultima, (palabra << 6) + 63);
+
+            // Bits de las lineas [linea, fin] dentro de la palabra
+            long bits = (-1L >>> (63 - (fin - linea))) << (linea & 63);
 
+            long actual;
+            do {
+                actual = lineasModificadas.get(palabra);
+            } while ((actual & bits) != bits && !lineasModificadas.compareAndSet(palabra, actual, actual | bits));
+
+            linea = fin + 1;
         }
-        
-        memoryStatusChanged = false;
+    }
+
+    /**
+     * Copia en destino las lineas de memoria modificadas desde la ultima
+     * consulta (1 bit por linea de 16 bytes) y las desmarca de forma atomica.
+     * El arreglo destino debe tener PALABRAS_LINEAS elementos.
+     *
+     * @return true si hay al menos una linea modificada
+     */
+    public boolean tomarLineasModificadas(long[] destino) {
+        boolean modificada = false;
+
+        for (int i = 0; i < PALABRAS_LINEAS; i++) {
+            // Leer antes de intercambiar evita escrituras atomicas cuando la palabra esta limpia
+            destino[i] = lineasModificadas.get(i) != 0 ? lineasModificadas.getAndSet(i, 0) : 0;
+            modificada |= destino[i] != 0;
+        }
+
+        return modificada;
     }
 
     public void cargarPrograma(String filename) throws IOException {
@@ -489,6 +1119,7 @@ public class Chip8_CPU extends Thread {
 
         // Si se ejecuta el programa desde una terminal de linea de comando, imprimir un mensaje indicando que se esta abriendo un archivo
         Logger.getLogger(Chip8_CPU.class.getName()).log(Level.INFO, "Abriendo archivo: " + filename);
+        Chip8_Eventos.inicioCargaROM(filename);
 
         byte[] fileArray;
 
@@ -507,12 +1138,14 @@ public class Chip8_CPU extends Thread {
                 memoria[i + 512] = fileArray[i] & 0xFF;
                 memoria[i + 512] &= 0xFF;
             }
+            marcarMemoriaModificada(512, 512 + fileArray.length - 1);
+
+            // Analizar la estructura de la ROM (el resultado se reutiliza si la ROM ya fue analizada)
+            analisis = Chip8_Analizador.analizar(fileArray);
         } else {
             Logger.getLogger(Chip8_CPU.class.getName()).log(Level.SEVERE, ("Error: ROM demasiado grande para la memoria chip-8 disponible"));
         }
-        
-        memoryStatusChanged = true;
-
+        Chip8_Eventos.finCargaROM(fileArray.length);
     }
 
     public int[] getChip8_fontset() {
@@ -571,14 +1204,6 @@ public class Chip8_CPU extends Thread {
         this.GFX = GFX;
     }
 
-    public boolean isDrawFlag() {
-        return drawFlag;
-    }
-
-    public void setDrawFlag(boolean drawFlag) {
-        this.drawFlag = drawFlag;
-    }
-
     public int getDelay_Timer() {
         return delay_Timer;
     }
@@ -641,6 +1266,8 @@ public class Chip8_CPU extends Thread {
 
     public void setSingleStep(boolean singleStep) {
         this.singleStep = singleStep;
+        cambioInstrumentacion.set(true);
+        LockSupport.unpark(this);
     }
 
     public boolean isSingleStepKey() {
@@ -649,14 +1276,16 @@ public class Chip8_CPU extends Thread {
 
     public void setSingleStepKey(boolean singleStepKey) {
         this.singleStepKey = singleStepKey;
+        LockSupport.unpark(this);
     }
 
     public boolean isMemoryStatusChanged() {
-        return memoryStatusChanged;
-    }
-
-    public void setMemoryStatusChanged(boolean memoryStatusChanged) {
-        this.memoryStatusChanged = memoryStatusChanged;
+        for (int i = 0; i < PALABRAS_LINEAS; i++) {
+            if (lineasModificadas.get(i) != 0) {
+                return true;
+            }
+        }
+        return false;
     }
     
     /**
@@ -896,7 +1525,7 @@ public class Chip8_CPU extends Thread {
     private void Ox00E0() {
         //Limpia la pantalla
         limpiarPantalla();
-        drawFlag = true;
+        filasPendientes = screen.todasLasFilas();
         programCounter += 2;
         //System.out.println("Opcode: " + getOpcodeAsString(opcode) + " " + getCPU_StatusAsString());
     }
@@ -1193,11 +1822,15 @@ public class Chip8_CPU extends Thread {
         int xline, yline;
         int xp = x;
         int yp = y;
+        long filasModificadas = 0;   // mascara de filas de pantalla modificadas por el sprite
 
         registrosV[0xF] = 0;
 
         for (yline = 0; yline < height; yline++) {
             pixel = ((memoria[registroIndice + yline]) & 0xFF);
+            if (pixel != 0) {
+                filasModificadas |= 1L << ((yp + yline) % HEIGHT);
+            }
             for (xline = 0; xline < 8; xline++) {
                 if ((pixel & (0x80 >> xline)) != 0) {
                     // Verificar que siempre se este dentro del rango del arreglo (agregado el 06/03/2022)
@@ -1211,9 +1844,11 @@ public class Chip8_CPU extends Thread {
             }
         }
 
-        drawFlag = true;
-        pantalla = screen.renderizarPantalla(GFX);
+        // Solo se marcan las filas modificadas: el renderizado se realiza una vez por frame en finDeFrame
+        filasPendientes |= filasModificadas;
         programCounter += 2;
+
+        Chip8_Eventos.sprite(x, y, height, registroIndice, registrosV[0xF] != 0);
         //System.out.println("Opcode: " + getOpcodeAsString(opcode) + " " + getCPU_StatusAsString());
     }
 
@@ -1327,7 +1962,7 @@ public class Chip8_CPU extends Thread {
         //System.out.println("Valor del registro: " + (registrosV[(opcode & 0x0F00) >> 8]));
         programCounter += 2;
         //System.out.println("Opcode: " + getOpcodeAsString(opcode) + " " + getCPU_StatusAsString());
-        memoryStatusChanged = true;
+        marcarMemoriaModificada(registroIndice, registroIndice + 2);
     }
 
     private void OxFX55() {
@@ -1342,7 +1977,7 @@ public class Chip8_CPU extends Thread {
         //registroIndice = ((registroIndice + ((opcode & 0x0F00) >> 8) + 1) & 0x0FFF);
         programCounter += 2;
         //System.out.println("Opcode: " + getOpcodeAsString(opcode) + " " + getCPU_StatusAsString());
-        memoryStatusChanged = true;
+        marcarMemoriaModificada(registroIndice, registroIndice + ((opcode & 0x0F00) >> 8));
     }
 
     private void OxFX65() {
@@ -1375,23 +2010,43 @@ public class Chip8_CPU extends Thread {
     }
 
     public void run() {
-        
+
+        // El estado pertenece al hilo de la CPU salvo en pausa (ver tomarEstadoEnPausa)
+        cerrojoPausa.lock();
+
         while (true) {
             
             try {
 
-                System.out.println(singleStep);
-                System.out.println(singleStepKey);
-                
-                if (singleStep == false) {
-                    chip8EmularCiclo();
+                // Los cambios de modo, de instrumentacion y del diario de deshacer se aplican antes de la siguiente instruccion
+                if (cambioInstrumentacion.get() && cambioInstrumentacion.getAndSet(false)) {
+                    actualizarInstrumentacion();
                 }
 
-                if (singleStep && singleStepKey) {
-                    
-                    //System.out.println("Ejecutando bucle en modo single step");
-                    chip8EmularCicloSingleStep();
+                if (pasoAPaso == false) {
+                    // El ciclo instrumentado solo se usa si hay breakpoints, watchpoints, contadores, perfil, mapa de calor, traza o una orden en curso
+                    if (instrumentado) {
+                        chip8EmularCicloInstrumentado();
+                    } else {
+                        chip8EmularCiclo();
+                    }
+                } else {
+                    // Una pausa manual cancela la orden en curso
+                    if (objetivoActivo) {
+                        cancelarObjetivo();
+                    }
 
+                    Orden orden = ordenPendiente.getAndSet(null);
+                    if (orden != null) {
+                        ejecutarOrden(orden);
+                    } else if (singleStepKey) {
+                        // Mientras se mantenga presionada la tecla de paso se ejecuta una instruccion por vuelta
+                        chip8EmularCicloSingleStep();
+                    } else if (retrocesosPendientes.get() > 0) {
+                        procesarRetrocesos();
+                    } else {
+                        esperarOrden();
+                    }
                 }
             } catch (LineUnavailableException ex) {
                 Logger.getLogger(Chip8_CPU.class.getName()).log(Level.SEVERE, null, ex);
@@ -1415,23 +2070,40 @@ class Sound {
 
     static float SAMPLE_RATE = 8000f;
 
-    static void tone(int hz, int msecs) throws LineUnavailableException {
-        tone(hz, msecs, 1.0);
+    static int tone(int hz, int msecs) throws LineUnavailableException {
+        return tone(hz, msecs, 1.0);
     }
 
-    static void tone(int hz, int msecs, double vol) throws LineUnavailableException {
+    /* Genera el tono y devuelve las veces que el buffer de la linea de audio se vacio mientras tanto */
+    static int tone(int hz, int msecs, double vol) throws LineUnavailableException {
+        int subejecuciones = 0;
         byte[] buf = new byte[1];
         AudioFormat af = new AudioFormat(SAMPLE_RATE, 8, 1, true, false);
         SourceDataLine sdl = AudioSystem.getSourceDataLine(af);
-        sdl.open(af);
-        sdl.start();
-        for (int i = 0; i < msecs * 8; i++) {
-            double angle = i / (SAMPLE_RATE / hz) * 2.0 * Math.PI;
-            buf[0] = (byte) (Math.sin(angle) * 127.0 * vol);
-            sdl.write(buf, 0, 1);
+        Chip8_Eventos.inicioSonido(hz, msecs);
+        try {
+            sdl.open(af);
+            sdl.start();
+            boolean vacio = false;
+            for (int i = 0; i < msecs * 8; i++) {
+                double angle = i / (SAMPLE_RATE / hz) * 2.0 * Math.PI;
+                buf[0] = (byte) (Math.sin(angle) * 127.0 * vol);
+
+                // Buffer vacio despues de haber escrito: la linea se quedo sin datos
+                boolean vacioAhora = i > 0 && sdl.available() == sdl.getBufferSize();
+                if (vacioAhora && !vacio) {
+                    subejecuciones++;
+                }
+                vacio = vacioAhora;
+
+                sdl.write(buf, 0, 1);
+            }
+            sdl.drain();
+            sdl.stop();
+            sdl.close();
+        } finally {
+            Chip8_Eventos.finSonido();
         }
-        sdl.drain();
-        sdl.stop();
-        sdl.close();
+        return subejecuciones;
     }
 }
@@ -0,0 +1,510 @@
+/*
+ * Copyright (C) 2022 Diego Andrés Gutiérrez Berón
+ * 
+ * Some parts of this software were made as adaptations of ideas other than mine.
+ * In any case, due credit or references are given for any ideas or code that 
+ * served as an implementation base for this software.
+ *
+ * THIS PROGRAM IS LICENSED UNDER THE TERMS OF THE GNU GENERAL PUBLIC LICENSE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package emulator;
+
+/**
+ * Condicion de parada del depurador, compilada a partir de una expresion.
+ *
+ * La expresion se analiza una sola vez y se convierte en un arbol de nodos
+ * que leen directamente el estado de la CPU, con las constantes ya
+ * plegadas; evaluarla en cada instruccion no requiere volver a interpretar
+ * el texto. Admite:
+ *
+ * - Operandos: V0-VF, I, PC, SP, DT, ST, memoria M[expr] y constantes
+ *   decimales o hexadecimales (0x1F, $1F).
+ * - Operadores, de menor a mayor precedencia: ||, &&, == != &lt; &lt;= &gt; &gt;=,
+ *   |, ^, &amp;, &lt;&lt; &gt;&gt;, + -, * / %, y los unarios ! - ~.
+ *
+ * Si la expresion es una conjuncion que incluye PC == constante (por
+ * ejemplo "PC == 0x2A0 &amp;&amp; V3 == 0x1F"), esa parte se separa como
+ * direccion y el resto solo se evalua cuando el PC llega a ella.
+ *
+ * @author Diego Gutierrez
+ */
+public final class Chip8_Condicion {
+
+    /* Nodo del arbol compilado: devuelve el valor de la subexpresion (0 es falso) */
+    private abstract static class Nodo {
+
+        abstract int valor(Chip8_CPU cpu);
+
+        boolean esConstante() {
+            return false;
+        }
+    }
+
+    private static final class Constante extends Nodo {
+
+        final int valor;
+
+        Constante(int valor) {
+            this.valor = valor;
+        }
+
+        @Override
+        int valor(Chip8_CPU cpu) {
+            return valor;
+        }
+
+        @Override
+        boolean esConstante() {
+            return true;
+        }
+    }
+
+    private static final class RegistroV extends Nodo {
+
+        final int numero;
+
+        RegistroV(int numero) {
+            this.numero = numero;
+        }
+
+        @Override
+        int valor(Chip8_CPU cpu) {
+            return cpu.getRegistrosV()[numero];
+        }
+    }
+
+    private static final class Memoria extends Nodo {
+
+        final Nodo direccion;
+
+        Memoria(Nodo direccion) {
+            this.direccion = direccion;
+        }
+
+        @Override
+        int valor(Chip8_CPU cpu) {
+            return cpu.memoria[direccion.valor(cpu) & 0xFFF];
+        }
+    }
+
+    private static final Nodo REGISTRO_I = new Nodo() {
+        @Override
+        int valor(Chip8_CPU cpu) {
+            return cpu.getRegistroIndice();
+        }
+    };
+
+    private static final Nodo PROGRAM_COUNTER = new Nodo() {
+        @Override
+        int valor(Chip8_CPU cpu) {
+            return cpu.getProgramCounter();
+        }
+    };
+
+    private static final Nodo STACK_POINTER = new Nodo() {
+        @Override
+        int valor(Chip8_CPU cpu) {
+            return cpu.getStackPointer();
+        }
+    };
+
+    private static final Nodo DELAY_TIMER = new Nodo() {
+        @Override
+        int valor(Chip8_CPU cpu) {
+            return cpu.getDelay_Timer();
+        }
+    };
+
+    private static final Nodo SOUND_TIMER = new Nodo() {
+        @Override
+        int valor(Chip8_CPU cpu) {
+            return cpu.getSound_Timer();
+        }
+    };
+
+    /* Operadores binarios, en orden de busqueda dentro de cada nivel de precedencia */
+    private enum Operador {
+        O("||"), Y("&&"),
+        IGUAL("=="), DISTINTO("!="), MENOR_IGUAL("<="), MAYOR_IGUAL(">="), MENOR("<"), MAYOR(">"),
+        O_BITS("|"), XOR("^"), Y_BITS("&"),
+        IZQUIERDA("<<"), DERECHA(">>"),
+        SUMA("+"), RESTA("-"),
+        PRODUCTO("*"), DIVISION("/"), RESTO("%");
+
+        final String simbolo;
+
+        Operador(String simbolo) {
+            this.simbolo = simbolo;
+        }
+
+        int aplicar(int x, int y) {
+            switch (this) {
+                case O:
+                    return x != 0 || y != 0 ? 1 : 0;
+                case Y:
+                    return x != 0 && y != 0 ? 1 : 0;
+                case IGUAL:
+                    return x == y ? 1 : 0;
+                case DISTINTO:
+                    return x != y ? 1 : 0;
+                case MENOR_IGUAL:
+                    return x <= y ? 1 : 0;
+                case MAYOR_IGUAL:
+                    return x >= y ? 1 : 0;
+                case MENOR:
+                    return x < y ? 1 : 0;
+                case MAYOR:
+                    return x > y ? 1 : 0;
+                case O_BITS:
+                    return x | y;
+                case XOR:
+                    return x ^ y;
+                case Y_BITS:
+                    return x & y;
+                case IZQUIERDA:
+                    return x << y;
+                case DERECHA:
+                    return x >> y;
+                case SUMA:
+                    return x + y;
+                case RESTA:
+                    return x - y;
+                case PRODUCTO:
+                    return x * y;
+                case DIVISION:
+                    return y == 0 ? 0 : x / y;
+                default:
+                    return y == 0 ? 0 : x % y;
+            }
+        }
+    }
+
+    // Niveles de precedencia de los operadores binarios, de menor a mayor
+    private static final Operador[][] NIVELES = {
+        {Operador.O},
+        {Operador.Y},
+        {Operador.IGUAL, Operador.DISTINTO, Operador.MENOR_IGUAL, Operador.MAYOR_IGUAL, Operador.MENOR, Operador.MAYOR},
+        {Operador.O_BITS},
+        {Operador.XOR},
+        {Operador.Y_BITS},
+        {Operador.IZQUIERDA, Operador.DERECHA},
+        {Operador.SUMA, Operador.RESTA},
+        {Operador.PRODUCTO, Operador.DIVISION, Operador.RESTO}
+    };
+
+    /* Nodo de operador binario; && y || evaluan el segundo operando solo si hace falta */
+    private static final class Binaria extends Nodo {
+
+        final Operador operador;
+        final Nodo a;
+        final Nodo b;
+
+        Binaria(Operador operador, Nodo a, Nodo b) {
+            this.operador = operador;
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        int valor(Chip8_CPU cpu) {
+            int x = a.valor(cpu);
+            if (operador == Operador.Y) {
+                return x != 0 && b.valor(cpu) != 0 ? 1 : 0;
+            }
+            if (operador == Operador.O) {
+                return x != 0 || b.valor(cpu) != 0 ? 1 : 0;
+            }
+            return operador.aplicar(x, b.valor(cpu));
+        }
+    }
+
+    private static final class Unaria extends Nodo {
+
+        final char operador;
+        final Nodo a;
+
+        Unaria(char operador, Nodo a) {
+            this.operador = operador;
+            this.a = a;
+        }
+
+        @Override
+        int valor(Chip8_CPU cpu) {
+            return aplicar(operador, a.valor(cpu));
+        }
+
+        static int aplicar(char operador, int x) {
+            switch (operador) {
+                case '!':
+                    return x == 0 ? 1 : 0;
+                case '-':
+                    return -x;
+                default:
+                    return ~x;
+            }
+        }
+    }
+
+    private final String texto;
+    private final int direccion;        // direccion a la que se restringe la condicion, o -1
+    private final Nodo predicado;
+
+    private Chip8_Condicion(String texto, int direccion, Nodo predicado) {
+        this.texto = texto;
+        this.direccion = direccion;
+        this.predicado = predicado;
+    }
+
+    /**
+     * Compila una expresion.
+     *
+     * @throws IllegalArgumentException si la expresion no es valida
+     */
+    public static Chip8_Condicion compilar(String texto) {
+        Analizador analizador = new Analizador(texto);
+        Nodo raiz = analizador.expresion(0);
+        analizador.saltarEspacios();
+        if (analizador.posicion < texto.length()) {
+            throw analizador.error("Caracter inesperado");
+        }
+
+        int[] direccion = {-1};
+        raiz = extraerDireccion(raiz, direccion);
+        return new Chip8_Condicion(texto.trim(), direccion[0], raiz == null ? new Constante(1) : raiz);
+    }
+
+    /*
+     * Separa de la conjuncion de nivel superior un termino PC == constante.
+     * Devuelve el resto de la conjuncion, o null si no queda nada.
+     */
+    private static Nodo extraerDireccion(Nodo nodo, int[] direccion) {
+        if (!(nodo instanceof Binaria)) {
+            return nodo;
+        }
+
+        Binaria binaria = (Binaria) nodo;
+        if (binaria.operador == Operador.Y) {
+            Nodo a = extraerDireccion(binaria.a, direccion);
+            Nodo b = direccion[0] < 0 ? extraerDireccion(binaria.b, direccion) : binaria.b;
+            if (a == null) {
+                return b;
+            }
+            return b == null ? a : new Binaria(Operador.Y, a, b);
+        }
+
+        if (direccion[0] < 0 && binaria.operador == Operador.IGUAL) {
+            if (binaria.a == PROGRAM_COUNTER && binaria.b.esConstante()) {
+                direccion[0] = ((Constante) binaria.b).valor & 0xFFF;
+                return null;
+            }
+            if (binaria.b == PROGRAM_COUNTER && binaria.a.esConstante()) {
+                direccion[0] = ((Constante) binaria.a).valor & 0xFFF;
+                return null;
+            }
+        }
+        return nodo;
+    }
+
+    /* Analizador descendente recursivo; construye el arbol plegando las constantes */
+    private static final class Analizador {
+
+        private final String texto;
+        private int posicion;
+
+        Analizador(String texto) {
+            this.texto = texto;
+        }
+
+        Nodo expresion(int nivel) {
+            if (nivel == NIVELES.length) {
+                return unaria();
+            }
+
+            Nodo nodo = expresion(nivel + 1);
+            Operador operador;
+            while ((operador = operador(NIVELES[nivel])) != null) {
+                Nodo derecho = expresion(nivel + 1);
+                if (nodo.esConstante() && derecho.esConstante()) {
+                    nodo = new Constante(operador.aplicar(((Constante) nodo).valor, ((Constante) derecho).valor));
+                } else {
+                    nodo = new Binaria(operador, nodo, derecho);
+                }
+            }
+            return nodo;
+        }
+
+        private Nodo unaria() {
+            saltarEspacios();
+            if (posicion < texto.length()) {
+                char c = texto.charAt(posicion);
+                if (c == '!' || c == '-' || c == '~') {
+                    posicion++;
+                    Nodo operando = unaria();
+                    if (operando.esConstante()) {
+                        return new Constante(Unaria.aplicar(c, ((Constante) operando).valor));
+                    }
+                    return new Unaria(c, operando);
+                }
+            }
+            return primaria();
+        }
+
+        private Nodo primaria() {
+            saltarEspacios();
+            if (posicion >= texto.length()) {
+                throw error("Falta un operando");
+            }
+
+            char c = texto.charAt(posicion);
+            if (c == '(') {
+                posicion++;
+                Nodo nodo = expresion(0);
+                esperar(')');
+                return nodo;
+            }
+            if (c == '$' || Character.isDigit(c)) {
+                return numero();
+            }
+            if (Character.isLetter(c)) {
+                int inicio = posicion;
+                while (posicion < texto.length() && Character.isLetterOrDigit(texto.charAt(posicion))) {
+                    posicion++;
+                }
+                return operando(texto.substring(inicio, posicion).toUpperCase(), inicio);
+            }
+            if (c == '[') {
+                return acceso();
+            }
+            throw error("Operando no valido");
+        }
+
+        private Nodo operando(String nombre, int inicio) {
+            switch (nombre) {
+                case "I":
+                    return REGISTRO_I;
+                case "PC":
+                    return PROGRAM_COUNTER;
+                case "SP":
+                    return STACK_POINTER;
+                case "DT":
+                    return DELAY_TIMER;
+                case "ST":
+                    return SOUND_TIMER;
+                case "M":
+                    saltarEspacios();
+                    return acceso();
+                default:
+                    if (nombre.length() == 2 && nombre.charAt(0) == 'V' && Character.digit(nombre.charAt(1), 16) >= 0) {
+                        return new RegistroV(Character.digit(nombre.charAt(1), 16));
+                    }
+                    posicion = inicio;
+                    throw error("Operando desconocido '" + nombre + "'");
+            }
+        }
+
+        /* Acceso a memoria: [expresion] */
+        private Nodo acceso() {
+            esperar('[');
+            Nodo direccion = expresion(0);
+            esperar(']');
+            return new Memoria(direccion);
+        }
+
+        private Nodo numero() {
+            int base = 10;
+            if (texto.charAt(posicion) == '$') {
+                base = 16;
+                posicion++;
+            } else if (texto.startsWith("0x", posicion) || texto.startsWith("0X", posicion)) {
+                base = 16;
+                posicion += 2;
+            }
+
+            int inicio = posicion;
+            while (posicion < texto.length() && Character.digit(texto.charAt(posicion), base) >= 0) {
+                posicion++;
+            }
+            if (inicio == posicion) {
+                throw error("Numero no valido");
+            }
+
+            try {
+                return new Constante(Integer.parseInt(texto.substring(inicio, posicion), base));
+            } catch (NumberFormatException ex) {
+                posicion = inicio;
+                throw error("Numero fuera de rango");
+            }
+        }
+
+        /* Consume el primer operador de la lista que aparezca en la posicion actual */
+        private Operador operador(Operador[] operadores) {
+            saltarEspacios();
+            for (Operador operador : operadores) {
+                if (texto.startsWith(operador.simbolo, posicion)) {
+                    // Evita tomar "|" de "||", "&" de "&&", "<" de "<<" o "<=", etc.
+                    int fin = posicion + operador.simbolo.length();
+                    if (fin < texto.length() && "|&<>".indexOf(operador.simbolo) >= 0) {
+                        char siguiente = texto.charAt(fin);
+                        if (siguiente == operador.simbolo.charAt(0) || siguiente == '=') {
+                            continue;
+                        }
+                    }
+                    posicion = fin;
+                    return operador;
+                }
+            }
+            return null;
+        }
+
+        private void esperar(char c) {
+            saltarEspacios();
+            if (posicion >= texto.length() || texto.charAt(posicion) != c) {
+                throw error("Se esperaba '" + c + "'");
+            }
+            posicion++;
+        }
+
+        void saltarEspacios() {
+            while (posicion < texto.length() && Character.isWhitespace(texto.charAt(posicion))) {
+                posicion++;
+            }
+        }
+
+        IllegalArgumentException error(String mensaje) {
+            return new IllegalArgumentException(mensaje + " en la posicion " + (posicion + 1) + ": " + texto);
+        }
+    }
+
+    /* Evalua la condicion sobre el estado actual de la CPU. Invocado por el hilo de la CPU. */
+    public boolean evaluar(Chip8_CPU cpu) {
+        return predicado.valor(cpu) != 0;
+    }
+
+    /* Direccion a la que esta restringida la condicion, o -1 si se evalua en cada instruccion */
+    public int getDireccion() {
+        return direccion;
+    }
+
+    public String getTexto() {
+        return texto;
+    }
+
+    @Override
+    public String toString() {
+        return "Si " + texto;
+    }
+}
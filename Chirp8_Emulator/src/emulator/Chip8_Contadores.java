@@ -0,0 +1,249 @@
+/*
+ * Copyright (C) 2022 Diego Andrés Gutiérrez Berón
+ * 
+ * Some parts of this software were made as adaptations of ideas other than mine.
+ * In any case, due credit or references are given for any ideas or code that 
+ * served as an implementation base for this software.
+ *
+ * THIS PROGRAM IS LICENSED UNDER THE TERMS OF THE GNU GENERAL PUBLIC LICENSE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package emulator;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Contadores de ejecucion por clase de opcode y, opcionalmente, histogramas
+ * del tiempo de ejecucion de cada clase.
+ *
+ * Los contadores son arreglos de primitivos confinados al hilo de la CPU:
+ * registrar una instruccion es una busqueda en tabla y un incremento, sin
+ * sincronizacion ni creacion de objetos. Los tiempos se muestrean (en
+ * promedio una de cada N instrucciones) en histogramas de buckets fijos en potencias de 2
+ * de nanosegundos. Otros hilos pueden leer los contadores en cualquier
+ * momento; los valores leidos son aproximados.
+ *
+ * La CPU solo consulta los contadores desde su ciclo instrumentado, que se
+ * usa mientras esten activos: desactivados no agregan costo.
+ *
+ * @author Diego Gutierrez
+ */
+public class Chip8_Contadores {
+
+    /* Clases de opcode, en el orden de los indices devueltos por clase() */
+    public static final String[] CLASES = {
+        "00E0", "00EE", "1NNN", "2NNN", "3XNN", "4XNN", "5XY0", "6XNN", "7XNN",
+        "8XY0", "8XY1", "8XY2", "8XY3", "8XY4", "8XY5", "8XY6", "8XY7", "8XYE",
+        "9XY0", "ANNN", "BNNN", "CXNN", "DXYN", "EX9E", "EXA1",
+        "FX07", "FX0A", "FX15", "FX18", "FX1E", "FX29", "FX33", "FX55", "FX65",
+        "????"
+    };
+
+    public static final int CANTIDAD_CLASES = CLASES.length;
+    public static final int DESCONOCIDO = CANTIDAD_CLASES - 1;
+
+    /* Bucket k del histograma: tiempos menores a 2^k ns (y mayores o iguales a 2^(k-1)) */
+    public static final int BUCKETS = 32;
+
+    private static final byte[] CLASE_POR_OPCODE = new byte[0x10000];
+
+    static {
+        Arrays.fill(CLASE_POR_OPCODE, (byte) DESCONOCIDO);
+        for (int opcode = 0; opcode < 0x10000; opcode++) {
+            for (int clase = 0; clase < DESCONOCIDO; clase++) {
+                if (coincide(CLASES[clase], opcode)) {
+                    CLASE_POR_OPCODE[opcode] = (byte) clase;
+                    break;
+                }
+            }
+        }
+    }
+
+    // Los digitos hexadecimales del patron deben coincidir; las letras X, Y, N son comodines
+    private static boolean coincide(String patron, int opcode) {
+        for (int i = 0; i < 4; i++) {
+            int digito = Character.digit(patron.charAt(i), 16);
+            if (digito >= 0 && digito != ((opcode >> (12 - 4 * i)) & 0xF)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /* Indice de la clase del opcode en CLASES */
+    public static int clase(int opcode) {
+        return CLASE_POR_OPCODE[opcode & 0xFFFF];
+    }
+
+    private final long[] ejecuciones = new long[CANTIDAD_CLASES];
+    private final long[] histogramas = new long[CANTIDAD_CLASES * BUCKETS];
+    private final long[] nanosTotales = new long[CANTIDAD_CLASES];
+    private final long[] muestras = new long[CANTIDAD_CLASES];
+
+    private volatile boolean activo;
+    private volatile boolean medirTiempos;
+    private volatile boolean reinicioPendiente;
+    private int intervaloMuestreo = 8;
+    private int hastaMuestra;
+    private int semilla = 0x2545F491;       // estado del generador xorshift que varia el intervalo de muestreo
+
+    /* Indicador compartido con la CPU, que se levanta al cambiar el estado activo */
+    private final AtomicBoolean cambioInstrumentacion;
+
+    Chip8_Contadores(AtomicBoolean cambioInstrumentacion) {
+        this.cambioInstrumentacion = cambioInstrumentacion;
+    }
+
+    public boolean isActivo() {
+        return activo;
+    }
+
+    public void setActivo(boolean activo) {
+        this.activo = activo;
+        cambioInstrumentacion.set(true);
+    }
+
+    public boolean isMedirTiempos() {
+        return medirTiempos;
+    }
+
+    public void setMedirTiempos(boolean medirTiempos) {
+        this.medirTiempos = medirTiempos;
+    }
+
+    public int getIntervaloMuestreo() {
+        return intervaloMuestreo;
+    }
+
+    /* Se mide el tiempo de una de cada N instrucciones, en promedio */
+    public void setIntervaloMuestreo(int intervaloMuestreo) {
+        this.intervaloMuestreo = Math.max(intervaloMuestreo, 1);
+    }
+
+    /* Pone los contadores a cero; lo aplica el hilo de la CPU en el siguiente frame */
+    public void reiniciar() {
+        reinicioPendiente = true;
+    }
+
+    /* Invocado por el hilo de la CPU en cada fin de frame */
+    void sincronizar() {
+        if (reinicioPendiente) {
+            reinicioPendiente = false;
+            Arrays.fill(ejecuciones, 0);
+            Arrays.fill(histogramas, 0);
+            Arrays.fill(nanosTotales, 0);
+            Arrays.fill(muestras, 0);
+        }
+    }
+
+    /* Indica si debe medirse el tiempo de la proxima instruccion. Invocado por el hilo de la CPU. */
+    boolean debeMuestrear() {
+        if (!medirTiempos || --hastaMuestra > 0) {
+            return false;
+        }
+        // El intervalo varia al azar alrededor de N para no sincronizarse con los bucles del programa
+        semilla ^= semilla << 13;
+        semilla ^= semilla >>> 17;
+        semilla ^= semilla << 5;
+        hastaMuestra = 1 + (semilla >>> 1) % (2 * intervaloMuestreo - 1);
+        return true;
+    }
+
+    void contar(int clase) {
+        ejecuciones[clase]++;
+    }
+
+    void contar(int clase, long nanos) {
+        ejecuciones[clase]++;
+        muestras[clase]++;
+        nanosTotales[clase] += nanos;
+        int bucket = Math.min(64 - Long.numberOfLeadingZeros(Math.max(nanos, 0)), BUCKETS - 1);
+        histogramas[clase * BUCKETS + bucket]++;
+    }
+
+    public long getEjecuciones(int clase) {
+        return ejecuciones[clase];
+    }
+
+    public long getTotalEjecuciones() {
+        long total = 0;
+        for (long cantidad : ejecuciones) {
+            total += cantidad;
+        }
+        return total;
+    }
+
+    public long getMuestras(int clase) {
+        return muestras[clase];
+    }
+
+    public long getBucket(int clase, int bucket) {
+        return histogramas[clase * BUCKETS + bucket];
+    }
+
+    /* Tiempo medio de ejecucion de la clase en ns, o 0 si no hay muestras */
+    public double getNanosPromedio(int clase) {
+        long cantidad = muestras[clase];
+        return cantidad == 0 ? 0 : (double) nanosTotales[clase] / cantidad;
+    }
+
+    /* Cota superior (en ns) del bucket que contiene el percentil indicado (0-100), o 0 si no hay muestras */
+    public long getPercentil(int clase, double percentil) {
+        long cantidad = muestras[clase];
+        if (cantidad == 0) {
+            return 0;
+        }
+
+        long objetivo = (long) Math.ceil(cantidad * percentil / 100.0);
+        long acumulado = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            acumulado += histogramas[clase * BUCKETS + bucket];
+            if (acumulado >= objetivo) {
+                return 1L << bucket;
+            }
+        }
+        return 1L << (BUCKETS - 1);
+    }
+
+    /**
+     * Exporta los contadores en formato CSV: una fila por clase de opcode
+     * con la cantidad de ejecuciones, las muestras de tiempo, el tiempo medio
+     * y la cantidad de muestras de cada bucket del histograma.
+     */
+    public void exportarCSV(Writer destino) throws IOException {
+        StringBuilder linea = new StringBuilder(512);
+        linea.append("clase,ejecuciones,muestras,ns_promedio");
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            linea.append(",menor_").append(1L << bucket).append("ns");
+        }
+        destino.write(linea.append('\n').toString());
+
+        for (int clase = 0; clase < CANTIDAD_CLASES; clase++) {
+            linea.setLength(0);
+            linea.append(CLASES[clase]).append(',').append(ejecuciones[clase]).append(',').append(muestras[clase])
+                    .append(',').append(String.format(Locale.ROOT, "%.1f", getNanosPromedio(clase)));
+            for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                linea.append(',').append(histogramas[clase * BUCKETS + bucket]);
+            }
+            destino.write(linea.append('\n').toString());
+        }
+        destino.flush();
+    }
+}
@@ -0,0 +1,567 @@
+/*
+ * Copyright (C) 2022 Diego Andrés Gutiérrez Berón
+ * 
+ * Some parts of this software were made as adaptations of ideas other than mine.
+ * In any case, due credit or references are given for any ideas or code that 
+ * served as an implementation base for this software.
+ *
+ * THIS PROGRAM IS LICENSED UNDER THE TERMS OF THE GNU GENERAL PUBLIC LICENSE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package emulator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Puntos de parada (breakpoints) y de vigilancia (watchpoints) del
+ * depurador.
+ *
+ * Admite breakpoints por direccion del PC y por clase de opcode (patrones
+ * como "DXYN" o "FX55"), breakpoints condicionales (ver Chip8_Condicion) y
+ * watchpoints de lectura o escritura sobre rangos de memoria y sobre los
+ * registros V0-VF e I. Las condiciones restringidas a una direccion solo se
+ * evaluan cuando el PC llega a ella.
+ *
+ * La CPU solo consulta al depurador si isActivo() es true, es decir, si hay
+ * al menos un punto definido; en ese caso ejecuta su ciclo instrumentado a
+ * partir de la siguiente instruccion. Sin puntos definidos se usa el ciclo
+ * normal y la depuracion no agrega costo. Los metodos de modificacion se
+ * invocan desde la interfaz; los de verificacion, desde el hilo de la CPU.
+ */
+public class Chip8_Depurador {
+
+    /* Tipo de acceso vigilado */
+    public enum Acceso {
+
+        LECTURA("Lectura", 1),
+        ESCRITURA("Escritura", 2),
+        AMBOS("Lectura/Escritura", 3);
+
+        private final String nombre;
+        private final int bits;
+
+        private Acceso(String nombre, int bits) {
+            this.nombre = nombre;
+            this.bits = bits;
+        }
+
+        @Override
+        public String toString() {
+            return nombre;
+        }
+    }
+
+    /* Numero de registro usado para el registro indice I en los watchpoints de registros */
+    public static final int REGISTRO_I = 16;
+
+    /* Clase de opcode: patron de 4 digitos hexadecimales donde X, Y, N (o K) son comodines */
+    public static final class ClaseOpcode {
+
+        private final String patron;
+        private final int mascara;
+        private final int valor;
+
+        private ClaseOpcode(String patron, int mascara, int valor) {
+            this.patron = patron;
+            this.mascara = mascara;
+            this.valor = valor;
+        }
+
+        public String getPatron() {
+            return patron;
+        }
+
+        boolean coincide(int opcode) {
+            return (opcode & mascara) == valor;
+        }
+
+        @Override
+        public String toString() {
+            return "Opcode " + patron;
+        }
+    }
+
+    /* Watchpoint sobre un rango de memoria o sobre un registro */
+    public static final class Watchpoint {
+
+        private final boolean registro;     // true: vigila el registro "desde"; false: el rango de memoria [desde, hasta]
+        private final int desde;
+        private final int hasta;
+        private final Acceso acceso;
+
+        private Watchpoint(boolean registro, int desde, int hasta, Acceso acceso) {
+            this.registro = registro;
+            this.desde = desde;
+            this.hasta = hasta;
+            this.acceso = acceso;
+        }
+
+        public boolean isRegistro() {
+            return registro;
+        }
+
+        public int getDesde() {
+            return desde;
+        }
+
+        public int getHasta() {
+            return hasta;
+        }
+
+        public Acceso getAcceso() {
+            return acceso;
+        }
+
+        @Override
+        public String toString() {
+            if (registro) {
+                return acceso + " " + nombreRegistro(desde);
+            }
+            return acceso + " " + Chip8_Hex.palabraHex(desde).substring(1)
+                    + (hasta != desde ? "-" + Chip8_Hex.palabraHex(hasta).substring(1) : "");
+        }
+    }
+
+    private static final int TAMANO_MEMORIA = 4096;
+
+    private final boolean[] breakpoints = new boolean[TAMANO_MEMORIA];
+    private final List<Integer> listaBreakpoints = new ArrayList<>();
+    private volatile ClaseOpcode[] clasesOpcode = new ClaseOpcode[0];
+    private final List<Chip8_Condicion> condiciones = new ArrayList<>();
+    private final Chip8_Condicion[][] condicionesDireccion = new Chip8_Condicion[TAMANO_MEMORIA][];  // por direccion, null si no hay
+    private Chip8_Condicion[] condicionesGlobales = new Chip8_Condicion[0];                        // evaluadas en cada instruccion
+    private final List<Watchpoint> watchpoints = new ArrayList<>();
+
+    // Tablas derivadas de los watchpoints, consultadas por la CPU
+    private final byte[] accesosMemoria = new byte[TAMANO_MEMORIA];    // bits de Acceso vigilados por direccion
+    private int registrosLectura;                                       // registros vigilados (bit 16 = I)
+    private int registrosEscritura;
+
+    private volatile boolean activo;
+    private volatile String motivoParada;
+    private volatile int version;           // cambia con cada modificacion de los puntos definidos
+
+    /* Indicador compartido con la CPU, que se levanta al cambiar el estado activo */
+    private final AtomicBoolean cambioInstrumentacion;
+
+    Chip8_Depurador(AtomicBoolean cambioInstrumentacion) {
+        this.cambioInstrumentacion = cambioInstrumentacion;
+    }
+
+    public boolean isActivo() {
+        return activo;
+    }
+
+    /* Numero de modificacion de los puntos definidos; permite a la interfaz refrescarse solo si cambiaron */
+    public int getVersion() {
+        return version;
+    }
+
+    /* Descripcion del ultimo punto que detuvo la ejecucion, o null */
+    public String getMotivoParada() {
+        return motivoParada;
+    }
+
+    public synchronized void agregarBreakpoint(int direccion) {
+        direccion &= 0xFFF;
+        if (!breakpoints[direccion]) {
+            breakpoints[direccion] = true;
+            listaBreakpoints.add(direccion);
+            actualizarActivo();
+        }
+    }
+
+    public synchronized void quitarBreakpoint(int direccion) {
+        direccion &= 0xFFF;
+        if (breakpoints[direccion]) {
+            breakpoints[direccion] = false;
+            listaBreakpoints.remove(Integer.valueOf(direccion));
+            actualizarActivo();
+        }
+    }
+
+    /* Agrega o quita el breakpoint de la direccion; devuelve true si quedo definido */
+    public synchronized boolean alternarBreakpoint(int direccion) {
+        if (breakpoints[direccion & 0xFFF]) {
+            quitarBreakpoint(direccion);
+            return false;
+        }
+        agregarBreakpoint(direccion);
+        return true;
+    }
+
+    public boolean hayBreakpoint(int direccion) {
+        return breakpoints[direccion & 0xFFF];
+    }
+
+    public synchronized List<Integer> getBreakpoints() {
+        return new ArrayList<>(listaBreakpoints);
+    }
+
+    /**
+     * Agrega un breakpoint por clase de opcode. El patron tiene 4 caracteres:
+     * digitos hexadecimales fijos y comodines X, Y, N o K (por ejemplo
+     * "DXYN", "FX33", "8XY4", "00E0").
+     *
+     * @throws IllegalArgumentException si el patron no es valido
+     */
+    public synchronized ClaseOpcode agregarClaseOpcode(String patron) {
+        patron = patron.trim().toUpperCase();
+        if (patron.length() != 4) {
+            throw new IllegalArgumentException("El patron de opcode debe tener 4 caracteres: " + patron);
+        }
+
+        int mascara = 0;
+        int valor = 0;
+        for (int i = 0; i < 4; i++) {
+            char c = patron.charAt(i);
+            int digito = Character.digit(c, 16);
+            mascara <<= 4;
+            valor <<= 4;
+            if (digito >= 0) {
+                mascara |= 0xF;
+                valor |= digito;
+            } else if (c != 'X' && c != 'Y' && c != 'N' && c != 'K') {
+                throw new IllegalArgumentException("Caracter no valido en el patron de opcode: " + c);
+            }
+        }
+
+        ClaseOpcode clase = new ClaseOpcode(patron, mascara, valor);
+        ClaseOpcode[] nuevas = Arrays.copyOf(clasesOpcode, clasesOpcode.length + 1);
+        nuevas[clasesOpcode.length] = clase;
+        clasesOpcode = nuevas;
+        actualizarActivo();
+        return clase;
+    }
+
+    public synchronized void quitarClaseOpcode(ClaseOpcode clase) {
+        List<ClaseOpcode> restantes = new ArrayList<>();
+        for (ClaseOpcode c : clasesOpcode) {
+            if (c != clase) {
+                restantes.add(c);
+            }
+        }
+        clasesOpcode = restantes.toArray(new ClaseOpcode[restantes.size()]);
+        actualizarActivo();
+    }
+
+    public List<ClaseOpcode> getClasesOpcode() {
+        return Arrays.asList(clasesOpcode.clone());
+    }
+
+    /**
+     * Agrega un breakpoint condicional a partir de una expresion.
+     *
+     * @throws IllegalArgumentException si la expresion no es valida
+     */
+    public synchronized Chip8_Condicion agregarCondicion(String expresion) {
+        Chip8_Condicion condicion = Chip8_Condicion.compilar(expresion);
+        condiciones.add(condicion);
+        recalcularCondiciones();
+        return condicion;
+    }
+
+    public synchronized void quitarCondicion(Chip8_Condicion condicion) {
+        condiciones.remove(condicion);
+        recalcularCondiciones();
+    }
+
+    public synchronized List<Chip8_Condicion> getCondiciones() {
+        return new ArrayList<>(condiciones);
+    }
+
+    private void recalcularCondiciones() {
+        Arrays.fill(condicionesDireccion, null);
+        List<Chip8_Condicion> globales = new ArrayList<>();
+
+        for (Chip8_Condicion condicion : condiciones) {
+            int direccion = condicion.getDireccion();
+            if (direccion < 0) {
+                globales.add(condicion);
+            } else {
+                Chip8_Condicion[] anteriores = condicionesDireccion[direccion];
+                Chip8_Condicion[] nuevas = anteriores == null
+                        ? new Chip8_Condicion[1] : Arrays.copyOf(anteriores, anteriores.length + 1);
+                nuevas[nuevas.length - 1] = condicion;
+                condicionesDireccion[direccion] = nuevas;
+            }
+        }
+
+        condicionesGlobales = globales.toArray(new Chip8_Condicion[globales.size()]);
+        actualizarActivo();
+    }
+
+    /* Vigila los accesos al rango de memoria [desde, hasta] */
+    public synchronized Watchpoint agregarWatchpointMemoria(int desde, int hasta, Acceso acceso) {
+        Watchpoint watchpoint = new Watchpoint(false, Math.min(desde, hasta) & 0xFFF, Math.max(desde, hasta) & 0xFFF, acceso);
+        watchpoints.add(watchpoint);
+        recalcularWatchpoints();
+        return watchpoint;
+    }
+
+    /* Vigila los accesos a un registro: 0-15 para V0-VF, REGISTRO_I para I */
+    public synchronized Watchpoint agregarWatchpointRegistro(int registro, Acceso acceso) {
+        if (registro < 0 || registro > REGISTRO_I) {
+            throw new IllegalArgumentException("Registro no valido: " + registro);
+        }
+        Watchpoint watchpoint = new Watchpoint(true, registro, registro, acceso);
+        watchpoints.add(watchpoint);
+        recalcularWatchpoints();
+        return watchpoint;
+    }
+
+    public synchronized void quitarWatchpoint(Watchpoint watchpoint) {
+        watchpoints.remove(watchpoint);
+        recalcularWatchpoints();
+    }
+
+    public synchronized List<Watchpoint> getWatchpoints() {
+        return new ArrayList<>(watchpoints);
+    }
+
+    /* Quita todos los puntos definidos */
+    public synchronized void limpiar() {
+        for (int direccion : listaBreakpoints) {
+            breakpoints[direccion] = false;
+        }
+        listaBreakpoints.clear();
+        clasesOpcode = new ClaseOpcode[0];
+        condiciones.clear();
+        recalcularCondiciones();
+        watchpoints.clear();
+        recalcularWatchpoints();
+    }
+
+    private void recalcularWatchpoints() {
+        Arrays.fill(accesosMemoria, (byte) 0);
+        int lectura = 0;
+        int escritura = 0;
+
+        for (Watchpoint watchpoint : watchpoints) {
+            if (watchpoint.registro) {
+                if ((watchpoint.acceso.bits & 1) != 0) {
+                    lectura |= 1 << watchpoint.desde;
+                }
+                if ((watchpoint.acceso.bits & 2) != 0) {
+                    escritura |= 1 << watchpoint.desde;
+                }
+            } else {
+                for (int direccion = watchpoint.desde; direccion <= watchpoint.hasta; direccion++) {
+                    accesosMemoria[direccion] |= watchpoint.acceso.bits;
+                }
+            }
+        }
+
+        registrosLectura = lectura;
+        registrosEscritura = escritura;
+        actualizarActivo();
+    }
+
+    // La escritura del campo volatil publica las tablas modificadas para el hilo de la CPU
+    private void actualizarActivo() {
+        version++;
+        activo = !listaBreakpoints.isEmpty() || clasesOpcode.length > 0 || !condiciones.isEmpty()
+                || !watchpoints.isEmpty();
+        cambioInstrumentacion.set(true);
+    }
+
+    /**
+     * Verifica, antes de ejecutar la instruccion, si hay un breakpoint en la
+     * direccion, para la clase del opcode o una condicion que se cumpla.
+     * Invocado por el hilo de la CPU.
+     */
+    boolean verificarBreakpoint(Chip8_CPU cpu, int pc, int opcode) {
+        if (breakpoints[pc & 0xFFF]) {
+            motivoParada = "Breakpoint en " + Chip8_Hex.palabraHex(pc).substring(1);
+            return true;
+        }
+
+        for (ClaseOpcode clase : clasesOpcode) {
+            if (clase.coincide(opcode)) {
+                motivoParada = "Opcode " + Chip8_Hex.palabraHex(opcode) + " (" + clase.patron + ") en "
+                        + Chip8_Hex.palabraHex(pc).substring(1);
+                return true;
+            }
+        }
+
+        Chip8_Condicion[] enDireccion = condicionesDireccion[pc & 0xFFF];
+        if (enDireccion != null && verificarCondiciones(cpu, pc, enDireccion)) {
+            return true;
+        }
+        return verificarCondiciones(cpu, pc, condicionesGlobales);
+    }
+
+    private boolean verificarCondiciones(Chip8_CPU cpu, int pc, Chip8_Condicion[] lista) {
+        for (Chip8_Condicion condicion : lista) {
+            if (condicion.evaluar(cpu)) {
+                motivoParada = "Condicion " + condicion.getTexto() + " en " + Chip8_Hex.palabraHex(pc).substring(1);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Verifica, antes de ejecutar la instruccion, si esta accedera a memoria
+     * o registros vigilados. La ejecucion se detiene despues de ejecutarla.
+     * Invocado por el hilo de la CPU.
+     */
+    boolean verificarAccesos(int pc, int opcode, int registroIndice) {
+        long registros = accesosRegistros(opcode);
+        int leidos = (int) registros & registrosLectura;
+        int escritos = (int) (registros >>> 32) & registrosEscritura;
+
+        if ((leidos | escritos) != 0) {
+            int registro = Integer.numberOfTrailingZeros(leidos | escritos);
+            motivoParada = (escritos != 0 ? "Escritura de " : "Lectura de ") + nombreRegistro(registro)
+                    + " en " + Chip8_Hex.palabraHex(pc).substring(1);
+            return true;
+        }
+
+        int x = (opcode & 0x0F00) >> 8;
+        switch (opcode & 0xF0FF) {
+            case 0xF033:
+                return verificarMemoria(pc, registroIndice, 3, Acceso.ESCRITURA);
+            case 0xF055:
+                return verificarMemoria(pc, registroIndice, x + 1, Acceso.ESCRITURA);
+            case 0xF065:
+                return verificarMemoria(pc, registroIndice, x + 1, Acceso.LECTURA);
+            default:
+                if ((opcode & 0xF000) == 0xD000) {
+                    return verificarMemoria(pc, registroIndice, opcode & 0x000F, Acceso.LECTURA);
+                }
+                return false;
+        }
+    }
+
+    private boolean verificarMemoria(int pc, int desde, int cantidad, Acceso acceso) {
+        for (int i = 0; i < cantidad; i++) {
+            int direccion = (desde + i) & 0xFFF;
+            if ((accesosMemoria[direccion] & acceso.bits) != 0) {
+                motivoParada = acceso + " de " + Chip8_Hex.palabraHex(direccion).substring(1)
+                        + " en " + Chip8_Hex.palabraHex(pc).substring(1);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Registros que lee (32 bits bajos) y escribe (32 bits altos) un opcode:
+     * bits 0-15 para V0-VF y bit 16 (REGISTRO_I) para I.
+     */
+    public static long accesosRegistros(int opcode) {
+        int x = 1 << ((opcode & 0x0F00) >> 8);
+        int y = 1 << ((opcode & 0x00F0) >> 4);
+        int vf = 1 << 0xF;
+        int i = 1 << REGISTRO_I;
+        int hastaX = (x << 1) - 1;      // V0 a VX
+
+        int lectura = 0;
+        int escritura = 0;
+
+        switch (opcode & 0xF000) {
+            case 0x3000:
+            case 0x4000:
+            case 0xE000:
+                lectura = x;
+                break;
+            case 0x5000:
+            case 0x9000:
+                lectura = x | y;
+                break;
+            case 0x6000:
+            case 0xC000:
+                escritura = x;
+                break;
+            case 0x7000:
+                lectura = x;
+                escritura = x;
+                break;
+            case 0x8000:
+                switch (opcode & 0x000F) {
+                    case 0x0:
+                        lectura = y;
+                        escritura = x;
+                        break;
+                    case 0x6:
+                    case 0xE:
+                        lectura = x | y;
+                        escritura = x | vf;
+                        break;
+                    default:
+                        lectura = x | y;
+                        escritura = x | ((opcode & 0x000F) >= 4 ? vf : 0);
+                        break;
+                }
+                break;
+            case 0xA000:
+                escritura = i;
+                break;
+            case 0xB000:
+                lectura = 1;
+                break;
+            case 0xD000:
+                lectura = x | y | i;
+                escritura = vf;
+                break;
+            case 0xF000:
+                switch (opcode & 0x00FF) {
+                    case 0x07:
+                    case 0x0A:
+                        escritura = x;
+                        break;
+                    case 0x15:
+                    case 0x18:
+                        lectura = x;
+                        break;
+                    case 0x1E:
+                        // VF indica el desborde de I por encima de 0xFFF
+                        lectura = x | i;
+                        escritura = i | vf;
+                        break;
+                    case 0x29:
+                        lectura = x;
+                        escritura = i;
+                        break;
+                    case 0x33:
+                        lectura = x | i;
+                        break;
+                    case 0x55:
+                        lectura = hastaX | i;
+                        break;
+                    case 0x65:
+                        lectura = i;
+                        escritura = hastaX;
+                        break;
+                    default:
+                        break;
+                }
+                break;
+            default:
+                break;
+        }
+
+        return ((long) escritura << 32) | (lectura & 0xFFFFFFFFL);
+    }
+
+    public static String nombreRegistro(int registro) {
+        return registro == REGISTRO_I ? "I" : "V" + "0123456789ABCDEF".charAt(registro);
+    }
+}
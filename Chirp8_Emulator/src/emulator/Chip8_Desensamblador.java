@@ -0,0 +1,266 @@
+/*
+ * Copyright (C) 2022 Diego Andrés Gutiérrez Berón
+ * 
+ * Some parts of this software were made as adaptations of ideas other than mine.
+ * In any case, due credit or references are given for any ideas or code that 
+ * served as an implementation base for this software.
+ *
+ * THIS PROGRAM IS LICENSED UNDER THE TERMS OF THE GNU GENERAL PUBLIC LICENSE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package emulator;
+
+import java.util.Arrays;
+
+/**
+ * Desensamblador de instrucciones CHIP-8 con cache por direccion.
+ *
+ * Decodifica cada direccion par de la memoria (las instrucciones ocupan 2
+ * bytes) y guarda el opcode decodificado y su texto. Cuando la CPU escribe
+ * en memoria solo se recalculan las lineas de 16 bytes marcadas como
+ * modificadas (ver Chip8_CPU.tomarLineasModificadas). El texto de cada
+ * instruccion se arma recien cuando se pide, y se conserva hasta que su
+ * linea se invalida.
+ *
+ * Tambien lleva la cuenta de cuantos saltos (1NNN, BNNN) y llamadas (2NNN)
+ * apuntan a cada direccion, para marcar los destinos en el listado.
+ *
+ * Mnemonicos segun la referencia tecnica de Cowgod.
+ */
+public class Chip8_Desensamblador {
+
+    private final int[] memoria;
+
+    private final int[] opcodes;        // opcode decodificado en cada direccion par (-1 = sin decodificar)
+    private final String[] textos;      // texto de cada instruccion (null = sin armar)
+    private final int[] referencias;    // cantidad de saltos o llamadas que apuntan a cada direccion
+
+    public Chip8_Desensamblador(int[] memoria) {
+        this.memoria = memoria;
+        this.opcodes = new int[memoria.length / 2];
+        this.textos = new String[memoria.length / 2];
+        this.referencias = new int[memoria.length];
+
+        Arrays.fill(opcodes, -1);
+        invalidarTodo();
+    }
+
+    /* Cantidad de instrucciones del listado (una por cada direccion par) */
+    public int getInstrucciones() {
+        return opcodes.length;
+    }
+
+    /**
+     * Vuelve a decodificar las instrucciones de las lineas marcadas en la
+     * mascara (1 bit por linea de 16 bytes).
+     */
+    public void invalidar(long[] lineas) {
+        int totalLineas = memoria.length / Chip8_CPU.BYTES_POR_LINEA;
+
+        for (int linea = 0; linea < totalLineas; linea++) {
+            if ((lineas[linea >> 6] & (1L << (linea & 63))) != 0) {
+                int base = linea * Chip8_CPU.BYTES_POR_LINEA;
+                for (int direccion = base; direccion < base + Chip8_CPU.BYTES_POR_LINEA; direccion += 2) {
+                    decodificar(direccion);
+                }
+            }
+        }
+    }
+
+    /* Vuelve a decodificar toda la memoria */
+    public void invalidarTodo() {
+        for (int direccion = 0; direccion < memoria.length; direccion += 2) {
+            decodificar(direccion);
+        }
+    }
+
+    private void decodificar(int direccion) {
+        int indice = direccion >> 1;
+        int opcode = ((memoria[direccion] & 0xFF) << 8) | (memoria[direccion + 1] & 0xFF);
+
+        if (opcode == opcodes[indice]) {
+            return;
+        }
+
+        // Actualizar las referencias al destino anterior y al nuevo
+        if (opcodes[indice] >= 0) {
+            int destinoAnterior = destino(opcodes[indice]);
+            if (destinoAnterior >= 0) {
+                referencias[destinoAnterior]--;
+            }
+        }
+
+        int destinoNuevo = destino(opcode);
+        if (destinoNuevo >= 0 && destinoNuevo < referencias.length) {
+            referencias[destinoNuevo]++;
+        }
+
+        opcodes[indice] = opcode;
+        textos[indice] = null;
+    }
+
+    public int getOpcode(int direccion) {
+        return opcodes[direccion >> 1];
+    }
+
+    /* Texto de la instruccion en la direccion indicada, armado una sola vez */
+    public String getTexto(int direccion) {
+        int indice = direccion >> 1;
+
+        if (textos[indice] == null) {
+            textos[indice] = mnemonico(opcodes[indice]);
+        }
+
+        return textos[indice];
+    }
+
+    /* Indica si algun salto o llamada apunta a la direccion */
+    public boolean esDestino(int direccion) {
+        return referencias[direccion] > 0;
+    }
+
+    public int getReferencias(int direccion) {
+        return referencias[direccion];
+    }
+
+    /**
+     * Direccion de destino de un salto o llamada, o -1 si la instruccion no
+     * transfiere el control a una direccion fija. Para BNNN se devuelve la
+     * direccion base NNN (el destino real depende de V0).
+     */
+    public static int destino(int opcode) {
+        switch (opcode & 0xF000) {
+            case 0x1000:
+            case 0x2000:
+            case 0xB000:
+                return opcode & 0x0FFF;
+            default:
+                return -1;
+        }
+    }
+
+    /* Devuelve el mnemonico de un opcode; los opcodes desconocidos se muestran como datos (DW) */
+    public static String mnemonico(int opcode) {
+        int x = (opcode & 0x0F00) >> 8;
+        int y = (opcode & 0x00F0) >> 4;
+        int n = opcode & 0x000F;
+        int nn = opcode & 0x00FF;
+        int nnn = opcode & 0x0FFF;
+
+        switch (opcode & 0xF000) {
+            case 0x0000:
+                if (opcode == 0x00E0) {
+                    return "CLS";
+                }
+                if (opcode == 0x00EE) {
+                    return "RET";
+                }
+                return "SYS  " + direccion(nnn);
+            case 0x1000:
+                return "JP   " + direccion(nnn);
+            case 0x2000:
+                return "CALL " + direccion(nnn);
+            case 0x3000:
+                return "SE   " + v(x) + ", " + Chip8_Hex.byteHex(nn);
+            case 0x4000:
+                return "SNE  " + v(x) + ", " + Chip8_Hex.byteHex(nn);
+            case 0x5000:
+                return n == 0 ? "SE   " + v(x) + ", " + v(y) : datos(opcode);
+            case 0x6000:
+                return "LD   " + v(x) + ", " + Chip8_Hex.byteHex(nn);
+            case 0x7000:
+                return "ADD  " + v(x) + ", " + Chip8_Hex.byteHex(nn);
+            case 0x8000:
+                switch (n) {
+                    case 0x0:
+                        return "LD   " + v(x) + ", " + v(y);
+                    case 0x1:
+                        return "OR   " + v(x) + ", " + v(y);
+                    case 0x2:
+                        return "AND  " + v(x) + ", " + v(y);
+                    case 0x3:
+                        return "XOR  " + v(x) + ", " + v(y);
+                    case 0x4:
+                        return "ADD  " + v(x) + ", " + v(y);
+                    case 0x5:
+                        return "SUB  " + v(x) + ", " + v(y);
+                    case 0x6:
+                        return "SHR  " + v(x) + ", " + v(y);
+                    case 0x7:
+                        return "SUBN " + v(x) + ", " + v(y);
+                    case 0xE:
+                        return "SHL  " + v(x) + ", " + v(y);
+                    default:
+                        return datos(opcode);
+                }
+            case 0x9000:
+                return n == 0 ? "SNE  " + v(x) + ", " + v(y) : datos(opcode);
+            case 0xA000:
+                return "LD   I, " + direccion(nnn);
+            case 0xB000:
+                return "JP   V0, " + direccion(nnn);
+            case 0xC000:
+                return "RND  " + v(x) + ", " + Chip8_Hex.byteHex(nn);
+            case 0xD000:
+                return "DRW  " + v(x) + ", " + v(y) + ", " + n;
+            case 0xE000:
+                if (nn == 0x9E) {
+                    return "SKP  " + v(x);
+                }
+                if (nn == 0xA1) {
+                    return "SKNP " + v(x);
+                }
+                return datos(opcode);
+            case 0xF000:
+                switch (nn) {
+                    case 0x07:
+                        return "LD   " + v(x) + ", DT";
+                    case 0x0A:
+                        return "LD   " + v(x) + ", K";
+                    case 0x15:
+                        return "LD   DT, " + v(x);
+                    case 0x18:
+                        return "LD   ST, " + v(x);
+                    case 0x1E:
+                        return "ADD  I, " + v(x);
+                    case 0x29:
+                        return "LD   F, " + v(x);
+                    case 0x33:
+                        return "LD   B, " + v(x);
+                    case 0x55:
+                        return "LD   [I], " + v(x);
+                    case 0x65:
+                        return "LD   " + v(x) + ", [I]";
+                    default:
+                        return datos(opcode);
+                }
+            default:
+                return datos(opcode);
+        }
+    }
+
+    private static String v(int registro) {
+        return "V" + "0123456789ABCDEF".charAt(registro);
+    }
+
+    private static String direccion(int direccion) {
+        return Chip8_Hex.palabraHex(direccion).substring(1);
+    }
+
+    private static String datos(int opcode) {
+        return "DW   " + Chip8_Hex.palabraHex(opcode);
+    }
+}
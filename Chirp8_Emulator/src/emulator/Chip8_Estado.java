@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2022 Diego Andrés Gutiérrez Berón
+ * 
+ * Some parts of this software were made as adaptations of ideas other than mine.
+ * In any case, due credit or references are given for any ideas or code that 
+ * served as an implementation base for this software.
+ *
+ * THIS PROGRAM IS LICENSED UNDER THE TERMS OF THE GNU GENERAL PUBLIC LICENSE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package emulator;
+
+/**
+ * Instantanea inmutable del estado de la CPU.
+ *
+ * La CPU publica una instancia nueva en cada limite de frame (y tras cada
+ * instruccion en modo paso a paso) mediante una referencia atomica. Los
+ * observadores (depurador, metricas, herramientas remotas) leen siempre una
+ * instantanea completa y coherente en lugar de los campos vivos de la CPU,
+ * que el hilo de emulacion modifica sin sincronizacion.
+ *
+ * La memoria no se copia: sus cambios se informan por lineas modificadas
+ * (ver Chip8_CPU.tomarLineasModificadas).
+ */
+public final class Chip8_Estado {
+
+    private final long version;                 // numero de publicacion, crece con cada instantanea
+    private final long instrucciones;           // instrucciones ejecutadas desde la inicializacion
+    private final int opcode;
+    private final int programCounter;
+    private final int registroIndice;
+    private final int stackPointer;
+    private final int delayTimer;
+    private final int soundTimer;
+    private final int clockFrequency;
+    private final int[] registrosV;
+    private final int[] pila;
+
+    Chip8_Estado(long version, long instrucciones, int opcode, int programCounter, int registroIndice,
+            int stackPointer, int delayTimer, int soundTimer, int clockFrequency, int[] registrosV, int[] pila) {
+        this.version = version;
+        this.instrucciones = instrucciones;
+        this.opcode = opcode;
+        this.programCounter = programCounter;
+        this.registroIndice = registroIndice;
+        this.stackPointer = stackPointer;
+        this.delayTimer = delayTimer;
+        this.soundTimer = soundTimer;
+        this.clockFrequency = clockFrequency;
+        this.registrosV = registrosV.clone();
+        this.pila = pila.clone();
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public long getInstrucciones() {
+        return instrucciones;
+    }
+
+    public int getOpcode() {
+        return opcode;
+    }
+
+    public int getProgramCounter() {
+        return programCounter;
+    }
+
+    public int getRegistroIndice() {
+        return registroIndice;
+    }
+
+    public int getStackPointer() {
+        return stackPointer;
+    }
+
+    public int getDelayTimer() {
+        return delayTimer;
+    }
+
+    public int getSoundTimer() {
+        return soundTimer;
+    }
+
+    public int getClockFrequency() {
+        return clockFrequency;
+    }
+
+    public int getRegistroV(int indice) {
+        return registrosV[indice];
+    }
+
+    public int getNivelPila(int indice) {
+        return pila[indice];
+    }
+
+    public int getProfundidadPila() {
+        return pila.length;
+    }
+}
@@ -0,0 +1,313 @@
+/*
+ * Copyright (C) 2022 Diego Andrés Gutiérrez Berón
+ * 
+ * Some parts of this software were made as adaptations of ideas other than mine.
+ * In any case, due credit or references are given for any ideas or code that 
+ * served as an implementation base for this software.
+ *
+ * THIS PROGRAM IS LICENSED UNDER THE TERMS OF THE GNU GENERAL PUBLIC LICENSE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package emulator;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import jdk.jfr.StackTrace;
+
+/**
+ * Eventos del emulador para JDK Flight Recorder: frames emulados, dibujo de
+ * sprites (DXYN), ticks de los temporizadores, sonido, carga de ROMs y
+ * teclas. Permiten relacionar las demoras del emulador con la actividad del
+ * recolector de basura y del compilador JIT en JDK Mission Control.
+ *
+ * Los eventos estan deshabilitados por defecto; se habilitan con la
+ * configuracion chirp8.jfc del proyecto, combinada con la del JDK:
+ *
+ * <pre>
+ *   java -XX:StartFlightRecording:settings=chirp8.jfc,settings=default,filename=chirp8.jfr -jar Chirp8_Emulator.jar
+ * </pre>
+ *
+ * Mientras no haya una grabacion en curso los metodos de esta clase solo
+ * leen un campo volatil y no crean objetos. Al cargarse la clase se registra
+ * un oyente de grabaciones, lo que carga la API de FlightRecorder pero no
+ * inicializa el grabador; las clases de los eventos se cargan y registran
+ * recien con la primera grabacion. Si el entorno de ejecucion no incluye JFR
+ * los eventos quedan desactivados. Los eventos de frame, sprite,
+ * temporizadores y sonido los emite solo el hilo de la CPU.
+ *
+ * @author Diego Gutierrez
+ */
+public final class Chip8_Eventos {
+
+    /* Indica si hay alguna grabacion de JFR en curso; lo actualiza el oyente de grabaciones */
+    private static volatile boolean activo;
+
+    // Eventos con duracion en curso
+    private static EventoFrame frame;
+    private static EventoSonido sonido;
+    private static EventoCargaROM carga;
+
+    static {
+        try {
+            Oyente.registrar();
+        } catch (LinkageError ex) {
+            // Entorno de ejecucion sin JFR: los eventos quedan desactivados
+        }
+    }
+
+    private Chip8_Eventos() {
+    }
+
+    public static boolean isActivo() {
+        return activo;
+    }
+
+    /* Cierra el frame emulado en curso y comienza el siguiente */
+    static void finDeFrame(long instruccionesEjecutadas) {
+        if (!activo) {
+            frame = null;
+            return;
+        }
+
+        if (frame != null) {
+            frame.instrucciones = instruccionesEjecutadas - frame.instruccionInicial;
+            frame.commit();
+        }
+        frame = new EventoFrame();
+        if (frame.isEnabled()) {
+            frame.instruccionInicial = instruccionesEjecutadas;
+            frame.begin();
+        } else {
+            frame = null;
+        }
+    }
+
+    static void sprite(int x, int y, int filas, int direccion, boolean colision) {
+        if (activo) {
+            EventoSprite evento = new EventoSprite();
+            if (evento.isEnabled()) {
+                evento.x = x;
+                evento.y = y;
+                evento.filas = filas;
+                evento.direccion = direccion;
+                evento.colision = colision;
+                evento.commit();
+            }
+        }
+    }
+
+    static void tickTemporizadores(int delayTimer, int soundTimer) {
+        if (activo) {
+            EventoTemporizadores evento = new EventoTemporizadores();
+            if (evento.isEnabled()) {
+                evento.delayTimer = delayTimer;
+                evento.soundTimer = soundTimer;
+                evento.commit();
+            }
+        }
+    }
+
+    static void inicioSonido(int frecuencia, int milisegundos) {
+        if (activo) {
+            sonido = new EventoSonido();
+            sonido.frecuencia = frecuencia;
+            sonido.milisegundos = milisegundos;
+            sonido.begin();
+        }
+    }
+
+    static void finSonido() {
+        if (sonido != null) {
+            sonido.commit();
+            sonido = null;
+        }
+    }
+
+    static void inicioCargaROM(String archivo) {
+        if (activo) {
+            carga = new EventoCargaROM();
+            carga.archivo = archivo;
+            carga.begin();
+        }
+    }
+
+    static void finCargaROM(int bytes) {
+        EventoCargaROM evento = carga;
+        carga = null;
+        if (evento != null) {
+            evento.bytes = bytes;
+            evento.commit();
+        }
+    }
+
+    static void tecla(int codigo, char caracter, boolean presionada) {
+        if (activo) {
+            EventoTecla evento = new EventoTecla();
+            if (evento.isEnabled()) {
+                evento.codigo = codigo;
+                evento.caracter = caracter;
+                evento.presionada = presionada;
+                evento.commit();
+            }
+        }
+    }
+
+    /* Registra los eventos y sigue el estado de las grabaciones; separado para aislar las clases de JFR */
+    private static final class Oyente implements FlightRecorderListener {
+
+        private static boolean registrados;
+
+        static void registrar() {
+            FlightRecorder.addListener(new Oyente());
+
+            // Las grabaciones iniciadas antes de registrar el oyente (-XX:StartFlightRecording) no se notifican
+            if (FlightRecorder.isInitialized()) {
+                actualizar();
+            }
+        }
+
+        @Override
+        public void recordingStateChanged(Recording recording) {
+            actualizar();
+        }
+
+        // Los eventos se registran con la primera grabacion, para no cargar sus clases ni inicializar JFR antes
+        private static synchronized void actualizar() {
+            boolean grabando = false;
+            for (Recording recording : FlightRecorder.getFlightRecorder().getRecordings()) {
+                grabando |= recording.getState() == RecordingState.RUNNING;
+            }
+            if (grabando && !registrados) {
+                registrados = true;
+                FlightRecorder.register(EventoFrame.class);
+                FlightRecorder.register(EventoSprite.class);
+                FlightRecorder.register(EventoTemporizadores.class);
+                FlightRecorder.register(EventoSonido.class);
+                FlightRecorder.register(EventoCargaROM.class);
+                FlightRecorder.register(EventoTecla.class);
+            }
+            activo = grabando;
+        }
+    }
+
+    @Name("chirp8.Frame")
+    @Label("Frame emulado")
+    @Description("Frame de 1/60 s emulado por la CPU, con las instrucciones ejecutadas")
+    @Category({"Chirp8", "CPU"})
+    @Enabled(false)
+    @StackTrace(false)
+    static final class EventoFrame extends Event {
+
+        @Label("Instrucciones")
+        long instrucciones;
+
+        transient long instruccionInicial;
+    }
+
+    @Name("chirp8.Sprite")
+    @Label("Dibujo de sprite")
+    @Description("Instruccion DXYN: sprite de N filas leido desde I y dibujado en (VX, VY)")
+    @Category({"Chirp8", "Video"})
+    @Enabled(false)
+    @StackTrace(false)
+    static final class EventoSprite extends Event {
+
+        @Label("X")
+        int x;
+
+        @Label("Y")
+        int y;
+
+        @Label("Filas")
+        int filas;
+
+        @Label("Direccion")
+        int direccion;
+
+        @Label("Colision")
+        boolean colision;
+    }
+
+    @Name("chirp8.Temporizadores")
+    @Label("Tick de temporizadores")
+    @Description("Actualizacion a 60 Hz de los temporizadores de retardo y sonido")
+    @Category({"Chirp8", "CPU"})
+    @Enabled(false)
+    @StackTrace(false)
+    static final class EventoTemporizadores extends Event {
+
+        @Label("Delay timer")
+        int delayTimer;
+
+        @Label("Sound timer")
+        int soundTimer;
+    }
+
+    @Name("chirp8.Sonido")
+    @Label("Sonido")
+    @Description("Tono generado al terminar el temporizador de sonido, desde que comienza hasta que termina")
+    @Category({"Chirp8", "Sonido"})
+    @Enabled(false)
+    @StackTrace(false)
+    static final class EventoSonido extends Event {
+
+        @Label("Frecuencia (Hz)")
+        int frecuencia;
+
+        @Label("Duracion pedida (ms)")
+        int milisegundos;
+    }
+
+    @Name("chirp8.CargaROM")
+    @Label("Carga de ROM")
+    @Description("Lectura de un programa a la memoria del interprete")
+    @Category({"Chirp8", "Programa"})
+    @Enabled(false)
+    static final class EventoCargaROM extends Event {
+
+        @Label("Archivo")
+        String archivo;
+
+        @Label("Bytes")
+        int bytes;
+    }
+
+    @Name("chirp8.Tecla")
+    @Label("Tecla")
+    @Description("Tecla presionada o liberada en la ventana del emulador")
+    @Category({"Chirp8", "Entrada"})
+    @Enabled(false)
+    @StackTrace(false)
+    static final class EventoTecla extends Event {
+
+        @Label("Codigo")
+        int codigo;
+
+        @Label("Caracter")
+        char caracter;
+
+        @Label("Presionada")
+        boolean presionada;
+    }
+}
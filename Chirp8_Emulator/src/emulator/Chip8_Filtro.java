@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2022 Diego Andrés Gutiérrez Berón
+ * 
+ * Some parts of this software were made as adaptations of ideas other than mine.
+ * In any case, due credit or references are given for any ideas or code that 
+ * served as an implementation base for this software.
+ *
+ * THIS PROGRAM IS LICENSED UNDER THE TERMS OF THE GNU GENERAL PUBLIC LICENSE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package emulator;
+
+/**
+ * Filtros de escalado de pixel-art para la pantalla del interprete.
+ *
+ * Como la pantalla del CHIP-8 es monocromo (1 bit por pixel), el resultado de
+ * los filtros Scale2x y Scale3x para un pixel depende solamente de su
+ * vecindario de 3x3 pixeles. Ese vecindario se empaqueta en un patron de 9
+ * bits y se precalcula una tabla de 512 entradas con el bloque de salida
+ * (escala x escala bits) correspondiente a cada patron, de forma que aplicar
+ * el filtro a la pantalla completa cuesta una busqueda en la tabla por pixel.
+ *
+ * Referencia: https://www.scale2x.it/algorithm
+ */
+public enum Chip8_Filtro {
+
+    NINGUNO("Ninguno", 1),
+    SCALE2X("Scale2x", 2),
+    SCALE3X("Scale3x", 3);
+
+    /*
+     * Bits del vecindario de 3x3 del pixel E:
+     *
+     *   A B C        8 7 6
+     *   D E F   =>   5 4 3
+     *   G H I        2 1 0
+     */
+    private static final int A = 8, B = 7, C = 6, D = 5, E = 4, F = 3, G = 2, H = 1, I = 0;
+
+    private final String nombre;
+    private final int escala;
+    private final int[] tabla = new int[512];   // patron de vecindario -> bloque de salida (bit sy * escala + sx)
+
+    private Chip8_Filtro(String nombre, int escala) {
+        this.nombre = nombre;
+        this.escala = escala;
+
+        for (int patron = 0; patron < tabla.length; patron++) {
+            tabla[patron] = calcularBloque(patron);
+        }
+    }
+
+    private static boolean bit(int patron, int posicion) {
+        return (patron & (1 << posicion)) != 0;
+    }
+
+    /* Calcular el bloque de salida de un patron de vecindario segun el algoritmo del filtro */
+    private int calcularBloque(int patron) {
+
+        boolean a = bit(patron, A), b = bit(patron, B), c = bit(patron, C);
+        boolean d = bit(patron, D), e = bit(patron, E), f = bit(patron, F);
+        boolean g = bit(patron, G), h = bit(patron, H), i = bit(patron, I);
+
+        boolean[] salida = new boolean[escala * escala];
+
+        for (int k = 0; k < salida.length; k++) {
+            salida[k] = e;
+        }
+
+        if (escala > 1 && b != h && d != f) {
+
+            if (escala == 2) {
+                salida[0] = (d == b) ? d : e;
+                salida[1] = (b == f) ? f : e;
+                salida[2] = (d == h) ? d : e;
+                salida[3] = (h == f) ? f : e;
+
+            } else if (escala == 3) {
+                salida[0] = (d == b) ? d : e;
+                salida[1] = ((d == b && e != c) || (b == f && e != a)) ? b : e;
+                salida[2] = (b == f) ? f : e;
+                salida[3] = ((d == b && e != g) || (d == h && e != a)) ? d : e;
+                salida[4] = e;
+                salida[5] = ((b == f && e != i) || (h == f && e != c)) ? f : e;
+                salida[6] = (d == h) ? d : e;
+                salida[7] = ((d == h && e != i) || (h == f && e != g)) ? h : e;
+                salida[8] = (h == f) ? f : e;
+            }
+        }
+
+        int bloque = 0;
+
+        for (int k = 0; k < salida.length; k++) {
+            if (salida[k]) {
+                bloque |= 1 << k;
+            }
+        }
+
+        return bloque;
+    }
+
+    /**
+     * Obtener el patron de vecindario de 3x3 del pixel (x, y). Los vecinos
+     * fuera de la pantalla repiten el pixel del borde.
+     */
+    static int patron(int[][] GFX, int ancho, int alto, int x, int y) {
+
+        int xa = (x > 0) ? x - 1 : x;
+        int xb = (x < ancho - 1) ? x + 1 : x;
+        int ya = (y > 0) ? y - 1 : y;
+        int yb = (y < alto - 1) ? y + 1 : y;
+
+        return ((GFX[xa][ya] != 0) ? 1 << A : 0)
+                | ((GFX[x][ya] != 0) ? 1 << B : 0)
+                | ((GFX[xb][ya] != 0) ? 1 << C : 0)
+                | ((GFX[xa][y] != 0) ? 1 << D : 0)
+                | ((GFX[x][y] != 0) ? 1 << E : 0)
+                | ((GFX[xb][y] != 0) ? 1 << F : 0)
+                | ((GFX[xa][yb] != 0) ? 1 << G : 0)
+                | ((GFX[x][yb] != 0) ? 1 << H : 0)
+                | ((GFX[xb][yb] != 0) ? 1 << I : 0);
+    }
+
+    /**
+     * Renderizar la fila y de la pantalla (ancho x alto) en el arreglo de
+     * pixeles destino, cuyo tamaño es (ancho * escala) x (alto * escala). Si
+     * se indica fondoFila, cada pixel usa su propio color de fondo
+     * (persistencia de fosforo); si es null se usa el color de fondo comun.
+     */
+    void renderizarFila(int[][] GFX, int ancho, int alto, int y, int[] destino, int frente, int fondo, int[] fondoFila) {
+
+        int anchoDestino = ancho * escala;
+
+        for (int x = 0; x < ancho; x++) {
+
+            int bloque = tabla[patron(GFX, ancho, alto, x, y)];
+            int colorFondo = (fondoFila != null) ? fondoFila[x] : fondo;
+            int desplazamiento = (y * escala) * anchoDestino + x * escala;
+
+            for (int sy = 0; sy < escala; sy++) {
+                for (int sx = 0; sx < escala; sx++) {
+                    destino[desplazamiento + sy * anchoDestino + sx] = ((bloque & (1 << (sy * escala + sx))) != 0) ? frente : colorFondo;
+                }
+            }
+        }
+    }
+
+    /* Filas de la pantalla afectadas por un cambio en las filas de la mascara (el vecindario abarca la fila anterior y la siguiente) */
+    long expandirFilas(long mascaraFilas) {
+        return (escala > 1) ? mascaraFilas | (mascaraFilas << 1) | (mascaraFilas >>> 1) : mascaraFilas;
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public int getEscala() {
+        return escala;
+    }
+
+    @Override
+    public String toString() {
+        return nombre;
+    }
+}
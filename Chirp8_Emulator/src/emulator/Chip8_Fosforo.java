@@ -0,0 +1,194 @@
+/*
+ * Copyright (C) 2022 Diego Andrés Gutiérrez Berón
+ * 
+ * Some parts of this software were made as adaptations of ideas other than mine.
+ * In any case, due credit or references are given for any ideas or code that 
+ * served as an implementation base for this software.
+ *
+ * THIS PROGRAM IS LICENSED UNDER THE TERMS OF THE GNU GENERAL PUBLIC LICENSE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package emulator;
+
+/**
+ * Filtro de persistencia de fosforo (reduccion de parpadeo).
+ *
+ * Los programas CHIP-8 borran y vuelven a dibujar sus sprites con XOR, lo que
+ * provoca un parpadeo muy notorio. Este filtro emula la persistencia del
+ * fosforo de un monitor CRT: cuando un pixel se apaga su intensidad decae
+ * gradualmente durante los frames siguientes en lugar de desaparecer de golpe.
+ *
+ * Cada pixel tiene un contador de intensidad en punto fijo (16 bits) que se
+ * multiplica por el factor de decaimiento una vez por frame. Solo se recorren
+ * las filas modificadas por la CPU y las filas que aun tienen pixeles en
+ * decaimiento, por lo que el costo con la pantalla estable es nulo.
+ */
+public class Chip8_Fosforo {
+
+    /* Niveles de persistencia seleccionables (factor de decaimiento por frame) */
+    public enum Persistencia {
+
+        DESACTIVADA("Desactivada", 0.0),
+        BAJA("Baja", 0.5),
+        MEDIA("Media", 0.7),
+        ALTA("Alta", 0.85);
+
+        private final String nombre;
+        private final int factor;   // factor de decaimiento en punto fijo 0.16
+
+        private Persistencia(String nombre, double factor) {
+            this.nombre = nombre;
+            this.factor = (int) Math.round(factor * 65536);
+        }
+
+        public String getNombre() {
+            return nombre;
+        }
+
+        @Override
+        public String toString() {
+            return nombre;
+        }
+    }
+
+    private static final int MAXIMO = 0xFFFF;   // intensidad de un pixel encendido
+    private static final int MINIMO = 0x0800;   // por debajo de este valor el pixel se considera apagado
+
+    private final int ancho;
+    private final int alto;
+
+    private final int[] intensidad;             // intensidad de cada pixel (punto fijo 0.16)
+    private long filasActivas;                  // filas con pixeles en decaimiento (1 bit por fila)
+
+    private Persistencia persistencia = Persistencia.DESACTIVADA;
+
+    // Colores de fondo de cada nivel de intensidad (256 niveles, mezcla de fondo hacia frente)
+    private final int[] paleta = new int[256];
+
+    public Chip8_Fosforo(int ancho, int alto) {
+        this.ancho = ancho;
+        this.alto = alto;
+        this.intensidad = new int[ancho * alto];
+    }
+
+    public boolean isActivo() {
+        return persistencia != Persistencia.DESACTIVADA;
+    }
+
+    /* Indica si quedan pixeles en decaimiento, que requieren renderizar frames aunque la CPU no dibuje */
+    public boolean hayFilasActivas() {
+        return filasActivas != 0;
+    }
+
+    /* Recalcular la paleta de mezcla entre el color de fondo y el de frente */
+    public void calcularPaleta(int frente, int fondo) {
+
+        for (int nivel = 0; nivel < paleta.length; nivel++) {
+
+            int r = mezclar((fondo >> 16) & 0xFF, (frente >> 16) & 0xFF, nivel);
+            int g = mezclar((fondo >> 8) & 0xFF, (frente >> 8) & 0xFF, nivel);
+            int b = mezclar(fondo & 0xFF, frente & 0xFF, nivel);
+
+            paleta[nivel] = 0xFF000000 | (r << 16) | (g << 8) | b;
+        }
+    }
+
+    private static int mezclar(int desde, int hasta, int nivel) {
+        return desde + ((hasta - desde) * nivel) / 255;
+    }
+
+    /**
+     * Avanzar un frame: actualiza la intensidad de los pixeles de las filas
+     * modificadas y de las filas en decaimiento. Si decaer es false (frames
+     * cerrados en pausa o paso a paso) solo se encienden los pixeles nuevos y
+     * los apagados conservan su intensidad. Devuelve la mascara de filas cuya
+     * imagen cambio y deben volver a renderizarse.
+     */
+    public long actualizar(int[][] GFX, long filasModificadas, boolean decaer) {
+
+        long filas = filasModificadas | filasActivas;
+        long activas = 0;
+        int factor = persistencia.factor;
+
+        for (int y = 0; y < alto; y++) {
+
+            if ((filas & (1L << y)) == 0) {
+                continue;
+            }
+
+            int desplazamiento = y * ancho;
+            boolean enDecaimiento = false;
+
+            for (int x = 0; x < ancho; x++) {
+
+                int i = desplazamiento + x;
+
+                if (GFX[x][y] != 0) {
+                    intensidad[i] = MAXIMO;
+
+                } else if (intensidad[i] != 0) {
+
+                    // Un pixel recien apagado conserva la intensidad maxima en este frame y luego decae
+                    if (decaer) {
+                        int valor = (intensidad[i] == MAXIMO) ? MAXIMO - 1 : (int) (((long) intensidad[i] * factor) >>> 16);
+
+                        intensidad[i] = (valor < MINIMO) ? 0 : valor;
+                    }
+                    enDecaimiento |= intensidad[i] != 0;
+                }
+            }
+
+            if (enDecaimiento) {
+                activas |= 1L << y;
+            }
+        }
+
+        filasActivas = activas;
+
+        return filas;
+    }
+
+    /**
+     * Completar los colores de fondo de la fila y: los pixeles apagados toman
+     * el color correspondiente a su intensidad remanente.
+     */
+    public void coloresFondoFila(int[][] GFX, int y, int fondo, int[] fondoFila) {
+
+        int desplazamiento = y * ancho;
+
+        for (int x = 0; x < ancho; x++) {
+            fondoFila[x] = (GFX[x][y] != 0) ? fondo : paleta[intensidad[desplazamiento + x] >>> 8];
+        }
+    }
+
+    /* Apagar todos los pixeles en decaimiento */
+    public void reiniciar() {
+
+        for (int i = 0; i < intensidad.length; i++) {
+            intensidad[i] = 0;
+        }
+
+        filasActivas = 0;
+    }
+
+    public Persistencia getPersistencia() {
+        return persistencia;
+    }
+
+    public void setPersistencia(Persistencia persistencia) {
+        this.persistencia = persistencia;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2022 Diego Andrés Gutiérrez Berón
+ * 
+ * Some parts of this software were made as adaptations of ideas other than mine.
+ * In any case, due credit or references are given for any ideas or code that 
+ * served as an implementation base for this software.
+ *
+ * THIS PROGRAM IS LICENSED UNDER THE TERMS OF THE GNU GENERAL PUBLIC LICENSE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package emulator;
+
+/**
+ * Tablas precalculadas de digitos hexadecimales.
+ *
+ * Los visores del depurador muestran miles de valores por segundo; formatear
+ * cada uno con String.format genera objetos y es costoso. Estas tablas
+ * permiten dibujar o concatenar los digitos de un byte sin crear objetos.
+ */
+public final class Chip8_Hex {
+
+    private static final char[] DIGITOS = "0123456789ABCDEF".toCharArray();
+
+    /* Los dos digitos de cada byte, consecutivos: el byte b ocupa las posiciones 2*b y 2*b+1 */
+    public static final char[] BYTES = new char[256 * 2];
+
+    /* Representacion de cada byte como cadena de dos digitos */
+    private static final String[] CADENAS = new String[256];
+
+    static {
+        for (int b = 0; b < 256; b++) {
+            BYTES[b * 2] = DIGITOS[b >> 4];
+            BYTES[b * 2 + 1] = DIGITOS[b & 0xF];
+            CADENAS[b] = new String(BYTES, b * 2, 2);
+        }
+    }
+
+    private Chip8_Hex() {
+    }
+
+    /**
+     * Devuelve el byte indicado como cadena de dos digitos hexadecimales. La
+     * cadena se toma de la tabla, no se crea una nueva.
+     */
+    public static String byteHex(int valor) {
+        return CADENAS[valor & 0xFF];
+    }
+
+    /**
+     * Devuelve la palabra de 16 bits indicada como cadena de cuatro digitos
+     * hexadecimales.
+     */
+    public static String palabraHex(int valor) {
+        return CADENAS[(valor >> 8) & 0xFF].concat(CADENAS[valor & 0xFF]);
+    }
+
+    /**
+     * Escribe los cuatro digitos hexadecimales de una palabra de 16 bits en
+     * el arreglo destino a partir de la posicion indicada.
+     */
+    public static void escribirPalabra(int valor, char[] destino, int posicion) {
+        destino[posicion] = DIGITOS[(valor >> 12) & 0xF];
+        destino[posicion + 1] = DIGITOS[(valor >> 8) & 0xF];
+        destino[posicion + 2] = DIGITOS[(valor >> 4) & 0xF];
+        destino[posicion + 3] = DIGITOS[valor & 0xF];
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (C) 2022 Diego Andrés Gutiérrez Berón
+ * 
+ * Some parts of this software were made as adaptations of ideas other than mine.
+ * In any case, due credit or references are given for any ideas or code that 
+ * served as an implementation base for this software.
+ *
+ * THIS PROGRAM IS LICENSED UNDER THE TERMS OF THE GNU GENERAL PUBLIC LICENSE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package emulator;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Diario de deshacer (undo journal) de la CPU, usado para retroceder la
+ * ejecucion instruccion por instruccion.
+ *
+ * En lugar de guardar el estado completo en cada paso, antes de ejecutar
+ * cada instruccion la CPU registra una entrada con los valores previos de
+ * lo que esa instruccion puede sobrescribir: PC, I, SP y temporizadores,
+ * los registros V que el opcode modifica y, segun el caso, el nivel de pila
+ * o los bytes de memoria escritos. Las entradas se guardan en un buffer
+ * circular de enteros de tamano fijo; cuando se llena se descartan las mas
+ * antiguas, por lo que retroceder N instrucciones es O(N) y la memoria
+ * usada esta acotada.
+ *
+ * El diario esta inactivo por defecto: solo se activa desde el depurador,
+ * y los buffers se reservan la primera vez que se activa. La CPU guarda una
+ * copia del estado activo que actualiza al levantarse cambioInstrumentacion,
+ * de modo que puede registrar una ultima entrada despues de desactivarse.
+ * Todos los metodos de escritura y lectura de entradas se invocan desde el
+ * hilo de la CPU.
+ * Las estadisticas se pueden consultar desde otros hilos y son
+ * aproximadas.
+ *
+ * @author Diego Gutierrez
+ */
+public class Chip8_Historial {
+
+    private static final int CAPACIDAD_DATOS = 1 << 20;     // enteros del buffer de datos (4 MiB)
+    private static final int CAPACIDAD_ENTRADAS = 1 << 18;  // instrucciones que se pueden deshacer como maximo
+    private static final int INTERVALO_MUESTREO = 256;      // se mide el tiempo de 1 de cada N entradas
+
+    private int[] datos;        // se reservan al activar el diario por primera vez
+    private long[] inicios;     // posicion absoluta de inicio de cada entrada
+
+    private long escritos;      // posicion absoluta de escritura en datos
+    private long primera;       // numero de la entrada mas antigua conservada
+    private long siguiente;     // numero de la proxima entrada
+    private long lectura;       // posicion absoluta de lectura de la entrada que se esta deshaciendo
+
+    private volatile boolean activo;
+    private volatile boolean descartar;     // las entradas dejaron de ser consistentes con el estado de la CPU
+
+    // Estadisticas para medir el costo del diario
+    private long registradas;
+    private long enterosRegistrados;
+    private long nanosMuestreados;
+    private long muestras;
+    private long inicioMuestra;
+
+    /* Indicador compartido con la CPU, que se levanta al cambiar el estado activo */
+    private final AtomicBoolean cambioInstrumentacion;
+
+    Chip8_Historial(AtomicBoolean cambioInstrumentacion) {
+        this.cambioInstrumentacion = cambioInstrumentacion;
+    }
+
+    public boolean isActivo() {
+        return activo;
+    }
+
+    /*
+     * Activa o desactiva el registro. Las entradas anteriores se descartan,
+     * ya que no reflejan lo ejecutado mientras el registro estuvo inactivo.
+     */
+    public void setActivo(boolean activo) {
+        if (activo != this.activo) {
+            descartar = true;
+            this.activo = activo;
+            cambioInstrumentacion.set(true);
+        }
+    }
+
+    /*
+     * Descarta las entradas porque el estado de la CPU se modifico por fuera
+     * de la ejecucion (por ejemplo, desde el depurador remoto).
+     */
+    public void invalidar() {
+        descartar = true;
+    }
+
+    /* Descarta todas las entradas. Invocado por el hilo de la CPU. */
+    void limpiar() {
+        descartar = false;
+        if (activo) {
+            reservar();
+        }
+        escritos = 0;
+        primera = 0;
+        siguiente = 0;
+    }
+
+    private void reservar() {
+        if (datos == null) {
+            datos = new int[CAPACIDAD_DATOS];
+            inicios = new long[CAPACIDAD_ENTRADAS];
+        }
+    }
+
+    /* Comienza una nueva entrada */
+    void iniciarEntrada() {
+        if (descartar) {
+            limpiar();
+        }
+        reservar();
+        if (registradas % INTERVALO_MUESTREO == 0) {
+            inicioMuestra = System.nanoTime();
+        }
+        inicios[(int) (siguiente & (CAPACIDAD_ENTRADAS - 1))] = escritos;
+    }
+
+    void agregar(int valor) {
+        datos[(int) (escritos & (CAPACIDAD_DATOS - 1))] = valor;
+        escritos++;
+    }
+
+    /* Cierra la entrada actual, descartando las mas antiguas cuyos datos fueron sobrescritos */
+    void cerrarEntrada() {
+        long inicio = inicios[(int) (siguiente & (CAPACIDAD_ENTRADAS - 1))];
+        enterosRegistrados += escritos - inicio;
+        siguiente++;
+
+        while (siguiente - primera > CAPACIDAD_ENTRADAS
+                || escritos - inicios[(int) (primera & (CAPACIDAD_ENTRADAS - 1))] > CAPACIDAD_DATOS) {
+            primera++;
+        }
+
+        if (registradas % INTERVALO_MUESTREO == 0) {
+            nanosMuestreados += System.nanoTime() - inicioMuestra;
+            muestras++;
+        }
+        registradas++;
+    }
+
+    public boolean hayEntradas() {
+        return !descartar && siguiente > primera;
+    }
+
+    /* Cantidad de instrucciones que se pueden deshacer */
+    public long getEntradas() {
+        return siguiente - primera;
+    }
+
+    /**
+     * Quita la ultima entrada y prepara su lectura con leer(). Los datos
+     * siguen disponibles hasta que se registre una nueva entrada.
+     */
+    void sacarUltima() {
+        siguiente--;
+        lectura = inicios[(int) (siguiente & (CAPACIDAD_ENTRADAS - 1))];
+        escritos = lectura;
+    }
+
+    /* Descarta la ultima entrada registrada, sin leerla */
+    void descartarUltima() {
+        siguiente--;
+        escritos = inicios[(int) (siguiente & (CAPACIDAD_ENTRADAS - 1))];
+    }
+
+    int leer() {
+        return datos[(int) (lectura++ & (CAPACIDAD_DATOS - 1))];
+    }
+
+    /* Bytes promedio registrados por instruccion */
+    public double getBytesPorInstruccion() {
+        return registradas == 0 ? 0 : enterosRegistrados * 4.0 / registradas;
+    }
+
+    /* Tiempo promedio de registro por instruccion, estimado por muestreo */
+    public double getNanosPorInstruccion() {
+        return muestras == 0 ? 0 : (double) nanosMuestreados / muestras;
+    }
+
+    /* Memoria reservada por el diario, en bytes */
+    public long getMemoriaReservada() {
+        return datos == null ? 0 : CAPACIDAD_DATOS * 4L + CAPACIDAD_ENTRADAS * 8L;
+    }
+}
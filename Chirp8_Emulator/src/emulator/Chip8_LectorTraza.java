@@ -0,0 +1,372 @@
+/*
+ * Copyright (C) 2022 Diego Andrés Gutiérrez Berón
+ * 
+ * Some parts of this software were made as adaptations of ideas other than mine.
+ * In any case, due credit or references are given for any ideas or code that 
+ * served as an implementation base for this software.
+ *
+ * THIS PROGRAM IS LICENSED UNDER THE TERMS OF THE GNU GENERAL PUBLIC LICENSE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package emulator;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Lector de las trazas de ejecucion grabadas por Chip8_Traza.
+ *
+ * Recorre los bloques que siguen en el anillo, del mas antiguo al mas
+ * reciente, y reconstruye el estado de los registros en cada instruccion a
+ * partir del estado completo del inicio de cada bloque y de las diferencias
+ * grabadas. Desde la linea de comandos lista las instrucciones, con filtros
+ * por rango de PC y por patron de opcode, o muestra el estado de los
+ * registros al llegar a una instruccion:
+ *
+ * <pre>
+ *   java -cp Chirp8_Emulator.jar emulator.Chip8_LectorTraza traza.c8t [--pc 200-2FF] [--opcode DXYN] [--estado N]
+ * </pre>
+ *
+ * @author Diego Gutierrez
+ */
+public class Chip8_LectorTraza {
+
+    /* Recibe cada instruccion de la traza; devuelve false para terminar el recorrido */
+    public interface Visitante {
+
+        boolean visitar(Registro registro);
+    }
+
+    /**
+     * Instruccion de la traza y estado de la CPU al llegar a ella (antes de
+     * ejecutarla). Los cambios de la instruccion se indican en cambiosV
+     * (un bit por registro) y cambioI, con los nuevos valores en
+     * nuevosV y nuevoI. SP y la pila se siguen con los 2NNN y 00EE; DT y ST
+     * son los del ultimo estado completo grabado.
+     */
+    public static class Registro {
+
+        public long numero;
+        public int pc;
+        public int opcode;
+        public int registroIndice;
+        public final int[] registrosV = new int[16];
+        public int stackPointer;
+        public final int[] pila = new int[16];
+        public int delayTimer;
+        public int soundTimer;
+        public long numeroEstado;           // instruccion del ultimo estado completo
+
+        public int cambiosV;
+        public boolean cambioI;
+        public int nuevoI;
+        public final int[] nuevosV = new int[16];
+
+        /* Aplica los cambios de la instruccion y deja el estado listo para la siguiente */
+        void aplicar() {
+            if ((opcode & 0xF000) == 0x2000) {
+                pila[stackPointer & 0xF] = pc;
+                stackPointer = (stackPointer + 1) & 0xFF;
+            } else if (opcode == 0x00EE) {
+                stackPointer = (stackPointer - 1) & 0xFF;
+            }
+            if (cambioI) {
+                registroIndice = nuevoI;
+            }
+            for (int i = 0; i < 16; i++) {
+                if ((cambiosV & (1 << i)) != 0) {
+                    registrosV[i] = nuevosV[i];
+                }
+            }
+            numero++;
+            pc = (pc + 2) & 0xFFFF;
+        }
+    }
+
+    private final ByteBuffer buffer;
+    private final int tamanoBloque;
+    private final int cantidadBloques;
+    private final long posicion;
+    private final long instrucciones;
+
+    public Chip8_LectorTraza(Path archivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+            if (canal.size() < Chip8_Traza.TAMANO_CABECERA) {
+                throw new IOException("El archivo no es una traza de Chirp8");
+            }
+            buffer = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+        }
+
+        if (buffer.getLong(0) != Chip8_Traza.MAGIA) {
+            throw new IOException("El archivo no es una traza de Chirp8");
+        }
+        if (buffer.getInt(8) != Chip8_Traza.VERSION) {
+            throw new IOException("Version de traza no soportada: " + buffer.getInt(8));
+        }
+
+        tamanoBloque = buffer.getInt(12);
+        cantidadBloques = buffer.getInt(16);
+        posicion = buffer.getLong(Chip8_Traza.POSICION_ESCRITURA);
+        instrucciones = buffer.getLong(Chip8_Traza.POSICION_INSTRUCCIONES);
+
+        if (tamanoBloque <= 0 || cantidadBloques <= 0
+                || buffer.capacity() < Chip8_Traza.TAMANO_CABECERA + (long) tamanoBloque * cantidadBloques) {
+            throw new IOException("Cabecera de traza invalida");
+        }
+    }
+
+    /* Instrucciones grabadas desde que se inicio la traza, incluidas las sobrescritas */
+    public long getInstrucciones() {
+        return instrucciones;
+    }
+
+    public int getCantidadBloques() {
+        return cantidadBloques;
+    }
+
+    public int getTamanoBloque() {
+        return tamanoBloque;
+    }
+
+    /**
+     * Recorre las instrucciones disponibles, de la mas antigua a la mas
+     * reciente. El mismo objeto Registro se reutiliza en cada llamada.
+     */
+    public void recorrer(Visitante visitante) throws IOException {
+        if (posicion == 0) {
+            return;
+        }
+
+        long ultimo = (posicion - 1) / tamanoBloque;
+        long primero = Math.max(0, ultimo - cantidadBloques + 1);
+        Registro registro = new Registro();
+
+        for (long bloque = primero; bloque <= ultimo; bloque++) {
+            int inicio = Chip8_Traza.TAMANO_CABECERA + (int) (bloque % cantidadBloques) * tamanoBloque;
+            int fin = inicio + (bloque == ultimo ? (int) (posicion - ultimo * tamanoBloque) : tamanoBloque);
+            if (!recorrerBloque(inicio, fin, registro, visitante)) {
+                return;
+            }
+        }
+    }
+
+    private boolean recorrerBloque(int p, int fin, Registro registro, Visitante visitante) throws IOException {
+        if ((buffer.get(p) & 0xFF) != Chip8_Traza.MARCA_ESTADO) {
+            throw new IOException("Bloque de traza sin estado inicial en " + p);
+        }
+
+        while (p < fin) {
+            int marca = buffer.get(p) & 0xFF;
+
+            if (marca == Chip8_Traza.MARCA_FIN_BLOQUE) {
+                return true;
+            }
+
+            if (marca == Chip8_Traza.MARCA_ESTADO) {
+                registro.numero = buffer.getLong(p + 1);
+                registro.numeroEstado = registro.numero;
+                registro.pc = buffer.getShort(p + 9) & 0xFFFF;
+                registro.registroIndice = buffer.getShort(p + 11) & 0xFFFF;
+                for (int i = 0; i < 16; i++) {
+                    registro.registrosV[i] = buffer.get(p + 13 + i) & 0xFF;
+                }
+                registro.stackPointer = buffer.get(p + 29) & 0xFF;
+                registro.delayTimer = buffer.get(p + 30) & 0xFF;
+                registro.soundTimer = buffer.get(p + 31) & 0xFF;
+                for (int i = 0; i < 16; i++) {
+                    registro.pila[i] = buffer.getShort(p + 32 + i * 2) & 0xFFFF;
+                }
+                p += Chip8_Traza.TAMANO_ESTADO;
+                continue;
+            }
+
+            p++;
+            if ((marca & Chip8_Traza.MARCA_PC) != 0) {
+                registro.pc = buffer.getShort(p) & 0xFFFF;
+                p += 2;
+            }
+            registro.opcode = buffer.getShort(p) & 0xFFFF;
+            p += 2;
+
+            registro.cambioI = (marca & Chip8_Traza.MARCA_I) != 0;
+            if (registro.cambioI) {
+                registro.nuevoI = buffer.getShort(p) & 0xFFFF;
+                p += 2;
+            }
+
+            registro.cambiosV = 0;
+            for (int cambios = (marca >> 2) & 0x1F; cambios > 0; cambios--) {
+                int indice = buffer.get(p) & 0xF;
+                registro.cambiosV |= 1 << indice;
+                registro.nuevosV[indice] = buffer.get(p + 1) & 0xFF;
+                p += 2;
+            }
+
+            if (!visitante.visitar(registro)) {
+                return false;
+            }
+            registro.aplicar();
+        }
+        return true;
+    }
+
+    /* Cambios de la instruccion como texto, por ejemplo "I=0300 V0=01 VF=00" */
+    public static String cambios(Registro registro) {
+        StringBuilder texto = new StringBuilder();
+        if (registro.cambioI) {
+            texto.append("I=").append(Chip8_Hex.palabraHex(registro.nuevoI));
+        }
+        for (int i = 0; i < 16; i++) {
+            if ((registro.cambiosV & (1 << i)) != 0) {
+                if (texto.length() > 0) {
+                    texto.append(' ');
+                }
+                texto.append('V').append(Integer.toHexString(i).toUpperCase()).append('=')
+                        .append(Chip8_Hex.byteHex(registro.nuevosV[i]));
+            }
+        }
+        return texto.toString();
+    }
+
+    /* Muestra el estado de los registros al llegar a la instruccion del registro */
+    private static void imprimirEstado(Registro registro, PrintStream salida) {
+        salida.println("Instruccion " + registro.numero + ": " + Chip8_Hex.palabraHex(registro.pc)
+                + "  " + Chip8_Hex.palabraHex(registro.opcode) + "  " + Chip8_Desensamblador.mnemonico(registro.opcode));
+        StringBuilder texto = new StringBuilder("PC=").append(Chip8_Hex.palabraHex(registro.pc))
+                .append(" I=").append(Chip8_Hex.palabraHex(registro.registroIndice))
+                .append(" SP=").append(registro.stackPointer);
+        salida.println(texto);
+
+        texto.setLength(0);
+        for (int i = 0; i < 16; i++) {
+            texto.append('V').append(Integer.toHexString(i).toUpperCase()).append('=')
+                    .append(Chip8_Hex.byteHex(registro.registrosV[i])).append(i == 7 ? "\n" : " ");
+        }
+        salida.println(texto.toString().trim());
+
+        texto.setLength(0);
+        texto.append("Pila:");
+        for (int i = 0; i < registro.stackPointer && i < 16; i++) {
+            texto.append(' ').append(Chip8_Hex.palabraHex(registro.pila[i]));
+        }
+        salida.println(texto);
+        salida.println("DT=" + Chip8_Hex.byteHex(registro.delayTimer) + " ST=" + Chip8_Hex.byteHex(registro.soundTimer)
+                + " (en la instruccion " + registro.numeroEstado + ")");
+    }
+
+    private static void uso() {
+        System.err.println("Uso: Chip8_LectorTraza <archivo> [--pc desde[-hasta]] [--opcode patron] [--estado N]");
+        System.err.println("  --pc      rango de direcciones en hexadecimal, por ejemplo 200-2FF");
+        System.err.println("  --opcode  patron de cuatro digitos; las letras que no son hexadecimales");
+        System.err.println("            son comodines, por ejemplo DXYN, FX65 o 8XY4");
+        System.err.println("  --estado  muestra los registros al llegar a la instruccion N");
+        System.exit(2);
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            uso();
+        }
+
+        Path archivo = Paths.get(args[0]);
+        int pcDesde = 0;
+        int pcHasta = 0xFFFF;
+        int mascara = 0;
+        int patron = 0;
+        long estado = -1;
+
+        try {
+            for (int i = 1; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--pc": {
+                        String[] rango = args[++i].split("-");
+                        pcDesde = Integer.parseInt(rango[0], 16);
+                        pcHasta = rango.length > 1 ? Integer.parseInt(rango[1], 16) : pcDesde;
+                        break;
+                    }
+                    case "--opcode": {
+                        String texto = args[++i];
+                        if (texto.length() != 4) {
+                            uso();
+                        }
+                        for (int d = 0; d < 4; d++) {
+                            int digito = Character.digit(texto.charAt(d), 16);
+                            if (digito >= 0) {
+                                mascara |= 0xF << (12 - d * 4);
+                                patron |= digito << (12 - d * 4);
+                            }
+                        }
+                        break;
+                    }
+                    case "--estado":
+                        estado = Long.parseLong(args[++i]);
+                        break;
+                    default:
+                        uso();
+                }
+            }
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException ex) {
+            uso();
+        }
+
+        final Chip8_LectorTraza lector = new Chip8_LectorTraza(archivo);
+        final PrintStream salida = System.out;
+        System.err.println(lector.getInstrucciones() + " instrucciones grabadas, " + lector.getCantidadBloques()
+                + " bloques de " + lector.getTamanoBloque() / 1024 + " KiB");
+
+        if (estado >= 0) {
+            final long buscada = estado;
+            final boolean[] encontrada = new boolean[1];
+            lector.recorrer(new Visitante() {
+                @Override
+                public boolean visitar(Registro registro) {
+                    if (registro.numero == buscada) {
+                        imprimirEstado(registro, salida);
+                        encontrada[0] = true;
+                        return false;
+                    }
+                    return registro.numero < buscada;
+                }
+            });
+            if (!encontrada[0]) {
+                System.err.println("La instruccion " + estado + " no esta en la traza");
+                System.exit(1);
+            }
+            return;
+        }
+
+        final int desde = pcDesde;
+        final int hasta = pcHasta;
+        final int mascaraOpcode = mascara;
+        final int patronOpcode = patron;
+        lector.recorrer(new Visitante() {
+            @Override
+            public boolean visitar(Registro registro) {
+                if (registro.pc >= desde && registro.pc <= hasta && (registro.opcode & mascaraOpcode) == patronOpcode) {
+                    salida.printf("%10d  %s  %s  %-18s %s%n", registro.numero, Chip8_Hex.palabraHex(registro.pc),
+                            Chip8_Hex.palabraHex(registro.opcode), Chip8_Desensamblador.mnemonico(registro.opcode),
+                            cambios(registro));
+                }
+                return !salida.checkError();
+            }
+        });
+    }
+}
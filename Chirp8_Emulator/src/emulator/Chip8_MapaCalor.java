@@ -0,0 +1,166 @@
+/*
+ * Copyright (C) 2022 Diego Andrés Gutiérrez Berón
+ * 
+ * Some parts of this software were made as adaptations of ideas other than mine.
+ * In any case, due credit or references are given for any ideas or code that 
+ * served as an implementation base for this software.
+ *
+ * THIS PROGRAM IS LICENSED UNDER THE TERMS OF THE GNU GENERAL PUBLIC LICENSE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package emulator;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Mapa de calor de accesos a memoria: cuenta por direccion las lecturas de
+ * instrucciones (fetch), las lecturas de datos (sprites de DXYN y cargas de
+ * FX65) y las escrituras (FX55 y FX33).
+ *
+ * Los contadores son arreglos de enteros que solo modifica el hilo de la
+ * CPU desde el ciclo instrumentado, y decaen periodicamente (pierden un
+ * cuarto de su valor cada segundo) para que el mapa muestre los accesos
+ * recientes y no el historial completo. Otros hilos leen valores
+ * aproximados para dibujar el mapa.
+ *
+ * @author Diego Gutierrez
+ */
+public class Chip8_MapaCalor {
+
+    public static final int FETCH = 0;
+    public static final int LECTURA = 1;
+    public static final int ESCRITURA = 2;
+    public static final int TIPOS_ACCESO = 3;
+
+    private static final int TAMANO_MEMORIA = 4096;
+    private static final int FRAMES_POR_DECAIMIENTO = 60;
+
+    private final int[][] accesos = new int[TIPOS_ACCESO][TAMANO_MEMORIA];
+    private final int[] maximos = new int[TIPOS_ACCESO];
+    private int frames;
+
+    private volatile boolean activo;
+    private volatile boolean reinicioPendiente;
+
+    /* Indicador compartido con la CPU, que se levanta al cambiar el estado activo */
+    private final AtomicBoolean cambioInstrumentacion;
+
+    Chip8_MapaCalor(AtomicBoolean cambioInstrumentacion) {
+        this.cambioInstrumentacion = cambioInstrumentacion;
+    }
+
+    public boolean isActivo() {
+        return activo;
+    }
+
+    /* Al activarlo se empieza con el mapa vacio */
+    public void setActivo(boolean activo) {
+        if (activo && !this.activo) {
+            reinicioPendiente = true;
+        }
+        this.activo = activo;
+        cambioInstrumentacion.set(true);
+    }
+
+    /* Registra los accesos de la instruccion que se va a ejecutar, con el valor de I previo */
+    void registrar(int pc, int opcode, int registroIndice) {
+        accesos[FETCH][pc & 0xFFF]++;
+        accesos[FETCH][(pc + 1) & 0xFFF]++;
+
+        int x = (opcode & 0x0F00) >> 8;
+        switch (opcode & 0xF0FF) {
+            case 0xF033:
+                contar(ESCRITURA, registroIndice, 3);
+                break;
+            case 0xF055:
+                contar(ESCRITURA, registroIndice, x + 1);
+                break;
+            case 0xF065:
+                contar(LECTURA, registroIndice, x + 1);
+                break;
+            default:
+                if ((opcode & 0xF000) == 0xD000) {
+                    contar(LECTURA, registroIndice, opcode & 0x000F);
+                }
+                break;
+        }
+    }
+
+    private void contar(int tipo, int desde, int cantidad) {
+        int[] contadores = accesos[tipo];
+        for (int i = 0; i < cantidad; i++) {
+            contadores[(desde + i) & 0xFFF]++;
+        }
+    }
+
+    /*
+     * Invocado por el hilo de la CPU en cada fin de frame: aplica el reinicio
+     * pendiente y, cada segundo, el decaimiento de los contadores. Cada
+     * contador pierde un cuarto de su valor (redondeado hacia arriba, para
+     * que los accesos aislados terminen en cero).
+     */
+    void sincronizar() {
+        if (reinicioPendiente) {
+            reinicioPendiente = false;
+            for (int[] contadores : accesos) {
+                Arrays.fill(contadores, 0);
+            }
+            Arrays.fill(maximos, 0);
+            frames = 0;
+        }
+
+        if (!activo || ++frames < FRAMES_POR_DECAIMIENTO) {
+            return;
+        }
+        frames = 0;
+
+        for (int tipo = 0; tipo < TIPOS_ACCESO; tipo++) {
+            int[] contadores = accesos[tipo];
+            int maximo = 0;
+            for (int direccion = 0; direccion < TAMANO_MEMORIA; direccion++) {
+                int valor = contadores[direccion];
+                if (valor > maximo) {
+                    maximo = valor;
+                }
+                contadores[direccion] = valor - ((valor + 3) >> 2);
+            }
+            // El maximo antes de decaer sirve de escala hasta el siguiente decaimiento
+            maximos[tipo] = maximo;
+        }
+    }
+
+    public int getAccesos(int tipo, int direccion) {
+        return accesos[tipo][direccion & 0xFFF];
+    }
+
+    /**
+     * Nivel de calor de una direccion para el tipo de acceso indicado, de 0
+     * (sin accesos) a niveles - 1. La escala es logaritmica respecto del
+     * maximo del ultimo periodo, asi las variables poco accedidas no
+     * desaparecen frente al bucle principal del programa.
+     */
+    public int getNivel(int tipo, int direccion, int niveles) {
+        int valor = accesos[tipo][direccion & 0xFFF];
+        if (valor == 0) {
+            return 0;
+        }
+
+        int bitsMaximo = 32 - Integer.numberOfLeadingZeros(Math.max(maximos[tipo], valor));
+        int bits = 32 - Integer.numberOfLeadingZeros(valor);
+        return Math.max(1, bits * (niveles - 1) / bitsMaximo);
+    }
+}
@@ -0,0 +1,430 @@
+/*
+ * Copyright (C) 2022 Diego Andrés Gutiérrez Berón
+ * 
+ * Some parts of this software were made as adaptations of ideas other than mine.
+ * In any case, due credit or references are given for any ideas or code that 
+ * served as an implementation base for this software.
+ *
+ * THIS PROGRAM IS LICENSED UNDER THE TERMS OF THE GNU GENERAL PUBLIC LICENSE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package emulator;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Registro de metricas de funcionamiento del emulador: instrucciones y
+ * frames por segundo, tiempos de frame, frames perdidos, deriva de los
+ * temporizadores, subejecuciones de audio y costo del refresco del
+ * depurador.
+ *
+ * Las metricas se actualizan sin bloqueos (contadores LongAdder, medidores
+ * volatiles e histogramas en arreglos atomicos) desde el hilo de la CPU y
+ * el de Swing, y se leen desde JMX (este objeto es el MBean, que ademas
+ * permite cambiar la frecuencia de reloj y pausar la emulacion) y desde
+ * Chip8_ServidorMetricas en el formato de texto de Prometheus.
+ *
+ * @author Diego Gutierrez
+ */
+public class Chip8_Metricas implements Chip8_MetricasMBean {
+
+    public static final String NOMBRE_JMX = "chirp8:type=Metricas";
+
+    private static final long NANOS_POR_SEGUNDO = 1000000000L;
+    private static final int VENTANAS_POR_DECAIMIENTO = 60;     // los histogramas decaen cada minuto
+
+    /* Metrica del registro, con nombre y descripcion en el formato de Prometheus */
+    public abstract static class Metrica {
+
+        private final String nombre;
+        private final String ayuda;
+
+        protected Metrica(String nombre, String ayuda) {
+            this.nombre = nombre;
+            this.ayuda = ayuda;
+        }
+
+        public String getNombre() {
+            return nombre;
+        }
+
+        protected abstract String getTipo();
+
+        protected abstract void escribirValores(StringBuilder destino);
+
+        void escribir(StringBuilder destino) {
+            destino.append("# HELP ").append(nombre).append(' ').append(ayuda).append('\n');
+            destino.append("# TYPE ").append(nombre).append(' ').append(getTipo()).append('\n');
+            escribirValores(destino);
+        }
+
+        static void escribirValor(StringBuilder destino, String nombre, double valor) {
+            destino.append(nombre).append(' ');
+            if (valor == Math.rint(valor) && Math.abs(valor) < 1e15) {
+                destino.append((long) valor);
+            } else {
+                destino.append(String.format(Locale.ROOT, "%.6g", valor));
+            }
+            destino.append('\n');
+        }
+    }
+
+    /* Contador monotono */
+    public static class Contador extends Metrica {
+
+        private final LongAdder valor = new LongAdder();
+
+        public Contador(String nombre, String ayuda) {
+            super(nombre, ayuda);
+        }
+
+        public void incrementar() {
+            valor.increment();
+        }
+
+        public void sumar(long cantidad) {
+            valor.add(cantidad);
+        }
+
+        public long get() {
+            return valor.sum();
+        }
+
+        @Override
+        protected String getTipo() {
+            return "counter";
+        }
+
+        @Override
+        protected void escribirValores(StringBuilder destino) {
+            escribirValor(destino, getNombre(), get());
+        }
+    }
+
+    /* Medidor con un unico escritor; las subclases pueden calcular el valor al leerlo */
+    public static class Medidor extends Metrica {
+
+        private volatile double valor;
+
+        public Medidor(String nombre, String ayuda) {
+            super(nombre, ayuda);
+        }
+
+        public void set(double valor) {
+            this.valor = valor;
+        }
+
+        public double get() {
+            return valor;
+        }
+
+        @Override
+        protected String getTipo() {
+            return "gauge";
+        }
+
+        @Override
+        protected void escribirValores(StringBuilder destino) {
+            escribirValor(destino, getNombre(), get());
+        }
+    }
+
+    /**
+     * Histograma de duraciones en nanosegundos, con cuatro cubetas por
+     * potencia de 2 (error relativo menor a 19%). Se publica como summary de
+     * Prometheus con los cuantiles 0.5, 0.9 y 0.99 en segundos; la suma y la
+     * cantidad son monotonas, mientras que las cubetas decaen a la mitad
+     * cada minuto para que los cuantiles reflejen el comportamiento reciente.
+     */
+    public static class Histograma extends Metrica {
+
+        private static final int SUBCUBETAS = 4;
+        private static final int CUBETAS = 64 * SUBCUBETAS;
+
+        private final AtomicLongArray cubetas = new AtomicLongArray(CUBETAS);
+        private final LongAdder cantidad = new LongAdder();
+        private final LongAdder suma = new LongAdder();
+
+        public Histograma(String nombre, String ayuda) {
+            super(nombre, ayuda);
+        }
+
+        public void registrar(long nanos) {
+            nanos = Math.max(nanos, 1);
+            cubetas.incrementAndGet(cubeta(nanos));
+            cantidad.increment();
+            suma.add(nanos);
+        }
+
+        private static int cubeta(long nanos) {
+            int bits = 63 - Long.numberOfLeadingZeros(nanos);
+            if (bits < 2) {
+                return (int) nanos;
+            }
+            return bits * SUBCUBETAS + (int) ((nanos >>> (bits - 2)) & (SUBCUBETAS - 1));
+        }
+
+        // Limite superior de la cubeta, en nanosegundos
+        private static double limite(int cubeta) {
+            int bits = cubeta / SUBCUBETAS;
+            if (bits < 2) {
+                return cubeta + 1;
+            }
+            return (double) (SUBCUBETAS + cubeta % SUBCUBETAS + 1) * (1L << (bits - 2));
+        }
+
+        /* Percentil aproximado (0 a 100) de las duraciones recientes, en nanosegundos */
+        public double getPercentil(double percentil) {
+            long[] copia = new long[CUBETAS];
+            long total = 0;
+            for (int i = 0; i < CUBETAS; i++) {
+                copia[i] = cubetas.get(i);
+                total += copia[i];
+            }
+            if (total == 0) {
+                return 0;
+            }
+
+            long objetivo = (long) Math.ceil(total * percentil / 100.0);
+            long acumulado = 0;
+            for (int i = 0; i < CUBETAS; i++) {
+                acumulado += copia[i];
+                if (acumulado >= objetivo) {
+                    return limite(i);
+                }
+            }
+            return limite(CUBETAS - 1);
+        }
+
+        void decaer() {
+            for (int i = 0; i < CUBETAS; i++) {
+                long valor = cubetas.get(i);
+                if (valor != 0) {
+                    cubetas.addAndGet(i, -((valor + 1) / 2));
+                }
+            }
+        }
+
+        @Override
+        protected String getTipo() {
+            return "summary";
+        }
+
+        @Override
+        protected void escribirValores(StringBuilder destino) {
+            escribirValor(destino, getNombre() + "{quantile=\"0.5\"}", getPercentil(50) / NANOS_POR_SEGUNDO);
+            escribirValor(destino, getNombre() + "{quantile=\"0.9\"}", getPercentil(90) / NANOS_POR_SEGUNDO);
+            escribirValor(destino, getNombre() + "{quantile=\"0.99\"}", getPercentil(99) / NANOS_POR_SEGUNDO);
+            escribirValor(destino, getNombre() + "_sum", (double) suma.sum() / NANOS_POR_SEGUNDO);
+            escribirValor(destino, getNombre() + "_count", cantidad.sum());
+        }
+    }
+
+    private final List<Metrica> metricas = new CopyOnWriteArrayList<>();
+    private final Chip8_CPU cpu;
+
+    public final Contador instrucciones = registrar(new Contador("chirp8_instrucciones_total", "Instrucciones ejecutadas"));
+    public final Medidor instruccionesPorSegundo = registrar(new Medidor("chirp8_instrucciones_por_segundo", "Instrucciones ejecutadas en el ultimo segundo"));
+    public final Contador frames = registrar(new Contador("chirp8_frames_total", "Frames emulados (sin contar la pausa)"));
+    public final Medidor framesPorSegundo = registrar(new Medidor("chirp8_frames_por_segundo", "Frames emulados en el ultimo segundo"));
+    public final Histograma tiempoFrame = registrar(new Histograma("chirp8_tiempo_frame_segundos", "Tiempo real entre el fin de un frame y el siguiente"));
+    public final Contador framesPerdidos = registrar(new Contador("chirp8_frames_perdidos_total", "Frames omitidos al resincronizar el reloj de frames por atraso"));
+    public final Contador ticksTemporizadores = registrar(new Contador("chirp8_ticks_temporizadores_total", "Actualizaciones de los temporizadores de retardo y sonido"));
+    public final Medidor derivaTemporizadores = registrar(new Medidor("chirp8_deriva_temporizadores", "Ticks de temporizadores en el ultimo segundo menos los 60 esperados"));
+    public final Contador tonos = registrar(new Contador("chirp8_tonos_total", "Tonos de sonido generados"));
+    public final Contador subejecucionesAudio = registrar(new Contador("chirp8_subejecuciones_audio_total", "Veces que el buffer de audio se vacio mientras se generaba un tono"));
+    public final Histograma refrescoDepurador = registrar(new Histograma("chirp8_refresco_depurador_segundos", "Duracion de cada refresco del dialogo de estado en el hilo de Swing"));
+
+    // Estado de la ventana de un segundo; solo lo usa el hilo de la CPU
+    private long ultimoFinFrame;
+    private boolean pausaAnterior = true;
+    private long ultimasInstrucciones;
+    private long inicioVentana;
+    private long instruccionesVentana;
+    private long framesVentana;
+    private long ticksVentana;
+    private int ventanas;
+
+    public Chip8_Metricas(Chip8_CPU cpu) {
+        this.cpu = cpu;
+
+        registrar(new Medidor("chirp8_frecuencia_reloj_hz", "Frecuencia de reloj configurada de la CPU") {
+            @Override
+            public double get() {
+                return Chip8_Metricas.this.cpu.clockFrequency;
+            }
+        });
+        registrar(new Medidor("chirp8_pausado", "1 si la emulacion esta en pausa (modo paso a paso)") {
+            @Override
+            public double get() {
+                return Chip8_Metricas.this.cpu.isSingleStep() ? 1 : 0;
+            }
+        });
+    }
+
+    /* Agrega una metrica al registro y la devuelve */
+    public final <T extends Metrica> T registrar(T metrica) {
+        metricas.add(metrica);
+        return metrica;
+    }
+
+    public List<Metrica> getMetricas() {
+        return metricas;
+    }
+
+    /* Todas las metricas en el formato de texto de Prometheus (version 0.0.4) */
+    public String escribirPrometheus() {
+        StringBuilder texto = new StringBuilder(4096);
+        for (Metrica metrica : metricas) {
+            metrica.escribir(texto);
+        }
+        return texto.toString();
+    }
+
+    /* Registra este objeto como MBean en el servidor de la plataforma */
+    public void registrarJMX() throws JMException {
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(NOMBRE_JMX));
+    }
+
+    /**
+     * Invocado por el hilo de la CPU en cada fin de frame, con las
+     * instrucciones ejecutadas hasta el momento y los frames omitidos al
+     * resincronizar. Los frames en pausa y el primero despues de ella no se
+     * cuentan.
+     */
+    void finDeFrame(long ahora, long instruccionesEjecutadas, long omitidos, boolean pausa) {
+        long nuevas = Math.max(0, instruccionesEjecutadas - ultimasInstrucciones);
+        ultimasInstrucciones = instruccionesEjecutadas;
+        instrucciones.sumar(nuevas);
+        instruccionesVentana += nuevas;
+
+        if (!pausa && !pausaAnterior) {
+            tiempoFrame.registrar(ahora - ultimoFinFrame);
+            frames.incrementar();
+            framesPerdidos.sumar(omitidos);
+            framesVentana++;
+        }
+        pausaAnterior = pausa;
+        ultimoFinFrame = ahora;
+
+        long duracion = ahora - inicioVentana;
+        if (duracion < NANOS_POR_SEGUNDO) {
+            return;
+        }
+
+        double segundos = (double) duracion / NANOS_POR_SEGUNDO;
+        instruccionesPorSegundo.set(instruccionesVentana / segundos);
+        framesPorSegundo.set(framesVentana / segundos);
+        derivaTemporizadores.set(pausa ? 0 : ticksVentana / segundos - 60);
+        inicioVentana = ahora;
+        instruccionesVentana = 0;
+        framesVentana = 0;
+        ticksVentana = 0;
+
+        if (++ventanas == VENTANAS_POR_DECAIMIENTO) {
+            ventanas = 0;
+            tiempoFrame.decaer();
+            refrescoDepurador.decaer();
+        }
+    }
+
+    /* Invocado por el hilo de la CPU en cada actualizacion de los temporizadores */
+    void tickTemporizadores() {
+        ticksTemporizadores.incrementar();
+        ticksVentana++;
+    }
+
+    /* Invocado por el hilo de la CPU despues de generar un tono */
+    void tono(int subejecuciones) {
+        tonos.incrementar();
+        subejecucionesAudio.sumar(subejecuciones);
+    }
+
+    /* Registra la duracion de un refresco del dialogo de estado */
+    public void refrescoDepurador(long nanos) {
+        refrescoDepurador.registrar(nanos);
+    }
+
+    @Override
+    public double getInstruccionesPorSegundo() {
+        return instruccionesPorSegundo.get();
+    }
+
+    @Override
+    public double getFramesPorSegundo() {
+        return framesPorSegundo.get();
+    }
+
+    @Override
+    public double getTiempoFrameP50Ms() {
+        return tiempoFrame.getPercentil(50) / 1e6;
+    }
+
+    @Override
+    public double getTiempoFrameP99Ms() {
+        return tiempoFrame.getPercentil(99) / 1e6;
+    }
+
+    @Override
+    public long getFramesPerdidos() {
+        return framesPerdidos.get();
+    }
+
+    @Override
+    public double getDerivaTemporizadores() {
+        return derivaTemporizadores.get();
+    }
+
+    @Override
+    public long getSubejecucionesAudio() {
+        return subejecucionesAudio.get();
+    }
+
+    @Override
+    public double getRefrescoDepuradorP99Ms() {
+        return refrescoDepurador.getPercentil(99) / 1e6;
+    }
+
+    @Override
+    public int getClockFrequency() {
+        return cpu.clockFrequency;
+    }
+
+    @Override
+    public void setClockFrequency(int clockFrequency) {
+        if (clockFrequency <= 0) {
+            throw new IllegalArgumentException("La frecuencia de reloj debe ser positiva: " + clockFrequency);
+        }
+        cpu.clockFrequency = clockFrequency;
+    }
+
+    @Override
+    public boolean isPausado() {
+        return cpu.isSingleStep();
+    }
+
+    @Override
+    public void setPausado(boolean pausado) {
+        cpu.setSingleStep(pausado);
+    }
+}
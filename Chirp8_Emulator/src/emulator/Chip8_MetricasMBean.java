@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) 2022 Diego Andrés Gutiérrez Berón
+ * 
+ * Some parts of this software were made as adaptations of ideas other than mine.
+ * In any case, due credit or references are given for any ideas or code that 
+ * served as an implementation base for this software.
+ *
+ * THIS PROGRAM IS LICENSED UNDER THE TERMS OF THE GNU GENERAL PUBLIC LICENSE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package emulator;
+
+/**
+ * Interfaz de gestion JMX de Chip8_Metricas: metricas de funcionamiento de
+ * solo lectura, y la frecuencia de reloj y la pausa de la emulacion, que
+ * pueden modificarse desde una consola JMX sin usar la interfaz grafica.
+ *
+ * @author Diego Gutierrez
+ */
+public interface Chip8_MetricasMBean {
+
+    double getInstruccionesPorSegundo();
+
+    double getFramesPorSegundo();
+
+    double getTiempoFrameP50Ms();
+
+    double getTiempoFrameP99Ms();
+
+    long getFramesPerdidos();
+
+    double getDerivaTemporizadores();
+
+    long getSubejecucionesAudio();
+
+    double getRefrescoDepuradorP99Ms();
+
+    int getClockFrequency();
+
+    void setClockFrequency(int clockFrequency);
+
+    boolean isPausado();
+
+    void setPausado(boolean pausado);
+}
@@ -0,0 +1,321 @@
+/*
+ * Copyright (C) 2022 Diego Andrés Gutiérrez Berón
+ * 
+ * Some parts of this software were made as adaptations of ideas other than mine.
+ * In any case, due credit or references are given for any ideas or code that 
+ * served as an implementation base for this software.
+ *
+ * THIS PROGRAM IS LICENSED UNDER THE TERMS OF THE GNU GENERAL PUBLIC LICENSE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package emulator;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Perfilador de la ejecucion: atribuye cada instruccion ejecutada a su
+ * direccion (4096 contadores) y a la pila de llamadas 2NNN/00EE en la que
+ * se ejecuto.
+ *
+ * Las pilas se guardan en un arbol (trie) de llamadas de capacidad fija:
+ * cada nodo es una subrutina alcanzada desde la cadena de llamadas de su
+ * padre y acumula las instrucciones propias ejecutadas en ella. El nodo
+ * actual se sigue con los 2NNN y 00EE ejecutados; si la profundidad de la
+ * pila cambia por otro motivo (perfilado iniciado a mitad de una subrutina,
+ * retroceso, depurador remoto) se reconstruye a partir de la pila de la CPU.
+ *
+ * Genera una lista de direcciones y subrutinas ordenada por instrucciones
+ * ejecutadas y un archivo de pilas colapsadas ("main;sub_2A0;sub_310 123")
+ * para herramientas de flame graphs. Al igual que los contadores por
+ * opcode, solo lo invoca el ciclo instrumentado de la CPU mientras esta
+ * activo; otros hilos leen valores aproximados.
+ *
+ * @author Diego Gutierrez
+ */
+public class Chip8_Perfilador {
+
+    private static final int TAMANO_MEMORIA = 4096;
+    private static final int MAX_NODOS = 1 << 14;
+    private static final int TAMANO_TABLA = MAX_NODOS * 2;     // tabla hash de hijos, potencia de 2
+    private static final int RAIZ = 0;
+
+    private final long[] porDireccion = new long[TAMANO_MEMORIA];
+
+    // Arbol de llamadas: nodo -> padre, subrutina (direccion de entrada) e instrucciones propias
+    private final int[] padre = new int[MAX_NODOS];
+    private final int[] subrutina = new int[MAX_NODOS];
+    private final long[] propias = new long[MAX_NODOS];
+    private final int[] tablaHijos = new int[TAMANO_TABLA];    // indice de nodo + 1, 0 si esta libre
+    private int nodos = 1;
+
+    private int nodoActual = RAIZ;
+    private int profundidad = -1;       // profundidad de pila del nodo actual; -1 obliga a reconstruirlo
+
+    private volatile boolean activo;
+    private volatile boolean reinicioPendiente;
+
+    /* Indicador compartido con la CPU, que se levanta al cambiar el estado activo */
+    private final AtomicBoolean cambioInstrumentacion;
+
+    Chip8_Perfilador(AtomicBoolean cambioInstrumentacion) {
+        this.cambioInstrumentacion = cambioInstrumentacion;
+    }
+
+    public boolean isActivo() {
+        return activo;
+    }
+
+    public void setActivo(boolean activo) {
+        this.activo = activo;
+        cambioInstrumentacion.set(true);
+    }
+
+    /* Pone los contadores a cero; lo aplica el hilo de la CPU en el siguiente frame */
+    public void reiniciar() {
+        reinicioPendiente = true;
+    }
+
+    /* Invocado por el hilo de la CPU en cada fin de frame */
+    void sincronizar() {
+        if (reinicioPendiente) {
+            reinicioPendiente = false;
+            Arrays.fill(porDireccion, 0);
+            Arrays.fill(propias, 0);
+            Arrays.fill(tablaHijos, 0);
+            nodos = 1;
+            nodoActual = RAIZ;
+            profundidad = -1;
+        }
+        if (!activo) {
+            // Al reactivarlo la pila pudo haber cambiado sin que se registrara
+            profundidad = -1;
+        }
+    }
+
+    /**
+     * Registra una instruccion ejecutada. Se invoca despues de ejecutarla,
+     * con la direccion y el opcode que tenia; la instruccion se atribuye a la
+     * subrutina en la que estaba el PC antes de ejecutarla.
+     */
+    void registrar(Chip8_CPU cpu, int pc, int opcode, int profundidadAnterior) {
+        if (profundidadAnterior != profundidad) {
+            reconstruir(cpu, profundidadAnterior);
+        }
+
+        porDireccion[pc & 0xFFF]++;
+        propias[nodoActual]++;
+
+        int profundidadNueva = cpu.getStackPointer();
+        if (profundidadNueva == profundidad + 1 && (opcode & 0xF000) == 0x2000) {
+            nodoActual = hijo(nodoActual, opcode & 0x0FFF);
+            profundidad = profundidadNueva;
+        } else if (profundidadNueva == profundidad - 1 && opcode == 0x00EE) {
+            nodoActual = padre[nodoActual];
+            profundidad = profundidadNueva;
+        }
+        // Cualquier otro cambio de profundidad se corrige al registrar la siguiente instruccion
+    }
+
+    /* Recalcula el nodo actual recorriendo las direcciones de retorno guardadas en la pila de la CPU */
+    private void reconstruir(Chip8_CPU cpu, int profundidadPila) {
+        int[] pila = cpu.getStack();
+        int nodo = RAIZ;
+        for (int i = 0; i < profundidadPila && i < pila.length; i++) {
+            // Cada nivel guarda la direccion de la instruccion 2NNN que hizo la llamada
+            int llamada = cpu.fetch(Math.min(pila[i] & 0xFFF, 0xFFE));
+            nodo = hijo(nodo, llamada & 0x0FFF);
+        }
+        nodoActual = nodo;
+        profundidad = profundidadPila;
+    }
+
+    /* Busca o crea el nodo de la subrutina llamada desde el nodo indicado */
+    private int hijo(int nodo, int destino) {
+        int clave = nodo * TAMANO_MEMORIA + destino;
+        int posicion = (clave * 0x9E3779B1) >>> 17 & (TAMANO_TABLA - 1);
+
+        while (true) {
+            int entrada = tablaHijos[posicion];
+            if (entrada == 0) {
+                if (nodos == MAX_NODOS) {
+                    // Arbol lleno: las llamadas nuevas se atribuyen al nodo que llama
+                    return nodo;
+                }
+                int nuevo = nodos++;
+                padre[nuevo] = nodo;
+                subrutina[nuevo] = destino;
+                tablaHijos[posicion] = nuevo + 1;
+                return nuevo;
+            }
+            int candidato = entrada - 1;
+            if (padre[candidato] == nodo && subrutina[candidato] == destino) {
+                return candidato;
+            }
+            posicion = (posicion + 1) & (TAMANO_TABLA - 1);
+        }
+    }
+
+    public long getEjecuciones(int direccion) {
+        return porDireccion[direccion & 0xFFF];
+    }
+
+    public long getTotalEjecuciones() {
+        long total = 0;
+        for (long cantidad : porDireccion) {
+            total += cantidad;
+        }
+        return total;
+    }
+
+    /* Direcciones con instrucciones ejecutadas, de la mas ejecutada a la menos */
+    public List<Integer> getPuntosCalientes(int maximo) {
+        final long[] copia = porDireccion.clone();
+        List<Integer> direcciones = new ArrayList<>();
+        for (int direccion = 0; direccion < TAMANO_MEMORIA; direccion++) {
+            if (copia[direccion] > 0) {
+                direcciones.add(direccion);
+            }
+        }
+
+        Collections.sort(direcciones, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                return Long.compare(copia[b], copia[a]);
+            }
+        });
+        return direcciones.size() > maximo ? direcciones.subList(0, maximo) : direcciones;
+    }
+
+    /**
+     * Instrucciones por subrutina: propias (ejecutadas en su cuerpo) e
+     * inclusivas (tambien en las subrutinas que llama). Cada fila es
+     * {direccion, propias, inclusivas}, ordenadas por inclusivas; la direccion
+     * -1 corresponde al programa principal.
+     */
+    public List<long[]> getSubrutinas() {
+        int cantidad = nodos;
+        long[] propiasPorSubrutina = new long[TAMANO_MEMORIA + 1];
+        long[] inclusivasPorSubrutina = new long[TAMANO_MEMORIA + 1];
+        boolean[] enCamino = new boolean[TAMANO_MEMORIA + 1];
+        int[] camino = new int[64];
+
+        for (int nodo = 0; nodo < cantidad; nodo++) {
+            long instrucciones = propias[nodo];
+            if (instrucciones == 0) {
+                continue;
+            }
+            propiasPorSubrutina[indice(nodo)] += instrucciones;
+
+            // En la recursion una subrutina aparece varias veces en el camino, pero se cuenta una sola
+            int largo = 0;
+            for (int n = nodo; ; n = padre[n]) {
+                int indice = indice(n);
+                if (!enCamino[indice]) {
+                    enCamino[indice] = true;
+                    inclusivasPorSubrutina[indice] += instrucciones;
+                    if (largo == camino.length) {
+                        camino = Arrays.copyOf(camino, largo * 2);
+                    }
+                    camino[largo++] = indice;
+                }
+                if (n == RAIZ) {
+                    break;
+                }
+            }
+            for (int i = 0; i < largo; i++) {
+                enCamino[camino[i]] = false;
+            }
+        }
+
+        List<long[]> filas = new ArrayList<>();
+        for (int indice = 0; indice <= TAMANO_MEMORIA; indice++) {
+            if (inclusivasPorSubrutina[indice] > 0) {
+                filas.add(new long[]{indice == TAMANO_MEMORIA ? -1 : indice,
+                    propiasPorSubrutina[indice], inclusivasPorSubrutina[indice]});
+            }
+        }
+        Collections.sort(filas, new Comparator<long[]>() {
+            @Override
+            public int compare(long[] a, long[] b) {
+                return Long.compare(b[2], a[2]);
+            }
+        });
+        return filas;
+    }
+
+    // El programa principal (la raiz) usa el indice TAMANO_MEMORIA
+    private int indice(int nodo) {
+        return nodo == RAIZ ? TAMANO_MEMORIA : subrutina[nodo];
+    }
+
+    private String nombre(int nodo) {
+        return nodo == RAIZ ? "main" : "sub_" + Chip8_Hex.palabraHex(subrutina[nodo]).substring(1);
+    }
+
+    /**
+     * Escribe las pilas en formato colapsado: una linea por pila con las
+     * subrutinas separadas por ';' y la cantidad de instrucciones propias de
+     * la ultima (formato de entrada de flamegraph.pl y herramientas
+     * compatibles).
+     */
+    public void escribirPilasColapsadas(Writer destino) throws IOException {
+        int cantidad = nodos;
+        String[] rutas = new String[cantidad];
+
+        // Los padres siempre se crean antes que sus hijos, por lo que sus rutas ya estan calculadas
+        for (int nodo = 0; nodo < cantidad; nodo++) {
+            rutas[nodo] = nodo == RAIZ ? nombre(nodo) : rutas[padre[nodo]] + ";" + nombre(nodo);
+            if (propias[nodo] > 0) {
+                destino.write(rutas[nodo] + " " + propias[nodo] + "\n");
+            }
+        }
+        destino.flush();
+    }
+
+    /* Escribe un informe de texto con las direcciones y subrutinas mas ejecutadas */
+    public void escribirInforme(Writer destino, int[] memoria, int maximo) throws IOException {
+        long total = Math.max(getTotalEjecuciones(), 1);
+
+        destino.write("Subrutina      Propias %  Inclusivas %\n");
+        int filas = 0;
+        for (long[] fila : getSubrutinas()) {
+            if (filas++ == maximo) {
+                break;
+            }
+            String nombre = fila[0] < 0 ? "main" : "sub_" + Chip8_Hex.palabraHex((int) fila[0]).substring(1);
+            destino.write(String.format(Locale.ROOT, "%-12s %10.1f %13.1f%n", nombre,
+                    fila[1] * 100.0 / total, fila[2] * 100.0 / total));
+        }
+
+        destino.write("\nDireccion  Opcode  Instruccion          Ejecuciones      %\n");
+        for (int direccion : getPuntosCalientes(maximo)) {
+            int opcode = ((memoria[direccion] << 8) | memoria[(direccion + 1) & 0xFFF]) & 0xFFFF;
+            destino.write(String.format(Locale.ROOT, "%s       %s    %-20s %11d %6.1f%n",
+                    Chip8_Hex.palabraHex(direccion).substring(1), Chip8_Hex.palabraHex(opcode),
+                    Chip8_Desensamblador.mnemonico(opcode), porDireccion[direccion],
+                    porDireccion[direccion] * 100.0 / total));
+        }
+        destino.flush();
+    }
+}
@@ -25,6 +25,9 @@ package emulator;
 
 import java.awt.Color;
 import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * @author Diego Gutierrez.
@@ -46,44 +49,233 @@ public class Chip8_Screen {
      */
     private int WIDTH = 64;
     private int HEIGHT = 32;
-    private BufferedImage pantalla;
+
+    /*
+     * Triple buffer de imagenes de pantalla.
+     *
+     * El hilo de la CPU (productor) renderiza siempre sobre el buffer de
+     * escritura y al finalizar lo publica intercambiandolo atomicamente por el
+     * buffer intermedio. El hilo de despacho de eventos de Swing (consumidor)
+     * toma el buffer intermedio solo si hay un frame nuevo publicado. De esta
+     * forma el productor nunca se bloquea y el consumidor siempre pinta el
+     * ultimo frame completo, sin "tearing".
+     *
+     * Se accede directamente al arreglo de pixeles (DataBufferInt) de cada
+     * imagen: escribir los valores ARGB en el arreglo evita la conversion de
+     * modelo de color que realiza setRGB por cada pixel.
+     */
+    private static final int INDICE = 0x3;      // bits del indice del buffer intermedio
+    private static final int NUEVO = 0x4;       // bit de frame nuevo publicado
+
+    private final BufferedImage[] imagenes = new BufferedImage[3];
+    private final int[][] pixeles = new int[3][];
+
+    private int indiceEscritura = 0;            // buffer de escritura (solo lo usa el productor)
+    private int indiceLectura = 1;              // buffer de lectura (solo lo usa el consumidor)
+    private final AtomicInteger intermedio = new AtomicInteger(2);
+
+    // Filas de cada buffer que no reflejan el contenido actual de la pantalla (solo lo usa el productor)
+    private final long[] filasDesactualizadas = new long[3];
+
+    // Mascara de filas modificadas (1 bit por fila) publicadas y aun no informadas a la superficie de video
+    private final AtomicLong filasPublicadas = new AtomicLong();
+
+    // Oyente notificado (desde el hilo de la CPU) cada vez que se publica un frame
+    private volatile Runnable oyenteFrame;
 
     private Color backgroundColor = Color.BLACK;
     private Color foregroundColor = Color.WHITE;
 
+    // Colores de frente y fondo precalculados en formato ARGB empaquetado
+    private int colorFondo = backgroundColor.getRGB();
+    private int colorFrente = foregroundColor.getRGB();
+
+    // Bandera de cambio de colores: obliga a redibujar todas las filas en el siguiente renderizado
+    private boolean coloresModificados;
+
+    // Filtro de escalado seleccionado y filtro con el que renderiza el productor
+    private Chip8_Filtro filtro = Chip8_Filtro.NINGUNO;
+    private Chip8_Filtro filtroEnUso = Chip8_Filtro.NINGUNO;
+
+    // Filtro de persistencia de fosforo (solo lo usa el productor) y nivel de persistencia seleccionado
+    private Chip8_Fosforo fosforo;
+    private Chip8_Fosforo.Persistencia persistencia = Chip8_Fosforo.Persistencia.DESACTIVADA;
+    private int[] fondoFila;                    // colores de fondo de la fila en renderizado (persistencia)
+
     public Chip8_Screen(int width, int height) {
-        pantalla = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        WIDTH = width;
+        HEIGHT = height;
+        crearBuffers();
     }
 
     public Chip8_Screen() {
-        pantalla = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+        crearBuffers();
+    }
+
+    private void crearBuffers() {
+        fosforo = new Chip8_Fosforo(WIDTH, HEIGHT);
+        fosforo.calcularPaleta(colorFrente, colorFondo);
+        fondoFila = new int[WIDTH];
+
+        for (int i = 0; i < imagenes.length; i++) {
+            crearBuffer(i, filtroEnUso.getEscala());
+        }
+    }
+
+    /* Crear la imagen del buffer indicado con el tamaño de salida del filtro de escalado */
+    private void crearBuffer(int indice, int escala) {
+        imagenes[indice] = new BufferedImage(WIDTH * escala, HEIGHT * escala, BufferedImage.TYPE_INT_RGB);
+        pixeles[indice] = ((DataBufferInt) imagenes[indice].getRaster().getDataBuffer()).getData();
+        filasDesactualizadas[indice] = todasLasFilas();
+    }
+
+    /* Mascara con todas las filas de la pantalla */
+    public long todasLasFilas() {
+        return (HEIGHT >= 64) ? -1L : (1L << HEIGHT) - 1;
+    }
+
+    public void renderizarPantalla(int[][] GFX) {
+        renderizarFilas(GFX, todasLasFilas(), true);
     }
 
-    public BufferedImage renderizarPantalla(int[][] GFX) {
+    /**
+     * Renderiza las filas indicadas en la mascara (bit i = fila i) sobre el
+     * buffer de escritura y lo publica como frame nuevo. Ademas de las filas
+     * indicadas se redibujan las que el buffer de escritura tenga
+     * desactualizadas por frames anteriores. Si decaer es false la
+     * persistencia de fosforo no avanza. Solo debe invocarse desde el hilo de
+     * la CPU.
+     */
+    public void renderizarFilas(int[][] GFX, long mascaraFilas, boolean decaer) {
 
-        for (int x = 0; x < WIDTH; x++) {
-            for (int y = 0; y < HEIGHT; y++) {
+        int frente, fondo;
+        boolean paletaModificada = false;
 
-                pantalla.setRGB(x, y, obtenerColor(GFX[x][y]).getRGB());
+        synchronized (this) {
+            if (coloresModificados || filtro != filtroEnUso || persistencia != fosforo.getPersistencia()) {
+                mascaraFilas = todasLasFilas();
+                paletaModificada = coloresModificados;
+                coloresModificados = false;
+                filtroEnUso = filtro;
+                fosforo.setPersistencia(persistencia);
             }
+            frente = colorFrente;
+            fondo = colorFondo;
         }
-        return pantalla;
-    }
 
-    private Color obtenerColor(int[] GFX, int indice) {
-        if (GFX[indice] != 0) {
-            return foregroundColor;
-        } else {
-            return backgroundColor;
+        if (paletaModificada) {
+            fosforo.calcularPaleta(frente, fondo);
+        }
+
+        // La persistencia agrega las filas con pixeles en decaimiento; al desactivarla se apagan de inmediato
+        if (fosforo.isActivo()) {
+            mascaraFilas |= fosforo.actualizar(GFX, mascaraFilas, decaer);
+        } else if (fosforo.hayFilasActivas()) {
+            fosforo.reiniciar();
+        }
+
+        // Un cambio en una fila afecta tambien a las filas vecinas cuando el filtro usa el vecindario de 3x3
+        mascaraFilas = filtroEnUso.expandirFilas(mascaraFilas) & todasLasFilas();
+
+        for (int i = 0; i < filasDesactualizadas.length; i++) {
+            filasDesactualizadas[i] |= mascaraFilas;
+        }
+
+        // El buffer de escritura pertenece solo al productor: se recrea si cambio la escala del filtro
+        if (imagenes[indiceEscritura].getHeight() != HEIGHT * filtroEnUso.getEscala()) {
+            crearBuffer(indiceEscritura, filtroEnUso.getEscala());
+        }
+
+        int[] destino = pixeles[indiceEscritura];
+        long filas = filasDesactualizadas[indiceEscritura];
+
+        for (int y = 0; y < HEIGHT; y++) {
+
+            if ((filas & (1L << y)) == 0) {
+                continue;
+            }
+
+            if (fosforo.isActivo()) {
+                fosforo.coloresFondoFila(GFX, y, fondo, fondoFila);
+                filtroEnUso.renderizarFila(GFX, WIDTH, HEIGHT, y, destino, frente, fondo, fondoFila);
+            } else {
+                filtroEnUso.renderizarFila(GFX, WIDTH, HEIGHT, y, destino, frente, fondo, null);
+            }
         }
+
+        filasDesactualizadas[indiceEscritura] = 0;
+
+        // Publicar el frame: el buffer de escritura pasa a ser el intermedio
+        indiceEscritura = intermedio.getAndSet(indiceEscritura | NUEVO) & INDICE;
+
+        filasPublicadas.getAndAccumulate(mascaraFilas, (a, b) -> a | b);
+
+        Runnable oyente = oyenteFrame;
+
+        if (oyente != null) {
+            oyente.run();
+        }
+    }
+
+    /**
+     * Indica si la pantalla debe renderizarse en el proximo frame aunque la
+     * CPU no haya modificado filas (pixeles en decaimiento por persistencia).
+     * Solo debe invocarse desde el hilo de la CPU.
+     */
+    public boolean requiereRenderizado() {
+        return fosforo.hayFilasActivas();
+    }
+
+    /* Indica si hay un frame publicado que el consumidor aun no tomo */
+    public boolean hayFrameNuevo() {
+        return (intermedio.get() & NUEVO) != 0;
     }
 
-    private Color obtenerColor(int pixel) {
-        if (pixel != 0) {
-            return foregroundColor;
-        } else {
-            return backgroundColor;
+    /**
+     * Devuelve el ultimo frame completo publicado. Solo debe invocarse desde
+     * el hilo consumidor (hilo de renderizado de Chip8_Video).
+     */
+    public BufferedImage obtenerFrame() {
+
+        if (hayFrameNuevo()) {
+            indiceLectura = intermedio.getAndSet(indiceLectura) & INDICE;
         }
+
+        return imagenes[indiceLectura];
+    }
+
+    /**
+     * Devuelve la mascara de filas publicadas desde la ultima consulta (bit i
+     * = fila i) y la reinicia.
+     */
+    public long tomarFilasModificadas() {
+        return filasPublicadas.getAndSet(0);
+    }
+
+    public synchronized Chip8_Filtro getFiltro() {
+        return filtro;
+    }
+
+    /* El nuevo filtro se aplica en el proximo renderizado del productor */
+    public synchronized void setFiltro(Chip8_Filtro filtro) {
+        this.filtro = filtro;
+    }
+
+    public synchronized Chip8_Fosforo.Persistencia getPersistencia() {
+        return persistencia;
+    }
+
+    /* El nuevo nivel de persistencia se aplica en el proximo renderizado del productor */
+    public synchronized void setPersistencia(Chip8_Fosforo.Persistencia persistencia) {
+        this.persistencia = persistencia;
+    }
+
+    public Runnable getOyenteFrame() {
+        return oyenteFrame;
+    }
+
+    public void setOyenteFrame(Runnable oyenteFrame) {
+        this.oyenteFrame = oyenteFrame;
     }
 
     public int getWIDTH() {
@@ -103,26 +295,26 @@ public class Chip8_Screen {
     }
 
     public BufferedImage getPantalla() {
-        return pantalla;
-    }
-
-    public void setPantalla(BufferedImage pantalla) {
-        this.pantalla = pantalla;
+        return imagenes[indiceLectura];
     }
 
     public Color getBackgroundColor() {
         return backgroundColor;
     }
 
-    public void setBackgroundColor(Color backgroundColor) {
+    public synchronized void setBackgroundColor(Color backgroundColor) {
         this.backgroundColor = backgroundColor;
+        this.colorFondo = backgroundColor.getRGB();
+        this.coloresModificados = true;
     }
 
     public Color getForegroundColor() {
         return foregroundColor;
     }
 
-    public void setForegroundColor(Color foregroundColor) {
+    public synchronized void setForegroundColor(Color foregroundColor) {
         this.foregroundColor = foregroundColor;
+        this.colorFrente = foregroundColor.getRGB();
+        this.coloresModificados = true;
     }
 }
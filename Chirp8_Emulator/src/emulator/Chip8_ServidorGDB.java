@@ -0,0 +1,629 @@
+/*
+ * Copyright (C) 2022 Diego Andrés Gutiérrez Berón
+ * 
+ * Some parts of this software were made as adaptations of ideas other than mine.
+ * In any case, due credit or references are given for any ideas or code that 
+ * served as an implementation base for this software.
+ *
+ * THIS PROGRAM IS LICENSED UNDER THE TERMS OF THE GNU GENERAL PUBLIC LICENSE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package emulator;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Servidor del protocolo remoto de GDB (GDB Remote Serial Protocol) sobre
+ * TCP en localhost, para conectar depuradores externos y herramientas de
+ * prueba a la CPU en ejecucion.
+ *
+ * Atiende un cliente a la vez desde su propio hilo, con canales NIO no
+ * bloqueantes: un cliente lento nunca detiene la emulacion, ya que la CPU
+ * solo recibe ordenes (pausa, paso, continuar) y el servidor espera su
+ * finalizacion consultando getOrdenCompletada().
+ *
+ * Al conectarse un cliente la CPU se detiene, y la respuesta a ? se envia
+ * recien cuando quedo en pausa. Los paquetes que leen o modifican registros
+ * y memoria se atienden con el estado tomado con tomarEstadoEnPausa(), y se
+ * rechazan (E03) mientras la CPU este en ejecucion.
+ *
+ * Paquetes soportados: ?, g, G, p, P, m, M, c, s, Z0-Z4, z0-z4, D, k,
+ * qSupported, qAttached, qC, qfThreadInfo, qsThreadInfo, H y la
+ * interrupcion (0x03). El resto se responde con un paquete vacio (no
+ * soportado).
+ *
+ * Registros, en orden: V0-VF (1 byte), I (2 bytes), PC (2 bytes), SP, DT y
+ * ST (1 byte). Los valores de 2 bytes se transmiten en little endian.
+ *
+ * @author Diego Gutierrez
+ */
+public class Chip8_ServidorGDB implements Runnable {
+
+    public static final int PUERTO_POR_DEFECTO = 1234;
+
+    private static final int TAMANO_PAQUETE = 0x800;
+    private static final int TAMANO_BUFFER = 2 * TAMANO_PAQUETE + 8;
+    private static final long ESPERA_PARADA_MS = 10;   // intervalo de consulta mientras la CPU ejecuta una orden
+
+    private static final int REGISTRO_I = 16;
+    private static final int REGISTRO_PC = 17;
+    private static final int REGISTRO_SP = 18;
+    private static final int REGISTRO_DT = 19;
+    private static final int REGISTRO_ST = 20;
+    private static final int CANTIDAD_REGISTROS = 21;
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Chip8_CPU cpu;
+    private final int puerto;
+
+    private Selector selector;
+    private ServerSocketChannel servidor;
+    private SocketChannel cliente;
+    private Thread hilo;
+    private volatile boolean activo;
+
+    private final ByteBuffer entrada = ByteBuffer.allocate(TAMANO_BUFFER);
+    private final ByteBuffer salida = ByteBuffer.allocate(TAMANO_BUFFER);    // en modo lectura: datos pendientes de enviar
+    private final StringBuilder paquete = new StringBuilder();
+    private String ultimaRespuesta = "";
+
+    // Estado del analisis de paquetes: fuera de paquete, en datos o en los 2 digitos del checksum
+    private static final int FUERA = 0;
+    private static final int DATOS = 1;
+    private static final int CHECKSUM = 2;
+    private int estadoPaquete = FUERA;
+    private int digitosChecksum;
+    private int checksumRecibido;
+
+    private long ordenEsperada = -1;    // orden en curso (pausa, paso o continuar)
+    private boolean informarParada;     // al completarse la orden se envia el paquete de parada
+    private int senalParada = 5;        // SIGTRAP; SIGINT (2) si la parada fue pedida por el cliente
+
+    public Chip8_ServidorGDB(Chip8_CPU cpu, int puerto) {
+        this.cpu = cpu;
+        this.puerto = puerto;
+    }
+
+    /* Abre el puerto (solo en la interfaz local) e inicia el hilo del servidor */
+    public void iniciar() throws IOException {
+        selector = Selector.open();
+        servidor = ServerSocketChannel.open();
+        servidor.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), puerto));
+        servidor.configureBlocking(false);
+        servidor.register(selector, SelectionKey.OP_ACCEPT);
+        salida.flip();
+
+        activo = true;
+        hilo = new Thread(this, "Chip8 GDB");
+        hilo.setDaemon(true);
+        hilo.start();
+    }
+
+    public void detener() {
+        activo = false;
+        if (selector != null) {
+            selector.wakeup();
+        }
+    }
+
+    /* Puerto en el que escucha el servidor (util si se inicio con el puerto 0) */
+    public int getPuerto() {
+        try {
+            return ((InetSocketAddress) servidor.getLocalAddress()).getPort();
+        } catch (IOException ex) {
+            return puerto;
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (activo) {
+                selector.select(ordenEsperada >= 0 ? ESPERA_PARADA_MS : 0);
+
+                Iterator<SelectionKey> claves = selector.selectedKeys().iterator();
+                while (claves.hasNext()) {
+                    SelectionKey clave = claves.next();
+                    claves.remove();
+
+                    if (!clave.isValid()) {
+                        continue;
+                    }
+                    if (clave.isAcceptable()) {
+                        aceptar();
+                    } else {
+                        if (clave.isReadable()) {
+                            leer();
+                        }
+                        if (cliente != null && clave.isValid() && clave.isWritable()) {
+                            escribir();
+                        }
+                    }
+                }
+
+                // Informar la parada cuando la CPU completo la ultima orden, si el cliente la espera
+                if (ordenEsperada >= 0 && cpu.getOrdenCompletada() >= ordenEsperada) {
+                    ordenEsperada = -1;
+                    if (informarParada) {
+                        informarParada = false;
+                        responder(respuestaParada());
+                    }
+                }
+            }
+        } catch (IOException ex) {
+            Logger.getLogger(Chip8_ServidorGDB.class.getName()).log(Level.SEVERE, null, ex);
+        } finally {
+            cerrarCliente();
+            try {
+                servidor.close();
+                selector.close();
+            } catch (IOException ex) {
+                Logger.getLogger(Chip8_ServidorGDB.class.getName()).log(Level.WARNING, null, ex);
+            }
+        }
+    }
+
+    private void aceptar() throws IOException {
+        SocketChannel nuevo = servidor.accept();
+        if (nuevo == null) {
+            return;
+        }
+        if (cliente != null) {
+            // Un solo depurador a la vez
+            nuevo.close();
+            return;
+        }
+
+        nuevo.configureBlocking(false);
+        nuevo.register(selector, SelectionKey.OP_READ);
+        cliente = nuevo;
+        entrada.clear();
+        salida.clear();
+        salida.flip();
+        estadoPaquete = FUERA;
+
+        // El depurador toma el control con la CPU detenida
+        senalParada = 5;
+        ordenEsperada = cpu.pausar();
+        informarParada = false;
+    }
+
+    private void cerrarCliente() {
+        if (cliente != null) {
+            try {
+                cliente.close();
+            } catch (IOException ex) {
+                Logger.getLogger(Chip8_ServidorGDB.class.getName()).log(Level.WARNING, null, ex);
+            }
+            cliente = null;
+        }
+    }
+
+    private void leer() throws IOException {
+        int leidos;
+        try {
+            leidos = cliente.read(entrada);
+        } catch (IOException ex) {
+            leidos = -1;
+        }
+        if (leidos < 0) {
+            cerrarCliente();
+            return;
+        }
+
+        entrada.flip();
+        while (entrada.hasRemaining() && cliente != null) {
+            procesarByte(entrada.get() & 0xFF);
+        }
+        entrada.clear();
+    }
+
+    private void procesarByte(int b) throws IOException {
+        switch (estadoPaquete) {
+            case FUERA:
+                if (b == '$') {
+                    paquete.setLength(0);
+                    estadoPaquete = DATOS;
+                } else if (b == '-') {
+                    enviarPaquete(ultimaRespuesta);
+                } else if (b == 0x03) {
+                    interrumpir();
+                }
+                // '+' (confirmacion) y cualquier otro byte fuera de un paquete se ignoran
+                break;
+            case DATOS:
+                if (b == '#') {
+                    estadoPaquete = CHECKSUM;
+                    digitosChecksum = 0;
+                    checksumRecibido = 0;
+                } else if (paquete.length() < TAMANO_PAQUETE * 2) {
+                    paquete.append((char) b);
+                } else {
+                    // Paquete demasiado largo: se descarta y se pide retransmision
+                    estadoPaquete = FUERA;
+                    enviarBytes("-");
+                }
+                break;
+            default:
+                checksumRecibido = (checksumRecibido << 4) | Character.digit(b, 16);
+                if (++digitosChecksum == 2) {
+                    estadoPaquete = FUERA;
+                    if (checksumRecibido == checksum(paquete)) {
+                        enviarBytes("+");
+                        procesarPaquete(paquete.toString());
+                    } else {
+                        enviarBytes("-");
+                    }
+                }
+                break;
+        }
+    }
+
+    /* Ctrl-C del cliente: detiene la CPU (aunque ya estuviera en pausa) y responde con SIGINT */
+    private void interrumpir() {
+        senalParada = 2;
+        ordenEsperada = cpu.pausar();
+        informarParada = true;
+    }
+
+    private void procesarPaquete(String p) throws IOException {
+        if (p.isEmpty()) {
+            responder("");
+            return;
+        }
+
+        // El estado se toma antes de atender el paquete y se mantiene hasta responder
+        boolean estadoTomado = false;
+        if (accedeAlEstado(p)) {
+            if (ordenEsperada >= 0 || !cpu.tomarEstadoEnPausa()) {
+                responder("E03");
+                return;
+            }
+            estadoTomado = true;
+        }
+
+        try {
+            switch (p.charAt(0)) {
+                case '?':
+                    // Con una orden en curso (la pausa inicial) se responde al completarse
+                    if (ordenEsperada >= 0) {
+                        informarParada = true;
+                    } else {
+                        responder(respuestaParada());
+                    }
+                    break;
+                case 'g':
+                    responder(leerRegistros());
+                    break;
+                case 'G':
+                    escribirRegistros(p.substring(1));
+                    responder("OK");
+                    break;
+                case 'p':
+                    responder(leerRegistro(Integer.parseInt(p.substring(1), 16)));
+                    break;
+                case 'P': {
+                    int igual = p.indexOf('=');
+                    int registro = Integer.parseInt(p.substring(1, igual), 16);
+                    escribirRegistro(registro, p.substring(igual + 1), 0);
+                    cpu.historial.invalidar();
+                    responder("OK");
+                    break;
+                }
+                case 'm':
+                    responder(leerMemoria(p.substring(1)));
+                    break;
+                case 'M':
+                    escribirMemoria(p.substring(1));
+                    responder("OK");
+                    break;
+                case 'c':
+                    fijarDireccion(p.substring(1));
+                    senalParada = 5;
+                    ordenEsperada = cpu.reanudar();
+                    informarParada = true;
+                    break;
+                case 's':
+                    fijarDireccion(p.substring(1));
+                    senalParada = 5;
+                    ordenEsperada = cpu.ejecutarPasos(1);
+                    informarParada = true;
+                    break;
+                case 'Z':
+                case 'z':
+                    responder(puntoDeParada(p.charAt(0) == 'Z', p.substring(1)));
+                    break;
+                case 'D':
+                    responder("OK");
+                    desconectar();
+                    break;
+                case 'k':
+                    desconectar();
+                    break;
+                case 'H':
+                    responder("OK");
+                    break;
+                case 'q':
+                    responder(consulta(p));
+                    break;
+                default:
+                    responder("");
+                    break;
+            }
+        } catch (RuntimeException ex) {
+            // Paquete mal formado o fuera de rango
+            responder("E01");
+        } finally {
+            if (estadoTomado) {
+                cpu.liberarEstado();
+            }
+        }
+    }
+
+    /* g, G, p, P, m, M, y c o s con direccion, leen o modifican el estado de la CPU */
+    private static boolean accedeAlEstado(String p) {
+        char tipo = p.charAt(0);
+        return "gGpPmM".indexOf(tipo) >= 0 || ((tipo == 'c' || tipo == 's') && p.length() > 1);
+    }
+
+    private String consulta(String p) {
+        if (p.startsWith("qSupported")) {
+            return "PacketSize=" + Integer.toHexString(TAMANO_PAQUETE);
+        }
+        if (p.equals("qAttached")) {
+            return "1";
+        }
+        if (p.equals("qC")) {
+            return "QC1";
+        }
+        if (p.equals("qfThreadInfo")) {
+            return "m1";
+        }
+        if (p.equals("qsThreadInfo")) {
+            return "l";
+        }
+        return "";
+    }
+
+    /* Al desconectarse el depurador, la CPU continua ejecutando */
+    private void desconectar() throws IOException {
+        ordenEsperada = -1;
+        informarParada = false;
+        cpu.reanudar();
+        escribir();
+        cerrarCliente();
+    }
+
+    private String respuestaParada() {
+        return "S0" + senalParada;
+    }
+
+    // c y s aceptan opcionalmente la direccion desde la cual continuar
+    private void fijarDireccion(String direccion) {
+        if (!direccion.isEmpty()) {
+            cpu.setProgramCounter(Integer.parseInt(direccion, 16) & 0xFFF);
+            cpu.historial.invalidar();
+        }
+    }
+
+    private String leerRegistros() {
+        StringBuilder sb = new StringBuilder(CANTIDAD_REGISTROS * 4);
+        for (int i = 0; i < CANTIDAD_REGISTROS; i++) {
+            sb.append(leerRegistro(i));
+        }
+        return sb.toString();
+    }
+
+    private void escribirRegistros(String datos) {
+        int posicion = 0;
+        for (int i = 0; i < CANTIDAD_REGISTROS; i++) {
+            posicion = escribirRegistro(i, datos, posicion);
+        }
+        cpu.historial.invalidar();
+    }
+
+    private String leerRegistro(int registro) {
+        StringBuilder sb = new StringBuilder(4);
+        if (registro < 16) {
+            byteHex(sb, cpu.getRegistrosV()[registro]);
+        } else if (registro == REGISTRO_I || registro == REGISTRO_PC) {
+            int valor = registro == REGISTRO_I ? cpu.getRegistroIndice() : cpu.getProgramCounter();
+            byteHex(sb, valor);
+            byteHex(sb, valor >> 8);
+        } else if (registro == REGISTRO_SP) {
+            byteHex(sb, cpu.getStackPointer());
+        } else if (registro == REGISTRO_DT) {
+            byteHex(sb, cpu.getDelay_Timer());
+        } else if (registro == REGISTRO_ST) {
+            byteHex(sb, cpu.getSound_Timer());
+        } else {
+            throw new IllegalArgumentException("Registro inexistente: " + registro);
+        }
+        return sb.toString();
+    }
+
+    /* Escribe un registro con los datos hexadecimales desde la posicion indicada; devuelve la posicion siguiente */
+    private int escribirRegistro(int registro, String datos, int posicion) {
+        int valor = Integer.parseInt(datos.substring(posicion, posicion + 2), 16);
+        if (registro < 16) {
+            cpu.getRegistrosV()[registro] = valor;
+        } else if (registro == REGISTRO_I || registro == REGISTRO_PC) {
+            valor |= Integer.parseInt(datos.substring(posicion + 2, posicion + 4), 16) << 8;
+            if (registro == REGISTRO_I) {
+                cpu.setRegistroIndice(valor & 0xFFF);
+            } else {
+                cpu.setProgramCounter(valor & 0xFFF);
+            }
+            return posicion + 4;
+        } else if (registro == REGISTRO_SP) {
+            cpu.setStackPointer(valor & 0xF);
+        } else if (registro == REGISTRO_DT) {
+            cpu.setDelay_Timer(valor);
+        } else if (registro == REGISTRO_ST) {
+            cpu.setSound_Timer(valor);
+        } else {
+            throw new IllegalArgumentException("Registro inexistente: " + registro);
+        }
+        return posicion + 2;
+    }
+
+    private String leerMemoria(String argumentos) {
+        int coma = argumentos.indexOf(',');
+        int direccion = Integer.parseInt(argumentos.substring(0, coma), 16);
+        int longitud = Math.min(Integer.parseInt(argumentos.substring(coma + 1), 16), TAMANO_PAQUETE / 2);
+        verificarRango(direccion, longitud);
+
+        StringBuilder sb = new StringBuilder(longitud * 2);
+        for (int i = 0; i < longitud; i++) {
+            byteHex(sb, cpu.memoria[direccion + i]);
+        }
+        return sb.toString();
+    }
+
+    private void escribirMemoria(String argumentos) {
+        int coma = argumentos.indexOf(',');
+        int dosPuntos = argumentos.indexOf(':');
+        int direccion = Integer.parseInt(argumentos.substring(0, coma), 16);
+        int longitud = Integer.parseInt(argumentos.substring(coma + 1, dosPuntos), 16);
+        verificarRango(direccion, longitud);
+        if (longitud == 0) {
+            return;
+        }
+
+        for (int i = 0; i < longitud; i++) {
+            int posicion = dosPuntos + 1 + i * 2;
+            cpu.memoria[direccion + i] = Integer.parseInt(argumentos.substring(posicion, posicion + 2), 16);
+        }
+        cpu.marcarMemoriaModificada(direccion, direccion + longitud - 1);
+        cpu.historial.invalidar();
+    }
+
+    private static void verificarRango(int direccion, int longitud) {
+        if (direccion < 0 || longitud < 0 || direccion + longitud > 4096) {
+            throw new IllegalArgumentException("Rango de memoria invalido");
+        }
+    }
+
+    /* Z/z tipo,direccion,longitud: 0-1 breakpoint, 2 escritura, 3 lectura, 4 acceso */
+    private String puntoDeParada(boolean agregar, String argumentos) {
+        String[] partes = argumentos.split(",");
+        int tipo = Integer.parseInt(partes[0]);
+        int direccion = Integer.parseInt(partes[1], 16) & 0xFFF;
+        int longitud = Math.max(Integer.parseInt(partes[2], 16), 1);
+
+        if (tipo <= 1) {
+            if (agregar) {
+                cpu.depurador.agregarBreakpoint(direccion);
+            } else {
+                cpu.depurador.quitarBreakpoint(direccion);
+            }
+            return "OK";
+        }
+        if (tipo > 4) {
+            return "";
+        }
+
+        Chip8_Depurador.Acceso acceso = tipo == 2 ? Chip8_Depurador.Acceso.ESCRITURA
+                : tipo == 3 ? Chip8_Depurador.Acceso.LECTURA : Chip8_Depurador.Acceso.AMBOS;
+        int hasta = Math.min(direccion + longitud - 1, 0xFFF);
+        if (agregar) {
+            cpu.depurador.agregarWatchpointMemoria(direccion, hasta, acceso);
+            return "OK";
+        }
+        for (Chip8_Depurador.Watchpoint watchpoint : cpu.depurador.getWatchpoints()) {
+            if (!watchpoint.isRegistro() && watchpoint.getDesde() == direccion && watchpoint.getHasta() == hasta
+                    && watchpoint.getAcceso() == acceso) {
+                cpu.depurador.quitarWatchpoint(watchpoint);
+                return "OK";
+            }
+        }
+        return "E02";
+    }
+
+    private static void byteHex(StringBuilder sb, int valor) {
+        sb.append(HEX[(valor >> 4) & 0xF]).append(HEX[valor & 0xF]);
+    }
+
+    private static int checksum(CharSequence datos) {
+        int suma = 0;
+        for (int i = 0; i < datos.length(); i++) {
+            suma += datos.charAt(i);
+        }
+        return suma & 0xFF;
+    }
+
+    private void responder(String datos) throws IOException {
+        ultimaRespuesta = datos;
+        enviarPaquete(datos);
+    }
+
+    private void enviarPaquete(String datos) throws IOException {
+        int suma = checksum(datos);
+        enviarBytes("$" + datos + "#" + HEX[(suma >> 4) & 0xF] + HEX[suma & 0xF]);
+    }
+
+    /*
+     * Encola los bytes y escribe lo que el canal acepte sin bloquear; el resto
+     * se envia cuando el canal vuelve a estar disponible. Si el cliente no lee
+     * y el buffer se llena, se lo desconecta.
+     */
+    private void enviarBytes(String texto) throws IOException {
+        if (cliente == null) {
+            return;
+        }
+
+        byte[] bytes = texto.getBytes(StandardCharsets.US_ASCII);
+        salida.compact();
+        if (salida.remaining() < bytes.length) {
+            salida.flip();
+            cerrarCliente();
+            return;
+        }
+        salida.put(bytes);
+        salida.flip();
+        escribir();
+    }
+
+    private void escribir() throws IOException {
+        if (cliente == null) {
+            return;
+        }
+
+        try {
+            cliente.write(salida);
+        } catch (IOException ex) {
+            cerrarCliente();
+            return;
+        }
+
+        SelectionKey clave = cliente.keyFor(selector);
+        if (clave != null && clave.isValid()) {
+            clave.interestOps(salida.hasRemaining() ? SelectionKey.OP_READ | SelectionKey.OP_WRITE : SelectionKey.OP_READ);
+        }
+    }
+}
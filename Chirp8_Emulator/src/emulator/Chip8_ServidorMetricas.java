@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2022 Diego Andrés Gutiérrez Berón
+ * 
+ * Some parts of this software were made as adaptations of ideas other than mine.
+ * In any case, due credit or references are given for any ideas or code that 
+ * served as an implementation base for this software.
+ *
+ * THIS PROGRAM IS LICENSED UNDER THE TERMS OF THE GNU GENERAL PUBLIC LICENSE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package emulator;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Servidor HTTP en localhost que publica las metricas de Chip8_Metricas en
+ * el formato de texto de Prometheus, en la ruta /metrics.
+ *
+ * Atiende las consultas desde un unico hilo propio; generar la respuesta
+ * solo lee el registro de metricas, por lo que no interfiere con la
+ * emulacion.
+ *
+ * @author Diego Gutierrez
+ */
+public class Chip8_ServidorMetricas implements HttpHandler {
+
+    public static final int PUERTO_POR_DEFECTO = 9188;
+    public static final String RUTA = "/metrics";
+
+    private static final String TIPO_CONTENIDO = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final Chip8_Metricas metricas;
+    private final int puerto;
+
+    private HttpServer servidor;
+    private ExecutorService ejecutor;
+
+    public Chip8_ServidorMetricas(Chip8_Metricas metricas, int puerto) {
+        this.metricas = metricas;
+        this.puerto = puerto;
+    }
+
+    /* Abre el puerto (solo en la interfaz local) e inicia el hilo del servidor */
+    public void iniciar() throws IOException {
+        servidor = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), puerto), 0);
+        servidor.createContext(RUTA, this);
+
+        ejecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable tarea) {
+                Thread hilo = new Thread(tarea, "Chip8 metricas");
+                hilo.setDaemon(true);
+                return hilo;
+            }
+        });
+        servidor.setExecutor(ejecutor);
+        servidor.start();
+    }
+
+    public void detener() {
+        if (servidor != null) {
+            servidor.stop(0);
+            ejecutor.shutdown();
+        }
+    }
+
+    /* Puerto en el que escucha el servidor (util si se inicio con el puerto 0) */
+    public int getPuerto() {
+        return servidor != null ? servidor.getAddress().getPort() : puerto;
+    }
+
+    @Override
+    public void handle(HttpExchange intercambio) throws IOException {
+        try {
+            String metodo = intercambio.getRequestMethod();
+            if (!metodo.equals("GET") && !metodo.equals("HEAD")) {
+                intercambio.getResponseHeaders().set("Allow", "GET, HEAD");
+                intercambio.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            byte[] cuerpo = metricas.escribirPrometheus().getBytes(StandardCharsets.UTF_8);
+            intercambio.getResponseHeaders().set("Content-Type", TIPO_CONTENIDO);
+            if (metodo.equals("HEAD")) {
+                intercambio.sendResponseHeaders(200, -1);
+                return;
+            }
+            intercambio.sendResponseHeaders(200, cuerpo.length);
+            try (OutputStream salida = intercambio.getResponseBody()) {
+                salida.write(cuerpo);
+            }
+        } finally {
+            intercambio.close();
+        }
+    }
+}
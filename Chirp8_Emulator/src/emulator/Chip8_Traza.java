@@ -0,0 +1,247 @@
+/*
+ * Copyright (C) 2022 Diego Andrés Gutiérrez Berón
+ * 
+ * Some parts of this software were made as adaptations of ideas other than mine.
+ * In any case, due credit or references are given for any ideas or code that 
+ * served as an implementation base for this software.
+ *
+ * THIS PROGRAM IS LICENSED UNDER THE TERMS OF THE GNU GENERAL PUBLIC LICENSE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package emulator;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Grabador de la traza de ejecucion en un archivo circular mapeado en
+ * memoria, para analizar la ejecucion despues de un fallo con
+ * Chip8_LectorTraza.
+ *
+ * El archivo tiene una cabecera de 64 bytes y un anillo de bloques de
+ * tamano fijo. Cada bloque empieza con un registro de estado completo
+ * (PC, I, V0-VF, SP, pila y temporizadores), por lo que se puede leer desde
+ * cualquier bloque aunque los anteriores se hayan sobrescrito. Los
+ * registros de instruccion estan codificados por diferencia con la
+ * instruccion anterior:
+ *
+ * <pre>
+ *   marca      1 byte   bit 0: PC explicito, bit 1: I cambio,
+ *                       bits 2-6: cantidad de registros V que cambiaron
+ *   [PC]       2 bytes  solo si no es el PC de la instruccion anterior + 2
+ *   opcode     2 bytes
+ *   [I]        2 bytes  nuevo valor de I
+ *   [Vx, val]  2 bytes  por cada registro V que cambio
+ * </pre>
+ *
+ * por lo que la mayoria de las instrucciones ocupan 5 bytes. La marca 0xFE
+ * indica un registro de estado y 0xFF el fin de los datos del bloque.
+ *
+ * La cabecera guarda la posicion logica de escritura (bytes escritos desde
+ * el inicio) y se actualiza con cada instruccion, asi el archivo queda
+ * consistente aunque el emulador termine abruptamente. Solo el hilo de la
+ * CPU escribe en la traza.
+ *
+ * @author Diego Gutierrez
+ */
+public class Chip8_Traza {
+
+    static final long MAGIA = 0x43385452415A4131L;     // "C8TRAZA1"
+    static final int VERSION = 1;
+    static final int TAMANO_CABECERA = 64;
+    static final int TAMANO_BLOQUE = 64 * 1024;
+
+    static final int POSICION_ESCRITURA = 24;          // offset en la cabecera de la posicion logica
+    static final int POSICION_INSTRUCCIONES = 32;      // offset de la cantidad de instrucciones grabadas
+
+    static final int MARCA_PC = 0x01;
+    static final int MARCA_I = 0x02;
+    static final int MARCA_ESTADO = 0xFE;
+    static final int MARCA_FIN_BLOQUE = 0xFF;
+
+    // Estado completo: instruccion (8), PC (2), I (2), V (16), SP, DT, ST (3) y pila (16 x 2)
+    static final int TAMANO_ESTADO = 1 + 8 + 2 + 2 + 16 + 3 + 32;
+    private static final int TAMANO_MAXIMO_INSTRUCCION = 1 + 2 + 2 + 2 + 16 * 2;
+
+    private final Path archivo;
+    private final FileChannel canal;
+    private final MappedByteBuffer buffer;
+    private final int cantidadBloques;
+
+    private long posicion;                  // bytes escritos desde el inicio (posicion logica)
+    private int desplazamiento;             // posicion fisica de escritura en el buffer
+    private int finBloque;                  // posicion fisica del fin del bloque actual
+    private long instrucciones;
+
+    // Estado tras la ultima instruccion grabada, para codificar solo las diferencias
+    private final int[] registrosV = new int[16];
+    private int registroIndice;
+    private int pcSiguiente = -1;
+    private long instruccionSiguiente = -1;
+
+    private int posicionMarca;              // posicion de la marca de la instruccion en curso
+
+    /**
+     * Crea (o reemplaza) el archivo de traza con la capacidad indicada en
+     * bytes, redondeada a bloques de 64 KiB (al menos dos).
+     */
+    public Chip8_Traza(Path archivo, long capacidad) throws IOException {
+        this.archivo = archivo;
+        cantidadBloques = (int) Math.max(2, Math.min(capacidad / TAMANO_BLOQUE, (Integer.MAX_VALUE - TAMANO_CABECERA) / TAMANO_BLOQUE));
+
+        canal = FileChannel.open(archivo, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            buffer = canal.map(FileChannel.MapMode.READ_WRITE, 0, TAMANO_CABECERA + (long) cantidadBloques * TAMANO_BLOQUE);
+        } catch (IOException ex) {
+            canal.close();
+            throw ex;
+        }
+
+        buffer.putLong(0, MAGIA);
+        buffer.putInt(8, VERSION);
+        buffer.putInt(12, TAMANO_BLOQUE);
+        buffer.putInt(16, cantidadBloques);
+        buffer.putLong(POSICION_ESCRITURA, 0);
+        buffer.putLong(POSICION_INSTRUCCIONES, 0);
+
+        desplazamiento = TAMANO_CABECERA;
+        finBloque = TAMANO_CABECERA;        // fuerza el inicio de un bloque en la primera instruccion
+    }
+
+    public Path getArchivo() {
+        return archivo;
+    }
+
+    public long getInstrucciones() {
+        return instrucciones;
+    }
+
+    /**
+     * Comienza el registro de una instruccion: se invoca antes de ejecutarla,
+     * con el numero de instruccion de la CPU. Si no entra en el bloque actual
+     * pasa al siguiente, y si la ejecucion no continua la anterior (paso
+     * a paso, retroceso, traza recien iniciada) graba el estado completo.
+     */
+    void iniciarInstruccion(Chip8_CPU cpu, long numero, int pc, int opcode) {
+        if (finBloque - desplazamiento < TAMANO_MAXIMO_INSTRUCCION + TAMANO_ESTADO) {
+            siguienteBloque();
+            escribirEstado(cpu, numero);
+        } else if (numero != instruccionSiguiente) {
+            escribirEstado(cpu, numero);
+        }
+
+        posicionMarca = desplazamiento++;
+        int marca = 0;
+        if (pc != pcSiguiente) {
+            marca |= MARCA_PC;
+            buffer.putShort(desplazamiento, (short) pc);
+            desplazamiento += 2;
+        }
+        buffer.putShort(desplazamiento, (short) opcode);
+        desplazamiento += 2;
+        buffer.put(posicionMarca, (byte) marca);
+
+        pcSiguiente = (pc + 2) & 0xFFFF;
+        instruccionSiguiente = numero + 1;
+    }
+
+    /* Completa el registro de la instruccion con los registros que modifico */
+    void completarInstruccion(Chip8_CPU cpu) {
+        int marca = buffer.get(posicionMarca);
+
+        int indice = cpu.getRegistroIndice();
+        if (indice != registroIndice) {
+            registroIndice = indice;
+            marca |= MARCA_I;
+            buffer.putShort(desplazamiento, (short) indice);
+            desplazamiento += 2;
+        }
+
+        int[] v = cpu.getRegistrosV();
+        int cambios = 0;
+        for (int i = 0; i < 16; i++) {
+            if (v[i] != registrosV[i]) {
+                registrosV[i] = v[i];
+                buffer.put(desplazamiento, (byte) i);
+                buffer.put(desplazamiento + 1, (byte) v[i]);
+                desplazamiento += 2;
+                cambios++;
+            }
+        }
+
+        buffer.put(posicionMarca, (byte) (marca | cambios << 2));
+        posicion += desplazamiento - posicionMarca;
+        instrucciones++;
+        buffer.putLong(POSICION_ESCRITURA, posicion);
+        buffer.putLong(POSICION_INSTRUCCIONES, instrucciones);
+    }
+
+    /* Cierra el bloque actual (si quedo espacio se marca su fin) y pasa al siguiente del anillo */
+    private void siguienteBloque() {
+        if (desplazamiento < finBloque) {
+            buffer.put(desplazamiento, (byte) MARCA_FIN_BLOQUE);
+            posicion += finBloque - desplazamiento;
+        }
+
+        int bloque = (int) (posicion / TAMANO_BLOQUE % cantidadBloques);
+        desplazamiento = TAMANO_CABECERA + bloque * TAMANO_BLOQUE;
+        finBloque = desplazamiento + TAMANO_BLOQUE;
+    }
+
+    private void escribirEstado(Chip8_CPU cpu, long numero) {
+        int inicio = desplazamiento;
+        int[] v = cpu.getRegistrosV();
+        int[] pila = cpu.getStack();
+
+        buffer.put(desplazamiento, (byte) MARCA_ESTADO);
+        buffer.putLong(desplazamiento + 1, numero);
+        buffer.putShort(desplazamiento + 9, (short) cpu.getProgramCounter());
+        buffer.putShort(desplazamiento + 11, (short) cpu.getRegistroIndice());
+        for (int i = 0; i < 16; i++) {
+            buffer.put(desplazamiento + 13 + i, (byte) v[i]);
+        }
+        buffer.put(desplazamiento + 29, (byte) cpu.getStackPointer());
+        buffer.put(desplazamiento + 30, (byte) cpu.getDelay_Timer());
+        buffer.put(desplazamiento + 31, (byte) cpu.getSound_Timer());
+        for (int i = 0; i < 16; i++) {
+            buffer.putShort(desplazamiento + 32 + i * 2, (short) pila[i]);
+        }
+        desplazamiento += TAMANO_ESTADO;
+        posicion += desplazamiento - inicio;
+
+        System.arraycopy(v, 0, registrosV, 0, 16);
+        registroIndice = cpu.getRegistroIndice();
+        pcSiguiente = cpu.getProgramCounter();
+        instruccionSiguiente = numero;
+        buffer.putLong(POSICION_ESCRITURA, posicion);
+    }
+
+    /* Escribe al disco los datos pendientes y cierra el archivo. Solo desde el hilo de la CPU */
+    void cerrar() {
+        try {
+            buffer.force();
+            canal.close();
+        } catch (IOException ex) {
+            Logger.getLogger(Chip8_Traza.class.getName()).log(Level.SEVERE, null, ex);
+        }
+    }
+}
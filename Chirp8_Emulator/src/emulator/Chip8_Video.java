@@ -0,0 +1,239 @@
+/*
+ * Copyright (C) 2022 Diego Andrés Gutiérrez Berón
+ * 
+ * Some parts of this software were made as adaptations of ideas other than mine.
+ * In any case, due credit or references are given for any ideas or code that 
+ * served as an implementation base for this software.
+ *
+ * THIS PROGRAM IS LICENSED UNDER THE TERMS OF THE GNU GENERAL PUBLIC LICENSE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package emulator;
+
+import java.awt.Canvas;
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Toolkit;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.image.BufferStrategy;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Superficie de video con renderizado activo.
+ *
+ * En lugar de repintar un JPanel desde un temporizador de Swing, un hilo de
+ * renderizado propio dibuja cada frame publicado por Chip8_Screen apenas el
+ * reloj de frames de la CPU lo publica, utilizando un BufferStrategy
+ * (aceleracion por hardware cuando esta disponible). La imagen escalada
+ * (vecino mas cercano) se mantiene en un VolatileImage que solo se
+ * reconstruye completo al cambiar el tamaño de la superficie; en cada frame
+ * solo se actualizan las franjas de filas modificadas.
+ *
+ * Referencia: https://docs.oracle.com/javase/tutorial/extra/fullscreen/bufferstrategy.html
+ */
+public class Chip8_Video extends Canvas implements Runnable {
+
+    private final Chip8_Screen screen;
+
+    private BufferStrategy estrategia;
+    private VolatileImage imagenEscalada;       // imagen escalada en cache (vecino mas cercano)
+    private boolean reconstruir = true;         // la imagen escalada debe redibujarse completa
+
+    private volatile Thread hiloRenderizado;
+
+    public Chip8_Video(Chip8_Screen screen) {
+        this.screen = screen;
+
+        setBackground(Color.BLACK);
+        setIgnoreRepaint(true);
+
+        // El foco del teclado debe permanecer en la ventana principal
+        setFocusable(false);
+
+        addComponentListener(new ComponentAdapter() {
+            @Override
+            public void componentResized(ComponentEvent e) {
+                solicitarFrame();
+            }
+        });
+
+        // El reloj de frames de la CPU despierta al hilo de renderizado cada vez que publica un frame
+        screen.setOyenteFrame(new Runnable() {
+            @Override
+            public void run() {
+                solicitarFrame();
+            }
+        });
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+
+        createBufferStrategy(2);
+        estrategia = getBufferStrategy();
+
+        hiloRenderizado = new Thread(this, "Chip8_Video");
+        hiloRenderizado.setDaemon(true);
+        hiloRenderizado.start();
+    }
+
+    @Override
+    public void removeNotify() {
+        Thread hilo = hiloRenderizado;
+        hiloRenderizado = null;
+
+        if (hilo != null) {
+            LockSupport.unpark(hilo);
+        }
+
+        super.removeNotify();
+    }
+
+    /* Las exposiciones de ventana se resuelven en el hilo de renderizado */
+    @Override
+    public void paint(Graphics g) {
+        solicitarFrame();
+    }
+
+    @Override
+    public void update(Graphics g) {
+        solicitarFrame();
+    }
+
+    /* Despertar al hilo de renderizado (nunca bloquea al hilo que lo invoca) */
+    public void solicitarFrame() {
+        Thread hilo = hiloRenderizado;
+
+        if (hilo != null) {
+            LockSupport.unpark(hilo);
+        }
+    }
+
+    @Override
+    public void run() {
+
+        while (hiloRenderizado == Thread.currentThread()) {
+
+            // Esperar a que se publique un frame nuevo o se solicite redibujar la superficie
+            LockSupport.park(this);
+
+            if (hiloRenderizado == Thread.currentThread() && isDisplayable()) {
+                renderizar();
+            }
+        }
+    }
+
+    /* Dibujar el ultimo frame publicado en la superficie de video */
+    private void renderizar() {
+
+        int ancho = getWidth();
+        int alto = getHeight();
+
+        if (ancho <= 0 || alto <= 0) {
+            return;
+        }
+
+        // Tomar primero las filas modificadas y luego el frame: las filas que se publiquen en el medio quedan para el proximo frame
+        long filas = screen.tomarFilasModificadas();
+        BufferedImage frame = screen.obtenerFrame();
+
+        do {
+            int estado = (imagenEscalada == null)
+                    ? VolatileImage.IMAGE_INCOMPATIBLE
+                    : imagenEscalada.validate(getGraphicsConfiguration());
+
+            // La imagen escalada solo se reconstruye al cambiar el tamaño o al perderse su contenido
+            if (estado == VolatileImage.IMAGE_INCOMPATIBLE
+                    || imagenEscalada.getWidth() != ancho
+                    || imagenEscalada.getHeight() != alto) {
+
+                if (imagenEscalada != null) {
+                    imagenEscalada.flush();
+                }
+
+                imagenEscalada = createVolatileImage(ancho, alto);
+                reconstruir = true;
+
+            } else if (estado == VolatileImage.IMAGE_RESTORED) {
+                reconstruir = true;
+            }
+
+            actualizarImagenEscalada(frame, reconstruir ? -1L : filas);
+            reconstruir = imagenEscalada.contentsLost();
+
+        } while (reconstruir);
+
+        // Volcar la imagen escalada a la superficie
+        do {
+            do {
+                Graphics g = estrategia.getDrawGraphics();
+                g.drawImage(imagenEscalada, 0, 0, null);
+                g.dispose();
+            } while (estrategia.contentsRestored());
+
+            estrategia.show();
+
+        } while (estrategia.contentsLost());
+
+        Toolkit.getDefaultToolkit().sync();
+    }
+
+    /* Escalar (vecino mas cercano) las franjas de filas indicadas en la mascara */
+    private void actualizarImagenEscalada(BufferedImage frame, long filas) {
+
+        int ancho = imagenEscalada.getWidth();
+        int alto = imagenEscalada.getHeight();
+        int anchoFrame = frame.getWidth();
+        int altoFrame = frame.getHeight();
+
+        // La mascara indica filas de la pantalla del interprete; el frame puede estar ampliado por un filtro de escalado
+        int altoPantalla = screen.getHEIGHT();
+        int escala = altoFrame / altoPantalla;
+
+        Graphics2D g = imagenEscalada.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+
+        int y = 0;
+
+        while (y < altoPantalla) {
+
+            if ((filas & (1L << y)) == 0) {
+                y++;
+                continue;
+            }
+
+            // Agrupar filas consecutivas modificadas en una sola franja
+            int inicio = y;
+
+            while (y < altoPantalla && (filas & (1L << y)) != 0) {
+                y++;
+            }
+
+            int dy1 = inicio * alto / altoPantalla;
+            int dy2 = y * alto / altoPantalla;
+
+            g.drawImage(frame, 0, dy1, ancho, dy2, 0, inicio * escala, anchoFrame, y * escala, null);
+        }
+
+        g.dispose();
+    }
+}
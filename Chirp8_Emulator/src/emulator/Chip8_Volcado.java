@@ -0,0 +1,369 @@
+/*
+ * Copyright (C) 2022 Diego Andrés Gutiérrez Berón
+ * 
+ * Some parts of this software were made as adaptations of ideas other than mine.
+ * In any case, due credit or references are given for any ideas or code that 
+ * served as an implementation base for this software.
+ *
+ * THIS PROGRAM IS LICENSED UNDER THE TERMS OF THE GNU GENERAL PUBLIC LICENSE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package emulator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Volcado de memoria (memory dump) del interprete.
+ *
+ * Escribe la memoria, y opcionalmente los registros, la pila y la pantalla,
+ * en cualquier WritableByteChannel (archivo, socket, salida estandar) en
+ * formato de volcado hexadecimal, binario o Intel HEX. La salida se arma en
+ * un ByteBuffer reutilizable que se vacia al canal a medida que se llena,
+ * sin crear cadenas intermedias.
+ *
+ * Disposicion de los datos en los formatos binario e Intel HEX:
+ * <pre>
+ *   0x0000  memoria (4096 bytes)
+ *   ...     registros: V0-VF, I (2 bytes), PC (2 bytes), SP, DT, ST (23 bytes)
+ *   ...     pila: 16 niveles de 2 bytes (32 bytes)
+ *   ...     pantalla: 32 filas de 8 bytes, el bit mas significativo es el pixel de la izquierda
+ * </pre>
+ * Los valores de 16 bits se escriben en orden big endian, igual que los
+ * opcodes en la memoria del CHIP-8.
+ */
+public class Chip8_Volcado {
+
+    /* Formatos de volcado disponibles */
+    public enum Formato {
+
+        HEXDUMP("Volcado hexadecimal", "txt"),
+        BINARIO("Binario", "bin"),
+        INTEL_HEX("Intel HEX", "hex");
+
+        private final String nombre;
+        private final String extension;
+
+        private Formato(String nombre, String extension) {
+            this.nombre = nombre;
+            this.extension = extension;
+        }
+
+        public String getNombre() {
+            return nombre;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        @Override
+        public String toString() {
+            return nombre;
+        }
+    }
+
+    private static final int TAMANO_MEMORIA = 4096;
+    private static final int TAMANO_REGISTROS = 16 + 2 + 2 + 3;
+    private static final int TAMANO_PILA = 16 * 2;
+    private static final int BYTES_POR_LINEA = 16;
+
+    private final Formato formato;
+
+    private boolean incluirRegistros;
+    private boolean incluirPila;
+    private boolean incluirPantalla;
+
+    // Buffer de salida reutilizable entre volcados
+    private final ByteBuffer buffer = ByteBuffer.allocate(8192);
+
+    // Imagen binaria reutilizable (memoria y secciones opcionales) para los formatos binario e Intel HEX
+    private final byte[] imagen = new byte[TAMANO_MEMORIA + TAMANO_REGISTROS + TAMANO_PILA + 256];
+
+    private WritableByteChannel canal;
+
+    public Chip8_Volcado(Formato formato) {
+        this.formato = formato;
+    }
+
+    /**
+     * Vuelca al archivo indicado, que se crea o se reemplaza.
+     *
+     * @param estado instantanea de la CPU para los registros y la pila (puede ser null)
+     * @param pantalla area de video [x][y] (puede ser null)
+     */
+    public void volcar(Path archivo, int[] memoria, Chip8_Estado estado, int[][] pantalla) throws IOException {
+        try (FileChannel canalArchivo = FileChannel.open(archivo, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            volcar(canalArchivo, memoria, estado, pantalla);
+        }
+    }
+
+    /**
+     * Vuelca al canal indicado. El canal no se cierra.
+     *
+     * @param estado instantanea de la CPU para los registros y la pila (puede ser null)
+     * @param pantalla area de video [x][y] (puede ser null)
+     */
+    public synchronized void volcar(WritableByteChannel canal, int[] memoria, Chip8_Estado estado, int[][] pantalla)
+            throws IOException {
+
+        this.canal = canal;
+        buffer.clear();
+
+        try {
+            switch (formato) {
+                case HEXDUMP:
+                    volcarTexto(memoria, estado, pantalla);
+                    break;
+                case BINARIO:
+                    escribir(imagen, 0, armarImagen(memoria, estado, pantalla));
+                    break;
+                case INTEL_HEX:
+                    volcarIntelHex(armarImagen(memoria, estado, pantalla), estado);
+                    break;
+            }
+            vaciar();
+        } finally {
+            this.canal = null;
+        }
+    }
+
+    /* Copia la memoria y las secciones opcionales en la imagen binaria; devuelve su longitud */
+    private int armarImagen(int[] memoria, Chip8_Estado estado, int[][] pantalla) {
+        int n = 0;
+
+        for (int i = 0; i < TAMANO_MEMORIA; i++) {
+            imagen[n++] = (byte) memoria[i];
+        }
+
+        if (incluirRegistros && estado != null) {
+            for (int i = 0; i < 16; i++) {
+                imagen[n++] = (byte) estado.getRegistroV(i);
+            }
+            imagen[n++] = (byte) (estado.getRegistroIndice() >> 8);
+            imagen[n++] = (byte) estado.getRegistroIndice();
+            imagen[n++] = (byte) (estado.getProgramCounter() >> 8);
+            imagen[n++] = (byte) estado.getProgramCounter();
+            imagen[n++] = (byte) estado.getStackPointer();
+            imagen[n++] = (byte) estado.getDelayTimer();
+            imagen[n++] = (byte) estado.getSoundTimer();
+        }
+
+        if (incluirPila && estado != null) {
+            for (int i = 0; i < estado.getProfundidadPila(); i++) {
+                imagen[n++] = (byte) (estado.getNivelPila(i) >> 8);
+                imagen[n++] = (byte) estado.getNivelPila(i);
+            }
+        }
+
+        if (incluirPantalla && pantalla != null) {
+            for (int y = 0; y < pantalla[0].length; y++) {
+                for (int x = 0; x < pantalla.length; x += 8) {
+                    int valor = 0;
+                    for (int b = 0; b < 8; b++) {
+                        valor = (valor << 1) | (pantalla[x + b][y] != 0 ? 1 : 0);
+                    }
+                    imagen[n++] = (byte) valor;
+                }
+            }
+        }
+
+        return n;
+    }
+
+    /* Volcado hexadecimal legible: direccion, 16 bytes y su representacion ASCII por linea */
+    private void volcarTexto(int[] memoria, Chip8_Estado estado, int[][] pantalla) throws IOException {
+
+        for (int base = 0; base < TAMANO_MEMORIA; base += BYTES_POR_LINEA) {
+            reservar(4 + 2 + BYTES_POR_LINEA * 3 + 2 + BYTES_POR_LINEA + 2);
+
+            escribirPalabra(base);
+            buffer.put((byte) ':');
+
+            for (int i = 0; i < BYTES_POR_LINEA; i++) {
+                buffer.put((byte) ' ');
+                escribirByte(memoria[base + i]);
+            }
+
+            buffer.put((byte) ' ').put((byte) ' ').put((byte) '|');
+            for (int i = 0; i < BYTES_POR_LINEA; i++) {
+                int valor = memoria[base + i] & 0xFF;
+                buffer.put((byte) (valor >= 0x20 && valor < 0x7F ? valor : '.'));
+            }
+            buffer.put((byte) '|').put((byte) '\n');
+        }
+
+        if (incluirRegistros && estado != null) {
+            reservar(64);
+            escribirTexto("\nPC=");
+            escribirPalabra(estado.getProgramCounter());
+            escribirTexto(" I=");
+            escribirPalabra(estado.getRegistroIndice());
+            escribirTexto(" SP=");
+            escribirByte(estado.getStackPointer());
+            escribirTexto(" DT=");
+            escribirByte(estado.getDelayTimer());
+            escribirTexto(" ST=");
+            escribirByte(estado.getSoundTimer());
+            escribirTexto(" OPCODE=");
+            escribirPalabra(estado.getOpcode());
+            escribirTexto("\n");
+
+            reservar(16 * 6 + 1);
+            for (int i = 0; i < 16; i++) {
+                escribirTexto(i == 0 ? "V" : " V");
+                buffer.put((byte) Chip8_Hex.BYTES[i * 2 + 1]);
+                escribirTexto("=");
+                escribirByte(estado.getRegistroV(i));
+            }
+            escribirTexto("\n");
+        }
+
+        if (incluirPila && estado != null) {
+            reservar(8 + estado.getProfundidadPila() * 5 + 1);
+            escribirTexto("\nPila:");
+            for (int i = 0; i < estado.getProfundidadPila(); i++) {
+                escribirTexto(" ");
+                escribirPalabra(estado.getNivelPila(i));
+            }
+            escribirTexto("\n");
+        }
+
+        if (incluirPantalla && pantalla != null) {
+            escribirTexto("\nPantalla:\n");
+            for (int y = 0; y < pantalla[0].length; y++) {
+                reservar(pantalla.length + 1);
+                for (int x = 0; x < pantalla.length; x++) {
+                    buffer.put((byte) (pantalla[x][y] != 0 ? '#' : '.'));
+                }
+                buffer.put((byte) '\n');
+            }
+        }
+    }
+
+    /* Registros de datos Intel HEX de 16 bytes, direccion de inicio (PC) y fin de archivo */
+    private void volcarIntelHex(int longitud, Chip8_Estado estado) throws IOException {
+
+        for (int base = 0; base < longitud; base += BYTES_POR_LINEA) {
+            int cantidad = Math.min(BYTES_POR_LINEA, longitud - base);
+            reservar(1 + 2 + 4 + 2 + cantidad * 2 + 2 + 1);
+
+            int suma = cantidad + (base >> 8) + (base & 0xFF);
+            buffer.put((byte) ':');
+            escribirByte(cantidad);
+            escribirPalabra(base);
+            escribirByte(0x00);
+            for (int i = 0; i < cantidad; i++) {
+                int valor = imagen[base + i] & 0xFF;
+                escribirByte(valor);
+                suma += valor;
+            }
+            escribirByte(-suma);
+            buffer.put((byte) '\n');
+        }
+
+        // Registro de direccion de inicio (tipo 03): CS=0000, IP=PC
+        if (incluirRegistros && estado != null) {
+            int pc = estado.getProgramCounter();
+            reservar(1 + 2 + 4 + 2 + 8 + 2 + 1);
+            buffer.put((byte) ':');
+            escribirByte(4);
+            escribirPalabra(0);
+            escribirByte(0x03);
+            escribirPalabra(0);
+            escribirPalabra(pc);
+            escribirByte(-(4 + 0x03 + (pc >> 8) + (pc & 0xFF)));
+            buffer.put((byte) '\n');
+        }
+
+        escribirTexto(":00000001FF\n");
+    }
+
+    /* Asegura que haya lugar en el buffer para n bytes, vaciandolo al canal si hace falta */
+    private void reservar(int n) throws IOException {
+        if (buffer.remaining() < n) {
+            vaciar();
+        }
+    }
+
+    private void vaciar() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            canal.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private void escribir(byte[] datos, int desde, int longitud) throws IOException {
+        while (longitud > 0) {
+            reservar(1);
+            int n = Math.min(longitud, buffer.remaining());
+            buffer.put(datos, desde, n);
+            desde += n;
+            longitud -= n;
+        }
+    }
+
+    private void escribirTexto(String texto) throws IOException {
+        reservar(texto.length());
+        for (int i = 0; i < texto.length(); i++) {
+            buffer.put((byte) texto.charAt(i));
+        }
+    }
+
+    private void escribirByte(int valor) {
+        valor &= 0xFF;
+        buffer.put((byte) Chip8_Hex.BYTES[valor * 2]).put((byte) Chip8_Hex.BYTES[valor * 2 + 1]);
+    }
+
+    private void escribirPalabra(int valor) {
+        escribirByte(valor >> 8);
+        escribirByte(valor);
+    }
+
+    public Formato getFormato() {
+        return formato;
+    }
+
+    public boolean isIncluirRegistros() {
+        return incluirRegistros;
+    }
+
+    public void setIncluirRegistros(boolean incluirRegistros) {
+        this.incluirRegistros = incluirRegistros;
+    }
+
+    public boolean isIncluirPila() {
+        return incluirPila;
+    }
+
+    public void setIncluirPila(boolean incluirPila) {
+        this.incluirPila = incluirPila;
+    }
+
+    public boolean isIncluirPantalla() {
+        return incluirPantalla;
+    }
+
+    public void setIncluirPantalla(boolean incluirPantalla) {
+        this.incluirPantalla = incluirPantalla;
+    }
+}
@@ -32,8 +32,11 @@ import actions.OpenFileAction;
 import dialogs.ConfigDialog;
 import java.awt.*;
 import java.awt.event.*;
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import javax.management.JMException;
 import javax.swing.*;
 
 public class Chirp8 extends JFrame {
@@ -46,7 +49,7 @@ public class Chirp8 extends JFrame {
     private DebuggerAction debuggerAction;
 
     private static JFrame ventana;
-    private static JPanel video;
+    private static Chip8_Video video;
     private static StatusDialog statusDialog;
     private static AboutDialog aboutDialog;
     private static ConfigDialog configDialog;
@@ -132,18 +135,23 @@ public class Chirp8 extends JFrame {
         // Establecer procesamiento de eventos del teclado
         keyEvent = new KeyboardChip8Event(ventana, cpu);
 
-        // Construir el panel con la imagen de pantalla del interprete
-        video = new JPanel() {
-            @Override
-            public void paint(Graphics g) {
-                super.paint(g);
-                g.drawImage(cpu.pantalla, 0, 0, getWidth(), getHeight(), this);
-            }
-        };
+        // Los menus deben ser componentes pesados para dibujarse por encima de la superficie de video (Canvas)
+        JPopupMenu.setDefaultLightWeightPopupEnabled(false);
+
+        // Construir la superficie de video con la imagen de pantalla del interprete (renderizado activo)
+        video = new Chip8_Video(cpu.screen);
 
         // Establecer tamaño preferido de panel de video
         video.setPreferredSize(new Dimension(ANCHO, ALTO));
 
+        // Ampliacion o reduccion de tamaño de pantalla segun se cambie el tamaño de la ventana, manteniendo la relacion de aspecto
+        ventana.addComponentListener(new ComponentAdapter() {
+            @Override
+            public void componentResized(ComponentEvent e) {
+                mantenerRelacionAspecto();
+            }
+        });
+
         // Agregar el panel de video a la ventana de la aplicacion
         ventana.add(video);
 
@@ -159,10 +167,22 @@ public class Chirp8 extends JFrame {
         // Mostrar la ventana
         ventana.setVisible(true);
 
+        // Preparar el dialogo del depurador en segundo plano, una vez que la aplicacion este inactiva
+        debuggerAction.prepararDialogo();
+
         return ventana;
 
     }
 
+    /* Numero de puerto TCP de una opcion de linea de comandos */
+    private static int leerPuerto(String texto) {
+        int puerto = Integer.parseInt(texto);
+        if (puerto < 0 || puerto > 0xFFFF) {
+            throw new NumberFormatException("Puerto fuera de rango: " + puerto);
+        }
+        return puerto;
+    }
+
     public static void main(String[] args) {
 
         // crear un objeto interprete
@@ -171,6 +191,75 @@ public class Chirp8 extends JFrame {
         // inicializarlo
         cpu.chip8Inicializar();
 
+        // Publicar las metricas y el control de la emulacion como MBean de JMX
+        try {
+            cpu.metricas.registrarJMX();
+        } catch (JMException ex) {
+            Logger.getLogger(Chirp8.class.getName()).log(Level.SEVERE, null, ex);
+        }
+
+        // --gdb[=puerto]: habilitar el servidor del protocolo remoto de GDB en localhost
+        for (String argumento : args) {
+            if (argumento.equals("--gdb") || argumento.startsWith("--gdb=")) {
+                int puerto = Chip8_ServidorGDB.PUERTO_POR_DEFECTO;
+                if (argumento.length() > 6) {
+                    try {
+                        puerto = leerPuerto(argumento.substring(6));
+                    } catch (NumberFormatException ex) {
+                        Logger.getLogger(Chirp8.class.getName()).log(Level.WARNING,
+                                "Puerto invalido en " + argumento + ", se usa " + puerto, ex);
+                    }
+                }
+                try {
+                    Chip8_ServidorGDB servidorGDB = new Chip8_ServidorGDB(cpu, puerto);
+                    servidorGDB.iniciar();
+                    System.out.println("Servidor GDB escuchando en localhost:" + servidorGDB.getPuerto());
+                } catch (IOException ex) {
+                    Logger.getLogger(Chirp8.class.getName()).log(Level.SEVERE, null, ex);
+                }
+            }
+
+            // --metricas[=puerto]: publicar las metricas en formato Prometheus en http://localhost:puerto/metrics
+            if (argumento.equals("--metricas") || argumento.startsWith("--metricas=")) {
+                int puerto = Chip8_ServidorMetricas.PUERTO_POR_DEFECTO;
+                if (argumento.length() > 11) {
+                    try {
+                        puerto = leerPuerto(argumento.substring(11));
+                    } catch (NumberFormatException ex) {
+                        Logger.getLogger(Chirp8.class.getName()).log(Level.WARNING,
+                                "Puerto invalido en " + argumento + ", se usa " + puerto, ex);
+                    }
+                }
+                try {
+                    Chip8_ServidorMetricas servidorMetricas = new Chip8_ServidorMetricas(cpu.metricas, puerto);
+                    servidorMetricas.iniciar();
+                    System.out.println("Metricas en http://localhost:" + servidorMetricas.getPuerto() + Chip8_ServidorMetricas.RUTA);
+                } catch (IOException ex) {
+                    Logger.getLogger(Chirp8.class.getName()).log(Level.SEVERE, null, ex);
+                }
+            }
+
+            // --traza=archivo[,MiB]: grabar la traza de ejecucion en un archivo circular (16 MiB por defecto)
+            if (argumento.startsWith("--traza=")) {
+                String[] partes = argumento.substring(8).split(",");
+                long megabytes = 16;
+                if (partes.length > 1) {
+                    try {
+                        megabytes = Long.parseLong(partes[1]);
+                    } catch (NumberFormatException ex) {
+                        Logger.getLogger(Chirp8.class.getName()).log(Level.WARNING,
+                                "Tamano invalido en " + argumento + ", se usan " + megabytes + " MiB", ex);
+                    }
+                }
+                try {
+                    cpu.setTraza(new Chip8_Traza(Paths.get(partes[0]), megabytes * 1024 * 1024));
+                    System.out.println("Grabando traza de ejecucion en " + partes[0]);
+                } catch (IOException ex) {
+                    Logger.getLogger(Chirp8.class.getName()).log(Level.SEVERE, null, ex);
+                }
+            }
+        }
+
         // Crear la interfaz de usuario (GUI)
         javax.swing.SwingUtilities.invokeLater(new Runnable() {
             public void run() {
@@ -198,26 +287,6 @@ public class Chirp8 extends JFrame {
             }
         });
 
-        /*
-         * Crear un temporizador que refresque el panel de video cada 15 ms en
-         * el hilo de despacho de eventos de Swing.
-         * Referencia: https://www.cs.rutgers.edu/courses/111/classes/fall_2011_venugopal/texts/notes-java/other/10time/20timer.html
-         */
-        Timer mainGUITimer = new Timer(15, new ActionListener() {
-            @Override
-            public void actionPerformed(ActionEvent e) {
-
-                // Ampliacion o reduccion de tamaño de pantalla segun se cambie el tamaño de la ventana, manteniendo la relacion de aspecto
-                ventana.setSize(ventana.getWidth(), (int) Math.round((double) ventana.getWidth() / relacionAspecto));
-
-                if (cpu.isDrawFlag()) {
-                    //ventana.repaint();
-                    video.repaint();          //Comentado: solo pinta el area de video. Genera inconvenientes con el menu de debugger
-                    cpu.setDrawFlag(false);   //Comentado: solo se utiliza con video.repaint() descomentado
-                }
-            }
-        });
-
         /*
          * Crear un temporizador que refresque el dialogo de estado de emulacion
          * ("debugger") cada 15 milisegundos en el hilo de despacho de eventos
@@ -225,52 +294,27 @@ public class Chirp8 extends JFrame {
          * Referencia: https://www.cs.rutgers.edu/courses/111/classes/fall_2011_venugopal/texts/notes-java/other/10time/20timer.html
          */
         Timer statusDialogTimer = new Timer(15, new ActionListener() {
+
+            // Lineas de memoria modificadas tomadas de la CPU en cada actualizacion
+            private final long[] lineasMemoria = new long[Chip8_CPU.PALABRAS_LINEAS];
+
             @Override
             public void actionPerformed(ActionEvent e) {
 
                 if ((statusDialog != null)) {
 
                     if (statusDialog.isVisible()) {
+                        long inicio = System.nanoTime();
 
-                        // Actualizar valor del visor de opcode en ejecucion
-                        statusDialog.setOpcodeValue(String.format("%04X", cpu.getOpcode()));
-
-                        // Actualizar valor del visor del program counter
-                        statusDialog.setProgramCounterValue(String.format("%04X", cpu.getProgramCounter()));
-
-                        // Actualizar valor del visor del registro indice
-                        statusDialog.setIndexRegisterValue(String.format("%04X", cpu.getRegistroIndice()));
-
-                        // Actualizar valor del visor del temporizador de sonido
-                        statusDialog.setSoundTimerValue(String.format("%02X", cpu.getSound_Timer()));
-
-                        // Actualizar valor del visor del temporizador de delay (retardo)
-                        statusDialog.setDelayTimerValue(String.format("%02X", cpu.getDelay_Timer()));
-
-                        // Actualizar valor del visor de frecuencua de reloj de cpu
-                        statusDialog.setClockFrequencyValue(Integer.toString(cpu.clockFrequency));
-
-                        // Actualizar valores del visor de registros V
-                        statusDialog.setV0Value(String.format("%02X", cpu.getRegistrosV()[0]));
-                        statusDialog.setV1Value(String.format("%02X", cpu.getRegistrosV()[1]));
-                        statusDialog.setV2Value(String.format("%02X", cpu.getRegistrosV()[2]));
-                        statusDialog.setV3Value(String.format("%02X", cpu.getRegistrosV()[3]));
-                        statusDialog.setV4Value(String.format("%02X", cpu.getRegistrosV()[4]));
-                        statusDialog.setV5Value(String.format("%02X", cpu.getRegistrosV()[5]));
-                        statusDialog.setV6Value(String.format("%02X", cpu.getRegistrosV()[6]));
-                        statusDialog.setV7Value(String.format("%02X", cpu.getRegistrosV()[7]));
-                        statusDialog.setV8Value(String.format("%02X", cpu.getRegistrosV()[8]));
-                        statusDialog.setV9Value(String.format("%02X", cpu.getRegistrosV()[9]));
-                        statusDialog.setVAValue(String.format("%02X", cpu.getRegistrosV()[10]));
-                        statusDialog.setVBValue(String.format("%02X", cpu.getRegistrosV()[11]));
-                        statusDialog.setVCValue(String.format("%02X", cpu.getRegistrosV()[12]));
-                        statusDialog.setVDValue(String.format("%02X", cpu.getRegistrosV()[13]));
-                        statusDialog.setVEValue(String.format("%02X", cpu.getRegistrosV()[14]));
-                        statusDialog.setVFValue(String.format("%02X", cpu.getRegistrosV()[15]));
+                        // Actualizar los visores de registros con la ultima instantanea publicada por la CPU.
+                        // Solo se modifican los visores cuyo valor cambio desde la actualizacion anterior.
+                        statusDialog.actualizarEstado(cpu.getEstado());
 
-                        // Actualizar valores del visor de contenido de memoria
-                        if (cpu.isMemoryStatusChanged())
-                            statusDialog.setMemoryValues(cpu.getMemoria());
+                        // Actualizar solo las lineas del visor de memoria modificadas desde la ultima consulta
+                        if (cpu.tomarLineasModificadas(lineasMemoria))
+                            statusDialog.actualizarLineasMemoria(lineasMemoria);
+
+                        cpu.metricas.refrescoDepurador(System.nanoTime() - inicio);
 
                     }
                 }
@@ -304,11 +348,25 @@ public class Chirp8 extends JFrame {
         });
          */
         // Ejecutar los temporizadores que actualizan la interfaz de usuario
-        mainGUITimer.start();
         statusDialogTimer.start();
         //memoryPanelUpdateTimer.start();
     }
 
+    /**
+     * Ajusta el alto de la ventana para que la superficie de video mantenga la
+     * relacion de aspecto de la pantalla del interprete. Solo se invoca al
+     * cambiar el tamaño de la ventana.
+     */
+    private static void mantenerRelacionAspecto() {
+
+        int altoVideo = (int) Math.round((double) video.getWidth() / relacionAspecto);
+        int altoVentana = altoVideo + (ventana.getHeight() - video.getHeight());
+
+        if (altoVentana != ventana.getHeight()) {
+            ventana.setSize(ventana.getWidth(), altoVentana);
+        }
+    }
+
     public static StatusDialog getStatusDialog() {
         return statusDialog;
     }
@@ -403,9 +461,11 @@ class KeyboardChip8Event implements KeyListener, ActionListener {
     private void eventoTeclado(KeyEvent e, String keyStatus) {
 
         if (keyStatus.contains("KEY PRESSED")) {
+            Chip8_Eventos.tecla(e.getKeyCode(), e.getKeyChar(), true);
             keyboardDown(e);
             cpu.setTeclaPresionada(true);
         } else if (keyStatus.contains("KEY RELEASED")) {
+            Chip8_Eventos.tecla(e.getKeyCode(), e.getKeyChar(), false);
             keyboardUp(e);
             cpu.setTeclaPresionada(false);
         }
@@ -462,6 +522,11 @@ class KeyboardChip8Event implements KeyListener, ActionListener {
 
         }
 
+        // Backspace : retroceder una instruccion (Shift + Backspace: diez instrucciones); fuera del modo paso a paso se ignora
+        if (keyEvent.getKeyCode() == KeyEvent.VK_BACK_SPACE) {
+            cpu.retroceder(keyEvent.isShiftDown() ? 10 : 1);
+        }
+
         switch (keyEvent.getKeyChar()) {
             case '1':
                 cpu.keyboard[0x1] = 1;
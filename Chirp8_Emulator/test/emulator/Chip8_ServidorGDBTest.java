@@ -0,0 +1,172 @@
+/*
+ * Copyright (C) 2022 Diego Andrés Gutiérrez Berón
+ * 
+ * Some parts of this software were made as adaptations of ideas other than mine.
+ * In any case, due credit or references are given for any ideas or code that 
+ * served as an implementation base for this software.
+ *
+ * THIS PROGRAM IS LICENSED UNDER THE TERMS OF THE GNU GENERAL PUBLIC LICENSE
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package emulator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Pruebas del servidor del protocolo remoto de GDB: un cliente local envia
+ * paquetes por el socket en lugar de un GDB real y verifica las respuestas
+ * y sus checksums.
+ *
+ * @author Diego Gutierrez
+ */
+public class Chip8_ServidorGDBTest {
+
+    // 0x200: V0 = 5; 0x202: V0 += 1; 0x204: I = 0x300; 0x206: saltar a 0x202
+    private static final int[] PROGRAMA = {0x6005, 0x7001, 0xA300, 0x1202};
+
+    private static final int TIEMPO_MAXIMO_MS = 5000;
+
+    private Chip8_CPU cpu;
+    private Chip8_ServidorGDB servidor;
+    private Socket socket;
+    private InputStream entrada;
+    private OutputStream salida;
+
+    @Before
+    public void iniciar() throws IOException {
+        cpu = new Chip8_CPU();
+        cpu.chip8Inicializar();
+        cpu.clockFrequency = 100000;
+        for (int i = 0; i < PROGRAMA.length; i++) {
+            cpu.memoria[0x200 + 2 * i] = PROGRAMA[i] >> 8;
+            cpu.memoria[0x201 + 2 * i] = PROGRAMA[i] & 0xFF;
+        }
+        cpu.setDaemon(true);
+        cpu.start();
+
+        // Puerto 0: el sistema asigna uno libre
+        servidor = new Chip8_ServidorGDB(cpu, 0);
+        servidor.iniciar();
+        socket = new Socket("127.0.0.1", servidor.getPuerto());
+        socket.setSoTimeout(TIEMPO_MAXIMO_MS);
+        entrada = socket.getInputStream();
+        salida = socket.getOutputStream();
+    }
+
+    @After
+    public void terminar() throws IOException {
+        socket.close();
+        servidor.detener();
+    }
+
+    @Test
+    public void detieneLaCpuAlConectarse() throws IOException {
+        // La respuesta a ? llega cuando la CPU ya quedo en pausa
+        assertEquals("S05", comando("?"));
+        assertTrue(cpu.isSingleStep());
+    }
+
+    @Test
+    public void leeRegistrosYMemoria() throws IOException {
+        assertEquals("S05", comando("?"));
+
+        // V0-VF, I y PC (2 bytes, little endian), SP, DT y ST: 23 bytes
+        String registros = comando("g");
+        assertEquals(2 * 23, registros.length());
+        int pc = Integer.parseInt(registros.substring(36, 38), 16) | Integer.parseInt(registros.substring(38, 40), 16) << 8;
+        assertTrue(pc >= 0x202 && pc <= 0x206);
+
+        assertEquals("60057001a3001202" + "0000000000000000", comando("m200,10"));
+    }
+
+    @Test
+    public void seDetieneEnUnBreakpoint() throws IOException {
+        assertEquals("S05", comando("?"));
+
+        assertEquals("OK", comando("Z0,206,2"));
+        assertEquals("S05", comando("c"));
+        assertEquals("0602", comando("p11"));
+        assertEquals("OK", comando("z0,206,2"));
+
+        // Un paso desde 0x206 salta a 0x202
+        assertEquals("S05", comando("s"));
+        assertEquals("0202", comando("p11"));
+    }
+
+    @Test
+    public void rechazaAccesosConLaCpuEnEjecucion() throws IOException {
+        assertEquals("S05", comando("?"));
+
+        enviar("c");
+        assertEquals("E03", comando("g"));
+        assertEquals("E03", comando("M300,1:00"));
+
+        // Ctrl-C detiene la CPU y se informa con SIGINT
+        salida.write(0x03);
+        salida.flush();
+        assertEquals("S02", respuesta());
+        assertEquals("00", comando("m300,1"));
+    }
+
+    /* Envia el paquete y devuelve la respuesta */
+    private String comando(String paquete) throws IOException {
+        enviar(paquete);
+        return respuesta();
+    }
+
+    private void enviar(String paquete) throws IOException {
+        salida.write(String.format("$%s#%02x", paquete, checksum(paquete)).getBytes(StandardCharsets.US_ASCII));
+        salida.flush();
+        assertEquals('+', entrada.read());
+    }
+
+    /* Lee el siguiente paquete, verifica su checksum y lo confirma */
+    private String respuesta() throws IOException {
+        int b;
+        while ((b = entrada.read()) != '$') {
+            assertTrue("conexion cerrada", b >= 0);
+        }
+
+        StringBuilder datos = new StringBuilder();
+        while ((b = entrada.read()) != '#') {
+            assertTrue("conexion cerrada", b >= 0);
+            datos.append((char) b);
+        }
+        int recibido = Character.digit(entrada.read(), 16) << 4 | Character.digit(entrada.read(), 16);
+        assertEquals("checksum de " + datos, checksum(datos), recibido);
+
+        salida.write('+');
+        salida.flush();
+        return datos.toString();
+    }
+
+    private static int checksum(CharSequence datos) {
+        int suma = 0;
+        for (int i = 0; i < datos.length(); i++) {
+            suma += datos.charAt(i);
+        }
+        return suma & 0xFF;
+    }
+}